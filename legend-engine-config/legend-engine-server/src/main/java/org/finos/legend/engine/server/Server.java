@@ -20,6 +20,7 @@ import io.dropwizard.assets.AssetsBundle;
 import io.dropwizard.configuration.EnvironmentVariableSubstitutor;
 import io.dropwizard.configuration.SubstitutingSourceProvider;
 import io.dropwizard.forms.MultiPartBundle;
+import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import io.federecio.dropwizard.swagger.SwaggerBundle;
@@ -74,6 +75,8 @@ import org.finos.legend.engine.authentication.LegendDefaultDatabaseAuthenticatio
 import org.finos.legend.engine.entitlement.services.EntitlementModelObjectMapperFactory;
 import org.finos.legend.engine.entitlement.services.EntitlementServiceExtension;
 import org.finos.legend.engine.entitlement.services.EntitlementServiceExtensionLoader;
+import org.finos.legend.engine.external.format.arrow.ArrowAllocators;
+import org.finos.legend.engine.external.format.arrow.flight.LegendArrowFlightServer;
 import org.finos.legend.engine.external.shared.format.extension.GenerationExtension;
 import org.finos.legend.engine.external.shared.format.extension.GenerationMode;
 import org.finos.legend.engine.external.shared.format.generations.loaders.CodeGenerators;
@@ -96,6 +99,7 @@ import org.finos.legend.engine.language.pure.grammar.api.relationalOperationElem
 import org.finos.legend.engine.language.pure.grammar.api.relationalOperationElement.TransformRelationalOperationElementGrammarToJson;
 import org.finos.legend.engine.language.pure.grammar.api.relationalOperationElement.TransformRelationalOperationElementJsonToGrammar;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.pure.modelManager.PureModelContextDataDiskCache;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.SDLCLoader;
 import org.finos.legend.engine.language.pure.relational.api.relationalElement.RelationalElementAPI;
 import org.finos.legend.engine.language.snowflakeApp.api.SnowflakeAppService;
@@ -107,6 +111,7 @@ import org.finos.legend.engine.plan.execution.api.concurrent.ConcurrentExecution
 import org.finos.legend.engine.plan.execution.api.concurrent.ParallelGraphFetchExecutionExecutorPoolInfo;
 import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
 import org.finos.legend.engine.plan.execution.service.api.ServiceModelingApi;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutor;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorBuilder;
@@ -132,6 +137,7 @@ import org.finos.legend.engine.query.graphQL.api.execute.GraphQLExecute;
 import org.finos.legend.engine.query.graphQL.api.grammar.GraphQLGrammar;
 import org.finos.legend.engine.query.pure.api.Execute;
 import org.finos.legend.engine.query.sql.api.SQLExecutor;
+import org.finos.legend.engine.query.sql.api.SQLPlanCache;
 import org.finos.legend.engine.query.sql.api.execute.SqlExecute;
 import org.finos.legend.engine.query.sql.api.grammar.SqlGrammar;
 import org.finos.legend.engine.query.sql.providers.LegendServiceSQLSourceProvider;
@@ -143,6 +149,7 @@ import org.finos.legend.engine.server.core.api.CurrentUser;
 import org.finos.legend.engine.server.core.api.Info;
 import org.finos.legend.engine.server.core.api.Memory;
 import org.finos.legend.engine.server.core.bundles.ErrorHandlingBundle;
+import org.finos.legend.engine.server.core.configuration.JavaCompilerCacheConfiguration;
 import org.finos.legend.engine.server.core.exceptionMappers.CatchAllExceptionMapper;
 import org.finos.legend.engine.server.core.exceptionMappers.JsonInformationExceptionMapper;
 import org.finos.legend.engine.server.core.session.SessionAttributeBundle;
@@ -157,6 +164,7 @@ import org.finos.legend.engine.shared.core.vault.PropertyVaultConfiguration;
 import org.finos.legend.engine.shared.core.vault.Vault;
 import org.finos.legend.engine.shared.core.vault.VaultConfiguration;
 import org.finos.legend.engine.shared.core.vault.VaultFactory;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompilerBytecodeCache;
 import org.finos.legend.engine.testData.generation.api.TestDataGeneration;
 import org.finos.legend.engine.testable.api.Testable;
 import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
@@ -169,12 +177,17 @@ import javax.servlet.DispatcherType;
 import javax.servlet.FilterRegistration;
 import javax.ws.rs.container.DynamicFeature;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
 
 public class Server<T extends ServerConfiguration> extends Application<T>
 {
@@ -272,6 +285,11 @@ public class Server<T extends ServerConfiguration> extends Application<T>
     @Override
     public void run(T serverConfiguration, Environment environment)
     {
+        if (serverConfiguration.arrow != null)
+        {
+            // fail before anything is started rather than once the plan executor is built
+            LegendArrowFlightServer.validate(serverConfiguration.arrow);
+        }
         loadVaults(serverConfiguration.vaults);
 
         this.environment = environment;
@@ -279,6 +297,18 @@ public class Server<T extends ServerConfiguration> extends Application<T>
 
         SDLCLoader sdlcLoader = new SDLCLoader(serverConfiguration.metadataserver, null);
         ModelManager modelManager = new ModelManager(serverConfiguration.deployment.mode, sdlcLoader);
+        if (serverConfiguration.modelcache != null && serverConfiguration.modelcache.directory != null)
+        {
+            modelManager.withDiskCache(new PureModelContextDataDiskCache(Paths.get(serverConfiguration.modelcache.directory), serverConfiguration.modelcache.maxSizeInMB * 1024 * 1024));
+        }
+        if (serverConfiguration.compiler != null && serverConfiguration.compiler.parallelism > 0)
+        {
+            modelManager.withCompilationPool(new ForkJoinPool(serverConfiguration.compiler.parallelism));
+        }
+        if (serverConfiguration.javacompilercache != null)
+        {
+            JavaHelper.setBytecodeCache(buildBytecodeCache(serverConfiguration.javacompilercache));
+        }
 
         ChainFixingFilterHandler.apply(environment.getApplicationContext(), serverConfiguration.filterPriorities);
 
@@ -324,6 +354,29 @@ public class Server<T extends ServerConfiguration> extends Application<T>
             planExecutor = PlanExecutor.newPlanExecutor(relationalStoreExecutor, elasticsearchV7StoreExecutor, serviceStoreExecutor, mongoDBStoreExecutor, InMemory.build());
         }
 
+        if (serverConfiguration.arrow != null)
+        {
+            ArrowAllocators.configure(serverConfiguration.arrow);
+            if (serverConfiguration.arrow.flightPort != null)
+            {
+                LegendArrowFlightServer arrowFlightServer = LegendArrowFlightServer.newServer(planExecutor, serverConfiguration.arrow);
+                environment.lifecycle().manage(new Managed()
+                {
+                    @Override
+                    public void start() throws Exception
+                    {
+                        arrowFlightServer.start();
+                    }
+
+                    @Override
+                    public void stop() throws Exception
+                    {
+                        arrowFlightServer.close();
+                    }
+                });
+            }
+        }
+
         // Session Management
         SessionTracker sessionTracker = new SessionTracker();
         SessionHandler sessionHandler = new SessionHandler();
@@ -399,7 +452,8 @@ public class Server<T extends ServerConfiguration> extends Application<T>
                 new RelationalStoreSQLSourceProvider(projectCoordinateLoader),
                 new FunctionSQLSourceProvider(projectCoordinateLoader),
                 new LegendServiceSQLSourceProvider(projectCoordinateLoader)),
-        generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers))));
+        generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers),
+        new SQLPlanCache(1000, 30))));
         environment.jersey().register(new SqlGrammar());
 
         // Service
@@ -478,6 +532,32 @@ public class Server<T extends ServerConfiguration> extends Application<T>
                 .build();
     }
 
+    private static JavaCompilerBytecodeCache buildBytecodeCache(JavaCompilerCacheConfiguration cacheConfiguration)
+    {
+        if (!cacheConfiguration.enabled)
+        {
+            return null;
+        }
+        long maxSizeInBytes = cacheConfiguration.maxSizeInMB * 1024 * 1024;
+        if (!cacheConfiguration.persist)
+        {
+            return new JavaCompilerBytecodeCache(maxSizeInBytes);
+        }
+        if ((cacheConfiguration.directory == null) || (cacheConfiguration.signingKeyFile == null))
+        {
+            throw new IllegalArgumentException("Persisting the Java compiler cache requires both 'directory' and 'signingKeyFile' to be set");
+        }
+        try
+        {
+            byte[] signingKey = Files.readAllBytes(Paths.get(cacheConfiguration.signingKeyFile));
+            return new JavaCompilerBytecodeCache(maxSizeInBytes, Paths.get(cacheConfiguration.directory), cacheConfiguration.maxDirectorySizeInMB * 1024 * 1024, signingKey);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to read the Java compiler cache signing key " + cacheConfiguration.signingKeyFile, e);
+        }
+    }
+
     private void loadVaults(List<VaultConfiguration> vaultConfigurations)
     {
         if (vaultConfigurations != null)
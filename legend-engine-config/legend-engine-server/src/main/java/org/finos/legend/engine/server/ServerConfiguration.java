@@ -16,12 +16,16 @@ package org.finos.legend.engine.server;
 
 import io.dropwizard.Configuration;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import org.finos.legend.engine.external.format.arrow.ArrowRuntimeConfiguration;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.server.core.configuration.CompilerConfiguration;
 import org.finos.legend.engine.server.core.configuration.DeploymentConfiguration;
 import org.finos.legend.engine.server.core.configuration.ErrorHandlingConfiguration;
+import org.finos.legend.engine.server.core.configuration.JavaCompilerCacheConfiguration;
+import org.finos.legend.engine.server.core.configuration.ModelCacheConfiguration;
 import org.finos.legend.engine.server.core.configuration.OpenTracingConfiguration;
 import org.finos.legend.engine.server.support.server.config.CORSConfiguration;
 import org.finos.legend.engine.shared.core.vault.VaultConfiguration;
@@ -41,12 +45,16 @@ public class ServerConfiguration extends Configuration
     public OpenTracingConfiguration opentracing;
     public Map<String, Integer> filterPriorities;
     public MetaDataServerConfiguration metadataserver;
+    public ModelCacheConfiguration modelcache;
+    public CompilerConfiguration compiler;
+    public JavaCompilerCacheConfiguration javacompilercache;
     public List<VaultConfiguration> vaults;
     public RelationalExecutionConfiguration relationalexecution;
     public GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
     public ErrorHandlingConfiguration errorhandlingconfiguration = new ErrorHandlingConfiguration();
     public List<org.finos.legend.engine.protocol.functionActivator.metamodel.DeploymentConfiguration> activatorConfiguration;
     public CORSConfiguration cors;
+    public ArrowRuntimeConfiguration arrow;
 
     /*
         This configuration has been deprecated in favor of the 'temporarytestdb' in RelationalExecutionConfiguration
@@ -0,0 +1,28 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.server.core.configuration;
+
+public class JavaCompilerCacheConfiguration
+{
+    public boolean enabled = true;
+    public long maxSizeInMB = 64;
+    // Entries are only kept in memory unless persistence is turned on
+    public boolean persist = false;
+    // Directory used to persist compiled plan classes across restarts, required when persisting
+    public String directory;
+    public long maxDirectorySizeInMB = 256;
+    // File holding the secret (at least 32 bytes) signing persisted entries, required when persisting
+    public String signingKeyFile;
+}
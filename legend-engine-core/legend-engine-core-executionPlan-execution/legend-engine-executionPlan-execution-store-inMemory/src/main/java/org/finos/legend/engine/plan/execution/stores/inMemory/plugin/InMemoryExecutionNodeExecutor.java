@@ -19,6 +19,8 @@ import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicDefect;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
@@ -41,6 +43,7 @@ import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatc
 import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
 import org.finos.legend.engine.plan.execution.stores.inMemory.result.graphFetch.StoreStreamReadingResult;
 import org.finos.legend.engine.plan.execution.stores.inMemory.utils.InMemoryGraphFetchUtils;
+import org.finos.legend.engine.plan.execution.stores.inMemory.utils.ParallelGraphFetchTasks;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AggregationAwareExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AllocationExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
@@ -75,7 +78,9 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -116,7 +121,9 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
     @Override
     public Result visit(InMemoryRootGraphFetchExecutionNode node)
     {
-        int batchSize = node.batchSize == null ? 1 : node.batchSize;
+        int parallelism = this.executionState.getGraphFetchExecutionNodeExecutorPool() == null ? 1 : this.executionState.getGraphFetchExecutionConfiguration().getInMemoryTransformParallelism();
+        // a batch of one cannot be split between workers, so parallel transformation falls back to the configured default batch size
+        int batchSize = node.batchSize != null ? node.batchSize : (parallelism > 1 ? (int) this.executionState.getGraphFetchExecutionConfiguration().getGraphFetchDefaultBatchSize() : 1);
         boolean isLeaf = node.children == null || node.children.isEmpty();
         boolean checked = node.checked;
         ClassResultType classResultType = (ClassResultType) node.resultType;
@@ -126,7 +133,7 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
         JavaPlatformImplementation javaPlatformImpl = (JavaPlatformImplementation) node.implementation;
         String executionClassName = JavaHelper.getExecutionClassFullName(javaPlatformImpl);
         Class<?> clazz = ExecutionNodeJavaPlatformHelper.getClassToExecute(node, executionClassName, this.executionState, this.pm);
-        Span graphFetchSpan = GlobalTracer.get().buildSpan("graph fetch").withTag("rootStoreType", "inMemory").withTag("batchSizeConfig", batchSize).start();
+        Span graphFetchSpan = GlobalTracer.get().buildSpan("graph fetch").withTag("rootStoreType", "inMemory").withTag("batchSizeConfig", batchSize).withTag("transformParallelism", parallelism).start();
         GlobalTracer.get().activateSpan(graphFetchSpan);
 
         try
@@ -168,81 +175,13 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                     {
                         long currentBatch = batchIndex.incrementAndGet();
                         GraphObjectsBatch inMemoryGraphObjectsBatch = new GraphObjectsBatch(currentBatch, executionState.getGraphFetchBatchMemoryLimit());
-                        List<Object> resultObjects = new ArrayList<>();
-                        int objectCount = 0;
-
-                        if (checked)
+                        List<Object> sourceObjects = new ArrayList<>();
+                        while (sourceObjectsIterator.hasNext() && (sourceObjects.isEmpty() || sourceObjects.size() < batchSize))
                         {
-                            while (sourceObjectsIterator.hasNext())
-                            {
-                                IChecked<?> checkedSource = (IChecked<?>) sourceObjectsIterator.next();
-                                Object value = checkedSource.getValue();
-                                if (value == null)
-                                {
-                                    resultObjects.add(newDynamicChecked(Collections.singletonList(BasicDefect.newNoInputDefect(_class)), checkedSource, null));
-                                }
-                                else
-                                {
-                                    Object targetObject = nodeSpecifics.transform(value);
-                                    if (targetObject != null)
-                                    {
-                                        if (targetObject instanceof List)
-                                        {
-                                            ((List<?>) targetObject).forEach(x ->
-                                            {
-                                                IGraphInstance<?> target = (IGraphInstance<?>) x;
-                                                inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                                resultObjects.add(newDynamicChecked(Collections.emptyList(), checkedSource, target.getValue()));
-                                            });
-                                        }
-                                        else
-                                        {
-                                            IGraphInstance<?> target = (IGraphInstance<?>) targetObject;
-                                            inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                            resultObjects.add(newDynamicChecked(Collections.emptyList(), checkedSource, target.getValue()));
-                                        }
-                                    }
-                                }
-
-                                objectCount += 1;
-                                if (objectCount >= batchSize)
-                                {
-                                    break;
-                                }
-                            }
-                        }
-                        else
-                        {
-                            while (sourceObjectsIterator.hasNext())
-                            {
-                                Object targetObject = nodeSpecifics.transform(sourceObjectsIterator.next());
-
-                                if (targetObject != null)
-                                {
-                                    if (targetObject instanceof List)
-                                    {
-                                        ((List<?>) targetObject).forEach(x ->
-                                        {
-                                            IGraphInstance<?> target = (IGraphInstance<?>) x;
-                                            inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                            resultObjects.add(target.getValue());
-                                        });
-                                    }
-                                    else
-                                    {
-                                        IGraphInstance<?> target = (IGraphInstance<?>) targetObject;
-                                        inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                        resultObjects.add(target.getValue());
-                                    }
-                                }
-
-                                objectCount += 1;
-                                if (objectCount >= batchSize)
-                                {
-                                    break;
-                                }
-                            }
+                            sourceObjects.add(sourceObjectsIterator.next());
                         }
+                        int objectCount = sourceObjects.size();
+                        List<Object> resultObjects = transformSourceObjects(nodeSpecifics, sourceObjects, checked, _class, inMemoryGraphObjectsBatch, parallelism);
 
                         inMemoryGraphObjectsBatch.setObjectsForNodeIndex(node.nodeIndex, resultObjects);
                         ExecutionState newState = new ExecutionState(executionState);
@@ -359,39 +298,9 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                 }
                 else
                 {
-                    for (Map.Entry<Object, List<Object>> entry : parentMap.entrySet())
-                    {
-                        Map<String, Object> keyValuePairs = nodeSpecifics.getCrossStoreKeysValueForChildren(entry.getKey());
-
-                        keyValuePairs.forEach((key, value) -> this.executionState.addResult(key, new ConstantResult(value)));
-                        childResult = this.visit((InMemoryRootGraphFetchExecutionNode) node);
-                        GraphFetchResult childGraphFetchResult = (GraphFetchResult) childResult;
-                        Stream<GraphObjectsBatch> graphObjectsBatchStream = childGraphFetchResult.getGraphObjectsBatchStream();
-
-                        graphObjectsBatchStream.forEach(batch ->
-                        {
-                            batch.getObjectsForNodeIndex(node.nodeIndex).forEach(child ->
-                            {
-                                IGraphInstance<?> childGraphInstance = nodeSpecifics.wrapChildInGraphInstance(child);
-                                Object childObject = childGraphInstance.getValue();
-
-                                List<Object> parentsInScope = entry.getValue();
-                                if (parentsInScope != null)
-                                {
-                                    for (Object parentObject : parentsInScope)
-                                    {
-                                        boolean isChildAdded = nodeSpecifics.attemptAddingChildToParent(parentObject, childObject);
-
-                                        if (isChildAdded)
-                                        {
-                                            graphObjectsBatch.addObjectMemoryUtilization(childGraphInstance.instanceSize());
-                                            childObjects.add(childObject);
-                                        }
-                                    }
-                                }
-                            });
-                        });
-                    }
+                    List<Map.Entry<Object, List<Object>>> parentEntries = new ArrayList<>(parentMap.entrySet());
+                    List<List<IGraphInstance<?>>> childrenPerParent = fetchCrossStoreChildren(node, nodeSpecifics, ListIterate.collect(parentEntries, Map.Entry::getKey));
+                    addCrossStoreChildren(nodeSpecifics, parentEntries, childrenPerParent, graphObjectsBatch, childObjects);
                 }
 
                 graphObjectsBatch.setObjectsForNodeIndex(node.nodeIndex, childObjects);
@@ -416,6 +325,83 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
         }
     }
 
+    /**
+     * Fetches the children of each parent with a separate query, returning them in the order of the parents.
+     */
+    private List<List<IGraphInstance<?>>> fetchCrossStoreChildren(InMemoryCrossStoreGraphFetchExecutionNode node, IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics nodeSpecifics, List<Object> parentObjects)
+    {
+        return collectCrossStoreFetches(this.executionState, parentObjects, (parentObject, state) -> this.fetchCrossStoreChildren(node, nodeSpecifics, parentObject, state));
+    }
+
+    /**
+     * Applies a fetch to each parent, returning the results in the order of the parents. The fetches are executed at
+     * the same time (up to the configured cross store fetch parallelism) when threads can be taken from the parallel
+     * graph fetch pool, and one after the other on the given state otherwise.
+     * <p>
+     * Each parallel worker adds the keys of its parents to its own copy of the state. The copies share the graph fetch
+     * caches of the state, and the activities they record are added to it once all fetches are done.
+     */
+    static <R> List<R> collectCrossStoreFetches(ExecutionState executionState, List<Object> parentObjects, BiFunction<Object, ExecutionState, R> fetch)
+    {
+        List<ExecutionState> workerStates = Collections.synchronizedList(new ArrayList<>());
+        int inheritedActivities = executionState.activities.size();
+        List<R> results = ParallelGraphFetchTasks.collect(
+                executionState.getGraphFetchExecutionNodeExecutorPool(),
+                executionState.getGraphFetchExecutionConfiguration().getCrossStoreFetchParallelism(),
+                parentObjects,
+                () -> parentObject -> fetch.apply(parentObject, executionState),
+                () ->
+                {
+                    ExecutionState state = executionState.copy();
+                    state.setGraphFetchCaches(executionState.graphFetchCaches);
+                    workerStates.add(state);
+                    return parentObject -> fetch.apply(parentObject, state);
+                });
+        workerStates.forEach(state -> executionState.activities.addAll(state.activities.subList(inheritedActivities, state.activities.size())));
+        return results;
+    }
+
+    /**
+     * Adds the children fetched for each parent (in the order of the parents) to all parents in scope of it.
+     */
+    static void addCrossStoreChildren(IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics nodeSpecifics, List<Map.Entry<Object, List<Object>>> parentEntries, List<List<IGraphInstance<?>>> childrenPerParent, GraphObjectsBatch graphObjectsBatch, List<Object> childObjects)
+    {
+        for (int i = 0; i < parentEntries.size(); i++)
+        {
+            List<Object> parentsInScope = parentEntries.get(i).getValue();
+            for (IGraphInstance<?> childGraphInstance : childrenPerParent.get(i))
+            {
+                Object childObject = childGraphInstance.getValue();
+                for (Object parentObject : parentsInScope)
+                {
+                    boolean isChildAdded = nodeSpecifics.attemptAddingChildToParent(parentObject, childObject);
+
+                    if (isChildAdded)
+                    {
+                        graphObjectsBatch.addObjectMemoryUtilization(childGraphInstance.instanceSize());
+                        childObjects.add(childObject);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<IGraphInstance<?>> fetchCrossStoreChildren(InMemoryCrossStoreGraphFetchExecutionNode node, IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics nodeSpecifics, Object parentObject, ExecutionState state)
+    {
+        nodeSpecifics.getCrossStoreKeysValueForChildren(parentObject).forEach((key, value) -> state.addResult(key, new ConstantResult(value)));
+        Result childResult = new InMemoryExecutionNodeExecutor(this.pm, state).visit((InMemoryRootGraphFetchExecutionNode) node);
+        try
+        {
+            List<IGraphInstance<?>> children = new ArrayList<>();
+            ((GraphFetchResult) childResult).getGraphObjectsBatchStream().forEach(batch -> batch.getObjectsForNodeIndex(node.nodeIndex).forEach(child -> children.add(nodeSpecifics.wrapChildInGraphInstance(child))));
+            return children;
+        }
+        finally
+        {
+            childResult.close();
+        }
+    }
+
     @Override
     public Result visit(InMemoryPropertyGraphFetchExecutionNode node)
     {
@@ -540,6 +526,69 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
         throw new RuntimeException("Not implemented!");
     }
 
+    private List<Object> transformSourceObjects(IInMemoryRootGraphFetchExecutionNodeSpecifics nodeSpecifics, List<Object> sourceObjects, boolean checked, String _class, GraphObjectsBatch graphObjectsBatch, int parallelism)
+    {
+        int size = sourceObjects.size();
+        int chunkCount = Math.min(parallelism, size);
+        if (chunkCount <= 1)
+        {
+            return transformSourceObjects(nodeSpecifics, sourceObjects, 0, size, checked, _class, graphObjectsBatch);
+        }
+
+        List<List<Object>> chunks = ParallelGraphFetchTasks.collect(
+                this.executionState.getGraphFetchExecutionNodeExecutorPool(),
+                chunkCount,
+                Interval.zeroTo(chunkCount - 1),
+                () -> chunk -> transformSourceObjects(nodeSpecifics, sourceObjects, (int) ((long) size * chunk / chunkCount), (int) ((long) size * (chunk + 1) / chunkCount), checked, _class, graphObjectsBatch));
+        List<Object> resultObjects = new ArrayList<>(size);
+        chunks.forEach(resultObjects::addAll);
+        return resultObjects;
+    }
+
+    private static List<Object> transformSourceObjects(IInMemoryRootGraphFetchExecutionNodeSpecifics nodeSpecifics, List<Object> sourceObjects, int from, int to, boolean checked, String _class, GraphObjectsBatch graphObjectsBatch)
+    {
+        List<Object> resultObjects = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++)
+        {
+            if (checked)
+            {
+                IChecked<?> checkedSource = (IChecked<?>) sourceObjects.get(i);
+                Object value = checkedSource.getValue();
+                if (value == null)
+                {
+                    resultObjects.add(newDynamicChecked(Collections.singletonList(BasicDefect.newNoInputDefect(_class)), checkedSource, null));
+                }
+                else
+                {
+                    addTargetObjects(nodeSpecifics.transform(value), graphObjectsBatch, resultObjects, target -> newDynamicChecked(Collections.emptyList(), checkedSource, target));
+                }
+            }
+            else
+            {
+                addTargetObjects(nodeSpecifics.transform(sourceObjects.get(i)), graphObjectsBatch, resultObjects, target -> target);
+            }
+        }
+        return resultObjects;
+    }
+
+    private static void addTargetObjects(Object targetObject, GraphObjectsBatch graphObjectsBatch, List<Object> resultObjects, Function<Object, Object> resultFunction)
+    {
+        if (targetObject instanceof List)
+        {
+            ((List<?>) targetObject).forEach(x -> addTargetObject((IGraphInstance<?>) x, graphObjectsBatch, resultObjects, resultFunction));
+        }
+        else if (targetObject != null)
+        {
+            addTargetObject((IGraphInstance<?>) targetObject, graphObjectsBatch, resultObjects, resultFunction);
+        }
+    }
+
+    private static void addTargetObject(IGraphInstance<?> target, GraphObjectsBatch graphObjectsBatch, List<Object> resultObjects, Function<Object, Object> resultFunction)
+    {
+        graphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
+        resultObjects.add(resultFunction.apply(target.getValue()));
+    }
+
     private Result mergeInMemoryNode(InMemoryRootGraphFetchExecutionNode node)
     {
         IInMemoryRootGraphFetchMergeExecutionNodeSpecifics nodeSpecifics = ExecutionNodeJavaPlatformHelper.getNodeSpecificsInstance(node, this.executionState, this.pm);
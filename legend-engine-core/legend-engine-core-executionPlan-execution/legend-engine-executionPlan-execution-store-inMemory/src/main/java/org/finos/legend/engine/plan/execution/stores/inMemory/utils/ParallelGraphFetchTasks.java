@@ -0,0 +1,191 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.inMemory.utils;
+
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ParallelGraphFetchTasks
+{
+    private ParallelGraphFetchTasks()
+    {
+    }
+
+    /**
+     * Applies a function to each item, returning the results in the order of the items. Up to parallelism workers run
+     * at the same time: the calling thread and threads taken from the parallel graph fetch pool. Workers take the next
+     * item when done, so that a slow item only holds up its own worker. When the pool is missing or has no free
+     * threads, the calling thread processes all items.
+     * <p>
+     * Each worker gets its own function from the factory, so that it can keep its own state. The first failure stops
+     * workers from taking further items and is rethrown. Threads are only given back to the pool once the worker using
+     * them has stopped.
+     */
+    public static <T, R> List<R> collect(ParallelGraphFetchExecutionExecutorPool pool, int parallelism, List<T> items, Supplier<? extends Function<? super T, ? extends R>> workerFactory)
+    {
+        return collect(pool, parallelism, items, workerFactory, workerFactory);
+    }
+
+    /**
+     * As {@link #collect(ParallelGraphFetchExecutionExecutorPool, int, List, Supplier)}, except that the function used
+     * when the calling thread processes all items comes from its own factory, so that it can work on state the
+     * workers must not share.
+     */
+    public static <T, R> List<R> collect(ParallelGraphFetchExecutionExecutorPool pool, int parallelism, List<T> items, Supplier<? extends Function<? super T, ? extends R>> sequentialFactory, Supplier<? extends Function<? super T, ? extends R>> workerFactory)
+    {
+        int workers = Math.min(parallelism, items.size());
+        // the calling thread is a worker too, so one thread fewer than workers is taken from the pool
+        if ((workers <= 1) || (pool == null) || !pool.acquireThreads(workers - 1))
+        {
+            Function<? super T, ? extends R> function = sequentialFactory.get();
+            return ListIterate.collect(items, function::apply);
+        }
+
+        List<R> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        AtomicInteger nextItem = new AtomicInteger();
+        Callable<Void> worker = () ->
+        {
+            Function<? super T, ? extends R> function = workerFactory.get();
+            try
+            {
+                for (int i = nextItem.getAndIncrement(); i < items.size(); i = nextItem.getAndIncrement())
+                {
+                    results.set(i, function.apply(items.get(i)));
+                }
+            }
+            catch (Throwable t)
+            {
+                nextItem.set(items.size());
+                throw t;
+            }
+            return null;
+        };
+
+        List<PooledTask<Void>> tasks = new ArrayList<>(workers - 1);
+        try
+        {
+            for (int i = 1; i < workers; i++)
+            {
+                tasks.add(new PooledTask<>(pool, worker));
+            }
+            worker.call();
+            for (PooledTask<Void> task : tasks)
+            {
+                task.get();
+            }
+            return results;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            tasks.forEach(PooledTask::cancel);
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            tasks.forEach(PooledTask::cancel);
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        catch (RuntimeException e)
+        {
+            tasks.forEach(PooledTask::cancel);
+            throw e;
+        }
+        catch (Exception e)
+        {
+            tasks.forEach(PooledTask::cancel);
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            // submitted tasks give their thread back themselves
+            pool.releaseThreads(workers - 1 - tasks.size());
+        }
+    }
+
+    /**
+     * A task holding one thread taken from the pool. The thread is given back once the task is done, or when it is
+     * cancelled before it started. A task cancelled while running keeps its thread until it actually stops.
+     */
+    private static class PooledTask<V> implements Callable<V>
+    {
+        private final ParallelGraphFetchExecutionExecutorPool pool;
+        private final Callable<V> task;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final Future<V> future;
+
+        private PooledTask(ParallelGraphFetchExecutionExecutorPool pool, Callable<V> task)
+        {
+            this.pool = pool;
+            this.task = task;
+            this.future = pool.submitTask(this);
+        }
+
+        @Override
+        public V call() throws Exception
+        {
+            if (!this.started.compareAndSet(false, true))
+            {
+                // cancelled before it started, the thread has been given back already
+                return null;
+            }
+            try
+            {
+                return this.task.call();
+            }
+            finally
+            {
+                this.pool.releaseThreads(1);
+            }
+        }
+
+        private V get() throws InterruptedException, ExecutionException
+        {
+            return this.future.get();
+        }
+
+        private void cancel()
+        {
+            if (this.started.compareAndSet(false, true))
+            {
+                this.future.cancel(false);
+                this.pool.releaseThreads(1);
+            }
+            else
+            {
+                this.future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.inMemory.plugin;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.finos.legend.engine.plan.dependencies.domain.graphFetch.IGraphInstance;
+import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
+import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
+import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.graphFetch.ParallelGraphFetchExecutionConfig;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
+import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatch;
+import org.finos.legend.engine.plan.execution.stores.inMemory.utils.ParallelGraphFetchTasks;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class TestCrossStoreChildren
+{
+    private static final CrossStoreSpecifics SPECIFICS = new CrossStoreSpecifics();
+
+    @Test
+    public void testChildrenAreAddedToAllParentsInScope()
+    {
+        Parent first = new Parent("p1");
+        Parent firstDuplicate = new Parent("p1");
+        Parent second = new Parent("p2");
+        List<Map.Entry<Object, List<Object>>> parentEntries = Lists.mutable.with(entry(first, first, firstDuplicate), entry(second, second));
+        Child c1 = new Child("p1", "c1");
+        Child c2 = new Child("p1", "c2");
+        Child c3 = new Child("p2", "c3");
+        GraphObjectsBatch batch = new GraphObjectsBatch(1, Long.MAX_VALUE);
+        List<Object> childObjects = new ArrayList<>();
+
+        InMemoryExecutionNodeExecutor.addCrossStoreChildren(SPECIFICS, parentEntries, Lists.mutable.with(Lists.mutable.with(instance(c1), instance(c2)), Lists.mutable.with(instance(c3))), batch, childObjects);
+
+        Assert.assertEquals(Lists.mutable.with(c1, c1, c2, c2, c3), childObjects);
+        Assert.assertEquals(Lists.mutable.with(c1, c2), first.children);
+        Assert.assertEquals(Lists.mutable.with(c1, c2), firstDuplicate.children);
+        Assert.assertEquals(Lists.mutable.with(c3), second.children);
+        Assert.assertEquals(5 * 10, batch.getTotalObjectMemoryUtilization());
+    }
+
+    @Test
+    public void testChildrenRejectedByParentAreSkipped()
+    {
+        Parent parent = new Parent("p1");
+        Child unrelated = new Child("p2", "c1");
+        GraphObjectsBatch batch = new GraphObjectsBatch(1, Long.MAX_VALUE);
+        List<Object> childObjects = new ArrayList<>();
+
+        InMemoryExecutionNodeExecutor.addCrossStoreChildren(SPECIFICS, Lists.mutable.with(entry(parent, parent)), Lists.mutable.with(Lists.mutable.with(instance(unrelated))), batch, childObjects);
+
+        Assert.assertEquals(Collections.emptyList(), childObjects);
+        Assert.assertEquals(Collections.emptyList(), parent.children);
+        Assert.assertEquals(0, batch.getTotalObjectMemoryUtilization());
+    }
+
+    @Test
+    public void testChildrenFetchedInParallelAreAddedToTheirOwnParents() throws Exception
+    {
+        List<Map.Entry<Object, List<Object>>> parentEntries = Interval.oneTo(30).collect(i ->
+        {
+            Parent parent = new Parent("p" + i);
+            return entry(parent, parent);
+        }, Lists.mutable.empty());
+        List<Object> parentObjects = parentEntries.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+        ParallelGraphFetchExecutionExecutorPool pool = new ParallelGraphFetchExecutionExecutorPool(new ParallelGraphFetchExecutionConfig(), "test");
+        try
+        {
+            // earlier parents take longer to fetch, so that fetches complete out of order
+            List<List<IGraphInstance<?>>> childrenPerParent = ParallelGraphFetchTasks.collect(pool, 4, parentObjects, () -> parentObject ->
+            {
+                String key = ((Parent) parentObject).key;
+                sleep(40 - Integer.parseInt(key.substring(1)));
+                return Lists.mutable.with(instance(new Child(key, key + "-a")), instance(new Child(key, key + "-b")));
+            });
+            List<Object> childObjects = new ArrayList<>();
+
+            InMemoryExecutionNodeExecutor.addCrossStoreChildren(SPECIFICS, parentEntries, childrenPerParent, new GraphObjectsBatch(1, Long.MAX_VALUE), childObjects);
+
+            Assert.assertEquals(60, childObjects.size());
+            for (int i = 0; i < parentEntries.size(); i++)
+            {
+                Parent parent = (Parent) parentEntries.get(i).getKey();
+                Assert.assertEquals(Lists.mutable.with(parent.key + "-a", parent.key + "-b"), Lists.mutable.withAll(parent.children).collect(c -> ((Child) c).name));
+                Assert.assertSame(parent.children.get(0), childObjects.get(2 * i));
+            }
+        }
+        finally
+        {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testSequentialFetchesRunOnTheExecutionState()
+    {
+        ExecutionState executionState = executionState(new GraphFetchExecutionConfiguration());
+        List<GraphFetchCache> graphFetchCaches = Lists.mutable.empty();
+        executionState.setGraphFetchCaches(graphFetchCaches);
+        executionState.activities.add(new ExecutionActivity());
+
+        List<String> results = InMemoryExecutionNodeExecutor.collectCrossStoreFetches(executionState, Lists.mutable.with("p1", "p2"), (parent, state) ->
+        {
+            Assert.assertSame(executionState, state);
+            state.activities.add(new ExecutionActivity());
+            return parent + "-c";
+        });
+
+        Assert.assertEquals(Lists.mutable.with("p1-c", "p2-c"), results);
+        Assert.assertSame(graphFetchCaches, executionState.graphFetchCaches);
+        Assert.assertEquals(3, executionState.activities.size());
+    }
+
+    @Test
+    public void testParallelFetchesShareGraphFetchCachesAndReportActivities() throws Exception
+    {
+        ParallelGraphFetchExecutionExecutorPool pool = new ParallelGraphFetchExecutionExecutorPool(new ParallelGraphFetchExecutionConfig(), "test");
+        try
+        {
+            ExecutionState executionState = executionState(new GraphFetchExecutionConfiguration(new ParallelGraphFetchExecutionConfig(), 1, 4));
+            executionState.setGraphFetchExecutionNodeExecutorPool(pool);
+            List<GraphFetchCache> graphFetchCaches = Lists.mutable.empty();
+            executionState.setGraphFetchCaches(graphFetchCaches);
+            ExecutionActivity inherited = new ExecutionActivity();
+            executionState.activities.add(inherited);
+            Set<ExecutionState> workerStates = ConcurrentHashMap.newKeySet();
+
+            List<Object> parents = Interval.oneTo(30).collect(i -> (Object) ("p" + i), Lists.mutable.empty());
+            List<String> results = InMemoryExecutionNodeExecutor.collectCrossStoreFetches(executionState, parents, (parent, state) ->
+            {
+                Assert.assertNotSame(executionState, state);
+                Assert.assertSame(graphFetchCaches, state.graphFetchCaches);
+                workerStates.add(state);
+                state.addResult("key", new ConstantResult(parent));
+                state.activities.add(new ExecutionActivity());
+                sleep(2);
+                return parent + "-c";
+            });
+
+            Assert.assertEquals(parents.stream().map(p -> p + "-c").collect(Collectors.toList()), results);
+            Assert.assertTrue(workerStates.toString(), workerStates.size() > 1);
+            // the keys of the parents stay in the worker states, their activities are all reported once
+            Assert.assertFalse(executionState.getResults().containsKey("key"));
+            Assert.assertEquals(31, executionState.activities.size());
+            Assert.assertEquals(1, executionState.activities.count(a -> a == inherited));
+        }
+        finally
+        {
+            pool.close();
+        }
+    }
+
+    private static ExecutionState executionState(GraphFetchExecutionConfiguration configuration)
+    {
+        return new ExecutionState(Maps.mutable.empty(), Lists.mutable.empty(), Lists.mutable.empty(), true, configuration);
+    }
+
+    private static Map.Entry<Object, List<Object>> entry(Parent key, Parent... parentsInScope)
+    {
+        return new AbstractMap.SimpleEntry<>(key, Lists.mutable.with((Object[]) parentsInScope));
+    }
+
+    private static IGraphInstance<?> instance(Child child)
+    {
+        return new IGraphInstance<Child>()
+        {
+            @Override
+            public Child getValue()
+            {
+                return child;
+            }
+
+            @Override
+            public long instanceSize()
+            {
+                return 10;
+            }
+        };
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class Parent
+    {
+        private final String key;
+        private final List<Object> children = new ArrayList<>();
+
+        private Parent(String key)
+        {
+            this.key = key;
+        }
+    }
+
+    private static class Child
+    {
+        private final String parentKey;
+        private final String name;
+
+        private Child(String parentKey, String name)
+        {
+            this.parentKey = parentKey;
+            this.name = name;
+        }
+    }
+
+    private static class CrossStoreSpecifics implements IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics
+    {
+        @Override
+        public Map<String, Object> getCrossStoreKeysValueForChildren(Object parent)
+        {
+            return Collections.singletonMap("key", ((Parent) parent).key);
+        }
+
+        @Override
+        public Map<String, Object> getCrossStoreKeysValueFromChild(Object child)
+        {
+            return Collections.singletonMap("key", ((Child) child).parentKey);
+        }
+
+        @Override
+        public IGraphInstance<?> wrapChildInGraphInstance(Object child)
+        {
+            return instance((Child) child);
+        }
+
+        @Override
+        public boolean attemptAddingChildToParent(Object parent, Object child)
+        {
+            if (!((Parent) parent).key.equals(((Child) child).parentKey))
+            {
+                return false;
+            }
+            ((Parent) parent).children.add(child);
+            return true;
+        }
+    }
+}
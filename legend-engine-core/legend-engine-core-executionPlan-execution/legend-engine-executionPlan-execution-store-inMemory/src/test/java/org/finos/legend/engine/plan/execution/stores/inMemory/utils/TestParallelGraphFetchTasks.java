@@ -0,0 +1,261 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.inMemory.utils;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
+import org.finos.legend.engine.plan.execution.graphFetch.ParallelGraphFetchExecutionConfig;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class TestParallelGraphFetchTasks
+{
+    private static final int POOL_SIZE = (int) new ParallelGraphFetchExecutionConfig().parallelExecutionPoolSize;
+
+    private ParallelGraphFetchExecutionExecutorPool pool;
+
+    @Before
+    public void setUp()
+    {
+        this.pool = new ParallelGraphFetchExecutionExecutorPool(new ParallelGraphFetchExecutionConfig(), "test");
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        this.pool.close();
+    }
+
+    @Test
+    public void testResultsAreInItemOrder()
+    {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> items = Interval.zeroTo(49);
+
+        List<String> results = ParallelGraphFetchTasks.collect(this.pool, 4, items, () -> item ->
+        {
+            threads.add(Thread.currentThread());
+            // later items finish first, so that results complete out of order
+            sleep(50 - item);
+            return "item" + item;
+        });
+
+        Assert.assertEquals(items.stream().map(i -> "item" + i).collect(Collectors.toList()), results);
+        Assert.assertTrue(threads.toString(), threads.size() > 1);
+        Assert.assertTrue(threads.toString(), threads.size() <= 4);
+        assertAllThreadsReleased();
+    }
+
+    @Test
+    public void testInFlightItemsAreLimitedByParallelism()
+    {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        ParallelGraphFetchTasks.collect(this.pool, 3, Interval.zeroTo(29), () -> item ->
+        {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(5);
+            inFlight.decrementAndGet();
+            return item;
+        });
+
+        Assert.assertTrue("at most " + maxInFlight.get() + " items in flight", (maxInFlight.get() > 1) && (maxInFlight.get() <= 3));
+        assertAllThreadsReleased();
+    }
+
+    @Test
+    public void testEachWorkerGetsItsOwnFunction()
+    {
+        AtomicInteger workers = new AtomicInteger();
+
+        List<Integer> results = ParallelGraphFetchTasks.collect(this.pool, 3, Interval.zeroTo(29), () ->
+        {
+            workers.incrementAndGet();
+            Thread owner = Thread.currentThread();
+            return item ->
+            {
+                Assert.assertSame(owner, Thread.currentThread());
+                sleep(2);
+                return item;
+            };
+        });
+
+        Assert.assertEquals(Interval.zeroTo(29), results);
+        Assert.assertEquals(3, workers.get());
+    }
+
+    @Test
+    public void testSequentialWithoutPool()
+    {
+        assertRunsOnCallingThread(null, 4);
+    }
+
+    @Test
+    public void testSequentialWithParallelismOfOne()
+    {
+        assertRunsOnCallingThread(this.pool, 1);
+    }
+
+    @Test
+    public void testSequentialWhenPoolHasNoFreeThreads()
+    {
+        Assert.assertTrue(this.pool.acquireThreads(POOL_SIZE));
+        try
+        {
+            assertRunsOnCallingThread(this.pool, 4);
+        }
+        finally
+        {
+            this.pool.releaseThreads(POOL_SIZE);
+        }
+    }
+
+    @Test
+    public void testFailureOfWorkerIsRethrown()
+    {
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+        Thread caller = Thread.currentThread();
+
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> ParallelGraphFetchTasks.collect(this.pool, 4, Interval.zeroTo(999), () -> item ->
+        {
+            processed.add(item);
+            if ((item >= 10) && (Thread.currentThread() != caller))
+            {
+                throw new IllegalStateException("failed on " + item);
+            }
+            sleep(1);
+            return item;
+        }));
+
+        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("failed on "));
+        // workers stop taking items after the failure
+        assertAllThreadsReleased();
+        Assert.assertTrue(processed.size() + " items processed", processed.size() < 1000);
+    }
+
+    @Test
+    public void testFailureOfCallingThreadIsRethrown()
+    {
+        Thread caller = Thread.currentThread();
+
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> ParallelGraphFetchTasks.collect(this.pool, 2, Interval.zeroTo(99), () -> item ->
+        {
+            if (Thread.currentThread() == caller)
+            {
+                throw new IllegalArgumentException("caller failed");
+            }
+            sleep(1);
+            return item;
+        }));
+
+        Assert.assertEquals("caller failed", e.getMessage());
+        assertAllThreadsReleased();
+    }
+
+    @Test
+    public void testThreadsOfCancelledWorkersAreHeldUntilTheyStop() throws Exception
+    {
+        Thread caller = Thread.currentThread();
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        CountDownLatch unblockWorker = new CountDownLatch(1);
+
+        Assert.assertThrows(IllegalStateException.class, () -> ParallelGraphFetchTasks.collect(this.pool, 2, Interval.zeroTo(9), () -> item ->
+        {
+            if (Thread.currentThread() == caller)
+            {
+                awaitUninterruptibly(workerStarted);
+                throw new IllegalStateException("caller failed");
+            }
+            workerStarted.countDown();
+            // ignores the interruption of its cancellation
+            awaitUninterruptibly(unblockWorker);
+            return item;
+        }));
+
+        // the worker still runs, so its thread is still taken from the pool
+        Assert.assertFalse(this.pool.acquireThreads(POOL_SIZE));
+        unblockWorker.countDown();
+        assertAllThreadsReleased();
+    }
+
+    private void assertRunsOnCallingThread(ParallelGraphFetchExecutionExecutorPool pool, int parallelism)
+    {
+        Thread caller = Thread.currentThread();
+        Function<Integer, Integer> function = item ->
+        {
+            Assert.assertSame(caller, Thread.currentThread());
+            return item * 2;
+        };
+
+        Assert.assertEquals(Interval.fromToBy(0, 18, 2), ParallelGraphFetchTasks.collect(pool, parallelism, Interval.zeroTo(9), () -> function));
+    }
+
+    private void assertAllThreadsReleased()
+    {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!this.pool.acquireThreads(POOL_SIZE))
+        {
+            Assert.assertTrue("threads were not given back to the pool", System.nanoTime() < deadline);
+            sleep(5);
+        }
+        this.pool.releaseThreads(POOL_SIZE);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch)
+    {
+        boolean interrupted = false;
+        while (true)
+        {
+            try
+            {
+                latch.await();
+                break;
+            }
+            catch (InterruptedException e)
+            {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -59,6 +59,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -323,6 +325,18 @@ public class PlanExecutor
         state.addResult(REFERER, new ConstantResult(String.valueOf(RequestContext.getReferral(state.requestContext)).replace("'", "''")));
     }
 
+    /**
+     * Compiles the Java code of a plan on the given executor, so that its first execution does not wait for javac.
+     */
+    public CompletableFuture<Void> precompile(SingleExecutionPlan plan, Executor executor)
+    {
+        if (!this.isJavaCompilationAllowed)
+        {
+            return CompletableFuture.completedFuture(null);
+        }
+        return JavaHelper.precompilePlan(plan, executor);
+    }
+
     public void injectConcurrentExecutionNodeExecutorPool(ConcurrentExecutionNodeExecutorPool concurrentExecutionNodeExecutorPool)
     {
         if (this.concurrentExecutionNodeExecutorPool != null)
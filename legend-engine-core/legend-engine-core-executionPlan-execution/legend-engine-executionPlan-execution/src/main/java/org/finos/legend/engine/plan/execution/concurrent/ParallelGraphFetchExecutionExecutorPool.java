@@ -62,6 +62,11 @@ public final class ParallelGraphFetchExecutionExecutorPool implements AutoClosea
         return this.executor.submit(task);
     }
 
+    public <T> Future<T> submitTask(Callable<T> task)
+    {
+        return this.executor.submit(task);
+    }
+
     public void releaseThreads(int threadsToRelease)
     {
         availableThreads.release(threadsToRelease);
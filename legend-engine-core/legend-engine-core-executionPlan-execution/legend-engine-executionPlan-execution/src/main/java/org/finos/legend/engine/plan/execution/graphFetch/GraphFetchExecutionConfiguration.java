@@ -26,6 +26,8 @@ public class GraphFetchExecutionConfiguration
     public static final long SOFT_MEMORY_TO_USE_FULL_MEMORY_PERCENTAGE = 100;
 
     public static final boolean DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES = false;
+    public static final int DEFAULT_IN_MEMORY_TRANSFORM_PARALLELISM = 1;
+    public static final int DEFAULT_CROSS_STORE_FETCH_PARALLELISM = 1;
 
     @JsonProperty
     private final long batchMemoryLimit;
@@ -39,6 +41,19 @@ public class GraphFetchExecutionConfiguration
     private final boolean parallelizeGraphFetchQueries;
     @JsonProperty
     private ParallelGraphFetchExecutionConfig parallelGraphFetchExecutionConfig;
+    /**
+     * Number of workers transforming each batch of an in memory (M2M) root graph fetch, taken from the parallel graph
+     * fetch pool. Only used when graph fetch queries can be parallelized.
+     */
+    @JsonProperty
+    private int inMemoryTransformParallelism = DEFAULT_IN_MEMORY_TRANSFORM_PARALLELISM;
+    /**
+     * Number of in memory cross store fetches executed at the same time for the parents of a batch, when the target
+     * store is queried once per parent (e.g. a service store service without batching), taken from the parallel graph
+     * fetch pool. Only used when graph fetch queries can be parallelized.
+     */
+    @JsonProperty
+    private int crossStoreFetchParallelism = DEFAULT_CROSS_STORE_FETCH_PARALLELISM;
 
     public GraphFetchExecutionConfiguration()
     {
@@ -70,6 +85,18 @@ public class GraphFetchExecutionConfiguration
         this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
     }
 
+    public GraphFetchExecutionConfiguration(ParallelGraphFetchExecutionConfig parallelGraphFetchExecutionConfig, int inMemoryTransformParallelism)
+    {
+        this(parallelGraphFetchExecutionConfig);
+        this.inMemoryTransformParallelism = inMemoryTransformParallelism;
+    }
+
+    public GraphFetchExecutionConfiguration(ParallelGraphFetchExecutionConfig parallelGraphFetchExecutionConfig, int inMemoryTransformParallelism, int crossStoreFetchParallelism)
+    {
+        this(parallelGraphFetchExecutionConfig, inMemoryTransformParallelism);
+        this.crossStoreFetchParallelism = crossStoreFetchParallelism;
+    }
+
     public GraphFetchExecutionConfiguration(long graphFetchBatchMemoryLimit)
     {
         this.batchMemoryLimit = graphFetchBatchMemoryLimit;
@@ -114,4 +141,14 @@ public class GraphFetchExecutionConfiguration
     {
         return parallelizeGraphFetchQueries;
     }
+
+    public int getInMemoryTransformParallelism()
+    {
+        return parallelizeGraphFetchQueries ? Math.max(inMemoryTransformParallelism, 1) : 1;
+    }
+
+    public int getCrossStoreFetchParallelism()
+    {
+        return parallelizeGraphFetchQueries ? Math.max(crossStoreFetchParallelism, 1) : 1;
+    }
 }
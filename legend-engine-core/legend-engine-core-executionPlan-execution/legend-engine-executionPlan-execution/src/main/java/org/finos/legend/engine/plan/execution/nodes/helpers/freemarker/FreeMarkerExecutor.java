@@ -14,17 +14,23 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import freemarker.core.TemplateDateFormatFactory;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
+import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashMap;
@@ -35,6 +41,17 @@ public class FreeMarkerExecutor
     private static Configuration freemarkerConfig = new Configuration();
     private static Map<String, TemplateDateFormatFactory> customDateFormats = Maps.mutable.with("alloyDate", PlanDateParameterDateFormatFactory.INSTANCE);
 
+    static final String TEMPLATE_CACHE_METRIC_NAME = "freemarker_template_cache";
+    private static final long TEMPLATE_CACHE_MAX_CHARACTERS = 64L * 1024 * 1024;
+
+    // Parsed templates are immutable once configured and can be processed concurrently, so they are shared across
+    // executions. Entries are keyed by (template functions, template text) and weighed by their source length.
+    private static final Cache<Pair<String, String>, Template> templateCache = CacheBuilder.newBuilder()
+            .recordStats()
+            .maximumWeight(TEMPLATE_CACHE_MAX_CHARACTERS)
+            .<Pair<String, String>, Template>weigher((key, template) -> key.getOne().length() + key.getTwo().length())
+            .build();
+
     static
     {
         freemarkerConfig.setNumberFormat("computer");
@@ -81,22 +98,31 @@ public class FreeMarkerExecutor
 
     public static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        String result = process(input, variableMap, templateFunctions);
+        return processRecursively(input, variableMap, templateFunctions, true);
+    }
+
+    private static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions, boolean cacheTemplate)
+    {
+        String result = process(input, variableMap, templateFunctions, cacheTemplate);
         if (!result.equals(input.replace("\\\"", "\"")))
         {
-            return processRecursively(result, variableMap, templateFunctions);
+            // the output of a previous pass embeds parameter values, so it is not worth caching
+            return processRecursively(result, variableMap, templateFunctions, false);
         }
         return result;
     }
 
     private static String process(String input, Map<String, ?> variableMap, String templateFunctions)
+    {
+        return process(input, variableMap, templateFunctions, true);
+    }
+
+    private static String process(String input, Map<String, ?> variableMap, String templateFunctions, boolean cacheTemplate)
     {
         StringWriter stringWriter = new StringWriter();
         try
         {
-            Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), freemarkerConfig);
-            template.setCustomDateFormats(customDateFormats);
-            template.setDateFormat("@alloyDate");
+            Template template = cacheTemplate ? getOrParseTemplate(input, templateFunctions) : parseTemplate(input, templateFunctions);
             template.process(variableMap, stringWriter);
             return stringWriter.toString();
         }
@@ -105,4 +131,42 @@ public class FreeMarkerExecutor
             throw new RuntimeException("Issue processing freemarker function.  Template with error: " + stringWriter.toString(), e);
         }
     }
+
+    private static Template getOrParseTemplate(String input, String templateFunctions) throws IOException
+    {
+        Pair<String, String> key = Tuples.pair(templateFunctions, input);
+        Template template = templateCache.getIfPresent(key);
+        if (template != null)
+        {
+            MetricsHandler.incrementCacheHitCount(TEMPLATE_CACHE_METRIC_NAME);
+            return template;
+        }
+        MetricsHandler.incrementCacheMissCount(TEMPLATE_CACHE_METRIC_NAME);
+        template = parseTemplate(input, templateFunctions);
+        templateCache.put(key, template);
+        return template;
+    }
+
+    private static Template parseTemplate(String input, String templateFunctions) throws IOException
+    {
+        Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), freemarkerConfig);
+        template.setCustomDateFormats(customDateFormats);
+        template.setDateFormat("@alloyDate");
+        return template;
+    }
+
+    public static long templateCacheSize()
+    {
+        return templateCache.size();
+    }
+
+    public static double templateCacheHitRate()
+    {
+        return templateCache.stats().hitRate();
+    }
+
+    public static void invalidateTemplateCache()
+    {
+        templateCache.invalidateAll();
+    }
 }
@@ -34,6 +34,7 @@ import org.finos.legend.engine.shared.core.kerberos.ProfileManagerHelper;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompilerBytecodeCache;
 import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
 import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
@@ -273,6 +274,12 @@ public class ExecutionNodeJavaPlatformHelper
                     .collect(Collectors.toList());
 
             EngineJavaCompiler compiler = new EngineJavaCompiler(executionState.getJavaCompiler());
+            JavaCompilerBytecodeCache bytecodeCache = JavaHelper.getBytecodeCache();
+            if (!executionState.hasJavaCompiler() && (bytecodeCache != null))
+            {
+                // without a plan compiler to inherit it from, this compiler runs without a class path filter
+                compiler.withBytecodeCache(bytecodeCache, "unfiltered");
+            }
 
             long start = System.currentTimeMillis();
 
@@ -30,7 +30,9 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPl
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.finos.legend.engine.shared.javaCompiler.ClassPathFilters;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompilerBytecodeCache;
 import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
 import org.finos.legend.engine.shared.javaCompiler.JavaVersion;
 import org.finos.legend.engine.shared.javaCompiler.SingleFileCompiler;
@@ -42,11 +44,17 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class JavaHelper
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaHelper.class);
     private static final String DEFAULT_EXECUTION_METHOD_NAME = "execute";
+    // all compilers created here use the same class path filter, built from the (statically loaded) extensions
+    private static final String BYTECODE_CACHE_SCOPE = "executionPlan:" + ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), e -> e.getClass().getName()).makeString(",");
+
+    private static volatile JavaCompilerBytecodeCache bytecodeCache = new JavaCompilerBytecodeCache(64L * 1024 * 1024);
 
     private JavaHelper()
     {
@@ -81,6 +89,39 @@ public class JavaHelper
         }
     }
 
+    /**
+     * Compiles a plan in the background, so that its classes are served from the bytecode cache when it is first
+     * executed. The plan itself is not modified.
+     */
+    public static CompletableFuture<Void> precompilePlan(SingleExecutionPlan singleExecutionPlan, Executor executor)
+    {
+        SingleExecutionPlan copy = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().convertValue(singleExecutionPlan, SingleExecutionPlan.class);
+        return CompletableFuture.runAsync(() ->
+        {
+            try
+            {
+                compilePlan(copy, null);
+            }
+            catch (JavaCompileException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Replaces the cache shared by all plan compilations, e.g. with one persisted to disk. A null cache disables it.
+     */
+    public static void setBytecodeCache(JavaCompilerBytecodeCache cache)
+    {
+        bytecodeCache = cache;
+    }
+
+    public static JavaCompilerBytecodeCache getBytecodeCache()
+    {
+        return bytecodeCache;
+    }
+
     public static StringJavaSource buildStringJavaSource(JavaClass jc)
     {
         return StringJavaSource.newStringJavaSource(jc._package, jc.name, jc.source);
@@ -88,7 +129,9 @@ public class JavaHelper
 
     private static EngineJavaCompiler createNewJavaCompiler()
     {
-        return new EngineJavaCompiler(JavaVersion.JAVA_8, ClassPathFilters.any(ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), ExecutionPlanJavaCompilerExtension::getExtraClassPathFilter, Lists.mutable.of(new ExecutionPlanDependenciesFilter()))));
+        EngineJavaCompiler compiler = new EngineJavaCompiler(JavaVersion.JAVA_8, ClassPathFilters.any(ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), ExecutionPlanJavaCompilerExtension::getExtraClassPathFilter, Lists.mutable.of(new ExecutionPlanDependenciesFilter()))));
+        JavaCompilerBytecodeCache cache = bytecodeCache;
+        return (cache == null) ? compiler : compiler.withBytecodeCache(cache, BYTECODE_CACHE_SCOPE);
     }
 
     private static EngineJavaCompiler compilePlanFast(SingleExecutionPlan singleExecutionPlan) throws JavaCompileException, IOException, CompileException
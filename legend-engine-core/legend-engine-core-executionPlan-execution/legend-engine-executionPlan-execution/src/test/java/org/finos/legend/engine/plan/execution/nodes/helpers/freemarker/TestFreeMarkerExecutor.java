@@ -92,6 +92,36 @@ public class TestFreeMarkerExecutor
     }
 
 
+    @Test
+    public void testTemplateCacheIsSharedAcrossExecutions()
+    {
+        FreeMarkerExecutor.invalidateTemplateCache();
+        String query = "select * from t where size = ${collectionSize(testCollection)}";
+
+        Map rootMap = new HashMap();
+        rootMap.put("testCollection", Lists.mutable.with(1, 2));
+        Assert.assertEquals("select * from t where size = 2", FreeMarkerExecutor.processRecursively(query, rootMap, collectionSizeTemplate()).trim());
+        Assert.assertEquals(1, FreeMarkerExecutor.templateCacheSize());
+
+        // the cached template is rendered again with the values of the new execution
+        rootMap.put("testCollection", Lists.mutable.with(1, 2, 3));
+        Assert.assertEquals("select * from t where size = 3", FreeMarkerExecutor.processRecursively(query, rootMap, collectionSizeTemplate()).trim());
+        Assert.assertEquals(1, FreeMarkerExecutor.templateCacheSize());
+
+        // the template functions are part of the key
+        Assert.assertEquals("select * from t where size = 3", FreeMarkerExecutor.processRecursively(query, rootMap, "<#-- other functions -->" + collectionSizeTemplate()).trim());
+        Assert.assertEquals(2, FreeMarkerExecutor.templateCacheSize());
+    }
+
+    @Test
+    public void testTemplateCacheIgnoresInvalidTemplates()
+    {
+        FreeMarkerExecutor.invalidateTemplateCache();
+        Map rootMap = new HashMap();
+        Assert.assertThrows(RuntimeException.class, () -> FreeMarkerExecutor.processRecursively("select ${", rootMap, collectionSizeTemplate()));
+        Assert.assertEquals(0, FreeMarkerExecutor.templateCacheSize());
+    }
+
     public static String collectionSizeTemplate()
     {
         return "<#function collectionSize collection>" +
@@ -27,6 +27,8 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElem
 import org.finos.legend.pure.runtime.java.compiled.metadata.Metadata;
 import org.pac4j.core.profile.CommonProfile;
 
+import java.util.concurrent.ForkJoinPool;
+
 public class Compiler
 {
     public static PureModel compile(PureModelContextData model, DeploymentMode deploymentMode, Iterable<? extends CommonProfile> pm)
@@ -41,7 +43,12 @@ public class Compiler
 
     public static PureModel compile(PureModelContextData model, DeploymentMode deploymentMode, Iterable<? extends CommonProfile> pm, String packageOffset, Metadata metaData)
     {
-        PureModelProcessParameter pureModelProcessParameter = new PureModelProcessParameter(packageOffset);
+        return compile(model, deploymentMode, pm, packageOffset, metaData, null);
+    }
+
+    public static PureModel compile(PureModelContextData model, DeploymentMode deploymentMode, Iterable<? extends CommonProfile> pm, String packageOffset, Metadata metaData, ForkJoinPool forkJoinPool)
+    {
+        PureModelProcessParameter pureModelProcessParameter = new PureModelProcessParameter(packageOffset, forkJoinPool);
         return new PureModel(model, pm, deploymentMode, pureModelProcessParameter, metaData);
     }
 
@@ -362,7 +362,7 @@ public class HelperMappingBuilder
         MutableList<Generalization> generalizations = ListIterate.collect(mappingclass.superTypes, (superType) ->
         {
             Generalization generalization = new Root_meta_pure_metamodel_relationship_Generalization_Impl("", null, context.pureModel.getClass("meta::pure::metamodel::relationship::Generalization"))._general(context.resolveGenericType(superType))._specific(mappingClass);
-            context.resolveType(superType)._specializationsAdd(generalization);
+            context.pureModel.addSpecialization(context.resolveType(superType), generalization);
             return generalization;
         });
         mappingClass._generalizations(generalizations);
@@ -489,7 +489,7 @@ public class HelperMappingBuilder
                 GenericType superType = new Root_meta_pure_metamodel_type_generics_GenericType_Impl("", null, context.pureModel.getClass("meta::pure::metamodel::type::generics::GenericType"))._rawType(setImplementation._class());
                 Generalization newGeneralization = new Root_meta_pure_metamodel_relationship_Generalization_Impl("", null, context.pureModel.getClass("meta::pure::metamodel::relationship::Generalization"))._specific(mappingClass)._general(superType);
                 mappingClass._generalizations(Lists.immutable.with(newGeneralization));
-                setImplementation._class()._specializationsAdd(newGeneralization);
+                context.pureModel.addSpecialization(setImplementation._class(), newGeneralization);
 
                 mappingClass._properties(ListIterate.collect(localPropertyMappings, pm ->
                 {
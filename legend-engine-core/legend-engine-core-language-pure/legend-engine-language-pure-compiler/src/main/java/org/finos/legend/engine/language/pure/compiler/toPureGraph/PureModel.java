@@ -18,6 +18,7 @@ import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
@@ -30,6 +31,7 @@ import org.eclipse.collections.api.map.primitive.ObjectIntMap;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.MetadataWrapper;
@@ -63,6 +65,7 @@ import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.pure.generated.Package_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_multiplicity_MultiplicityValue_Impl;
 import org.finos.legend.pure.generated.Root_meta_pure_metamodel_multiplicity_Multiplicity_Impl;
@@ -78,6 +81,7 @@ import org.finos.legend.pure.m3.coreinstance.Package;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.mapping.Mapping;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.multiplicity.Multiplicity;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.multiplicity.PackageableMultiplicity;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Generalization;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Enumeration;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Measure;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type;
@@ -112,10 +116,15 @@ import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 public class PureModel implements IPureModel
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(PureModel.class);
+    // elements taking longer than this in a single compiler pass are logged individually
+    private static final long SLOW_ELEMENT_THRESHOLD_NANOS = TimeUnit.SECONDS.toNanos(1);
     private static final ImmutableSet<String> RESERVED_PACKAGES = Sets.immutable.with("$implicit");
     public static final MetadataLazy METADATA_LAZY = MetadataLazy.fromClassLoader(PureModel.class.getClassLoader(), CodeRepositoryProviderHelper.findCodeRepositories(PureModel.class.getClassLoader(), true).collectIf(r -> !r.getName().startsWith("test_") && !r.getName().startsWith("other_"), CodeRepository::getName));
 
@@ -127,24 +136,27 @@ public class PureModel implements IPureModel
     // this as part of `CompileContext`
     final CompilerExtensions extensions;
 
-    private final MutableList<Warning> warnings = Lists.mutable.empty();
+    private final MutableList<Warning> warnings = Lists.mutable.<Warning>empty().asSynchronized();
+    // updates to shared graph instances made by the element being processed on this thread in a parallel pass
+    private final ThreadLocal<MutableList<Runnable>> deferredGraphUpdates = new ThreadLocal<>();
 
     final Handlers handlers;
 
-    private final MutableSet<String> immutables = Sets.mutable.empty();
+    // NOTE: indexes are concurrent so that elements within a pass can be processed in parallel (see PureModelProcessParameter)
+    private final MutableSet<String> immutables = Sets.mutable.<String>empty().asSynchronized();
     private final MutableMap<String, Multiplicity> multiplicitiesIndex = Maps.mutable.empty();
-    final MutableMap<String, Section> sectionsIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type> typesIndex = Maps.mutable.empty();
-    final MutableMap<String, GenericType> typesGenericTypeIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?>> functionsIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile> profilesIndex = Maps.mutable.empty();
-    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association> associationsIndex = Maps.mutable.empty();
-    final MutableMap<String, Store> storesIndex = Maps.mutable.empty();
-    final MutableMap<String, Mapping> mappingsIndex = Maps.mutable.empty();
-    final MutableMap<String, Root_meta_pure_runtime_PackageableConnection> packageableConnectionsIndex = Maps.mutable.empty();
-    final MutableMap<String, Root_meta_core_runtime_Connection> connectionsIndex = Maps.mutable.empty();
-    final MutableMap<String, Root_meta_pure_runtime_PackageableRuntime> packageableRuntimesIndex = Maps.mutable.empty();
-    final MutableMap<String, Root_meta_core_runtime_Runtime> runtimesIndex = Maps.mutable.empty();
+    final MutableMap<String, Section> sectionsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type> typesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, GenericType> typesGenericTypeIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition<?>> functionsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile> profilesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association> associationsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Store> storesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Mapping> mappingsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Root_meta_pure_runtime_PackageableConnection> packageableConnectionsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Root_meta_core_runtime_Connection> connectionsIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Root_meta_pure_runtime_PackageableRuntime> packageableRuntimesIndex = ConcurrentHashMap.newMap();
+    final MutableMap<String, Root_meta_core_runtime_Runtime> runtimesIndex = ConcurrentHashMap.newMap();
 
     public static final PureModel CORE_PURE_MODEL = getCorePureModel();
 
@@ -262,7 +274,7 @@ public class PureModel implements IPureModel
 
             this.loadStores(pureModelContextDataIndex);
             long loadStoresFinished = System.currentTimeMillis();
-            LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_STORES_BUILT, this.buildStoreStats(pureModelContextData, this), (double) loadOtherElementsPreStores - loadTypesFinished).toString());
+            LOGGER.info(new LogInfo(pm, LoggingEventType.GRAPH_STORES_BUILT, this.buildStoreStats(pureModelContextData, this), (double) loadStoresFinished - loadOtherElementsPreStores).toString());
             scope.span().log(LoggingEventType.GRAPH_STORES_BUILT.toString());
 
             this.loadMappings(pureModelContextDataIndex);
@@ -479,27 +491,96 @@ public class PureModel implements IPureModel
         this.extensions.sortExtraProcessors(pure.stores.keysView()).forEach(p ->
         {
             MutableList<org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.Store> stores = pure.stores.get(p);
-            stores.forEach(this::processSecondPass);
-            stores.forEach(this::processThirdPass);
-            stores.forEach(this::processFourthPass);
-            stores.forEach(this::processFifthPass);
+            this.forEachInPass(stores, this::processSecondPass);
+            this.forEachInPass(stores, this::processThirdPass);
+            this.forEachInPass(stores, this::processFourthPass);
+            this.forEachInPass(stores, this::processFifthPass);
         });
     }
 
     public void loadMappings(PureModelContextDataIndex pure)
     {
-        pure.mappings.forEach(this::processSecondPass);
-        pure.mappings.forEach(this::processThirdPass);
-        pure.mappings.forEach(this::processFourthPass);
-        pure.mappings.forEach(this::processFifthPass);
+        this.forEachInPass(pure.mappings, this::processSecondPass);
+        this.forEachInPass(pure.mappings, this::processThirdPass);
+        this.forEachInPass(pure.mappings, this::processFourthPass);
+        this.forEachInPass(pure.mappings, this::processFifthPass);
 
     }
 
     public void loadConnectionsAndRuntimes(PureModelContextDataIndex pure)
     {
         // Connections must be loaded before runtimes
-        pure.connections.forEach(this::processSecondPass);
-        pure.runtimes.forEach(this::processSecondPass);
+        this.forEachInPass(pure.connections, this::processSecondPass);
+        this.forEachInPass(pure.runtimes, this::processSecondPass);
+    }
+
+    /**
+     * Applies a compiler pass to the given elements. When parallel processing is enabled, the elements are processed
+     * concurrently on the configured pool and this method only returns once all of them are done, so each call acts as
+     * a barrier between passes. Only passes whose elements do not mutate each other's graph instances should use this:
+     * specializations of shared types must be added with {@link #addSpecialization}, which defers them until the pass
+     * is done and then applies them on the calling thread, in element order.
+     */
+    private <T extends org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement> void forEachInPass(MutableList<T> elements, Procedure<? super T> pass)
+    {
+        if ((this.pureModelProcessParameter == null) || !this.pureModelProcessParameter.isParallel() || (elements.size() < 2))
+        {
+            elements.forEach(pass);
+            return;
+        }
+        MutableList<MutableList<Runnable>> deferredUpdates = Lists.mutable.withNValues(elements.size(), Lists.mutable::empty);
+        try
+        {
+            this.pureModelProcessParameter.forkJoinPool.submit(() -> IntStream.range(0, elements.size()).parallel().forEach(i ->
+            {
+                MutableList<Runnable> previous = this.deferredGraphUpdates.get();
+                this.deferredGraphUpdates.set(deferredUpdates.get(i));
+                try
+                {
+                    pass.value(elements.get(i));
+                }
+                finally
+                {
+                    this.deferredGraphUpdates.set(previous);
+                }
+            })).get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new EngineException("Interrupted while building Pure model", e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new EngineException("Error building Pure model", (Exception) cause);
+        }
+        deferredUpdates.forEach(updates -> updates.forEach(Runnable::run));
+    }
+
+    /**
+     * Adds a specialization to a type that may be shared between the elements of a compiler pass. Specialization lists
+     * are not thread-safe, so within a parallel pass the addition is deferred until all elements of the pass are done.
+     */
+    public void addSpecialization(Type general, Generalization generalization)
+    {
+        MutableList<Runnable> deferred = this.deferredGraphUpdates.get();
+        if (deferred == null)
+        {
+            general._specializationsAdd(generalization);
+        }
+        else
+        {
+            deferred.add(() -> general._specializationsAdd(generalization));
+        }
     }
 
     private void loadOtherElementsPreStores(PureModelContextDataIndex pure)
@@ -526,31 +607,32 @@ public class PureModel implements IPureModel
 
     private org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement processFirstPass(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element)
     {
-        return visitWithErrorHandling(element, new PackageableElementFirstPassBuilder(getContext(element)));
+        return visitWithErrorHandling(element, "first", new PackageableElementFirstPassBuilder(getContext(element)));
     }
 
     private void processSecondPass(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element)
     {
-        visitWithErrorHandling(element, new PackageableElementSecondPassBuilder(getContext(element)));
+        visitWithErrorHandling(element, "second", new PackageableElementSecondPassBuilder(getContext(element)));
     }
 
     private void processThirdPass(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element)
     {
-        visitWithErrorHandling(element, new PackageableElementThirdPassBuilder(getContext(element)));
+        visitWithErrorHandling(element, "third", new PackageableElementThirdPassBuilder(getContext(element)));
     }
 
     private void processFourthPass(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element)
     {
-        visitWithErrorHandling(element, new PackageableElementFourthPassBuilder(getContext(element)));
+        visitWithErrorHandling(element, "fourth", new PackageableElementFourthPassBuilder(getContext(element)));
     }
 
     private void processFifthPass(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element)
     {
-        visitWithErrorHandling(element, new PackageableElementFifthPassBuilder(getContext(element)));
+        visitWithErrorHandling(element, "fifth", new PackageableElementFifthPassBuilder(getContext(element)));
     }
 
-    private <T> T visitWithErrorHandling(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element, PackageableElementVisitor<T> visitor)
+    private <T> T visitWithErrorHandling(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element, String pass, PackageableElementVisitor<T> visitor)
     {
+        long start = System.nanoTime();
         try
         {
             return element.accept(visitor);
@@ -573,6 +655,20 @@ public class PureModel implements IPureModel
             }
             throw new EngineException(builder.toString(), (element.sourceInformation == null) ? SourceInformation.getUnknownSourceInformation() : element.sourceInformation, e);
         }
+        finally
+        {
+            observeElementCompilation(element, pass, System.nanoTime() - start);
+        }
+    }
+
+    private static void observeElementCompilation(org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement element, String pass, long durationNanos)
+    {
+        String elementType = element.getClass().getSimpleName();
+        MetricsHandler.observeCompilation(pass, elementType, durationNanos);
+        if (durationNanos > SLOW_ELEMENT_THRESHOLD_NANOS)
+        {
+            LOGGER.info("Compiler {} pass of {} '{}' took {}ms", pass, elementType, element.getPath(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
     }
 
 
@@ -710,8 +806,13 @@ public class PureModel implements IPureModel
             }
             if (type != null)
             {
+                // Parallel compiler passes may resolve the same system type concurrently: keep the first cached instance
                 this.immutables.add(fullPathWithPrefix);
-                this.typesIndex.put(fullPathWithPrefix, type);
+                org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type existing = this.typesIndex.putIfAbsent(fullPathWithPrefix, type);
+                if (existing != null)
+                {
+                    type = existing;
+                }
             }
         }
         return type;
@@ -875,7 +976,11 @@ public class PureModel implements IPureModel
             if (association != null)
             {
                 this.immutables.add(fullPathWithPrefix);
-                this.associationsIndex.put(fullPathWithPrefix, association);
+                org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relationship.Association existing = this.associationsIndex.putIfAbsent(fullPathWithPrefix, association);
+                if (existing != null)
+                {
+                    association = existing;
+                }
             }
         }
         return association;
@@ -909,7 +1014,11 @@ public class PureModel implements IPureModel
             }
             if (profile != null)
             {
-                this.profilesIndex.put(pathWithTypeReference, profile);
+                org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile existing = this.profilesIndex.putIfAbsent(pathWithTypeReference, profile);
+                if (existing != null)
+                {
+                    profile = existing;
+                }
             }
         }
         return profile;
@@ -1206,7 +1315,10 @@ public class PureModel implements IPureModel
 
     private org.finos.legend.pure.m3.coreinstance.Package getOrCreatePackage(org.finos.legend.pure.m3.coreinstance.Package parent, String pack)
     {
-        return getOrCreatePackage_int(parent, pack, true);
+        synchronized (this.root)
+        {
+            return getOrCreatePackage_int(parent, pack, true);
+        }
     }
 
     private org.finos.legend.pure.m3.coreinstance.Package getOrCreatePackage_int(org.finos.legend.pure.m3.coreinstance.Package parent, String pack, boolean insert)
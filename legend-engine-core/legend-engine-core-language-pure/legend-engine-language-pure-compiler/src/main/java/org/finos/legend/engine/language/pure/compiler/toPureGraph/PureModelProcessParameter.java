@@ -14,17 +14,32 @@
 
 package org.finos.legend.engine.language.pure.compiler.toPureGraph;
 
+import java.util.concurrent.ForkJoinPool;
+
 public class PureModelProcessParameter
 {
     String packagePrefix;
+    // When set, independent elements within a compiler pass are processed on this pool (passes remain sequential)
+    ForkJoinPool forkJoinPool;
 
     PureModelProcessParameter()
     {
-        this.packagePrefix = null;
+        this(null);
     }
 
     public PureModelProcessParameter(String packagePrefix)
+    {
+        this(packagePrefix, null);
+    }
+
+    public PureModelProcessParameter(String packagePrefix, ForkJoinPool forkJoinPool)
     {
         this.packagePrefix = packagePrefix;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public boolean isParallel()
+    {
+        return this.forkJoinPool != null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.compiler.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelProcessParameter;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.mapping.Mapping;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class TestParallelCompilation
+{
+    private static final int SIZE = 200;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testParallelCompilationMatchesSequential()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(buildModel(SIZE, null));
+
+        PureModel sequential = new PureModel(modelData, null, DeploymentMode.TEST, new PureModelProcessParameter(null), null);
+        PureModel parallel = new PureModel(modelData, null, DeploymentMode.TEST, new PureModelProcessParameter(null, pool), null);
+
+        for (int i = 0; i < SIZE; i++)
+        {
+            String path = "test::mapping::Mapping" + i;
+            Mapping expected = sequential.getMapping(path);
+            Mapping actual = parallel.getMapping(path);
+            Assert.assertEquals(path, expected._classMappings().size(), actual._classMappings().size());
+            Assert.assertSame(parallel.getClass("test::model::Target" + i), actual._classMappings().getOnly()._class());
+        }
+        Assert.assertEquals(sequential.getWarnings().size(), parallel.getWarnings().size());
+    }
+
+    @Test
+    public void testParallelCompilationError()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(buildModel(SIZE, "test::mapping::Mapping" + (SIZE / 2)));
+
+        EngineException sequentialError = Assert.assertThrows(EngineException.class, () -> new PureModel(modelData, null, DeploymentMode.TEST, new PureModelProcessParameter(null), null));
+        EngineException parallelError = Assert.assertThrows(EngineException.class, () -> new PureModel(modelData, null, DeploymentMode.TEST, new PureModelProcessParameter(null, pool), null));
+        Assert.assertEquals(sequentialError.getMessage(), parallelError.getMessage());
+        Assert.assertEquals(sequentialError.getSourceInformation(), parallelError.getSourceInformation());
+    }
+
+    @Test
+    public void testParallelCompilationOfMappingsSharingClasses()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(buildSharedClassModel(SIZE));
+
+        PureModel sequential = new PureModel(modelData, null, DeploymentMode.TEST, new PureModelProcessParameter(null), null);
+        PureModel parallel = new PureModel(modelData, null, DeploymentMode.TEST, new PureModelProcessParameter(null, pool), null);
+
+        // every mapping adds the specialization of its local property mapping class to the shared class
+        MutableList<String> expected = specializationNames(sequential.getClass("test::model::Shared"));
+        Assert.assertEquals(SIZE, expected.size());
+        Assert.assertEquals(expected, specializationNames(parallel.getClass("test::model::Shared")));
+        Assert.assertEquals(specializationNames(sequential.getClass("test::model::Base")), specializationNames(parallel.getClass("test::model::Base")));
+        for (int i = 0; i < SIZE; i++)
+        {
+            String path = "test::mapping::SharedMapping" + i;
+            Assert.assertSame(parallel.getClass("test::model::Shared"), parallel.getMapping(path)._classMappings().getOnly()._class());
+        }
+    }
+
+    @Test
+    public void testCompilerCompilesOnPool()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(buildModel(SIZE, null));
+
+        PureModel parallel = Compiler.compile(modelData, DeploymentMode.TEST, null, null, null, pool);
+        for (int i = 0; i < SIZE; i++)
+        {
+            Assert.assertSame(parallel.getClass("test::model::Target" + i), parallel.getMapping("test::mapping::Mapping" + i)._classMappings().getOnly()._class());
+        }
+    }
+
+    @Test
+    public void testConcurrentSystemTypeLookup() throws Exception
+    {
+        PureModel pureModel = new PureModel(PureModelContextData.newBuilder().build(), null, DeploymentMode.TEST, new PureModelProcessParameter(null, pool), null);
+        MutableList<Callable<Type>> lookups = Lists.mutable.empty();
+        for (int i = 0; i < SIZE; i++)
+        {
+            lookups.add(() -> pureModel.getType_safe("meta::pure::metamodel::type::Any"));
+        }
+
+        List<Future<Type>> results = pool.invokeAll(lookups);
+        Type expected = pureModel.getType_safe("meta::pure::metamodel::type::Any");
+        Assert.assertNotNull(expected);
+        for (Future<Type> result : results)
+        {
+            Assert.assertSame(expected, result.get());
+        }
+        Assert.assertTrue(pureModel.isImmutable("meta::pure::metamodel::type::Any"));
+    }
+
+    private static MutableList<String> specializationNames(Class<?> _class)
+    {
+        return _class._specializations().collect(specialization -> specialization._specific().getName(), Lists.mutable.empty());
+    }
+
+    private static String buildSharedClassModel(int size)
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Class test::model::Base\n{\n  id: String[1];\n}\n");
+        builder.append("Class test::model::Shared extends test::model::Base\n{\n  name: String[1];\n}\n");
+        builder.append("Class test::model::Source\n{\n  name: String[1];\n}\n");
+        builder.append("###Mapping\n");
+        for (int i = 0; i < size; i++)
+        {
+            builder.append("Mapping test::mapping::SharedMapping").append(i).append("\n(\n")
+                    .append("  *test::model::Shared: Pure\n  {\n")
+                    .append("    ~src test::model::Source\n")
+                    .append("    +local: String[1]: $src.name,\n")
+                    .append("    id: $src.name,\n")
+                    .append("    name: $src.name\n")
+                    .append("  }\n)\n");
+        }
+        return builder.toString();
+    }
+
+    private static String buildModel(int size, String brokenMapping)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size; i++)
+        {
+            builder.append("Class test::model::Source").append(i).append("\n{\n  name: String[1];\n  value: Integer[1];\n}\n");
+            builder.append("Class test::model::Target").append(i).append("\n{\n  name: String[1];\n  value: Integer[1];\n}\n");
+        }
+        builder.append("###Mapping\n");
+        for (int i = 0; i < size; i++)
+        {
+            String mapping = "test::mapping::Mapping" + i;
+            String sourceProperty = mapping.equals(brokenMapping) ? "missing" : "name";
+            builder.append("Mapping ").append(mapping).append("\n(\n")
+                    .append("  *test::model::Target").append(i).append(": Pure\n  {\n")
+                    .append("    ~src test::model::Source").append(i).append("\n")
+                    .append("    name: $src.").append(sourceProperty).append(",\n")
+                    .append("    value: $src.value + 1\n")
+                    .append("  }\n)\n");
+        }
+        return builder.toString();
+    }
+}
@@ -21,6 +21,7 @@ import io.opentracing.Scope;
 import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
@@ -57,6 +58,8 @@ public class ModelManager
     private final DeploymentMode deploymentMode;
     private final MutableList<ModelLoader> modelLoaders;
     private final Tracer tracer;
+    private PureModelContextDataDiskCache diskCache;
+    private ForkJoinPool compilationPool;
 
     public ModelManager(DeploymentMode mode, ModelLoader... modelLoaders)
     {
@@ -71,6 +74,35 @@ public class ModelManager
         this.deploymentMode = mode;
     }
 
+    /**
+     * Enables a second-tier, on-disk cache of the model data behind cacheable contexts, so that the graph can be
+     * rebuilt without reloading the data after a restart or once the compiled graph is evicted from memory.
+     */
+    public ModelManager withDiskCache(PureModelContextDataDiskCache diskCache)
+    {
+        this.diskCache = diskCache;
+        return this;
+    }
+
+    public PureModelContextDataDiskCache getDiskCache()
+    {
+        return this.diskCache;
+    }
+
+    /**
+     * Compiles the independent elements of each compiler pass on the given pool; models are compiled sequentially when not set.
+     */
+    public ModelManager withCompilationPool(ForkJoinPool compilationPool)
+    {
+        this.compilationPool = compilationPool;
+        return this;
+    }
+
+    public ForkJoinPool getCompilationPool()
+    {
+        return this.compilationPool;
+    }
+
     // Remove clientVersion
     public PureModel loadModel(PureModelContext context, String clientVersion, MutableList<CommonProfile> pm, String packageOffset)
     {
@@ -82,7 +114,7 @@ public class ModelManager
                 PureModelContext cacheKey = loader.cacheKey(context, pm);
                 try
                 {
-                    return this.pureModelCache.get(cacheKey, () -> Compiler.compile(this.loadData(cacheKey, clientVersion, pm), this.deploymentMode, pm, packageOffset));
+                    return this.pureModelCache.get(cacheKey, () -> Compiler.compile(this.loadCacheableData(cacheKey, clientVersion, pm), this.deploymentMode, pm, packageOffset, null, this.compilationPool));
                 }
                 catch (ExecutionException e)
                 {
@@ -90,7 +122,7 @@ public class ModelManager
                 }
             }
         }
-        return Compiler.compile(this.loadData(context, clientVersion, pm), this.deploymentMode, pm, packageOffset);
+        return Compiler.compile(this.loadData(context, clientVersion, pm), this.deploymentMode, pm, packageOffset, null, this.compilationPool);
     }
 
     // Remove clientVersion
@@ -129,6 +161,21 @@ public class ModelManager
         }
     }
 
+    private PureModelContextData loadCacheableData(PureModelContext cacheKey, String clientVersion, MutableList<CommonProfile> pm)
+    {
+        if (this.diskCache == null)
+        {
+            return this.loadData(cacheKey, clientVersion, pm);
+        }
+        PureModelContextData data = this.diskCache.get(cacheKey);
+        if (data == null)
+        {
+            data = this.loadData(cacheKey, clientVersion, pm);
+            this.diskCache.put(cacheKey, data);
+        }
+        return data;
+    }
+
     public ModelLoader modelLoaderForContext(PureModelContext context)
     {
         MutableList<ModelLoader> loaders = modelLoaders.select(loader -> loader.supports(context));
@@ -0,0 +1,337 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.deployment.DeploymentStateAndVersions;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Second-tier cache for {@link PureModelContextData} which survives restarts and in-heap cache evictions.
+ * <p>
+ * Entries are keyed by the model loader cache key and the engine version, and are stored as deflated JSON in one
+ * file per entry. Entries are read back through memory-mapped buffers and evicted in least-recently-used order
+ * once the total size on disk exceeds the configured bound.
+ */
+public class PureModelContextDataDiskCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(PureModelContextDataDiskCache.class);
+
+    static final String METRIC_NAME = "pure_model_context_data_disk_cache";
+    private static final String FILE_EXTENSION = ".pmcd";
+    private static final int MAGIC = 0x504D4344;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final String engineVersion;
+    private final ObjectMapper objectMapper;
+
+    // file name -> size in bytes, kept in access order so that iteration starts with the least recently used entry
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize = 0;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public PureModelContextDataDiskCache(Path directory, long maxSizeInBytes)
+    {
+        this(directory, maxSizeInBytes, getDefaultEngineVersion(), ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports());
+    }
+
+    public PureModelContextDataDiskCache(Path directory, long maxSizeInBytes, String engineVersion, ObjectMapper objectMapper)
+    {
+        if (maxSizeInBytes <= 0)
+        {
+            throw new IllegalArgumentException("Max size must be positive: " + maxSizeInBytes);
+        }
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.engineVersion = engineVersion;
+        this.objectMapper = objectMapper;
+        try
+        {
+            Files.createDirectories(directory);
+            this.loadExistingEntries();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error initializing model cache directory " + directory, e);
+        }
+    }
+
+    public PureModelContextData get(PureModelContext cacheKey)
+    {
+        String fileName = this.fileName(cacheKey);
+        synchronized (this.entries)
+        {
+            if (this.entries.get(fileName) == null)
+            {
+                this.recordMiss();
+                return null;
+            }
+        }
+        Path file = this.directory.resolve(fileName);
+        try
+        {
+            PureModelContextData data = this.read(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            this.hitCount.incrementAndGet();
+            MetricsHandler.incrementCacheHitCount(METRIC_NAME);
+            return data;
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Discarding unreadable model cache entry {}", file, e);
+            this.remove(fileName);
+            this.recordMiss();
+            return null;
+        }
+    }
+
+    public void put(PureModelContext cacheKey, PureModelContextData data)
+    {
+        String fileName = this.fileName(cacheKey);
+        Path file = this.directory.resolve(fileName);
+        try
+        {
+            Path temp = Files.createTempFile(this.directory, fileName, ".tmp");
+            try
+            {
+                this.write(temp, data);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                Files.deleteIfExists(temp);
+            }
+            long size = Files.size(file);
+            synchronized (this.entries)
+            {
+                Long previous = this.entries.put(fileName, size);
+                this.totalSize += size - ((previous == null) ? 0 : previous);
+                this.evictIfNecessary(fileName);
+            }
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to write model cache entry {}", file, e);
+        }
+    }
+
+    public long hitCount()
+    {
+        return this.hitCount.get();
+    }
+
+    public long missCount()
+    {
+        return this.missCount.get();
+    }
+
+    public long evictionCount()
+    {
+        return this.evictionCount.get();
+    }
+
+    public long size()
+    {
+        synchronized (this.entries)
+        {
+            return this.entries.size();
+        }
+    }
+
+    public long sizeInBytes()
+    {
+        synchronized (this.entries)
+        {
+            return this.totalSize;
+        }
+    }
+
+    private void recordMiss()
+    {
+        this.missCount.incrementAndGet();
+        MetricsHandler.incrementCacheMissCount(METRIC_NAME);
+    }
+
+    private void evictIfNecessary(String keep)
+    {
+        Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+        while ((this.totalSize > this.maxSizeInBytes) && iterator.hasNext())
+        {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (!keep.equals(entry.getKey()))
+            {
+                iterator.remove();
+                this.totalSize -= entry.getValue();
+                this.deleteQuietly(entry.getKey());
+                this.evictionCount.incrementAndGet();
+                MetricsHandler.incrementCacheEvictionCount(METRIC_NAME);
+            }
+        }
+    }
+
+    private void remove(String fileName)
+    {
+        synchronized (this.entries)
+        {
+            Long size = this.entries.remove(fileName);
+            if (size != null)
+            {
+                this.totalSize -= size;
+            }
+        }
+        this.deleteQuietly(fileName);
+    }
+
+    private void deleteQuietly(String fileName)
+    {
+        try
+        {
+            Files.deleteIfExists(this.directory.resolve(fileName));
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to delete model cache entry {}", fileName, e);
+        }
+    }
+
+    private void loadExistingEntries() throws IOException
+    {
+        try (Stream<Path> files = Files.list(this.directory))
+        {
+            // Oldest first, so that the access order of the index reflects the last use recorded on disk
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(FILE_EXTENSION)).sorted(Comparator.comparing(PureModelContextDataDiskCache::lastModified)).collect(Collectors.toList()))
+            {
+                long size = Files.size(file);
+                this.entries.put(file.getFileName().toString(), size);
+                this.totalSize += size;
+            }
+        }
+        synchronized (this.entries)
+        {
+            this.evictIfNecessary("");
+        }
+    }
+
+    private void write(Path file, PureModelContextData data) throws IOException
+    {
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            byte[] version = this.engineVersion.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer header = ByteBuffer.allocate(12 + version.length);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(version.length).put(version);
+            out.write(header.array());
+            DeflaterOutputStream deflater = new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED), 64 * 1024);
+            this.objectMapper.writeValue(deflater, data);
+            deflater.finish();
+        }
+    }
+
+    private PureModelContextData read(Path file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if ((buffer.getInt() != MAGIC) || (buffer.getInt() != FORMAT_VERSION))
+            {
+                throw new IOException("Unsupported model cache entry format");
+            }
+            byte[] version = new byte[buffer.getInt()];
+            buffer.get(version);
+            if (!this.engineVersion.equals(new String(version, StandardCharsets.UTF_8)))
+            {
+                throw new IOException("Model cache entry was written by another engine version");
+            }
+            try (InputStream in = new InflaterInputStream(new ByteBufferBackedInputStream(buffer), new Inflater(), 64 * 1024))
+            {
+                return this.objectMapper.readValue(in, PureModelContextData.class);
+            }
+        }
+    }
+
+    private String fileName(PureModelContext cacheKey)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(this.engineVersion.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(this.objectMapper.writeValueAsBytes(cacheKey));
+            StringBuilder builder = new StringBuilder(64 + FILE_EXTENSION.length());
+            for (byte b : digest.digest())
+            {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.append(FILE_EXTENSION).toString();
+        }
+        catch (NoSuchAlgorithmException | IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static FileTime lastModified(Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file);
+        }
+        catch (IOException e)
+        {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String getDefaultEngineVersion()
+    {
+        return (DeploymentStateAndVersions.sdlc == null) ? "unknown" : (DeploymentStateAndVersions.sdlc.buildVersion + "-" + DeploymentStateAndVersions.sdlc.commitId);
+    }
+}
@@ -0,0 +1,105 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.protocol.Protocol;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+
+public class TestPureModelContextDataDiskCache
+{
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTripAcrossInstances() throws Exception
+    {
+        Path directory = this.folder.newFolder().toPath();
+        PureModelContextData data = model("Person");
+
+        PureModelContextDataDiskCache cache = new PureModelContextDataDiskCache(directory, 1024 * 1024, "v1", OBJECT_MAPPER);
+        Assert.assertNull(cache.get(pointer("1.0.0")));
+        cache.put(pointer("1.0.0"), data);
+        Assert.assertEquals(1, cache.missCount());
+
+        // A new instance (e.g. after a restart) picks up existing entries
+        PureModelContextDataDiskCache restarted = new PureModelContextDataDiskCache(directory, 1024 * 1024, "v1", OBJECT_MAPPER);
+        Assert.assertEquals(1, restarted.size());
+        PureModelContextData cached = restarted.get(pointer("1.0.0"));
+        Assert.assertNotNull(cached);
+        Assert.assertEquals(OBJECT_MAPPER.writeValueAsString(data), OBJECT_MAPPER.writeValueAsString(cached));
+        Assert.assertEquals(1, restarted.hitCount());
+        Assert.assertNull(restarted.get(pointer("2.0.0")));
+        Assert.assertEquals(1, restarted.missCount());
+    }
+
+    @Test
+    public void testEngineVersionIsPartOfKey() throws Exception
+    {
+        Path directory = this.folder.newFolder().toPath();
+        new PureModelContextDataDiskCache(directory, 1024 * 1024, "v1", OBJECT_MAPPER).put(pointer("1.0.0"), model("Person"));
+        Assert.assertNull(new PureModelContextDataDiskCache(directory, 1024 * 1024, "v2", OBJECT_MAPPER).get(pointer("1.0.0")));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception
+    {
+        Path directory = this.folder.newFolder().toPath();
+        PureModelContextDataDiskCache probe = new PureModelContextDataDiskCache(this.folder.newFolder().toPath(), 1024 * 1024, "v1", OBJECT_MAPPER);
+        probe.put(pointer("0.0.0"), model("Person"));
+        long entrySize = probe.sizeInBytes();
+
+        PureModelContextDataDiskCache cache = new PureModelContextDataDiskCache(directory, (2 * entrySize) + (entrySize / 2), "v1", OBJECT_MAPPER);
+        cache.put(pointer("1.0.0"), model("Person"));
+        cache.put(pointer("2.0.0"), model("Person"));
+        Assert.assertNotNull(cache.get(pointer("1.0.0")));
+        cache.put(pointer("3.0.0"), model("Person"));
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.evictionCount());
+        Assert.assertNotNull(cache.get(pointer("1.0.0")));
+        Assert.assertNull(cache.get(pointer("2.0.0")));
+        Assert.assertNotNull(cache.get(pointer("3.0.0")));
+    }
+
+    private static PureModelContextData model(String className)
+    {
+        return PureGrammarParser.newInstance().parseModel("Class model::" + className + "\n{\n  name: String[1];\n}\n");
+    }
+
+    private static PureModelContextPointer pointer(String version)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.groupId = "org.finos.test";
+        sdlc.artifactId = "test";
+        sdlc.version = version;
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.serializer = new Protocol("pure", "vX_X_X");
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+}
@@ -23,8 +23,6 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Summary;
-import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionCategory;
@@ -36,13 +34,16 @@ import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class MetricsHandler
 {
     public static final String METRIC_PREFIX = "alloy_";
     private static final String[] empty = new String[]{};
-    static MutableMap<String, Summary> serviceMetrics = Maps.mutable.empty();
-    static MutableMap<String, Gauge> gauges = Maps.mutable.empty();
+    // Collectors are created at most once per name, as computeIfAbsent is atomic, so recording needs no global lock
+    static final ConcurrentMap<String, Summary> serviceMetrics = new ConcurrentHashMap<>();
+    static final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
     static final Gauge allExecutions = Gauge.build().name("alloy_executions").help("Execution gauge metric ").register();
 
     // ----------------------------------------- NEW IMPLEMENTATION -----------------------------------------
@@ -63,6 +64,36 @@ public class MetricsHandler
             .labelNames("operation", "context")
             .register(getMetricsRegistry());
 
+    private static final Histogram COMPILATION_LATENCY = Histogram.build().name("legend_engine_compilation_element_latency")
+            .help("Measure the time spent on each packageable element in each compiler pass")
+            .buckets(.001, .005, .01, .05, .1, .5, 1, 5, 10, 30)
+            .labelNames("pass", "elementType")
+            .register(getMetricsRegistry());
+
+    private static final Histogram CONNECTION_POOL_CREATION_LATENCY = Histogram.build().name("legend_engine_connection_pool_creation_latency")
+            .help("Measure the time taken to create a database connection pool, including its first connection")
+            .buckets(.05, .1, .2, .5, 1, 2, 5, 10, 30, 60)
+            .labelNames("datasource")
+            .register(getMetricsRegistry());
+
+    private static final Histogram CONNECTION_ACQUISITION_LATENCY = Histogram.build().name("legend_engine_connection_acquisition_latency")
+            .help("Measure the time waited to get a database connection from its pool")
+            .buckets(.001, .005, .01, .05, .1, .5, 1, 5, 10, 30)
+            .labelNames("datasource")
+            .register(getMetricsRegistry());
+
+    private static final Histogram CONNECTION_POOL_ACTIVE_CONNECTIONS = Histogram.build().name("legend_engine_connection_pool_active_connections")
+            .help("Distribution of the active connections of the database connection pools, sampled by the pool housekeeper")
+            .buckets(0, 1, 2, 5, 10, 20, 50, 100)
+            .labelNames("datasource")
+            .register(getMetricsRegistry());
+
+    private static final Histogram CONNECTION_POOL_IDLE_CONNECTIONS = Histogram.build().name("legend_engine_connection_pool_idle_connections")
+            .help("Distribution of the idle connections of the database connection pools, sampled by the pool housekeeper")
+            .buckets(0, 1, 2, 5, 10, 20, 50, 100)
+            .labelNames("datasource")
+            .register(getMetricsRegistry());
+
     private static final Counter ALL_EXECUTIONS = Counter.build("legend_engine_executions", "Execution counter metric ").register();
     private static final Counter DATASTORE_SPEC_COUNT = Counter.build("legend_engine_datastore_spec_count", "Count datastore specifications").register(getMetricsRegistry());
     private static final Counter JAVA_COMPILATION_COUNT = Counter.build("legend_engine_java_compilation_count", "Count java compilations").register(getMetricsRegistry());
@@ -70,6 +101,10 @@ public class MetricsHandler
     private static final Gauge ACTIVE_CONNECTIONS =  Gauge.build("active_connections", "Active Connections in Pool").labelNames("poolName").register();
     private static final Gauge TOTAL_CONNECTIONS = Gauge.build("total_connections", "total Connections in Pool").labelNames("poolName").register();
     private static final Gauge IDLE_CONNECTIONS = Gauge.build("idle_connections", "Idle Connections in Pool").labelNames("poolName").register();
+    private static final Counter CACHE_HIT_COUNT = Counter.build("legend_engine_cache_hit_count", "Count cache hits").labelNames("cache").register(getMetricsRegistry());
+    private static final Counter CACHE_MISS_COUNT = Counter.build("legend_engine_cache_miss_count", "Count cache misses").labelNames("cache").register(getMetricsRegistry());
+    private static final Counter CACHE_EVICTION_COUNT = Counter.build("legend_engine_cache_eviction_count", "Count cache evictions").labelNames("cache").register(getMetricsRegistry());
+    private static final Counter CACHE_TIME_SAVED = Counter.build("legend_engine_cache_time_saved_seconds", "Measure time saved by serving cache hits instead of recomputing").labelNames("cache").register(getMetricsRegistry());
 
     public static CollectorRegistry getMetricsRegistry()
     {
@@ -105,6 +140,11 @@ public class MetricsHandler
         }
     }
 
+    public static void observeCompilation(String pass, String elementType, long durationNanos)
+    {
+        COMPILATION_LATENCY.labels(pass, returnLabelOrUnknown(elementType)).observe(durationNanos / 1_000_000_000D);
+    }
+
     public static void incrementExecutionCount()
     {
         ALL_EXECUTIONS.inc();
@@ -147,6 +187,42 @@ public class MetricsHandler
         IDLE_CONNECTIONS.remove(poolName);
     }
 
+    public static void observeConnectionPoolCreation(String datasource, long durationNanos)
+    {
+        CONNECTION_POOL_CREATION_LATENCY.labels(returnLabelOrUnknown(datasource)).observe(durationNanos / 1_000_000_000D);
+    }
+
+    public static void observeConnectionAcquisition(String datasource, long durationNanos)
+    {
+        CONNECTION_ACQUISITION_LATENCY.labels(returnLabelOrUnknown(datasource)).observe(durationNanos / 1_000_000_000D);
+    }
+
+    public static void observeConnectionPoolUsage(String datasource, double activeConnections, double idleConnections)
+    {
+        CONNECTION_POOL_ACTIVE_CONNECTIONS.labels(returnLabelOrUnknown(datasource)).observe(activeConnections);
+        CONNECTION_POOL_IDLE_CONNECTIONS.labels(returnLabelOrUnknown(datasource)).observe(idleConnections);
+    }
+
+    public static void incrementCacheHitCount(String cache)
+    {
+        CACHE_HIT_COUNT.labels(cache).inc();
+    }
+
+    public static void incrementCacheMissCount(String cache)
+    {
+        CACHE_MISS_COUNT.labels(cache).inc();
+    }
+
+    public static void incrementCacheEvictionCount(String cache)
+    {
+        CACHE_EVICTION_COUNT.labels(cache).inc();
+    }
+
+    public static void observeCacheTimeSaved(String cache, long savedMillis)
+    {
+        CACHE_TIME_SAVED.labels(cache).inc(savedMillis / 1000F);
+    }
+
     public static void incrementJavaCompilationCount()
     {
         JAVA_COMPILATION_COUNT.inc();
@@ -177,13 +253,9 @@ public class MetricsHandler
             if (m.isAnnotationPresent(Prometheus.class))
             {
                 Prometheus val = m.getAnnotation(Prometheus.class);
-                if (val.type() == Prometheus.Type.SUMMARY && (serviceMetrics.get(val.name()) == null))
+                if (val.type() == Prometheus.Type.SUMMARY)
                 {
-                    Summary g = Summary.build().name(generateMetricName(val.name(), false))
-                            .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
-                            .help(val.doc())
-                            .register();
-                    serviceMetrics.put(val.name(), g);
+                    serviceMetrics.computeIfAbsent(val.name(), name -> buildSummary(name, val.doc()));
                 }
             }
         }
@@ -196,68 +268,56 @@ public class MetricsHandler
     }
 
     @Deprecated
-    public static synchronized void observe(String name, long startTime, long endTime)
+    public static void observe(String name, long startTime, long endTime)
     {
-        if (serviceMetrics.get(name) == null)
-        {
-            Summary g = Summary.build().name(generateMetricName(name, false))
-                    .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
-                    .help(name + " duration metrics")
-                    .register();
-            serviceMetrics.put(name, g);
-            g.observe((endTime - startTime) / 1000F);
-        }
-        else
+        Summary summary = serviceMetrics.get(name);
+        if (summary == null)
         {
-            serviceMetrics.get(name).observe((endTime - startTime) / 1000F);
+            summary = serviceMetrics.computeIfAbsent(name, n -> buildSummary(n, n + " duration metrics"));
         }
+        summary.observe((endTime - startTime) / 1000F);
     }
 
     @Deprecated
-    public static synchronized void observeCount(String name)
+    public static void observeCount(String name)
     {
         observeCount(name, empty, empty, false);
     }
 
     @Deprecated
-    public static synchronized void decrementCount(String name)
+    public static void decrementCount(String name)
     {
         observeCount(name, empty, empty, true);
     }
 
     @Deprecated
-    public static synchronized void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
+    public static void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
     {
-        Gauge g;
-        if (gauges.get(name) == null)
+        Gauge g = gauges.get(name);
+        if (g == null)
         {
-            g = Gauge.build().name(generateMetricName(name, false))
-                    .help(name + " gauge metric")
-                    .labelNames(labelNames).register();
-            gauges.put(name, g);
-            if (decrement)
-            {
-                g.labels(labelValues).dec();
-            }
-            else
-            {
-                g.labels(labelValues).inc();
-            }
+            g = gauges.computeIfAbsent(name, n -> Gauge.build().name(generateMetricName(n, false))
+                    .help(n + " gauge metric")
+                    .labelNames(labelNames).register());
+        }
+        if (decrement)
+        {
+            g.labels(labelValues).dec();
         }
         else
         {
-            g = gauges.get(name);
-            if (decrement)
-            {
-                g.labels(labelValues).dec();
-            }
-            else
-            {
-                g.labels(labelValues).inc();
-            }
+            g.labels(labelValues).inc();
         }
     }
 
+    private static Summary buildSummary(String name, String help)
+    {
+        return Summary.build().name(generateMetricName(name, false))
+                .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
+                .help(help)
+                .register();
+    }
+
     // -------------------------------------- ERROR HANDLING -------------------------------------
 
     /**
@@ -279,7 +339,7 @@ public class MetricsHandler
     /**
      * Flag to turn exception categorisation on and off.
      */
-    private static boolean categorisationEnabled = true;
+    private static volatile boolean categorisationEnabled = true;
 
     /**
      * Types of exception matching priorities that can be performed on an incoming exceptions.
@@ -298,7 +358,7 @@ public class MetricsHandler
      * @param exception the non-null exception to be analysed that has occurred in execution.
      * @param servicePath the name of the service whose execution invoked the error.
      */
-    public static synchronized void observeError(Enum origin, Exception exception, String servicePath)
+    public static void observeError(Enum origin, Exception exception, String servicePath)
     {
         try (Scope scope = GlobalTracer.get().buildSpan("Error Categorisation").startActive(true))
         {
@@ -324,7 +384,7 @@ public class MetricsHandler
      * @param exception the original exception to be analysed that has occurred in execution.
      * @return a pair of values corresponding to the exceptionLabel and category labels in the Counter.
      */
-    private static synchronized ExceptionLabelValues getCounterLabelValues(Throwable exception)
+    private static ExceptionLabelValues getCounterLabelValues(Throwable exception)
     {
         int categorisationDepthLimit = 5;
         ExceptionLabelValues exceptionLabelValues = new ExceptionLabelValues(getExceptionClass(exception), ExceptionCategory.UNKNOWN_ERROR);
@@ -357,7 +417,7 @@ public class MetricsHandler
      * @param exception is the exception whose class to obtain
      * @return error counter label exceptionClass' value.
      */
-    private static synchronized String getExceptionClass(Throwable exception)
+    private static String getExceptionClass(Throwable exception)
     {
         String prefix = exception instanceof EngineException ? toCamelCase(((EngineException) exception).getErrorType()) : "";
         return prefix + exception.getClass().getSimpleName();
@@ -368,7 +428,7 @@ public class MetricsHandler
      * @param exception is the exception to be checked
      * @return true if the exception has an associated valid category and false otherwise.
      */
-    private static synchronized boolean isEngineExceptionWithValidExceptionCategory(Throwable exception)
+    private static boolean isEngineExceptionWithValidExceptionCategory(Throwable exception)
     {
         if (exception instanceof EngineException)
         {
@@ -383,7 +443,7 @@ public class MetricsHandler
      * @param exception is the exception that occurred in the engine.
      * @return Category belonging to the exception.
      */
-    private static synchronized ExceptionCategory matchExceptionToExceptionDataFile(Throwable exception)
+    private static ExceptionCategory matchExceptionToExceptionDataFile(Throwable exception)
     {
         for (MatchingPriority method : MatchingPriority.values())
         {
@@ -402,7 +462,7 @@ public class MetricsHandler
      * Find and read JSON file with outline of exceptions to be used in categorizing incoming exceptions
      * @return List of objects corresponding to the exception categories with their respective data
      */
-    private static synchronized List<ExceptionCategoryData> readExceptionData()
+    private static List<ExceptionCategoryData> readExceptionData()
     {
         List<ExceptionCategoryData> categories;
         try (InputStream inputStream = MetricsHandler.class.getResourceAsStream(EXCEPTION_DATA_PATH))
@@ -424,7 +484,7 @@ public class MetricsHandler
      * Method to turn exception categorisation on and off
      * @param flag is true to set categorisation on and false otherwise.
      */
-    public static synchronized void setCategorisationEnabled(boolean flag)
+    public static void setCategorisationEnabled(boolean flag)
     {
         categorisationEnabled = flag;
         LOGGER.info("Exception categorisation in error handling has been set to {}", flag);
@@ -530,17 +590,17 @@ public class MetricsHandler
     }
 
     @Deprecated
-    public static synchronized void observeErrorCount(String name)
+    public static void observeErrorCount(String name)
     {
     }
 
     @Deprecated
-    public static synchronized void observeErrorCount(String name, String[] labelNames, String[] labelValues)
+    public static void observeErrorCount(String name, String[] labelNames, String[] labelValues)
     {
     }
 
     @Deprecated
-    public static synchronized void observeError(String name)
+    public static void observeError(String name)
     {
         EXCEPTION_ERROR_COUNTER.labels(name, toCamelCase(ExceptionCategory.UNKNOWN_ERROR), toCamelCase(LoggingEventType.CATCH_ALL), "N/A").inc();
     }
@@ -0,0 +1,90 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.operational.prometheus;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestMetricsHandler
+{
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    public void testConcurrentRecordingCreatesEachMetricOnce() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++)
+                    {
+                        MetricsHandler.observe("test/concurrent {observe}", 0, 10);
+                        MetricsHandler.observeCount("test concurrent count");
+                        MetricsHandler.observeCount("test-concurrent-labelled", new String[]{"thread"}, new String[]{"t" + (i % 2)}, false);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        CollectorRegistry registry = CollectorRegistry.defaultRegistry;
+        double total = THREADS * ITERATIONS;
+        Assert.assertEquals(total, registry.getSampleValue("alloy_test_concurrent_observe_count"), 0d);
+        Assert.assertEquals(total * (10 / 1000F), registry.getSampleValue("alloy_test_concurrent_observe_sum"), 1e-6);
+        Assert.assertEquals(total, registry.getSampleValue("alloy_test_concurrent_count"), 0d);
+        Assert.assertEquals(total / 2, registry.getSampleValue("alloy_test_concurrent_labelled", new String[]{"thread"}, new String[]{"t0"}), 0d);
+        Assert.assertEquals(total / 2, registry.getSampleValue("alloy_test_concurrent_labelled", new String[]{"thread"}, new String[]{"t1"}), 0d);
+    }
+
+    @Test
+    public void testObserveCompilation()
+    {
+        String[] labels = {"pass", "elementType"};
+        MetricsHandler.observeCompilation("testFirstPass", "Class", 2_000_000);
+        MetricsHandler.observeCompilation("testFirstPass", "Class", 20_000_000);
+        MetricsHandler.observeCompilation("testFirstPass", null, 1_000_000);
+
+        CollectorRegistry registry = MetricsHandler.getMetricsRegistry();
+        Assert.assertEquals(2d, registry.getSampleValue("legend_engine_compilation_element_latency_count", labels, new String[]{"testFirstPass", "Class"}), 0d);
+        Assert.assertEquals(0.022d, registry.getSampleValue("legend_engine_compilation_element_latency_sum", labels, new String[]{"testFirstPass", "Class"}), 1e-9);
+        Assert.assertEquals(1d, registry.getSampleValue("legend_engine_compilation_element_latency_bucket", new String[]{"pass", "elementType", "le"}, new String[]{"testFirstPass", "Class", "0.005"}), 0d);
+        Assert.assertEquals(2d, registry.getSampleValue("legend_engine_compilation_element_latency_bucket", new String[]{"pass", "elementType", "le"}, new String[]{"testFirstPass", "Class", "0.05"}), 0d);
+        Assert.assertEquals(1d, registry.getSampleValue("legend_engine_compilation_element_latency_count", labels, new String[]{"testFirstPass", "unknown"}), 0d);
+    }
+}
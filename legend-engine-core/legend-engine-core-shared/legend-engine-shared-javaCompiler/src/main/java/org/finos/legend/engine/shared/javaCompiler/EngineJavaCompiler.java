@@ -16,16 +16,24 @@ package org.finos.legend.engine.shared.javaCompiler;
 
 import io.github.classgraph.ClassGraph;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.shared.core.deployment.DeploymentStateAndVersions;
 import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.lang.model.SourceVersion;
 import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler;
@@ -37,6 +45,7 @@ import javax.tools.ToolProvider;
 public class EngineJavaCompiler
 {
     private static final Map<ClassLoader, String> CLASSPATH_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, String> CLASSPATH_HASH_CACHE = new ConcurrentHashMap<>();
 
     private final JavaCompiler compiler;
     private final MemoryFileManager memoryFileManager;
@@ -44,6 +53,10 @@ public class EngineJavaCompiler
     private final JavaVersion javaVersion;
     private final FilterControl filterControl;
     private MemoryClassLoader memoryClassLoader;
+    private JavaCompilerBytecodeCache bytecodeCache;
+    private String bytecodeCacheScope;
+    // running hash of the sources compiled and the classes loaded into this compiler, part of the cache key of its children
+    private final MessageDigest contentDigest = newDigest();
 
     public EngineJavaCompiler(JavaVersion javaVersion, EngineJavaCompiler parent, ClassPathFilter filter)
     {
@@ -53,6 +66,11 @@ public class EngineJavaCompiler
         this.filterControl = new FilterControl(filter);
         this.memoryFileManager = new MemoryFileManager((parent == null) ? this.compiler.getStandardFileManager(null, null, null) : parent.memoryFileManager, this.filterControl);
         this.memoryClassLoader = newClassLoader();
+        if (parent != null)
+        {
+            this.bytecodeCache = parent.bytecodeCache;
+            this.bytecodeCacheScope = parent.bytecodeCacheScope;
+        }
     }
 
     public EngineJavaCompiler(JavaVersion javaVersion, ClassPathFilter filter)
@@ -75,13 +93,65 @@ public class EngineJavaCompiler
         this(null, null, null);
     }
 
+    /**
+     * Serve compilations from the given cache, and store their results in it. Compilers created with this one as
+     * parent share the cache.
+     * <p>
+     * Cached classes are loaded without running javac, so they are not checked against the class path filter again:
+     * the scope must identify the filter, and compilers with different filters must not share a scope.
+     */
+    public EngineJavaCompiler withBytecodeCache(JavaCompilerBytecodeCache cache, String scope)
+    {
+        this.bytecodeCache = cache;
+        this.bytecodeCacheScope = scope;
+        return this;
+    }
+
     public EngineJavaCompiler compile(Iterable<? extends StringJavaSource> javaSources) throws JavaCompileException
+    {
+        byte[] sourcesHash = hashSources(javaSources);
+        if (this.bytecodeCache == null)
+        {
+            compileWithJavac(javaSources);
+            updateContent(sourcesHash);
+            return this;
+        }
+
+        String key = bytecodeCacheKey(sourcesHash);
+        MapIterable<String, String> cached = this.bytecodeCache.get(key);
+        if (cached != null)
+        {
+            cached.forEachKeyValue(this::loadClass);
+            this.memoryClassLoader = newClassLoader();
+            updateContent(sourcesHash);
+            return this;
+        }
+
+        MutableMap<String, byte[]> before = this.memoryFileManager.getClassBytes();
+        long start = System.currentTimeMillis();
+        compileWithJavac(javaSources);
+        long compilationTime = System.currentTimeMillis() - start;
+        updateContent(sourcesHash);
+        // only the classes written by this compilation (javac replaces the bytes of the classes it writes), classes
+        // previously loaded are part of the key
+        MutableMap<String, String> compiled = Maps.mutable.empty();
+        this.memoryFileManager.getClassBytes().forEachKeyValue((name, bytes) ->
+        {
+            if (bytes != before.get(name))
+            {
+                compiled.put(name, Base64.getEncoder().encodeToString(bytes));
+            }
+        });
+        this.bytecodeCache.put(key, compiled, compilationTime);
+        return this;
+    }
+
+    private void compileWithJavac(Iterable<? extends StringJavaSource> javaSources) throws JavaCompileException
     {
         MetricsHandler.observeCount("Java compilation");
         MetricsHandler.incrementJavaCompilationCount();
         compile(this.compiler, javaSources, this.memoryFileManager, this.javaVersion, getClassPath());
         this.memoryClassLoader = newClassLoader();
-        return this;
     }
 
     public MutableMap<String, String> save()
@@ -96,6 +166,16 @@ public class EngineJavaCompiler
     }
 
     public EngineJavaCompiler load(String className, String encodedBytecode)
+    {
+        synchronized (this.contentDigest)
+        {
+            update(this.contentDigest, className);
+            update(this.contentDigest, encodedBytecode);
+        }
+        return loadClass(className, encodedBytecode);
+    }
+
+    private EngineJavaCompiler loadClass(String className, String encodedBytecode)
     {
         // ---- To remove -----
         String message = encodedBytecode;
@@ -128,6 +208,105 @@ public class EngineJavaCompiler
         this.filterControl.enabled = enabled;
     }
 
+    private String bytecodeCacheKey(byte[] sourcesHash)
+    {
+        MessageDigest digest = newDigest();
+        update(digest, this.bytecodeCacheScope);
+        update(digest, getEngineVersion());
+        update(digest, this.javaVersion.name());
+        update(digest, System.getProperty("java.version"));
+        update(digest, getClassPathHash());
+        // generated code compiles against the classes already held by this compiler and its parents
+        for (EngineJavaCompiler c = this; c != null; c = c.parent)
+        {
+            digest.update(c.contentHash());
+        }
+        digest.update(sourcesHash);
+        StringBuilder builder = new StringBuilder(64);
+        for (byte b : digest.digest())
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static byte[] hashSources(Iterable<? extends StringJavaSource> javaSources)
+    {
+        MessageDigest digest = newDigest();
+        Lists.mutable.withAll(javaSources).sortThisBy(s -> s.toUri().toString()).forEach(s ->
+        {
+            update(digest, s.toUri().toString());
+            update(digest, s.getCode());
+        });
+        return digest.digest();
+    }
+
+    private void updateContent(byte[] sourcesHash)
+    {
+        synchronized (this.contentDigest)
+        {
+            this.contentDigest.update(sourcesHash);
+        }
+    }
+
+    private byte[] contentHash()
+    {
+        synchronized (this.contentDigest)
+        {
+            try
+            {
+                return ((MessageDigest) this.contentDigest.clone()).digest();
+            }
+            catch (CloneNotSupportedException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Hash of the class path entries with their sizes and modification times, so that cache entries persisted to disk
+     * are not served to an engine deployed with different jars. Entries do not change while the JVM runs.
+     */
+    private String getClassPathHash()
+    {
+        return CLASSPATH_HASH_CACHE.computeIfAbsent(getClassPath(), classPath ->
+        {
+            MessageDigest digest = newDigest();
+            for (String entry : classPath.split(File.pathSeparator))
+            {
+                File file = new File(entry);
+                update(digest, entry);
+                update(digest, Long.toString(file.length()));
+                update(digest, Long.toString(file.lastModified()));
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        });
+    }
+
+    private static String getEngineVersion()
+    {
+        return (DeploymentStateAndVersions.sdlc == null) ? "unknown" : (DeploymentStateAndVersions.sdlc.buildVersion + "-" + DeploymentStateAndVersions.sdlc.commitId);
+    }
+
+    private static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value)
+    {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
     private MemoryClassLoader newClassLoader()
     {
         return new MemoryClassLoader(this.memoryFileManager, (this.parent == null) ? Thread.currentThread().getContextClassLoader() : this.parent.memoryClassLoader);
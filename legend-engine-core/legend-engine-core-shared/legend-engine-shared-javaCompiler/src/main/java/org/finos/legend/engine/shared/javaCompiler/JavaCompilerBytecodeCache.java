@@ -0,0 +1,426 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.javaCompiler;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content addressed cache of the classes produced by {@link EngineJavaCompiler}, so that identical sources compiled
+ * against the same class path are only run through javac once.
+ * <p>
+ * Entries are held in memory in least-recently-used order up to a bound on the size of their encoded bytecode.
+ * <p>
+ * Persisting entries to a directory, so that they survive restarts, is opt-in. Cached classes are loaded without
+ * running javac, so each file is signed with an HMAC-SHA256 over its key and content, using a secret key shared by
+ * the engines using the directory. Files whose signature does not verify are deleted and never loaded. Files are
+ * evicted in least-recently-used order once their total size exceeds the configured bound.
+ */
+public class JavaCompilerBytecodeCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(JavaCompilerBytecodeCache.class);
+
+    static final String METRIC_NAME = "java_bytecode_cache";
+    private static final String FILE_EXTENSION = ".bytecode";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SIGNING_KEY_LENGTH = 32;
+
+    private final long maxSizeInBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize = 0;
+
+    private final Path directory;
+    private final long maxDirectorySizeInBytes;
+    private final SecretKeySpec signingKey;
+    // file name -> size in bytes, kept in access order so that iteration starts with the least recently used file
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalDirectorySize = 0;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public JavaCompilerBytecodeCache(long maxSizeInBytes)
+    {
+        checkPositive(maxSizeInBytes);
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.directory = null;
+        this.maxDirectorySizeInBytes = 0;
+        this.signingKey = null;
+    }
+
+    public JavaCompilerBytecodeCache(long maxSizeInBytes, Path directory, long maxDirectorySizeInBytes, byte[] signingKey)
+    {
+        checkPositive(maxSizeInBytes);
+        checkPositive(maxDirectorySizeInBytes);
+        if ((signingKey == null) || (signingKey.length < MIN_SIGNING_KEY_LENGTH))
+        {
+            throw new IllegalArgumentException("Bytecode cache signing key must be at least " + MIN_SIGNING_KEY_LENGTH + " bytes long");
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.directory = directory;
+        this.maxDirectorySizeInBytes = maxDirectorySizeInBytes;
+        this.signingKey = new SecretKeySpec(Arrays.copyOf(signingKey, signingKey.length), MAC_ALGORITHM);
+        try
+        {
+            Files.createDirectories(directory);
+            this.loadExistingFiles();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error initializing bytecode cache directory " + directory, e);
+        }
+    }
+
+    /**
+     * Returns the encoded bytecode by class name cached for the given key, or null.
+     */
+    public MapIterable<String, String> get(String key)
+    {
+        Entry entry;
+        synchronized (this.entries)
+        {
+            entry = this.entries.get(key);
+        }
+        if ((entry == null) && (this.directory != null))
+        {
+            entry = this.read(key);
+            if (entry != null)
+            {
+                this.putInMemory(key, entry);
+            }
+        }
+        if (entry == null)
+        {
+            this.missCount.incrementAndGet();
+            MetricsHandler.incrementCacheMissCount(METRIC_NAME);
+            return null;
+        }
+        this.hitCount.incrementAndGet();
+        MetricsHandler.incrementCacheHitCount(METRIC_NAME);
+        MetricsHandler.observeCacheTimeSaved(METRIC_NAME, entry.compilationTimeMillis);
+        return entry.classes;
+    }
+
+    public void put(String key, MapIterable<String, String> classes, long compilationTimeMillis)
+    {
+        MutableMap<String, String> copy = Maps.mutable.ofInitialCapacity(classes.size());
+        classes.forEachKeyValue(copy::put);
+        Entry entry = new Entry(copy, compilationTimeMillis);
+        this.putInMemory(key, entry);
+        if (this.directory != null)
+        {
+            this.write(key, entry);
+        }
+    }
+
+    public long hitCount()
+    {
+        return this.hitCount.get();
+    }
+
+    public long missCount()
+    {
+        return this.missCount.get();
+    }
+
+    public long size()
+    {
+        synchronized (this.entries)
+        {
+            return this.entries.size();
+        }
+    }
+
+    public long directorySizeInBytes()
+    {
+        synchronized (this.files)
+        {
+            return this.totalDirectorySize;
+        }
+    }
+
+    public void invalidateAll()
+    {
+        synchronized (this.entries)
+        {
+            this.entries.clear();
+            this.totalSize = 0;
+        }
+    }
+
+    private void putInMemory(String key, Entry entry)
+    {
+        synchronized (this.entries)
+        {
+            Entry previous = this.entries.put(key, entry);
+            this.totalSize += entry.size - ((previous == null) ? 0 : previous.size);
+            Iterator<Map.Entry<String, Entry>> iterator = this.entries.entrySet().iterator();
+            while ((this.totalSize > this.maxSizeInBytes) && iterator.hasNext())
+            {
+                Map.Entry<String, Entry> eldest = iterator.next();
+                if (!key.equals(eldest.getKey()))
+                {
+                    iterator.remove();
+                    this.totalSize -= eldest.getValue().size;
+                    MetricsHandler.incrementCacheEvictionCount(METRIC_NAME);
+                }
+            }
+        }
+    }
+
+    private void write(String key, Entry entry)
+    {
+        String fileName = key + FILE_EXTENSION;
+        Path file = this.directory.resolve(fileName);
+        try
+        {
+            StringBuilder builder = new StringBuilder().append(entry.compilationTimeMillis).append('\n');
+            // Base64 encoded bytecode does not contain tabs or line breaks
+            entry.classes.forEachKeyValue((className, bytecode) -> builder.append(className).append('\t').append(bytecode).append('\n'));
+            byte[] content = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+            Path temp = Files.createTempFile(this.directory, key, ".tmp");
+            try
+            {
+                Files.write(temp, this.sign(key, content));
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                Files.deleteIfExists(temp);
+            }
+            long size = Files.size(file);
+            synchronized (this.files)
+            {
+                Long previous = this.files.put(fileName, size);
+                this.totalDirectorySize += size - ((previous == null) ? 0 : previous);
+                this.evictFilesIfNecessary(fileName);
+            }
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to write bytecode cache entry {}", file, e);
+        }
+    }
+
+    private Entry read(String key)
+    {
+        String fileName = key + FILE_EXTENSION;
+        Path file = this.directory.resolve(fileName);
+        synchronized (this.files)
+        {
+            // files written by other engines since the index was loaded are picked up here
+            if ((this.files.get(fileName) == null) && !Files.exists(file))
+            {
+                return null;
+            }
+        }
+        try
+        {
+            long size = Files.size(file);
+            if (size > this.maxDirectorySizeInBytes)
+            {
+                throw new IOException("Bytecode cache entry exceeds the size of the cache directory");
+            }
+            byte[] content = this.verify(key, Files.readAllBytes(file));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            synchronized (this.files)
+            {
+                if (!this.files.containsKey(fileName))
+                {
+                    this.files.put(fileName, size);
+                    this.totalDirectorySize += size;
+                    this.evictFilesIfNecessary(fileName);
+                }
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)))
+            {
+                long compilationTimeMillis = Long.parseLong(reader.readLine());
+                MutableMap<String, String> classes = Maps.mutable.empty();
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    int tab = line.indexOf('\t');
+                    if (tab == -1)
+                    {
+                        throw new IOException("Malformed bytecode cache entry");
+                    }
+                    classes.put(line.substring(0, tab), line.substring(tab + 1));
+                }
+                return new Entry(classes, compilationTimeMillis);
+            }
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Discarding bytecode cache entry {}", file, e);
+            this.removeFile(fileName);
+            return null;
+        }
+    }
+
+    private byte[] sign(String key, byte[] content) throws GeneralSecurityException
+    {
+        byte[] signature = this.mac(key, content);
+        byte[] signed = new byte[signature.length + content.length];
+        System.arraycopy(signature, 0, signed, 0, signature.length);
+        System.arraycopy(content, 0, signed, signature.length, content.length);
+        return signed;
+    }
+
+    private byte[] verify(String key, byte[] signed) throws GeneralSecurityException, IOException
+    {
+        Mac mac = Mac.getInstance(MAC_ALGORITHM);
+        int signatureLength = mac.getMacLength();
+        if (signed.length < signatureLength)
+        {
+            throw new IOException("Truncated bytecode cache entry");
+        }
+        byte[] content = Arrays.copyOfRange(signed, signatureLength, signed.length);
+        if (!MessageDigest.isEqual(Arrays.copyOf(signed, signatureLength), this.mac(key, content)))
+        {
+            throw new IOException("Bytecode cache entry signature does not match");
+        }
+        return content;
+    }
+
+    private byte[] mac(String key, byte[] content) throws GeneralSecurityException
+    {
+        // the key is signed too, so that a signed entry can not be served under another key
+        Mac mac = Mac.getInstance(MAC_ALGORITHM);
+        mac.init(this.signingKey);
+        mac.update(key.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(content);
+    }
+
+    private void evictFilesIfNecessary(String keep)
+    {
+        Iterator<Map.Entry<String, Long>> iterator = this.files.entrySet().iterator();
+        while ((this.totalDirectorySize > this.maxDirectorySizeInBytes) && iterator.hasNext())
+        {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (!keep.equals(eldest.getKey()))
+            {
+                iterator.remove();
+                this.totalDirectorySize -= eldest.getValue();
+                this.deleteQuietly(eldest.getKey());
+                MetricsHandler.incrementCacheEvictionCount(METRIC_NAME);
+            }
+        }
+    }
+
+    private void removeFile(String fileName)
+    {
+        synchronized (this.files)
+        {
+            Long size = this.files.remove(fileName);
+            if (size != null)
+            {
+                this.totalDirectorySize -= size;
+            }
+        }
+        this.deleteQuietly(fileName);
+    }
+
+    private void deleteQuietly(String fileName)
+    {
+        try
+        {
+            Files.deleteIfExists(this.directory.resolve(fileName));
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to delete bytecode cache entry {}", fileName, e);
+        }
+    }
+
+    private void loadExistingFiles() throws IOException
+    {
+        try (Stream<Path> existing = Files.list(this.directory))
+        {
+            // Oldest first, so that the access order of the index reflects the last use recorded on disk
+            for (Path file : existing.filter(f -> f.getFileName().toString().endsWith(FILE_EXTENSION)).sorted(Comparator.comparing(JavaCompilerBytecodeCache::lastModified)).collect(Collectors.toList()))
+            {
+                long size = Files.size(file);
+                this.files.put(file.getFileName().toString(), size);
+                this.totalDirectorySize += size;
+            }
+        }
+        synchronized (this.files)
+        {
+            this.evictFilesIfNecessary("");
+        }
+    }
+
+    private static FileTime lastModified(Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file);
+        }
+        catch (IOException e)
+        {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void checkPositive(long maxSizeInBytes)
+    {
+        if (maxSizeInBytes <= 0)
+        {
+            throw new IllegalArgumentException("Max size must be positive: " + maxSizeInBytes);
+        }
+    }
+
+    private static class Entry
+    {
+        private final MutableMap<String, String> classes;
+        private final long compilationTimeMillis;
+        private final long size;
+
+        private Entry(MutableMap<String, String> classes, long compilationTimeMillis)
+        {
+            this.classes = classes;
+            this.compilationTimeMillis = compilationTimeMillis;
+            this.size = classes.sumOfInt(String::length);
+        }
+    }
+}
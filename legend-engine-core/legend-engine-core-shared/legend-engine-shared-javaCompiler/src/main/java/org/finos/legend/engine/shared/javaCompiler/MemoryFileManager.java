@@ -90,6 +90,16 @@ class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager>
         }
     }
 
+    MutableMap<String, byte[]> getClassBytes()
+    {
+        synchronized (this.codeByName)
+        {
+            MutableMap<String, byte[]> result = Maps.mutable.ofInitialCapacity(this.codeByName.size());
+            this.codeByName.forEachKeyValue((name, source) -> result.put(name, source.getBytes()));
+            return result;
+        }
+    }
+
     private void collectFiles(MutableCollection<JavaFileObject> target, Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException
     {
         if ((location == StandardLocation.CLASS_PATH) && kinds.contains(JavaFileObject.Kind.CLASS) && !packageName.startsWith("java"))
@@ -17,12 +17,22 @@ package org.finos.legend.engine.shared.javaCompiler.test;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.shared.core.deployment.DeploymentStateAndVersions;
+import org.finos.legend.engine.shared.core.deployment.DeploymentVersionInfo;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompilerBytecodeCache;
 import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TestJavaCompiler
 {
@@ -35,6 +45,11 @@ public class TestJavaCompiler
             "    }\n" +
             "}";
 
+    private static final byte[] SIGNING_KEY = "a secret of at least thirty two bytes".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testSourceCompiler() throws Exception
     {
@@ -64,6 +79,162 @@ public class TestJavaCompiler
         Assert.assertTrue(new ObjectMapper().writeValueAsString(save).startsWith("{\"engine.generated.Example\":\""));
     }
 
+    @Test
+    public void testBytecodeCache() throws Exception
+    {
+        JavaCompilerBytecodeCache cache = new JavaCompilerBytecodeCache(1024 * 1024);
+
+        EngineJavaCompiler c = new EngineJavaCompiler().withBytecodeCache(cache, "test");
+        c.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Assert.assertEquals("ok", execute(c));
+        Assert.assertEquals(1, cache.missCount());
+        Assert.assertEquals(1, cache.size());
+
+        EngineJavaCompiler other = new EngineJavaCompiler().withBytecodeCache(cache, "test");
+        other.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Assert.assertEquals("ok", execute(other));
+        Assert.assertEquals(1, cache.hitCount());
+
+        // a different scope (i.e. class path filter) does not share entries
+        new EngineJavaCompiler().withBytecodeCache(cache, "other").compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Assert.assertEquals(2, cache.missCount());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testBytecodeCachePersistedAcrossInstances() throws Exception
+    {
+        Path directory = this.folder.newFolder().toPath();
+        new EngineJavaCompiler().withBytecodeCache(new JavaCompilerBytecodeCache(1024 * 1024, directory, 1024 * 1024, SIGNING_KEY), "test")
+                .compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+
+        JavaCompilerBytecodeCache restarted = new JavaCompilerBytecodeCache(1024 * 1024, directory, 1024 * 1024, SIGNING_KEY);
+        EngineJavaCompiler c = new EngineJavaCompiler().withBytecodeCache(restarted, "test");
+        c.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Assert.assertEquals("ok", execute(c));
+        Assert.assertEquals(1, restarted.hitCount());
+        Assert.assertEquals(0, restarted.missCount());
+    }
+
+    @Test
+    public void testBytecodeCacheDiscardsTamperedEntries() throws Exception
+    {
+        Path directory = this.folder.newFolder().toPath();
+        new EngineJavaCompiler().withBytecodeCache(new JavaCompilerBytecodeCache(1024 * 1024, directory, 1024 * 1024, SIGNING_KEY), "test")
+                .compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Path file;
+        try (Stream<Path> files = Files.list(directory))
+        {
+            file = files.collect(Collectors.toList()).get(0);
+        }
+
+        // alter one character of the encoded bytecode, keeping the signature
+        byte[] content = Files.readAllBytes(file);
+        content[content.length - 2] = (byte) ((content[content.length - 2] == 'A') ? 'B' : 'A');
+        Files.write(file, content);
+
+        JavaCompilerBytecodeCache restarted = new JavaCompilerBytecodeCache(1024 * 1024, directory, 1024 * 1024, SIGNING_KEY);
+        EngineJavaCompiler c = new EngineJavaCompiler().withBytecodeCache(restarted, "test");
+        c.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Assert.assertEquals("ok", execute(c));
+        Assert.assertEquals(0, restarted.hitCount());
+        Assert.assertEquals(1, restarted.missCount());
+
+        // entries signed with another key are not loaded either
+        JavaCompilerBytecodeCache otherKey = new JavaCompilerBytecodeCache(1024 * 1024, directory, 1024 * 1024, "another secret of at least 32 bytes".getBytes(StandardCharsets.UTF_8));
+        new EngineJavaCompiler().withBytecodeCache(otherKey, "test").compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        Assert.assertEquals(0, otherKey.hitCount());
+    }
+
+    @Test
+    public void testBytecodeCacheDirectoryIsBounded() throws Exception
+    {
+        Path directory = this.folder.newFolder().toPath();
+        JavaCompilerBytecodeCache cache = new JavaCompilerBytecodeCache(1024 * 1024, directory, 1024, SIGNING_KEY);
+        for (int i = 0; i < 10; i++)
+        {
+            new EngineJavaCompiler().withBytecodeCache(cache, "test").compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code.replace("\"ok\"", "\"ok" + i + "\""))));
+        }
+        long sizeOnDisk;
+        try (Stream<Path> files = Files.list(directory))
+        {
+            sizeOnDisk = files.mapToLong(f -> f.toFile().length()).sum();
+        }
+        Assert.assertTrue(String.valueOf(sizeOnDisk), sizeOnDisk <= 1024);
+        Assert.assertEquals(sizeOnDisk, cache.directorySizeInBytes());
+    }
+
+    @Test
+    public void testBytecodeCacheRequiresSigningKeyToPersist()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new JavaCompilerBytecodeCache(1024 * 1024, this.folder.getRoot().toPath(), 1024 * 1024, null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new JavaCompilerBytecodeCache(1024 * 1024, this.folder.getRoot().toPath(), 1024 * 1024, new byte[8]));
+    }
+
+    @Test
+    public void testBytecodeCacheKeyedByEngineVersion() throws Exception
+    {
+        JavaCompilerBytecodeCache cache = new JavaCompilerBytecodeCache(1024 * 1024);
+        DeploymentVersionInfo previous = DeploymentStateAndVersions.sdlc;
+        try
+        {
+            DeploymentStateAndVersions.sdlc = versionInfo("1.0.0");
+            new EngineJavaCompiler().withBytecodeCache(cache, "test").compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+
+            DeploymentStateAndVersions.sdlc = versionInfo("1.0.1");
+            EngineJavaCompiler c = new EngineJavaCompiler().withBytecodeCache(cache, "test");
+            c.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+            Assert.assertEquals("ok", execute(c));
+            Assert.assertEquals(0, cache.hitCount());
+            Assert.assertEquals(2, cache.size());
+        }
+        finally
+        {
+            DeploymentStateAndVersions.sdlc = previous;
+        }
+    }
+
+    @Test
+    public void testBytecodeCacheKeyedByParentClasses() throws Exception
+    {
+        JavaCompilerBytecodeCache cache = new JavaCompilerBytecodeCache(1024 * 1024);
+        String child = "package engine.generated;" +
+                "public class Child" +
+                "{" +
+                "    public static String execute()\n" +
+                "    {\n" +
+                "       return Example.execute();" +
+                "    }\n" +
+                "}";
+
+        EngineJavaCompiler parent = new EngineJavaCompiler().withBytecodeCache(cache, "test");
+        parent.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        new EngineJavaCompiler(parent).compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Child", child)));
+
+        EngineJavaCompiler otherParent = new EngineJavaCompiler().withBytecodeCache(cache, "test");
+        otherParent.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code.replace("\"ok\"", "\"ko\""))));
+        EngineJavaCompiler otherChild = new EngineJavaCompiler(otherParent);
+        otherChild.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Child", child)));
+        Assert.assertEquals("ko", otherChild.getClassLoader().loadClass("engine.generated.Child").getMethod("execute").invoke(null));
+        Assert.assertEquals(0, cache.hitCount());
+
+        // the same parent classes give the same key
+        EngineJavaCompiler sameParent = new EngineJavaCompiler().withBytecodeCache(cache, "test");
+        sameParent.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", code)));
+        EngineJavaCompiler sameChild = new EngineJavaCompiler(sameParent);
+        sameChild.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Child", child)));
+        Assert.assertEquals("ok", sameChild.getClassLoader().loadClass("engine.generated.Child").getMethod("execute").invoke(null));
+        Assert.assertEquals(2, cache.hitCount());
+    }
+
+    private static DeploymentVersionInfo versionInfo(String version)
+    {
+        DeploymentVersionInfo info = new DeploymentVersionInfo();
+        info.buildVersion = version;
+        info.commitId = "abc";
+        return info;
+    }
+
     private String execute(EngineJavaCompiler c) throws ClassNotFoundException, IllegalAccessException, InvocationTargetException, NoSuchMethodException
     {
         Class<?> cl = c.getClassLoader().loadClass("engine.generated.Example");
@@ -51,6 +51,10 @@ public class LegendArrowVectorIterator implements Iterator<VectorSchemaRoot>, Au
 
     private final int targetBatchSize;
 
+    // batches are also sized to stay around this many bytes, based on the row width observed so far (non-positive means no limit)
+    private final long targetBatchBytes;
+    private int batchRowLimit;
+
     // This is used to track whether the ResultSet has been fully read, and is needed spcifically for cases where there
     // is a ResultSet having zero rows (empty):
     private boolean readComplete = false;
@@ -58,12 +62,14 @@ public class LegendArrowVectorIterator implements Iterator<VectorSchemaRoot>, Au
     /**
      * Construct an instance.
      */
-    private LegendArrowVectorIterator(ResultSet resultSet, JdbcToArrowConfig config) throws SQLException
+    private LegendArrowVectorIterator(ResultSet resultSet, JdbcToArrowConfig config, long targetBatchBytes) throws SQLException
     {
         this.resultSet = resultSet;
         this.config = config;
         this.schema = JdbcToArrowUtils.jdbcToArrowSchema(resultSet.getMetaData(), config);
         this.targetBatchSize = config.getTargetBatchSize();
+        this.targetBatchBytes = targetBatchBytes;
+        this.batchRowLimit = this.targetBatchSize;
 
         rsmd = resultSet.getMetaData();
         consumers = new JdbcConsumer[rsmd.getColumnCount()];
@@ -78,11 +84,23 @@ public class LegendArrowVectorIterator implements Iterator<VectorSchemaRoot>, Au
             ResultSet resultSet,
             JdbcToArrowConfig config)
             throws SQLException
+    {
+        return create(resultSet, config, -1);
+    }
+
+    /**
+     * Create a ArrowVectorIterator to partially convert data, cutting batches by row count and by allocated bytes.
+     */
+    public static LegendArrowVectorIterator create(
+            ResultSet resultSet,
+            JdbcToArrowConfig config,
+            long targetBatchBytes)
+            throws SQLException
     {
         LegendArrowVectorIterator iterator = null;
         try
         {
-            iterator = new LegendArrowVectorIterator(resultSet, config);
+            iterator = new LegendArrowVectorIterator(resultSet, config, targetBatchBytes);
         }
         catch (Throwable e)
         {
@@ -110,7 +128,7 @@ public class LegendArrowVectorIterator implements Iterator<VectorSchemaRoot>, Au
             }
             else
             {
-                while ((readRowCount < targetBatchSize) && !readComplete)
+                while ((readRowCount < batchRowLimit) && !readComplete)
                 {
                     if (resultSet.next())
                     {
@@ -125,6 +143,7 @@ public class LegendArrowVectorIterator implements Iterator<VectorSchemaRoot>, Au
             }
 
             root.setRowCount(readRowCount);
+            adjustBatchRowLimit(root, readRowCount);
         }
         catch (Throwable e)
         {
@@ -133,6 +152,20 @@ public class LegendArrowVectorIterator implements Iterator<VectorSchemaRoot>, Au
         }
     }
 
+    private void adjustBatchRowLimit(VectorSchemaRoot root, int readRowCount)
+    {
+        if ((targetBatchBytes > 0) && (targetBatchSize != JdbcToArrowConfig.NO_LIMIT_BATCH_SIZE) && (readRowCount > 0))
+        {
+            long batchBytes = 0;
+            for (FieldVector vector : root.getFieldVectors())
+            {
+                batchBytes += vector.getBufferSize();
+            }
+            long rowLimit = (batchBytes == 0) ? targetBatchSize : ((targetBatchBytes * readRowCount) / batchBytes);
+            batchRowLimit = (int) Math.max(1, Math.min(targetBatchSize, rowLimit));
+        }
+    }
+
     private VectorSchemaRoot createVectorSchemaRoot() throws SQLException
     {
         VectorSchemaRoot root = null;
@@ -0,0 +1,80 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-wide Arrow allocator hierarchy: a single root allocator shared by all results, from which each result
+ * gets its own child allocator, so that native memory is pooled and bounded both globally and per request.
+ */
+public class ArrowAllocators
+{
+    private static final AtomicLong REQUEST_COUNTER = new AtomicLong();
+
+    private static volatile ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+    private static volatile BufferAllocator rootAllocator;
+
+    private ArrowAllocators()
+    {
+    }
+
+    public static synchronized void configure(ArrowRuntimeConfiguration newConfiguration)
+    {
+        configuration = newConfiguration;
+        if (rootAllocator != null)
+        {
+            rootAllocator.setLimit(newConfiguration.maxAllocationInBytes);
+        }
+    }
+
+    public static ArrowRuntimeConfiguration getConfiguration()
+    {
+        return configuration;
+    }
+
+    public static BufferAllocator getRootAllocator()
+    {
+        BufferAllocator allocator = rootAllocator;
+        if (allocator == null)
+        {
+            synchronized (ArrowAllocators.class)
+            {
+                if (rootAllocator == null)
+                {
+                    rootAllocator = new RootAllocator(configuration.maxAllocationInBytes);
+                }
+                allocator = rootAllocator;
+            }
+        }
+        return allocator;
+    }
+
+    /**
+     * Creates the allocator for a single result. It must be closed once the result has been written.
+     */
+    public static BufferAllocator newRequestAllocator()
+    {
+        return newRequestAllocator(configuration.maxRequestAllocationInBytes);
+    }
+
+    public static BufferAllocator newRequestAllocator(long maxAllocationInBytes)
+    {
+        return getRootAllocator().newChildAllocator("arrow-result-" + REQUEST_COUNTER.incrementAndGet(), 0, maxAllocationInBytes);
+    }
+}
@@ -14,16 +14,23 @@
 
 package org.finos.legend.engine.external.format.arrow;
 
-import java.nio.charset.Charset;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.TimeZone;
 
 import org.apache.arrow.adapter.jdbc.JdbcToArrowConfig;
 import org.apache.arrow.adapter.jdbc.JdbcToArrowConfigBuilder;
 import org.apache.arrow.adapter.jdbc.LegendArrowVectorIterator;
+import org.apache.arrow.flight.BackpressureStrategy;
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightProducer;
 import org.apache.arrow.memory.BufferAllocator;
-import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ArrowStreamWriter;
 import org.finos.legend.engine.external.shared.runtime.write.ExternalFormatWriter;
@@ -35,24 +42,41 @@ import org.finos.legend.engine.plan.execution.stores.relational.result.Relationa
 
 public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseable
 {
+    private static final long READY_POLL_MILLIS = 100;
+
     private final LegendArrowVectorIterator iterator;
     private final BufferAllocator allocator;
 
     public ArrowDataWriter(RelationalResult resultSet) throws SQLException
     {
+        this(resultSet, ArrowAllocators.getConfiguration());
+    }
 
-        this.allocator = new RootAllocator();
-        Calendar calendar = resultSet.getRelationalDatabaseTimeZone() == null ?
-                new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
-                new GregorianCalendar(TimeZone.getTimeZone(resultSet.getRelationalDatabaseTimeZone()));
-        JdbcToArrowConfig config = new JdbcToArrowConfigBuilder(allocator, calendar).setReuseVectorSchemaRoot(true).build();
-        this.iterator = LegendArrowVectorIterator.create(resultSet.getResultSet(), config);
-
+    public ArrowDataWriter(RelationalResult resultSet, ArrowRuntimeConfiguration configuration) throws SQLException
+    {
+        this.allocator = ArrowAllocators.newRequestAllocator(configuration.maxRequestAllocationInBytes);
+        try
+        {
+            Calendar calendar = resultSet.getRelationalDatabaseTimeZone() == null ?
+                    new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
+                    new GregorianCalendar(TimeZone.getTimeZone(resultSet.getRelationalDatabaseTimeZone()));
+            JdbcToArrowConfig config = new JdbcToArrowConfigBuilder(allocator, calendar)
+                    .setReuseVectorSchemaRoot(true)
+                    .setTargetBatchSize(configuration.targetBatchRows)
+                    .build();
+            this.iterator = LegendArrowVectorIterator.create(resultSet.getResultSet(), config, configuration.targetBatchBytes);
+        }
+        catch (Exception e)
+        {
+            this.allocator.close();
+            throw e;
+        }
     }
 
     @Override
     public void writeData(OutputStream outputStream) throws IOException
     {
+        // The vector schema root is reused across batches, so each batch is written straight from native memory
         try (VectorSchemaRoot vector = iterator.next();
              ArrowStreamWriter writer = new ArrowStreamWriter(vector, null, outputStream);
         )
@@ -66,40 +90,122 @@ public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseab
 
             }
         }
-        catch (Exception e)
+        finally
         {
-            this.iterator.close();
-            throw e;
+            this.close();
         }
 
     }
 
+    /**
+     * Streams the result to an Arrow Flight client, only putting the next batch once the client is ready for it.
+     */
+    public void writeData(FlightProducer.ServerStreamListener listener, long readyTimeoutMillis)
+    {
+        BackpressureStrategy backpressure = new BackpressureStrategy.CallbackBackpressureStrategy();
+        backpressure.register(listener);
+        try (VectorSchemaRoot vector = iterator.next())
+        {
+            listener.start(vector);
+            while (true)
+            {
+                BackpressureStrategy.WaitResult waitResult = waitForListener(backpressure, readyTimeoutMillis);
+                if (waitResult == BackpressureStrategy.WaitResult.CANCELLED)
+                {
+                    return;
+                }
+                if (waitResult != BackpressureStrategy.WaitResult.READY)
+                {
+                    listener.error(CallStatus.TIMED_OUT.withDescription("Client did not consume the result within " + readyTimeoutMillis + "ms").toRuntimeException());
+                    return;
+                }
+                listener.putNext();
+                if (!this.iterator.hasNext())
+                {
+                    break;
+                }
+                iterator.next();
+            }
+            listener.completed();
+        }
+        finally
+        {
+            this.close();
+        }
+    }
+
+    private static BackpressureStrategy.WaitResult waitForListener(BackpressureStrategy backpressure, long timeoutMillis)
+    {
+        // Waits in slices that each re-check readiness, so that a missed ready notification does not stall the stream
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true)
+        {
+            long remaining = deadline - System.currentTimeMillis();
+            BackpressureStrategy.WaitResult waitResult = backpressure.waitForListener(Math.max(1, Math.min(READY_POLL_MILLIS, remaining)));
+            if ((waitResult != BackpressureStrategy.WaitResult.TIMEOUT) || (remaining <= READY_POLL_MILLIS))
+            {
+                return waitResult;
+            }
+        }
+    }
+
     @Override
     public void writeDataAsString(OutputStream outputStream) throws IOException
     {
         try
         {
+            // Cells are written as they are read rather than rendering each batch to a TSV string first
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            boolean headerWritten = false;
             while (this.iterator.hasNext())
             {
-                try (VectorSchemaRoot vector = iterator.next())
+                VectorSchemaRoot vector = iterator.next();
+                List<FieldVector> fieldVectors = vector.getFieldVectors();
+                if (!headerWritten)
                 {
-                    outputStream.write(vector.contentToTSVString().getBytes(Charset.forName("UTF-8")));
+                    for (int i = 0; i < fieldVectors.size(); i++)
+                    {
+                        writeCell(writer, i, fieldVectors.get(i).getName());
+                    }
+                    writer.write('\n');
+                    headerWritten = true;
+                }
+                for (int row = 0; row < vector.getRowCount(); row++)
+                {
+                    for (int i = 0; i < fieldVectors.size(); i++)
+                    {
+                        writeCell(writer, i, fieldVectors.get(i).getObject(row));
+                    }
+                    writer.write('\n');
                 }
-
             }
-            this.close();
+            writer.flush();
         }
-        catch (Exception e)
+        finally
         {
             this.close();
-            throw e;
         }
     }
 
+    private static void writeCell(Writer writer, int index, Object value) throws IOException
+    {
+        if (index > 0)
+        {
+            writer.write('\t');
+        }
+        writer.write(String.valueOf(value));
+    }
+
     @Override
     public void close()
     {
-        allocator.close();
+        try
+        {
+            this.iterator.close();
+        }
+        finally
+        {
+            this.allocator.close();
+        }
     }
 }
-
@@ -0,0 +1,41 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.apache.arrow.adapter.jdbc.JdbcToArrowConfig;
+
+public class ArrowRuntimeConfiguration
+{
+    // Limit on native memory used for Arrow across all requests
+    public long maxAllocationInBytes = Long.MAX_VALUE;
+    // Limit on native memory used for Arrow by a single result
+    public long maxRequestAllocationInBytes = Long.MAX_VALUE;
+    // A batch is flushed once it reaches either of these targets (a non-positive byte target means rows only)
+    public int targetBatchRows = JdbcToArrowConfig.DEFAULT_TARGET_BATCH_SIZE;
+    public long targetBatchBytes = -1;
+
+    // Arrow Flight endpoint, only started when a port is set. Binding to other than a loopback address requires TLS.
+    public String flightHost = "localhost";
+    public Integer flightPort;
+    // PEM files of the certificate chain and private key the Flight endpoint serves TLS with
+    public String flightCertChainFile;
+    public String flightPrivateKeyFile;
+    // Used unless an ArrowFlightIdentityProvider and an ArrowFlightPlanProvider are found in the classpath: properties
+    // file of the bearer token of each user, and directory of the plans (<planId>.json) clients can execute
+    public String flightTokensFile;
+    public String flightPlanDirectory;
+    // How long a Flight stream waits for a slow client to be ready for the next batch before failing
+    public long flightReadyTimeoutMillis = 60_000;
+}
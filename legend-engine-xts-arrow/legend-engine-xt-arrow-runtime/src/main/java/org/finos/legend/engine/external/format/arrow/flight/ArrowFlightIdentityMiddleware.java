@@ -0,0 +1,77 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.apache.arrow.flight.CallInfo;
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightServerMiddleware;
+import org.apache.arrow.flight.RequestContext;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+/**
+ * Server middleware holding the identity of the caller, rejecting calls that do not authenticate one.
+ */
+class ArrowFlightIdentityMiddleware implements FlightServerMiddleware
+{
+    static final Key<ArrowFlightIdentityMiddleware> KEY = Key.of("legend-identity");
+
+    private final Identity identity;
+
+    private ArrowFlightIdentityMiddleware(Identity identity)
+    {
+        this.identity = identity;
+    }
+
+    Identity getIdentity()
+    {
+        return this.identity;
+    }
+
+    @Override
+    public void onBeforeSendingHeaders(CallHeaders outgoingHeaders)
+    {
+    }
+
+    @Override
+    public void onCallCompleted(CallStatus status)
+    {
+    }
+
+    @Override
+    public void onCallErrored(Throwable err)
+    {
+    }
+
+    static class Factory implements FlightServerMiddleware.Factory<ArrowFlightIdentityMiddleware>
+    {
+        private final ArrowFlightIdentityProvider identityProvider;
+
+        Factory(ArrowFlightIdentityProvider identityProvider)
+        {
+            this.identityProvider = identityProvider;
+        }
+
+        @Override
+        public ArrowFlightIdentityMiddleware onCallStarted(CallInfo info, CallHeaders incomingHeaders, RequestContext context)
+        {
+            Identity identity = this.identityProvider.getIdentity(incomingHeaders);
+            if (identity == null)
+            {
+                throw CallStatus.UNAUTHENTICATED.withDescription("Arrow Flight calls must be authenticated").toRuntimeException();
+            }
+            return new ArrowFlightIdentityMiddleware(identity);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+/**
+ * Authenticates the callers of the Arrow Flight server. Every call is rejected unless its headers (e.g. an
+ * authorization header) authenticate an identity, which the plans are then executed as.
+ */
+public interface ArrowFlightIdentityProvider
+{
+    /**
+     * The identity of the caller, or null if the headers do not authenticate one.
+     */
+    Identity getIdentity(CallHeaders headers);
+}
@@ -0,0 +1,29 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+/**
+ * Resolves the plans Arrow Flight clients refer to. Clients can only execute the plans registered here (e.g. the plans
+ * of deployed services), never plans of their own.
+ */
+public interface ArrowFlightPlanProvider
+{
+    /**
+     * The plan registered under the given id, or null if there is none or the identity may not execute it.
+     */
+    ExecutionPlan getPlan(String planId, Identity identity);
+}
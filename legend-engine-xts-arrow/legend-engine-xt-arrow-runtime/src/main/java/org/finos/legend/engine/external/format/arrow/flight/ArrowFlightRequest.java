@@ -0,0 +1,31 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command sent by Arrow Flight clients in a flight descriptor, and carried back in the tickets of the flight endpoints.
+ * <p>
+ * The plan is referred to by the id it is registered under with the {@link ArrowFlightPlanProvider}. Each entry in
+ * partitions is merged over the parameters and becomes its own endpoint, so that a client can fetch the partitions of
+ * a result (e.g. one per date range) in parallel.
+ */
+public class ArrowFlightRequest
+{
+    public String planId;
+    public Map<String, Object> parameters;
+    public List<Map<String, Object>> partitions;
+}
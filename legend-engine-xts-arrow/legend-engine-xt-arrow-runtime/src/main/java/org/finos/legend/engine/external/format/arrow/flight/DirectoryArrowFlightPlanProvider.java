@@ -0,0 +1,70 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the execution plans saved as JSON in a directory, the plan id being the name of the file without its .json
+ * extension. Every authenticated identity may execute them. Files are read on each call, so that plans can be added or
+ * replaced without a restart.
+ */
+public class DirectoryArrowFlightPlanProvider implements ArrowFlightPlanProvider
+{
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final Pattern PLAN_ID = Pattern.compile("[A-Za-z0-9_\\-]+(\\.[A-Za-z0-9_\\-]+)*");
+
+    private final Path directory;
+
+    public DirectoryArrowFlightPlanProvider(Path directory)
+    {
+        if (!Files.isDirectory(directory))
+        {
+            throw new IllegalArgumentException("Arrow Flight plan directory " + directory + " does not exist");
+        }
+        this.directory = directory;
+    }
+
+    @Override
+    public ExecutionPlan getPlan(String planId, Identity identity)
+    {
+        // plan ids can not refer to files outside of the directory
+        if (!PLAN_ID.matcher(planId).matches())
+        {
+            return null;
+        }
+        Path file = this.directory.resolve(planId + ".json");
+        if (!Files.isRegularFile(file))
+        {
+            return null;
+        }
+        try
+        {
+            return OBJECT_MAPPER.readValue(file.toFile(), ExecutionPlan.class);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to read Arrow Flight plan " + planId, e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.flight.FlightEndpoint;
+import org.apache.arrow.flight.FlightInfo;
+import org.apache.arrow.flight.FlightRuntimeException;
+import org.apache.arrow.flight.NoOpFlightProducer;
+import org.apache.arrow.flight.Ticket;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.external.format.arrow.ArrowDataWriter;
+import org.finos.legend.engine.external.format.arrow.ArrowRuntimeConfiguration;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arrow Flight producer executing the plan an {@link ArrowFlightRequest} refers to, as the identity of the caller, and
+ * streaming its relational result as Arrow record batches.
+ * <p>
+ * Tickets are self-contained (they carry the plan id and the resolved parameters), so any engine instance can serve
+ * any endpoint. They grant nothing by themselves: the plan is resolved again, for the caller, on every stream.
+ */
+public class LegendArrowFlightProducer extends NoOpFlightProducer
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(LegendArrowFlightProducer.class);
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final PlanExecutor planExecutor;
+    private final ArrowFlightPlanProvider planProvider;
+    private final ArrowRuntimeConfiguration configuration;
+
+    public LegendArrowFlightProducer(PlanExecutor planExecutor, ArrowFlightPlanProvider planProvider, ArrowRuntimeConfiguration configuration)
+    {
+        this.planExecutor = planExecutor;
+        this.planProvider = planProvider;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public FlightInfo getFlightInfo(CallContext context, FlightDescriptor descriptor)
+    {
+        if (!descriptor.isCommand())
+        {
+            throw CallStatus.INVALID_ARGUMENT.withDescription("Flight descriptor must be a command").toRuntimeException();
+        }
+        ArrowFlightRequest request = readRequest(descriptor.getCommand());
+        this.getPlan(request, identity(context));
+        List<Map<String, Object>> partitions = (request.partitions == null || request.partitions.isEmpty()) ? Collections.singletonList(Collections.emptyMap()) : request.partitions;
+        MutableList<FlightEndpoint> endpoints = Lists.mutable.ofInitialCapacity(partitions.size());
+        for (Map<String, Object> partition : partitions)
+        {
+            ArrowFlightRequest ticketRequest = new ArrowFlightRequest();
+            ticketRequest.planId = request.planId;
+            ticketRequest.parameters = Maps.mutable.empty();
+            if (request.parameters != null)
+            {
+                ticketRequest.parameters.putAll(request.parameters);
+            }
+            ticketRequest.parameters.putAll(partition);
+            // Endpoints without a location are fetched from this same service
+            endpoints.add(new FlightEndpoint(new Ticket(writeRequest(ticketRequest))));
+        }
+        // The schema is only known once the query has run, clients get it from the stream
+        return new FlightInfo(new Schema(Collections.emptyList()), descriptor, endpoints, -1, -1);
+    }
+
+    @Override
+    public void getStream(CallContext context, Ticket ticket, ServerStreamListener listener)
+    {
+        Result result = null;
+        try
+        {
+            Identity identity = identity(context);
+            ArrowFlightRequest request = readRequest(ticket.getBytes());
+            Map<String, Object> parameters = (request.parameters == null) ? Collections.emptyMap() : request.parameters;
+            SingleExecutionPlan plan = this.getPlan(request, identity).getSingleExecutionPlan(parameters);
+            Map<String, Result> vars = Maps.mutable.ofInitialCapacity(parameters.size());
+            parameters.forEach((key, value) -> vars.put(key, new ConstantResult(value)));
+
+            result = this.planExecutor.execute(plan, vars, identity.getName(), Lists.mutable.withAll(IdentityFactoryProvider.getInstance().adapt(identity)));
+            if (!(result instanceof RelationalResult))
+            {
+                listener.error(CallStatus.INVALID_ARGUMENT.withDescription("Arrow Flight is only supported on relational execution").toRuntimeException());
+                return;
+            }
+            new ArrowDataWriter((RelationalResult) result, this.configuration).writeData(listener, this.configuration.flightReadyTimeoutMillis);
+        }
+        catch (FlightRuntimeException e)
+        {
+            listener.error(e);
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error streaming Arrow Flight result", e);
+            listener.error(CallStatus.INTERNAL.withDescription(e.getMessage()).withCause(e).toRuntimeException());
+        }
+        finally
+        {
+            if (result != null)
+            {
+                result.close();
+            }
+        }
+    }
+
+    private ExecutionPlan getPlan(ArrowFlightRequest request, Identity identity)
+    {
+        ExecutionPlan plan = (request.planId == null) ? null : this.planProvider.getPlan(request.planId, identity);
+        if (plan == null)
+        {
+            throw CallStatus.NOT_FOUND.withDescription("Unknown plan: " + request.planId).toRuntimeException();
+        }
+        return plan;
+    }
+
+    private static Identity identity(CallContext context)
+    {
+        // set for every call, calls the identity provider does not authenticate are rejected before reaching here
+        return context.getMiddleware(ArrowFlightIdentityMiddleware.KEY).getIdentity();
+    }
+
+    private static ArrowFlightRequest readRequest(byte[] bytes)
+    {
+        try
+        {
+            return OBJECT_MAPPER.readValue(bytes, ArrowFlightRequest.class);
+        }
+        catch (IOException e)
+        {
+            throw CallStatus.INVALID_ARGUMENT.withDescription("Invalid Arrow Flight request: " + e.getMessage()).withCause(e).toRuntimeException();
+        }
+    }
+
+    private static byte[] writeRequest(ArrowFlightRequest request)
+    {
+        try
+        {
+            return OBJECT_MAPPER.writeValueAsBytes(request);
+        }
+        catch (IOException e)
+        {
+            throw CallStatus.INTERNAL.withDescription("Unable to build Arrow Flight ticket: " + e.getMessage()).withCause(e).toRuntimeException();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import org.apache.arrow.flight.FlightServer;
+import org.apache.arrow.flight.Location;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.external.format.arrow.ArrowAllocators;
+import org.finos.legend.engine.external.format.arrow.ArrowRuntimeConfiguration;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Arrow Flight server exposing plan execution next to the HTTP APIs, allocating from the shared Arrow allocator.
+ * <p>
+ * Every call is authenticated by the {@link ArrowFlightIdentityProvider}, and clients can only execute the plans of
+ * the {@link ArrowFlightPlanProvider}. The server only listens without TLS on loopback addresses.
+ */
+public class LegendArrowFlightServer implements AutoCloseable
+{
+    private final FlightServer server;
+
+    public LegendArrowFlightServer(PlanExecutor planExecutor, ArrowFlightIdentityProvider identityProvider, ArrowFlightPlanProvider planProvider, ArrowRuntimeConfiguration configuration)
+    {
+        Objects.requireNonNull(identityProvider, "Arrow Flight requires an identity provider");
+        Objects.requireNonNull(planProvider, "Arrow Flight requires a plan provider");
+        boolean tls = (configuration.flightCertChainFile != null) || (configuration.flightPrivateKeyFile != null);
+        if (tls && ((configuration.flightCertChainFile == null) || (configuration.flightPrivateKeyFile == null)))
+        {
+            throw new IllegalArgumentException("Arrow Flight TLS requires both flightCertChainFile and flightPrivateKeyFile");
+        }
+        if (!tls && !isLoopback(configuration.flightHost))
+        {
+            throw new IllegalArgumentException("Arrow Flight can only listen on " + configuration.flightHost + " with TLS, set flightCertChainFile and flightPrivateKeyFile");
+        }
+
+        Location location = tls ? Location.forGrpcTls(configuration.flightHost, configuration.flightPort) : Location.forGrpcInsecure(configuration.flightHost, configuration.flightPort);
+        FlightServer.Builder builder = FlightServer.builder(ArrowAllocators.getRootAllocator(), location, new LegendArrowFlightProducer(planExecutor, planProvider, configuration))
+                .middleware(ArrowFlightIdentityMiddleware.KEY, new ArrowFlightIdentityMiddleware.Factory(identityProvider));
+        if (tls)
+        {
+            try
+            {
+                builder.useTls(new File(configuration.flightCertChainFile), new File(configuration.flightPrivateKeyFile));
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException("Unable to read the Arrow Flight certificate chain or private key", e);
+            }
+        }
+        this.server = builder.build();
+    }
+
+    /**
+     * Server with the identity and plan providers found in the classpath, or with those of the configuration (a
+     * {@link TokenFileArrowFlightIdentityProvider} and a {@link DirectoryArrowFlightPlanProvider}) when none is found.
+     */
+    public static LegendArrowFlightServer newServer(PlanExecutor planExecutor, ArrowRuntimeConfiguration configuration)
+    {
+        validate(configuration);
+        ArrowFlightIdentityProvider identityProvider = locateAtMostOne(ArrowFlightIdentityProvider.class);
+        ArrowFlightPlanProvider planProvider = locateAtMostOne(ArrowFlightPlanProvider.class);
+        return new LegendArrowFlightServer(
+                planExecutor,
+                (identityProvider == null) ? new TokenFileArrowFlightIdentityProvider(Paths.get(configuration.flightTokensFile)) : identityProvider,
+                (planProvider == null) ? new DirectoryArrowFlightPlanProvider(Paths.get(configuration.flightPlanDirectory)) : planProvider,
+                configuration);
+    }
+
+    /**
+     * Checks that the providers a server needs are found in the classpath or configured.
+     */
+    public static void validate(ArrowRuntimeConfiguration configuration)
+    {
+        if (configuration.flightPort == null)
+        {
+            return;
+        }
+        if ((locateAtMostOne(ArrowFlightIdentityProvider.class) == null) && (configuration.flightTokensFile == null))
+        {
+            throw new IllegalArgumentException("Arrow Flight requires flightTokensFile to be set, as no ArrowFlightIdentityProvider is found in the classpath");
+        }
+        if ((locateAtMostOne(ArrowFlightPlanProvider.class) == null) && (configuration.flightPlanDirectory == null))
+        {
+            throw new IllegalArgumentException("Arrow Flight requires flightPlanDirectory to be set, as no ArrowFlightPlanProvider is found in the classpath");
+        }
+    }
+
+    public LegendArrowFlightServer start() throws IOException
+    {
+        this.server.start();
+        return this;
+    }
+
+    public int getPort()
+    {
+        return this.server.getPort();
+    }
+
+    @Override
+    public void close() throws InterruptedException
+    {
+        this.server.close();
+    }
+
+    private static boolean isLoopback(String host)
+    {
+        try
+        {
+            return InetAddress.getByName(host).isLoopbackAddress();
+        }
+        catch (UnknownHostException e)
+        {
+            throw new IllegalArgumentException("Unknown Arrow Flight host: " + host, e);
+        }
+    }
+
+    private static <T> T locateAtMostOne(Class<T> type)
+    {
+        MutableList<T> found = Lists.mutable.withAll(ServiceLoader.load(type));
+        if (found.size() > 1)
+        {
+            MutableList<String> names = found.collect(c -> c.getClass().getCanonicalName());
+            throw new IllegalStateException(String.format("Arrow Flight expects at most 1 %s in classpath but found %d. [%s]", type.getSimpleName(), found.size(), names));
+        }
+        return found.getFirst();
+    }
+}
@@ -0,0 +1,97 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.finos.legend.engine.external.format.arrow.flight;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.shared.core.identity.Identity;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Properties;
+
+/**
+ * Authenticates callers presenting one of the bearer tokens of a properties file, mapping user names to tokens. Only
+ * hashes of the tokens are kept once the file is read.
+ */
+public class TokenFileArrowFlightIdentityProvider implements ArrowFlightIdentityProvider
+{
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // hash of the token -> user name
+    private final MutableMap<String, String> users;
+
+    public TokenFileArrowFlightIdentityProvider(Path tokensFile)
+    {
+        Properties tokens = new Properties();
+        try (Reader reader = Files.newBufferedReader(tokensFile, StandardCharsets.UTF_8))
+        {
+            tokens.load(reader);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to read the Arrow Flight tokens file " + tokensFile, e);
+        }
+        if (tokens.isEmpty())
+        {
+            throw new IllegalArgumentException("Arrow Flight tokens file " + tokensFile + " does not define any token");
+        }
+        this.users = Maps.mutable.ofInitialCapacity(tokens.size());
+        tokens.stringPropertyNames().forEach(user ->
+        {
+            String token = tokens.getProperty(user).trim();
+            if (token.isEmpty())
+            {
+                throw new IllegalArgumentException("Arrow Flight tokens file " + tokensFile + " defines an empty token for " + user);
+            }
+            if (this.users.put(hash(token), user) != null)
+            {
+                throw new IllegalArgumentException("Arrow Flight tokens file " + tokensFile + " defines the same token for several users");
+            }
+        });
+    }
+
+    @Override
+    public Identity getIdentity(CallHeaders headers)
+    {
+        String authorization = headers.get("authorization");
+        if ((authorization == null) || !authorization.startsWith(BEARER_PREFIX))
+        {
+            return null;
+        }
+        // tokens are looked up by hash, so that the lookup does not compare the tokens themselves
+        String user = this.users.get(hash(authorization.substring(BEARER_PREFIX.length()).trim()));
+        return (user == null) ? null : new Identity(user);
+    }
+
+    private static String hash(String token)
+    {
+        try
+        {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
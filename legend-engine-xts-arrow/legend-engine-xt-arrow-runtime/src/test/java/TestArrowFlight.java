@@ -0,0 +1,264 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Collections;
+import java.util.Map;
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightCallHeaders;
+import org.apache.arrow.flight.FlightClient;
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.flight.FlightEndpoint;
+import org.apache.arrow.flight.FlightInfo;
+import org.apache.arrow.flight.FlightRuntimeException;
+import org.apache.arrow.flight.FlightStream;
+import org.apache.arrow.flight.HeaderCallOption;
+import org.apache.arrow.flight.Location;
+import org.apache.arrow.flight.Ticket;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.external.format.arrow.ArrowAllocators;
+import org.finos.legend.engine.external.format.arrow.ArrowRuntimeConfiguration;
+import org.finos.legend.engine.external.format.arrow.flight.ArrowFlightIdentityProvider;
+import org.finos.legend.engine.external.format.arrow.flight.ArrowFlightPlanProvider;
+import org.finos.legend.engine.external.format.arrow.flight.ArrowFlightRequest;
+import org.finos.legend.engine.external.format.arrow.flight.LegendArrowFlightServer;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.api.request.RequestContext;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class TestArrowFlight
+{
+    private static final ArrowFlightIdentityProvider IDENTITY_PROVIDER = headers -> "Bearer test-token".equals(headers.get("authorization")) ? new Identity("testUser") : null;
+    private static final HeaderCallOption AUTHORIZATION = authorization("Bearer test-token");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStreamPartitionedResult() throws Exception
+    {
+        RelationalExecutionNode mockExecutionNode = Mockito.mock(RelationalExecutionNode.class);
+        DatabaseConnection mockDatabaseConnection = Mockito.mock(DatabaseConnection.class);
+        mockExecutionNode.connection = mockDatabaseConnection;
+        Mockito.when(mockDatabaseConnection.accept(any())).thenReturn(false);
+
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:~/test;TIME ZONE=America/New_York", "sa", ""))
+        {
+            conn.createStatement().execute("DROP TABLE IF EXISTS testtableFlight");
+            conn.createStatement().execute("Create Table testtableFlight (testInt INTEGER, testPartition INTEGER, testString VARCHAR(255))");
+            conn.createStatement().execute("INSERT INTO testtableFlight (testInt, testPartition, testString) SELECT X, MOD(X, 2), CONCAT('value', X) FROM SYSTEM_RANGE(1, 5000)");
+
+            PlanExecutor planExecutor = Mockito.mock(PlanExecutor.class);
+            Mockito.when(planExecutor.execute(Mockito.any(SingleExecutionPlan.class), Mockito.anyMap(), Mockito.nullable(String.class), Mockito.any(MutableList.class))).thenAnswer(invocation ->
+            {
+                Assert.assertEquals("testUser", invocation.getArgument(2));
+                Map<String, Result> vars = invocation.getArgument(1);
+                String sql = "SELECT * FROM testtableFlight WHERE testPartition = " + ((ConstantResult) vars.get("partition")).getValue();
+                return new RelationalResult(FastList.newListWith(new RelationalExecutionActivity(sql, null)), mockExecutionNode, FastList.newListWith(new SQLResultColumn("testInt", "INTEGER"), new SQLResultColumn("testPartition", "INTEGER"), new SQLResultColumn("testString", "VARCHAR")), null, "America/New_York", conn, null, null, null, new RequestContext());
+            });
+
+            ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+            configuration.flightHost = "localhost";
+            configuration.flightPort = 0;
+            configuration.targetBatchRows = 512;
+
+            SingleExecutionPlan plan = new SingleExecutionPlan();
+            ArrowFlightPlanProvider planProvider = (planId, identity) -> "partitioned".equals(planId) ? plan : null;
+
+            ArrowFlightRequest request = new ArrowFlightRequest();
+            request.planId = "partitioned";
+            request.partitions = FastList.newListWith(Collections.singletonMap("partition", 0), Collections.singletonMap("partition", 1));
+            byte[] command = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+
+            try (LegendArrowFlightServer server = new LegendArrowFlightServer(planExecutor, IDENTITY_PROVIDER, planProvider, configuration).start();
+                 BufferAllocator allocator = new RootAllocator();
+                 FlightClient client = FlightClient.builder(allocator, Location.forGrpcInsecure("localhost", server.getPort())).build())
+            {
+                FlightInfo info = client.getInfo(FlightDescriptor.command(command), AUTHORIZATION);
+                Assert.assertEquals(2, info.getEndpoints().size());
+
+                int rows = 0;
+                for (FlightEndpoint endpoint : info.getEndpoints())
+                {
+                    int batches = 0;
+                    try (FlightStream stream = client.getStream(endpoint.getTicket(), AUTHORIZATION))
+                    {
+                        while (stream.next())
+                        {
+                            Assert.assertEquals(3, stream.getRoot().getFieldVectors().size());
+                            rows += stream.getRoot().getRowCount();
+                            batches++;
+                        }
+                    }
+                    Assert.assertEquals(5, batches);
+                }
+                Assert.assertEquals(5000, rows);
+            }
+            Assert.assertEquals(0, ArrowAllocators.getRootAllocator().getAllocatedMemory());
+        }
+    }
+
+    @Test
+    public void testCallsMustBeAuthenticated() throws Exception
+    {
+        PlanExecutor planExecutor = Mockito.mock(PlanExecutor.class);
+        ArrowFlightPlanProvider planProvider = (planId, identity) -> new SingleExecutionPlan();
+        ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+        configuration.flightPort = 0;
+
+        ArrowFlightRequest request = new ArrowFlightRequest();
+        request.planId = "any";
+        byte[] command = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsBytes(request);
+
+        try (LegendArrowFlightServer server = new LegendArrowFlightServer(planExecutor, IDENTITY_PROVIDER, planProvider, configuration).start();
+             BufferAllocator allocator = new RootAllocator();
+             FlightClient client = FlightClient.builder(allocator, Location.forGrpcInsecure("localhost", server.getPort())).build())
+        {
+            FlightRuntimeException missing = Assert.assertThrows(FlightRuntimeException.class, () -> client.getInfo(FlightDescriptor.command(command)));
+            Assert.assertEquals(CallStatus.UNAUTHENTICATED.code(), missing.status().code());
+
+            FlightRuntimeException wrong = Assert.assertThrows(FlightRuntimeException.class, () -> client.getInfo(FlightDescriptor.command(command), authorization("Bearer other-token")));
+            Assert.assertEquals(CallStatus.UNAUTHENTICATED.code(), wrong.status().code());
+        }
+        Mockito.verifyNoInteractions(planExecutor);
+    }
+
+    @Test
+    public void testOnlyRegisteredPlansAreExecuted() throws Exception
+    {
+        PlanExecutor planExecutor = Mockito.mock(PlanExecutor.class);
+        ArrowFlightPlanProvider planProvider = (planId, identity) -> null;
+        ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+        configuration.flightPort = 0;
+
+        ArrowFlightRequest request = new ArrowFlightRequest();
+        request.planId = "unknown";
+        byte[] command = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsBytes(request);
+
+        try (LegendArrowFlightServer server = new LegendArrowFlightServer(planExecutor, IDENTITY_PROVIDER, planProvider, configuration).start();
+             BufferAllocator allocator = new RootAllocator();
+             FlightClient client = FlightClient.builder(allocator, Location.forGrpcInsecure("localhost", server.getPort())).build())
+        {
+            FlightRuntimeException info = Assert.assertThrows(FlightRuntimeException.class, () -> client.getInfo(FlightDescriptor.command(command), AUTHORIZATION));
+            Assert.assertEquals(CallStatus.NOT_FOUND.code(), info.status().code());
+
+            // tickets are not trusted either, the plan is resolved again when streaming
+            FlightRuntimeException stream = Assert.assertThrows(FlightRuntimeException.class, () ->
+            {
+                try (FlightStream flightStream = client.getStream(new Ticket(command), AUTHORIZATION))
+                {
+                    flightStream.next();
+                }
+            });
+            Assert.assertEquals(CallStatus.NOT_FOUND.code(), stream.status().code());
+        }
+        Mockito.verifyNoInteractions(planExecutor);
+    }
+
+    @Test
+    public void testInsecureServerOnlyListensOnLoopback()
+    {
+        ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+        configuration.flightHost = "0.0.0.0";
+        configuration.flightPort = 0;
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> new LegendArrowFlightServer(Mockito.mock(PlanExecutor.class), IDENTITY_PROVIDER, (planId, identity) -> null, configuration));
+        Assert.assertEquals("Arrow Flight can only listen on 0.0.0.0 with TLS, set flightCertChainFile and flightPrivateKeyFile", e.getMessage());
+    }
+
+    @Test
+    public void testServerStartsWithConfiguredProviders() throws Exception
+    {
+        Path tokensFile = this.folder.newFile("tokens.properties").toPath();
+        Files.write(tokensFile, Collections.singletonList("testUser=test-token"), StandardCharsets.UTF_8);
+        Path planDirectory = this.folder.newFolder("plans").toPath();
+        Files.write(planDirectory.resolve("registered.json"), "{\"_type\":\"simple\"}".getBytes(StandardCharsets.UTF_8));
+        Files.write(this.folder.getRoot().toPath().resolve("outside.json"), "{\"_type\":\"simple\"}".getBytes(StandardCharsets.UTF_8));
+
+        ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+        configuration.flightPort = 0;
+        configuration.flightTokensFile = tokensFile.toString();
+        configuration.flightPlanDirectory = planDirectory.toString();
+        LegendArrowFlightServer.validate(configuration);
+
+        PlanExecutor planExecutor = Mockito.mock(PlanExecutor.class);
+        try (LegendArrowFlightServer server = LegendArrowFlightServer.newServer(planExecutor, configuration).start();
+             BufferAllocator allocator = new RootAllocator();
+             FlightClient client = FlightClient.builder(allocator, Location.forGrpcInsecure("localhost", server.getPort())).build())
+        {
+            FlightInfo info = client.getInfo(FlightDescriptor.command(command("registered")), AUTHORIZATION);
+            Assert.assertEquals(1, info.getEndpoints().size());
+
+            FlightRuntimeException wrong = Assert.assertThrows(FlightRuntimeException.class, () -> client.getInfo(FlightDescriptor.command(command("registered")), authorization("Bearer other-token")));
+            Assert.assertEquals(CallStatus.UNAUTHENTICATED.code(), wrong.status().code());
+
+            // plan ids only refer to files of the plan directory
+            FlightRuntimeException outside = Assert.assertThrows(FlightRuntimeException.class, () -> client.getInfo(FlightDescriptor.command(command("../outside")), AUTHORIZATION));
+            Assert.assertEquals(CallStatus.NOT_FOUND.code(), outside.status().code());
+        }
+        Mockito.verifyNoInteractions(planExecutor);
+    }
+
+    @Test
+    public void testServerRequiresProviders()
+    {
+        ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+        configuration.flightPort = 0;
+        IllegalArgumentException tokens = Assert.assertThrows(IllegalArgumentException.class, () -> LegendArrowFlightServer.validate(configuration));
+        Assert.assertEquals("Arrow Flight requires flightTokensFile to be set, as no ArrowFlightIdentityProvider is found in the classpath", tokens.getMessage());
+
+        configuration.flightTokensFile = "tokens.properties";
+        IllegalArgumentException plans = Assert.assertThrows(IllegalArgumentException.class, () -> LegendArrowFlightServer.validate(configuration));
+        Assert.assertEquals("Arrow Flight requires flightPlanDirectory to be set, as no ArrowFlightPlanProvider is found in the classpath", plans.getMessage());
+
+        // nothing is required when Flight is not enabled
+        LegendArrowFlightServer.validate(new ArrowRuntimeConfiguration());
+    }
+
+    private static byte[] command(String planId) throws Exception
+    {
+        ArrowFlightRequest request = new ArrowFlightRequest();
+        request.planId = planId;
+        return ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsBytes(request);
+    }
+
+    private static HeaderCallOption authorization(String value)
+    {
+        FlightCallHeaders headers = new FlightCallHeaders();
+        headers.insert("authorization", value);
+        return new HeaderCallOption(headers);
+    }
+}
@@ -21,6 +21,9 @@ import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ArrowFileWriter;
 import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.external.format.arrow.ArrowAllocators;
+import org.finos.legend.engine.external.format.arrow.ArrowDataWriter;
+import org.finos.legend.engine.external.format.arrow.ArrowRuntimeConfiguration;
 import org.finos.legend.engine.external.format.arrow.ArrowRuntimeExtension;
 import org.finos.legend.engine.external.shared.runtime.write.ExternalFormatSerializeResult;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
@@ -124,6 +127,49 @@ public class TestArrowNodeExecutor
 
     }
 
+    @Test
+    public void testWriteDataInMultipleBatches() throws Exception
+    {
+        RelationalExecutionNode mockExecutionNode = Mockito.mock(RelationalExecutionNode.class);
+        DatabaseConnection mockDatabaseConnection = Mockito.mock(DatabaseConnection.class);
+
+        mockExecutionNode.connection = mockDatabaseConnection;
+        Mockito.when(mockDatabaseConnection.accept(any())).thenReturn(false);
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:~/test;TIME ZONE=America/New_York", "sa", "");
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream())
+        {
+            conn.createStatement().execute("DROP TABLE IF EXISTS testtableBatches");
+            conn.createStatement().execute("Create Table testtableBatches (testInt INTEGER, testString VARCHAR(255))");
+            conn.createStatement().execute("INSERT INTO testtableBatches (testInt, testString) SELECT X, CONCAT('value', X) FROM SYSTEM_RANGE(1, 1000)");
+
+            RelationalResult result = new RelationalResult(FastList.newListWith(new RelationalExecutionActivity("SELECT * FROM testtableBatches", null)), mockExecutionNode, FastList.newListWith(new SQLResultColumn("testInt", "INTEGER"), new SQLResultColumn("testString", "VARCHAR")), null, "America/New_York", conn, null, null, null, new RequestContext());
+
+            ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+            configuration.targetBatchRows = 100;
+            configuration.targetBatchBytes = 1500;
+            try (ArrowDataWriter writer = new ArrowDataWriter(result, configuration))
+            {
+                writer.writeData(outputStream);
+            }
+            Assert.assertEquals(0, ArrowAllocators.getRootAllocator().getAllocatedMemory());
+
+            int batches = 0;
+            int rows = 0;
+            try (BufferAllocator rootAllocator = new RootAllocator();
+                 ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(outputStream.toByteArray()), rootAllocator))
+            {
+                while (reader.loadNextBatch())
+                {
+                    Assert.assertTrue(reader.getVectorSchemaRoot().getRowCount() <= 100);
+                    rows += reader.getVectorSchemaRoot().getRowCount();
+                    batches++;
+                }
+            }
+            Assert.assertEquals(1000, rows);
+            Assert.assertTrue("Expected byte bound to produce more batches than the row bound alone, got " + batches, batches > 10);
+        }
+    }
+
     private void assertArrow(ByteArrayOutputStream actualOutputStream, String expectedTSV) throws IOException //input a TSV String
     {
         actualOutputStream.flush();
@@ -168,9 +168,35 @@ public class ElasticsearchV7RequestToHttpRequestVisitor extends AbstractRequestB
         return new HttpPost(this.url + "/" + indexName(val.index) + "/_pit?keep_alive=" + val.keep_alive.unionValue());
     }
 
-    private static String indexName(List<LiteralOrExpression<String>> index)
+    private String indexName(List<LiteralOrExpression<String>> index)
     {
-        return index.stream().map(LiteralOrExpression::getLiteral).collect(Collectors.joining(","));
+        return indexName(index, this.executionState);
+    }
+
+    /**
+     * The comma separated index names of a request. Index expressions are resolved against the execution state, like
+     * the expressions of request bodies.
+     */
+    public static String indexName(List<LiteralOrExpression<String>> index, ExecutionState executionState)
+    {
+        return index.stream().map(name -> resolve(name, executionState)).collect(Collectors.joining(","));
+    }
+
+    private static String resolve(LiteralOrExpression<String> value, ExecutionState executionState)
+    {
+        if ((value.value != null) || (executionState == null))
+        {
+            return value.getLiteral();
+        }
+        try
+        {
+            // string expressions render to a quoted JSON string
+            return ElasticsearchObjectMapperProvider.OBJECT_MAPPER.readValue(FreeMarkerExecutor.process(value.expression, executionState), String.class);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -65,7 +65,7 @@ public class ElasticsearchV7ExecutionNodeExecutor implements ExecutionNodeVisito
                 throw new IllegalStateException("RequestBase failed to initialize due to issues in deep-copy");
             }
 
-            return request.accept(new ExecutionRequestVisitor(this.state.getClient(), httpClientContext, connection.sourceSpec.url, esNode, this.executionState));
+            return request.accept(new ExecutionRequestVisitor(this.state.getClient(), httpClientContext, connection.sourceSpec.url, esNode, this.executionState, this.state.getPageFetchExecutorService(), this.state.getConfiguration()));
         }
 
         throw new IllegalStateException("should not get here");
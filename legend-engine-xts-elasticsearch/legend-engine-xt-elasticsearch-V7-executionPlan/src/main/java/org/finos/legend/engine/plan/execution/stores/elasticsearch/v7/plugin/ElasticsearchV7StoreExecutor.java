@@ -20,7 +20,17 @@ import org.finos.legend.engine.plan.execution.stores.StoreExecutor;
 
 public class ElasticsearchV7StoreExecutor implements StoreExecutor
 {
-    private final ElasticsearchV7StoreState state = new ElasticsearchV7StoreState();
+    private final ElasticsearchV7StoreState state;
+
+    public ElasticsearchV7StoreExecutor()
+    {
+        this(new ElasticsearchV7StoreState());
+    }
+
+    public ElasticsearchV7StoreExecutor(ElasticsearchV7StoreState state)
+    {
+        this.state = state;
+    }
 
     @Override
     public StoreExecutionState buildStoreExecutionState()
@@ -31,12 +31,16 @@ public class ElasticsearchV7StoreExecutorBuilder implements StoreExecutorBuilder
     @Override
     public StoreExecutor build()
     {
-        return new ElasticsearchV7StoreExecutor();
+        return this.build(ElasticsearchV7StoreExecutorConfiguration.newInstance().build());
     }
 
     @Override
     public StoreExecutor build(StoreExecutorConfiguration storeExecutorConfiguration)
     {
-        return this.build();
+        if (!(storeExecutorConfiguration instanceof ElasticsearchV7StoreExecutorConfiguration))
+        {
+            throw new IllegalStateException("Incorrect store execution configuration, expected ElasticsearchV7StoreExecutorConfiguration. Please reach out to dev team");
+        }
+        return new ElasticsearchV7StoreExecutor(new ElasticsearchV7StoreState((ElasticsearchV7StoreExecutorConfiguration) storeExecutorConfiguration));
     }
 }
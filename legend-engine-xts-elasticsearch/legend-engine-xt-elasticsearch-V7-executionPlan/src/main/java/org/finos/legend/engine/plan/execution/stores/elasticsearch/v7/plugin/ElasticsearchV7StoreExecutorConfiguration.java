@@ -0,0 +1,121 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin;
+
+import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
+import org.finos.legend.engine.plan.execution.stores.StoreType;
+
+public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorConfiguration
+{
+    private int prefetchPages;
+    private int scanSlices;
+    private int scanPageSize;
+    private String scanKeepAlive;
+
+    @Override
+    public StoreType getStoreType()
+    {
+        return StoreType.ESv7;
+    }
+
+    /**
+     * Number of composite aggregation pages requested ahead of the page being read. 0, the default, requests a page only
+     * once the previous one is read.
+     */
+    public int getPrefetchPages()
+    {
+        return this.prefetchPages;
+    }
+
+    /**
+     * Number of slices read concurrently, over a point in time, by searches without aggregations, sort or offset that
+     * ask for more hits than the scan page size. 1 disables sliced scans. Hits of a sliced scan come in no particular
+     * order, and point in time searches need Elasticsearch 7.12 or later.
+     */
+    public int getScanSlices()
+    {
+        return this.scanSlices;
+    }
+
+    public int getScanPageSize()
+    {
+        return this.scanPageSize;
+    }
+
+    public String getScanKeepAlive()
+    {
+        return this.scanKeepAlive;
+    }
+
+    public static Builder newInstance()
+    {
+        return new Builder();
+    }
+
+    public static class Builder
+    {
+        private int prefetchPages = 0;
+        private int scanSlices = 1;
+        private int scanPageSize = 1000;
+        private String scanKeepAlive = "1m";
+
+        public Builder withPrefetchPages(int prefetchPages)
+        {
+            this.prefetchPages = prefetchPages;
+            return this;
+        }
+
+        public Builder withScanSlices(int scanSlices)
+        {
+            this.scanSlices = scanSlices;
+            return this;
+        }
+
+        public Builder withScanPageSize(int scanPageSize)
+        {
+            this.scanPageSize = scanPageSize;
+            return this;
+        }
+
+        public Builder withScanKeepAlive(String scanKeepAlive)
+        {
+            this.scanKeepAlive = scanKeepAlive;
+            return this;
+        }
+
+        public ElasticsearchV7StoreExecutorConfiguration build()
+        {
+            if (this.prefetchPages < 0)
+            {
+                throw new IllegalArgumentException("prefetchPages must not be negative, got " + this.prefetchPages);
+            }
+            if (this.scanSlices < 1)
+            {
+                throw new IllegalArgumentException("scanSlices must be at least 1, got " + this.scanSlices);
+            }
+            if (this.scanPageSize < 1)
+            {
+                throw new IllegalArgumentException("scanPageSize must be at least 1, got " + this.scanPageSize);
+            }
+            ElasticsearchV7StoreExecutorConfiguration configuration = new ElasticsearchV7StoreExecutorConfiguration();
+            configuration.prefetchPages = this.prefetchPages;
+            configuration.scanSlices = this.scanSlices;
+            configuration.scanPageSize = this.scanPageSize;
+            configuration.scanKeepAlive = this.scanKeepAlive;
+            return configuration;
+        }
+    }
+}
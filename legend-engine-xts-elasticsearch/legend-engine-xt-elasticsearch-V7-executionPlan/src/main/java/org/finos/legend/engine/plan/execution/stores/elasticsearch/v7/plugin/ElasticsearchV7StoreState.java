@@ -17,7 +17,10 @@ package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin;
 
 import io.opentracing.contrib.apache.http.client.TracingHttpClientBuilder;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -27,13 +30,41 @@ import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.connection
 
 public class ElasticsearchV7StoreState implements StoreState
 {
+    // connection limits of HttpClientBuilder when none are given
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 2;
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+
     private final List<ElasticsearchHttpContextProvider> providers = ElasticsearchHttpContextProvider.providers();
 
-    private final HttpClient client = TracingHttpClientBuilder.create()
-            .setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout(1000).setSocketTimeout(30000).build())
-            .disableRedirectHandling()
-            .setConnectionTimeToLive(5, TimeUnit.MINUTES)
-            .build();
+    private final ElasticsearchV7StoreExecutorConfiguration configuration;
+    private final HttpClient client;
+    private final ExecutorService pageFetchExecutorService;
+
+    public ElasticsearchV7StoreState()
+    {
+        this(ElasticsearchV7StoreExecutorConfiguration.newInstance().build());
+    }
+
+    public ElasticsearchV7StoreState(ElasticsearchV7StoreExecutorConfiguration configuration)
+    {
+        this.configuration = configuration;
+        // a prefetching result, or each slice of a sliced scan, reads with its own connection
+        int maxConnectionsPerRoute = Math.max(DEFAULT_MAX_CONNECTIONS_PER_ROUTE, configuration.getScanSlices() + 1);
+        this.client = TracingHttpClientBuilder.create()
+                .setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout(1000).setSocketTimeout(30000).build())
+                .disableRedirectHandling()
+                .setConnectionTimeToLive(5, TimeUnit.MINUTES)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setMaxConnTotal(Math.max(DEFAULT_MAX_CONNECTIONS, maxConnectionsPerRoute))
+                .build();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pageFetchExecutorService = Executors.newCachedThreadPool(runnable ->
+        {
+            Thread thread = new Thread(runnable, "elasticsearch-page-fetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     @Override
     public StoreType getStoreType()
@@ -56,4 +87,14 @@ public class ElasticsearchV7StoreState implements StoreState
     {
         return this.client;
     }
+
+    public ElasticsearchV7StoreExecutorConfiguration getConfiguration()
+    {
+        return this.configuration;
+    }
+
+    public ExecutorService getPageFetchExecutorService()
+    {
+        return this.pageFetchExecutorService;
+    }
 }
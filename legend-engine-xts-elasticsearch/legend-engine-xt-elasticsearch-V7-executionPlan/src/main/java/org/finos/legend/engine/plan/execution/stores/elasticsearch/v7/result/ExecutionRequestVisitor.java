@@ -16,17 +16,21 @@
 package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.result;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
 import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
 import io.opentracing.util.GlobalTracer;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -34,6 +38,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -42,12 +48,16 @@ import java.util.stream.StreamSupport;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.io.EmptyInputStream;
 import org.apache.http.util.EntityUtils;
 import org.eclipse.collections.api.block.procedure.Procedure;
-import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.block.function.checked.ThrowingFunction2;
@@ -61,6 +71,7 @@ import org.finos.legend.engine.plan.execution.result.TDSResult;
 import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.ElasticsearchExecutionLoggingEventType;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.http.ElasticsearchV7RequestToHttpRequestVisitor;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorConfiguration;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
 import org.finos.legend.engine.protocol.store.elasticsearch.specification.utils.ExternalTaggedUnionMap;
@@ -108,14 +119,23 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
     private final Elasticsearch7RequestExecutionNode node;
     private final ExecutionState executionState;
     private final URI url;
+    private final ExecutorService pageFetchExecutorService;
+    private final ElasticsearchV7StoreExecutorConfiguration configuration;
 
     public ExecutionRequestVisitor(HttpClient client, HttpClientContext httpClientContext, URI url, Elasticsearch7RequestExecutionNode esNode, ExecutionState executionState)
+    {
+        this(client, httpClientContext, url, esNode, executionState, null, ElasticsearchV7StoreExecutorConfiguration.newInstance().build());
+    }
+
+    public ExecutionRequestVisitor(HttpClient client, HttpClientContext httpClientContext, URI url, Elasticsearch7RequestExecutionNode esNode, ExecutionState executionState, ExecutorService pageFetchExecutorService, ElasticsearchV7StoreExecutorConfiguration configuration)
     {
         this.client = client;
         this.httpClientContext = httpClientContext;
         this.url = url;
         this.node = esNode;
         this.executionState = executionState;
+        this.pageFetchExecutorService = pageFetchExecutorService;
+        this.configuration = configuration;
     }
 
     @Override
@@ -132,9 +152,10 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         Span span = GlobalTracer.get().buildSpan("Elasticsearch Request").start();
         Scope scope = GlobalTracer.get().activateSpan(span);
 
-        List<ExecutionActivity> activities = Lists.mutable.empty();
+        // pages fetched ahead add their activities from page fetching threads
+        List<ExecutionActivity> activities = new CopyOnWriteArrayList<>();
 
-        ElasticsearchResultSpliterator spliterator = new ElasticsearchResultSpliterator(val, activities);
+        ElasticsearchResultSpliterator spliterator = new ElasticsearchResultSpliterator(val, activities, span);
 
         Stream<Object[]> stream = StreamSupport.stream(spliterator, false)
                 .flatMap(Function.identity())
@@ -364,6 +385,11 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
     }
 
     private InputStream post(HttpUriRequest request, Span span, long startTime) throws IOException
+    {
+        return this.execute(request, span, startTime).getEntity().getContent();
+    }
+
+    private HttpResponse execute(HttpUriRequest request, Span span, long startTime) throws IOException
     {
         request.addHeader("X-Opaque-Id", String.format("alloy-exec-%s", this.executionState.execID));
         request.addHeader("traceparent", String.format("00-%s-%s-01", span.context().toTraceId(), span.context().toSpanId()));
@@ -388,8 +414,61 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         else
         {
             LOGGER.info("{}", new LogInfo(ElasticsearchExecutionLoggingEventType.EXECUTION_ELASTICSEARCH_STOP, this.executionState.authId, null, System.currentTimeMillis() - startTime));
-            return httpResponse.getEntity().getContent();
+            return httpResponse;
+        }
+    }
+
+    private static Map<String, FieldValue> compositeAfterKey(byte[] content, String aggregationName) throws IOException
+    {
+        // only full pages are followed by another page
+        FilteringParserDelegate bucketsParser = new FilteringParserDelegate(ElasticsearchObjectMapperProvider.OBJECT_MAPPER.getFactory().createParser(content), new JsonPointerBasedFilter("/aggregations/composite#" + aggregationName + "/buckets"), false, false);
+        long buckets = 0L;
+        if (bucketsParser.nextToken() == JsonToken.START_ARRAY)
+        {
+            while (bucketsParser.nextToken() == JsonToken.START_OBJECT)
+            {
+                buckets++;
+                bucketsParser.skipChildren();
+            }
+        }
+        if (buckets < ElasticsearchResultSpliterator.MAX_COMPOSITE_BUCKETS_PER_REQUEST)
+        {
+            return null;
+        }
+
+        FilteringParserDelegate afterKeyParser = new FilteringParserDelegate(ElasticsearchObjectMapperProvider.OBJECT_MAPPER.getFactory().createParser(content), new JsonPointerBasedFilter("/aggregations/composite#" + aggregationName + "/after_key"), false, false);
+        return afterKeyParser.readValueAs(new TypeReference<Map<String, FieldValue>>()
+        {
+        });
+    }
+
+    private static JsonNode lastHitSort(byte[] content, long pageSize) throws IOException
+    {
+        // only full pages are followed by another page
+        FilteringParserDelegate hitsParser = new FilteringParserDelegate(ElasticsearchObjectMapperProvider.OBJECT_MAPPER.getFactory().createParser(content), new JsonPointerBasedFilter("/hits/hits"), false, false);
+        long hits = 0L;
+        JsonNode sort = null;
+        if (hitsParser.nextToken() == JsonToken.START_ARRAY)
+        {
+            while (hitsParser.nextToken() == JsonToken.START_OBJECT)
+            {
+                hits++;
+                while (hitsParser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String fieldName = hitsParser.getCurrentName();
+                    hitsParser.nextToken();
+                    if ("sort".equals(fieldName))
+                    {
+                        sort = hitsParser.readValueAsTree();
+                    }
+                    else
+                    {
+                        hitsParser.skipChildren();
+                    }
+                }
+            }
         }
+        return (hits < pageSize) ? null : sort;
     }
 
     private static class MultiBucketKeyVisitor extends AbstractMultiBucketBaseVisitor<Object>
@@ -477,16 +556,22 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 
         private final SearchRequest searchRequest;
         private final List<ExecutionActivity> activities;
+        private final Span parentSpan;
         private boolean closed = false;
         private InputStream currInputStream = EmptyInputStream.INSTANCE;
         private MultiBucketBase lastBucket = null;
         private long totalBuckets = 0L;
+        private PrefetchedResponsePages prefetchedPages = null;
+        private ThrowingFunction2<JsonParser, Span, Iterator<Object[]>> prefetchedPageProcessor = null;
+        private long remainingRows = Long.MAX_VALUE;
+        private String pointInTimeId = null;
 
-        private ElasticsearchResultSpliterator(SearchRequest searchRequest, List<ExecutionActivity> activities)
+        private ElasticsearchResultSpliterator(SearchRequest searchRequest, List<ExecutionActivity> activities, Span parentSpan)
         {
             super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE);
             this.searchRequest = searchRequest;
             this.activities = activities;
+            this.parentSpan = parentSpan;
         }
 
         @Override
@@ -494,6 +579,11 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         {
             if (!this.closed)
             {
+                if (this.prefetchedPages != null)
+                {
+                    return this.readPrefetchedPage(action);
+                }
+
                 // close previous, just in case...
                 this.closeCurrentInputStream();
 
@@ -539,6 +629,12 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
                             {
                                 Assert.assertTrue(aggregationContainer.composite.size == null, () -> "Limit/Take on group by not supported yet");
                                 aggregationContainer.composite.size = LiteralOrExpression.literal(MAX_COMPOSITE_BUCKETS_PER_REQUEST);
+
+                                if (ExecutionRequestVisitor.this.configuration.getPrefetchPages() > 0)
+                                {
+                                    this.prefetchCompositePages(aggregationContainerEntry.getKey(), aggregationContainer, processor);
+                                    return this.readPrefetchedPage(action);
+                                }
                             }
                         }
                         else if (aggregationContainer.terms != null)
@@ -583,6 +679,16 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
                 HttpUriRequest request = this.searchRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url, ExecutionRequestVisitor.this.executionState));
                 String query = ((HttpEntityEnclosingRequest) request).getEntity().toString();
 
+                if (!isAggregation && ExecutionRequestVisitor.this.configuration.getScanSlices() > 1)
+                {
+                    ObjectNode scanBody = this.toSlicedScanBody(query);
+                    if (scanBody != null)
+                    {
+                        this.scanSlices(scanBody, processor);
+                        return this.readPrefetchedPage(action);
+                    }
+                }
+
                 ElasticsearchV7ExecutionActivity executionActivity = new ElasticsearchV7ExecutionActivity(request.getURI(), query);
                 this.activities.add(executionActivity);
 
@@ -620,9 +726,250 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         public void close()
         {
             closeCurrentInputStream();
+            this.closePrefetchedPages();
             this.closed = true;
         }
 
+        private boolean readPrefetchedPage(Consumer<? super Stream<Object[]>> action)
+        {
+            if (this.remainingRows <= 0)
+            {
+                // got all the hits asked for, stop fetching slices
+                this.closePrefetchedPages();
+                return false;
+            }
+
+            PrefetchedResponsePages.Page page;
+            try
+            {
+                page = this.prefetchedPages.take();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new EngineException("Interrupted while waiting for Elasticsearch response", e, ExceptionCategory.SERVER_EXECUTION_ERROR);
+            }
+
+            if (page == null)
+            {
+                this.closePointInTime();
+                return false;
+            }
+
+            if (page.getFailure() != null)
+            {
+                throw new EngineException((page.getQuery() == null) ? "Error while executing query" : "Error while executing query: " + page.getQuery(), page.getFailure(), ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+
+            Span span = page.getSpan();
+            try (Scope ignore = GlobalTracer.get().activateSpan(span))
+            {
+                JsonParser parser = toResponseBodyJsonParser(new ByteArrayInputStream(page.getContent()), span);
+
+                Iterator<Object[]> stream = this.limitRows(this.prefetchedPageProcessor.safeValue(parser, span));
+
+                action.accept(StreamSupport.stream(Spliterators.spliteratorUnknownSize(stream, Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED), false));
+
+                return true;
+            }
+            catch (Exception e)
+            {
+                throw new EngineException("Error while executing query: " + page.getQuery(), e, ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+            finally
+            {
+                span.finish();
+            }
+        }
+
+        private Iterator<Object[]> limitRows(Iterator<Object[]> rows)
+        {
+            if (this.remainingRows == Long.MAX_VALUE)
+            {
+                return rows;
+            }
+            return new Iterator<Object[]>()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return (ElasticsearchResultSpliterator.this.remainingRows > 0) && rows.hasNext();
+                }
+
+                @Override
+                public Object[] next()
+                {
+                    ElasticsearchResultSpliterator.this.remainingRows--;
+                    return rows.next();
+                }
+            };
+        }
+
+        private void prefetchCompositePages(String aggregationName, AggregationContainer aggregationContainer, ThrowingFunction2<JsonParser, Span, Iterator<Object[]>> processor)
+        {
+            this.prefetchedPageProcessor = processor;
+            this.prefetchedPages = new PrefetchedResponsePages(ExecutionRequestVisitor.this.pageFetchExecutorService, ExecutionRequestVisitor.this.configuration.getPrefetchPages());
+            // the next page is requested with the after key of the current one, as soon as it is fetched
+            this.prefetchedPages.start(Collections.singletonList(pages ->
+            {
+                Map<String, FieldValue> afterKey;
+                do
+                {
+                    HttpUriRequest request = this.searchRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url, ExecutionRequestVisitor.this.executionState));
+                    PrefetchedResponsePages.Page page = this.fetchPage(pages, request, ((HttpEntityEnclosingRequest) request).getEntity().toString());
+                    afterKey = (page.getFailure() == null) ? compositeAfterKey(page.getContent(), aggregationName) : null;
+                    if (!pages.put(page))
+                    {
+                        return;
+                    }
+                    aggregationContainer.composite.after = afterKey;
+                }
+                while (afterKey != null);
+            }));
+        }
+
+        private ObjectNode toSlicedScanBody(String query)
+        {
+            try
+            {
+                ObjectNode body = (ObjectNode) ElasticsearchObjectMapperProvider.OBJECT_MAPPER.readTree(query);
+                JsonNode size = body.path("size");
+                boolean scannable = size.isIntegralNumber() && size.canConvertToLong() && (size.asLong() > ExecutionRequestVisitor.this.configuration.getScanPageSize())
+                        && (body.path("from").asLong(0L) == 0L)
+                        && !body.has("sort") && !body.has("search_after") && !body.has("pit") && !body.has("slice") && !body.has("aggregations") && !body.has("aggs");
+                return scannable ? body : null;
+            }
+            catch (IOException e)
+            {
+                throw new EngineException("Error while executing query: " + query, e, ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+        }
+
+        private void scanSlices(ObjectNode body, ThrowingFunction2<JsonParser, Span, Iterator<Object[]>> processor)
+        {
+            ElasticsearchV7StoreExecutorConfiguration configuration = ExecutionRequestVisitor.this.configuration;
+            int slices = configuration.getScanSlices();
+            long pageSize = Math.min(configuration.getScanPageSize(), body.get("size").asLong());
+
+            this.prefetchedPageProcessor = processor;
+            this.remainingRows = body.get("size").asLong();
+            this.pointInTimeId = this.openPointInTime(configuration.getScanKeepAlive());
+
+            List<PrefetchedResponsePages.Producer> producers = new ArrayList<>(slices);
+            for (int i = 0; i < slices; i++)
+            {
+                ObjectNode sliceBody = body.deepCopy();
+                sliceBody.put("size", pageSize);
+                sliceBody.putObject("pit").put("id", this.pointInTimeId).put("keep_alive", configuration.getScanKeepAlive());
+                sliceBody.putObject("slice").put("id", i).put("max", slices);
+                sliceBody.putArray("sort").add("_shard_doc");
+                producers.add(pages -> this.scanSlice(pages, sliceBody, pageSize));
+            }
+
+            this.prefetchedPages = new PrefetchedResponsePages(ExecutionRequestVisitor.this.pageFetchExecutorService, Math.max(configuration.getPrefetchPages(), slices));
+            this.prefetchedPages.start(producers);
+        }
+
+        private void scanSlice(PrefetchedResponsePages pages, ObjectNode sliceBody, long pageSize) throws IOException
+        {
+            // pages of a slice follow the sort values of the last hit of the previous page
+            JsonNode searchAfter;
+            do
+            {
+                String query = ElasticsearchObjectMapperProvider.OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(sliceBody);
+                HttpPost request = new HttpPost(ExecutionRequestVisitor.this.url + "/_search?typed_keys=true");
+                request.setEntity(new StringEntity(query, ContentType.APPLICATION_JSON));
+                PrefetchedResponsePages.Page page = this.fetchPage(pages, request, query);
+                searchAfter = (page.getFailure() == null) ? lastHitSort(page.getContent(), pageSize) : null;
+                if (!pages.put(page))
+                {
+                    return;
+                }
+                sliceBody.set("search_after", searchAfter);
+            }
+            while (searchAfter != null);
+        }
+
+        // called on page fetching threads
+        private PrefetchedResponsePages.Page fetchPage(PrefetchedResponsePages pages, HttpUriRequest request, String query)
+        {
+            ElasticsearchV7ExecutionActivity executionActivity = new ElasticsearchV7ExecutionActivity(request.getURI(), query);
+            this.activities.add(executionActivity);
+
+            Span span = GlobalTracer.get().buildSpan("Elasticsearch Request Execution").asChildOf(this.parentSpan).start();
+            try (Scope ignore = GlobalTracer.get().activateSpan(span))
+            {
+                span.log(Collections.singletonMap("query", query));
+                long start = System.currentTimeMillis();
+                LOGGER.info("{}", new LogInfo(ElasticsearchExecutionLoggingEventType.EXECUTION_ELASTICSEARCH_START, ExecutionRequestVisitor.this.executionState.authId, query));
+                pages.sending(request);
+                try
+                {
+                    // read the whole response, so that the connection is released while the page waits to be read
+                    return PrefetchedResponsePages.Page.of(EntityUtils.toByteArray(ExecutionRequestVisitor.this.execute(request, span, start).getEntity()), query, span);
+                }
+                finally
+                {
+                    pages.sent(request);
+                }
+            }
+            catch (Exception e)
+            {
+                span.finish();
+                return PrefetchedResponsePages.Page.failed(query, e);
+            }
+        }
+
+        private String openPointInTime(String keepAlive)
+        {
+            String index = ElasticsearchV7RequestToHttpRequestVisitor.indexName(this.searchRequest.index, ExecutionRequestVisitor.this.executionState);
+            HttpPost request = new HttpPost(ExecutionRequestVisitor.this.url + "/" + index + "/_pit?keep_alive=" + keepAlive);
+            try (InputStream content = ExecutionRequestVisitor.this.post(request, this.parentSpan, System.currentTimeMillis()))
+            {
+                return ElasticsearchObjectMapperProvider.OBJECT_MAPPER.readTree(content).get("id").asText();
+            }
+            catch (IOException e)
+            {
+                throw new EngineException("Error while opening point in time on " + index, e, ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+        }
+
+        private void closePointInTime()
+        {
+            if (this.pointInTimeId != null)
+            {
+                HttpEntityEnclosingRequestBase request = new HttpEntityEnclosingRequestBase()
+                {
+                    @Override
+                    public String getMethod()
+                    {
+                        return HttpDelete.METHOD_NAME;
+                    }
+                };
+                request.setURI(URI.create(ExecutionRequestVisitor.this.url + "/_pit"));
+                request.setEntity(new StringEntity(ElasticsearchObjectMapperProvider.OBJECT_MAPPER.createObjectNode().put("id", this.pointInTimeId).toString(), ContentType.APPLICATION_JSON));
+                this.pointInTimeId = null;
+                try
+                {
+                    EntityUtils.consume(ExecutionRequestVisitor.this.execute(request, this.parentSpan, System.currentTimeMillis()).getEntity());
+                }
+                catch (Exception e)
+                {
+                    // the point in time expires after its keep alive anyway
+                    LOGGER.warn("Failed to close Elasticsearch point in time", e);
+                }
+            }
+        }
+
+        private void closePrefetchedPages()
+        {
+            if (this.prefetchedPages != null)
+            {
+                this.prefetchedPages.close();
+                this.closePointInTime();
+            }
+        }
+
         private void closeCurrentInputStream()
         {
             try
@@ -0,0 +1,244 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.result;
+
+import io.opentracing.Span;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Bounded buffer of response pages, fetched ahead of the reader by producers running on an executor service.
+ * <p>
+ * Producers block once the buffer is full, so at most the buffered pages, the page being read and one page per
+ * producer are held in memory. Pages of a producer are read in the order they were fetched; pages of different
+ * producers interleave. A failing producer hands its failure over as a page, so that it is raised on the reading
+ * thread.
+ */
+class PrefetchedResponsePages implements AutoCloseable
+{
+    private static final Page END = new Page(null, null, null, null);
+
+    private final ExecutorService executorService;
+    private final BlockingQueue<Page> pages;
+    private final List<Future<?>> producers = new CopyOnWriteArrayList<>();
+    private final List<HttpUriRequest> requests = new CopyOnWriteArrayList<>();
+    private int runningProducers = 0;
+    private boolean ended = false;
+    private volatile boolean closed = false;
+
+    PrefetchedResponsePages(ExecutorService executorService, int bufferedPages)
+    {
+        this.executorService = executorService;
+        this.pages = new ArrayBlockingQueue<>(Math.max(1, bufferedPages));
+    }
+
+    /**
+     * Starts all producers at once, so that the end of the pages is only reached once all of them are done.
+     */
+    void start(List<Producer> producers)
+    {
+        synchronized (this)
+        {
+            this.runningProducers = producers.size();
+        }
+        for (Producer producer : producers)
+        {
+            this.producers.add(this.executorService.submit(() -> this.run(producer)));
+        }
+    }
+
+    /**
+     * The next page, waiting for it to be fetched, or null once all producers are done.
+     */
+    Page take() throws InterruptedException
+    {
+        if (this.ended)
+        {
+            return null;
+        }
+        Page page = this.pages.take();
+        if (page == END)
+        {
+            this.ended = true;
+            return null;
+        }
+        return page;
+    }
+
+    boolean isClosed()
+    {
+        return this.closed;
+    }
+
+    /**
+     * Registers a request being sent by a producer, so that it can be aborted on close.
+     */
+    void sending(HttpUriRequest request)
+    {
+        this.requests.add(request);
+        if (this.closed)
+        {
+            request.abort();
+        }
+    }
+
+    void sent(HttpUriRequest request)
+    {
+        this.requests.remove(request);
+    }
+
+    /**
+     * Hands a page over to the reader, waiting for room in the buffer. Returns false if the pages were closed, in
+     * which case the producer should stop.
+     */
+    boolean put(Page page)
+    {
+        try
+        {
+            while (!this.closed)
+            {
+                if (this.pages.offer(page, 100, TimeUnit.MILLISECONDS))
+                {
+                    if (this.closed)
+                    {
+                        // closed while the page was handed over, after the buffer was drained: it will never be read
+                        this.finishBufferedPages();
+                        return false;
+                    }
+                    return true;
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        page.finishSpan();
+        return false;
+    }
+
+    @Override
+    public void close()
+    {
+        this.closed = true;
+        this.producers.forEach(producer -> producer.cancel(true));
+        this.requests.forEach(HttpUriRequest::abort);
+        this.finishBufferedPages();
+    }
+
+    // pages are polled, so that each buffered page is finished once when producers and close drain concurrently
+    private void finishBufferedPages()
+    {
+        Page page;
+        while ((page = this.pages.poll()) != null)
+        {
+            page.finishSpan();
+        }
+    }
+
+    private void run(Producer producer)
+    {
+        try
+        {
+            producer.produce(this);
+        }
+        catch (Exception e)
+        {
+            this.put(Page.failed(null, e));
+        }
+        finally
+        {
+            boolean last;
+            synchronized (this)
+            {
+                last = --this.runningProducers == 0;
+            }
+            if (last)
+            {
+                this.put(END);
+            }
+        }
+    }
+
+    interface Producer
+    {
+        /**
+         * Fetches pages and hands them over with {@link PrefetchedResponsePages#put}, until there are no more pages
+         * or the put fails.
+         */
+        void produce(PrefetchedResponsePages pages) throws Exception;
+    }
+
+    static class Page
+    {
+        private final byte[] content;
+        private final String query;
+        private final Span span;
+        private final Exception failure;
+
+        private Page(byte[] content, String query, Span span, Exception failure)
+        {
+            this.content = content;
+            this.query = query;
+            this.span = span;
+            this.failure = failure;
+        }
+
+        static Page of(byte[] content, String query, Span span)
+        {
+            return new Page(content, query, span, null);
+        }
+
+        static Page failed(String query, Exception failure)
+        {
+            return new Page(null, query, null, failure);
+        }
+
+        byte[] getContent()
+        {
+            return this.content;
+        }
+
+        String getQuery()
+        {
+            return this.query;
+        }
+
+        Span getSpan()
+        {
+            return this.span;
+        }
+
+        Exception getFailure()
+        {
+            return this.failure;
+        }
+
+        void finishSpan()
+        {
+            if (this.span != null)
+            {
+                this.span.finish();
+            }
+        }
+    }
+}
@@ -0,0 +1,429 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.result;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.TDSResult;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorConfiguration;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.executionPlan.Elasticsearch7RequestExecutionNode;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.executionPlan.tds.TDSColumnResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.executionPlan.tds.TDSMetadata;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.AggregateResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.ResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.SourceFieldResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.LiteralOrExpression;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.SearchRequest;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.SearchRequestBody;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.AggregationContainer;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.CompositeAggregation;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestExecutionRequestVisitor
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String POINT_IN_TIME_ID = "pit-1";
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private volatile Function<RecordedRequest, StubResponse> responder;
+    private HttpServer server;
+    private CloseableHttpClient client;
+    private URI url;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(this.executorService);
+        this.server.createContext("/", exchange ->
+        {
+            try
+            {
+                byte[] body = readAll(exchange.getRequestBody());
+                RecordedRequest request = new RecordedRequest(exchange.getRequestMethod(), exchange.getRequestURI().toString(), (body.length == 0) ? MAPPER.missingNode() : MAPPER.readTree(body));
+                this.requests.add(request);
+                StubResponse response = this.responder.apply(request);
+                byte[] content = response.body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(response.status, content.length);
+                try (OutputStream out = exchange.getResponseBody())
+                {
+                    out.write(content);
+                }
+            }
+            finally
+            {
+                exchange.close();
+            }
+        });
+        this.server.start();
+        this.url = URI.create("http://localhost:" + this.server.getAddress().getPort());
+        this.client = HttpClients.createDefault();
+    }
+
+    @After
+    public void tearDown() throws IOException
+    {
+        this.client.close();
+        this.server.stop(0);
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void testCompositePagesAreRequestedAfterEachOther()
+    {
+        assertCompositePagesAreFollowed(ElasticsearchV7StoreExecutorConfiguration.newInstance().build());
+    }
+
+    @Test
+    public void testCompositePagesArePrefetched()
+    {
+        assertCompositePagesAreFollowed(ElasticsearchV7StoreExecutorConfiguration.newInstance().withPrefetchPages(2).build());
+    }
+
+    @Test
+    public void testFailedCompositePageIsReported()
+    {
+        for (int prefetchPages : new int[]{0, 1})
+        {
+            this.requests.clear();
+            this.responder = request -> request.body.path("aggregations").path("groupBy").path("composite").has("after")
+                    ? StubResponse.error(500, "{\"error\":\"shard failure\"}")
+                    : StubResponse.ok(compositePage(request, 2500));
+
+            EngineException e = Assert.assertThrows(EngineException.class, () -> this.readRows(compositeRequest(), compositeNode(), ElasticsearchV7StoreExecutorConfiguration.newInstance().withPrefetchPages(prefetchPages).build()));
+
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Error while executing query: "));
+            Assert.assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("shard failure"));
+            Assert.assertEquals(2, this.searchRequests().size());
+        }
+    }
+
+    @Test
+    public void testSlicedScanReadsAllSlices()
+    {
+        this.responder = request -> this.scanResponse(request, 150);
+
+        List<Object> names = this.readRows(searchRequest(1000L), sourceNode(), scanConfiguration());
+
+        Set<Object> expected = IntStream.range(0, 150).boxed().flatMap(i -> Lists.mutable.with("s0-" + i, "s1-" + i).stream()).collect(Collectors.toSet());
+        Assert.assertEquals(300, names.size());
+        Assert.assertEquals(expected, new HashSet<>(names));
+
+        Assert.assertEquals(new RecordedRequest("POST", "/index1/_pit?keep_alive=1m", MAPPER.missingNode()).toString(), this.requests.get(0).toString());
+        List<RecordedRequest> searches = this.searchRequests();
+        Assert.assertEquals(4, searches.size());
+        for (RecordedRequest search : searches)
+        {
+            Assert.assertEquals("/_search?typed_keys=true", search.uri);
+            Assert.assertEquals(POINT_IN_TIME_ID, search.body.path("pit").path("id").asText());
+            Assert.assertEquals(2, search.body.path("slice").path("max").asInt());
+            Assert.assertEquals("[\"_shard_doc\"]", search.body.path("sort").toString());
+            Assert.assertEquals(100, search.body.path("size").asInt());
+        }
+        // the second page of each slice follows the sort values of the last hit of the first page
+        Assert.assertEquals(
+                Lists.mutable.with("slice 0 after [99]", "slice 0 from start", "slice 1 after [99]", "slice 1 from start"),
+                Lists.mutable.withAll(searches).collect(s -> "slice " + s.body.path("slice").path("id").asInt() + (s.body.has("search_after") ? " after " + s.body.get("search_after") : " from start")).sortThis());
+        assertPointInTimeClosed();
+    }
+
+    @Test
+    public void testSlicedScanResolvesIndexExpression()
+    {
+        this.responder = request -> this.scanResponse(request, 150);
+        SearchRequest searchRequest = searchRequest(1000L);
+        searchRequest.index = Collections.singletonList(LiteralOrExpression.expression("${indexName?json_string?ensure_starts_with('\"')?ensure_ends_with('\"')}"));
+        ExecutionState state = new ExecutionState(Maps.mutable.with("indexName", new ConstantResult("index1")), Lists.mutable.empty(), Lists.mutable.empty());
+
+        List<Object> names = this.readRows(searchRequest, sourceNode(), scanConfiguration(), state);
+
+        Assert.assertEquals(300, names.size());
+        Assert.assertEquals(new RecordedRequest("POST", "/index1/_pit?keep_alive=1m", MAPPER.missingNode()).toString(), this.requests.get(0).toString());
+        assertPointInTimeClosed();
+    }
+
+    @Test
+    public void testSlicedScanStopsAtRequestedSize()
+    {
+        this.responder = request -> this.scanResponse(request, 10_000);
+
+        List<Object> names = this.readRows(searchRequest(250L), sourceNode(), scanConfiguration());
+
+        Assert.assertEquals(250, names.size());
+        // the slices hold 200 pages, only the pages read and buffered are fetched
+        Assert.assertTrue(this.searchRequests().size() + " pages fetched", this.searchRequests().size() < 10);
+        assertPointInTimeClosed();
+    }
+
+    @Test
+    public void testFailedSlicePageIsReportedAndPointInTimeClosed()
+    {
+        this.responder = request -> (request.body.path("slice").path("id").asInt() == 1)
+                ? StubResponse.error(500, "{\"error\":\"shard failure\"}")
+                : this.scanResponse(request, 150);
+
+        EngineException e = Assert.assertThrows(EngineException.class, () -> this.readRows(searchRequest(1000L), sourceNode(), scanConfiguration()));
+
+        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Error while executing query: "));
+        Assert.assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("shard failure"));
+        assertPointInTimeClosed();
+    }
+
+    private void assertCompositePagesAreFollowed(ElasticsearchV7StoreExecutorConfiguration configuration)
+    {
+        this.responder = request -> StubResponse.ok(compositePage(request, 2500));
+
+        List<Object> names = this.readRows(compositeRequest(), compositeNode(), configuration);
+
+        Assert.assertEquals(IntStream.range(0, 2500).mapToObj(TestExecutionRequestVisitor::bucketName).collect(Collectors.toList()), names);
+        List<RecordedRequest> searches = this.searchRequests();
+        Assert.assertEquals(3, searches.size());
+        Assert.assertEquals(Arrays.asList(null, "n0999", "n1999"), searches.stream().map(s ->
+        {
+            JsonNode composite = s.body.path("aggregations").path("groupBy").path("composite");
+            Assert.assertEquals(1000, composite.path("size").asInt());
+            return composite.has("after") ? composite.path("after").path("name").asText() : null;
+        }).collect(Collectors.toList()));
+    }
+
+    private void assertPointInTimeClosed()
+    {
+        List<RecordedRequest> closes = this.requests.stream().filter(r -> "DELETE".equals(r.method)).collect(Collectors.toList());
+        Assert.assertEquals(1, closes.size());
+        Assert.assertEquals("/_pit", closes.get(0).uri);
+        Assert.assertEquals(POINT_IN_TIME_ID, closes.get(0).body.path("id").asText());
+    }
+
+    private List<Object> readRows(SearchRequest searchRequest, Elasticsearch7RequestExecutionNode node, ElasticsearchV7StoreExecutorConfiguration configuration)
+    {
+        return this.readRows(searchRequest, node, configuration, new ExecutionState(Maps.mutable.empty(), Lists.mutable.empty(), Lists.mutable.empty()));
+    }
+
+    private List<Object> readRows(SearchRequest searchRequest, Elasticsearch7RequestExecutionNode node, ElasticsearchV7StoreExecutorConfiguration configuration, ExecutionState state)
+    {
+        ExecutionRequestVisitor visitor = new ExecutionRequestVisitor(this.client, HttpClientContext.create(), this.url, node, state, this.executorService, configuration);
+        try (TDSResult result = (TDSResult) searchRequest.accept(visitor))
+        {
+            return result.rowsStream().map(row -> row[0]).collect(Collectors.toList());
+        }
+    }
+
+    private List<RecordedRequest> searchRequests()
+    {
+        return this.requests.stream().filter(r -> r.uri.contains("/_search")).collect(Collectors.toList());
+    }
+
+    private StubResponse scanResponse(RecordedRequest request, int hitsPerSlice)
+    {
+        if (request.uri.startsWith("/index1/_pit"))
+        {
+            return StubResponse.ok(MAPPER.createObjectNode().put("id", POINT_IN_TIME_ID));
+        }
+        if ("DELETE".equals(request.method))
+        {
+            return StubResponse.ok(MAPPER.createObjectNode().put("succeeded", true).put("num_freed", 1));
+        }
+
+        int slice = request.body.path("slice").path("id").asInt();
+        int start = request.body.has("search_after") ? (request.body.get("search_after").get(0).asInt() + 1) : 0;
+        int end = Math.min(start + request.body.path("size").asInt(), hitsPerSlice);
+        ObjectNode response = response(hitsPerSlice);
+        ArrayNode hits = response.with("hits").putArray("hits");
+        for (int i = start; i < end; i++)
+        {
+            ObjectNode hit = hits.addObject().put("_index", "index1").put("_id", slice + "-" + i);
+            hit.putObject("_source").put("name", "s" + slice + "-" + i);
+            hit.putArray("sort").add(i);
+        }
+        return StubResponse.ok(response);
+    }
+
+    private static ObjectNode compositePage(RecordedRequest request, int buckets)
+    {
+        JsonNode after = request.body.path("aggregations").path("groupBy").path("composite").path("after").path("name");
+        int start = after.isMissingNode() ? 0 : (Integer.parseInt(after.asText().substring(1)) + 1);
+        int end = Math.min(start + 1000, buckets);
+
+        ObjectNode response = response(buckets);
+        response.with("hits").putArray("hits");
+        ObjectNode composite = response.putObject("aggregations").putObject("composite#groupBy");
+        composite.putObject("after_key").put("name", bucketName(end - 1));
+        ArrayNode bucketNodes = composite.putArray("buckets");
+        for (int i = start; i < end; i++)
+        {
+            ObjectNode bucket = bucketNodes.addObject();
+            bucket.putObject("key").put("name", bucketName(i));
+            bucket.put("doc_count", 1);
+        }
+        return response;
+    }
+
+    private static ObjectNode response(long totalHits)
+    {
+        ObjectNode response = MAPPER.createObjectNode().put("took", 1).put("timed_out", false);
+        response.putObject("_shards").put("total", 1).put("successful", 1).put("skipped", 0).put("failed", 0);
+        response.putObject("hits").putObject("total").put("value", totalHits).put("relation", "eq");
+        return response;
+    }
+
+    private static String bucketName(int i)
+    {
+        return String.format("n%04d", i);
+    }
+
+    private static SearchRequest searchRequest(long size)
+    {
+        SearchRequest request = new SearchRequest();
+        request.index = Collections.singletonList(LiteralOrExpression.literal("index1"));
+        request.body = new SearchRequestBody();
+        request.body.size = LiteralOrExpression.literal(size);
+        return request;
+    }
+
+    private static SearchRequest compositeRequest()
+    {
+        AggregationContainer groupBy = new AggregationContainer();
+        groupBy.composite = new CompositeAggregation();
+
+        SearchRequest request = searchRequest(0L);
+        request.body.aggregations.put("groupBy", groupBy);
+        return request;
+    }
+
+    private static Elasticsearch7RequestExecutionNode sourceNode()
+    {
+        return node(new SourceFieldResultPath());
+    }
+
+    private static Elasticsearch7RequestExecutionNode compositeNode()
+    {
+        return node(new AggregateResultPath());
+    }
+
+    private static Elasticsearch7RequestExecutionNode node(ResultPath resultPath)
+    {
+        resultPath.fieldPath = Collections.singletonList("name");
+        TDSColumnResultPath columnResultPath = new TDSColumnResultPath();
+        columnResultPath.index = 0L;
+        columnResultPath.resultPath = resultPath;
+        TDSMetadata metadata = new TDSMetadata();
+        metadata.columnResultPaths = Collections.singletonList(columnResultPath);
+
+        TDSResultType resultType = new TDSResultType();
+        resultType.tdsColumns = Collections.singletonList(new TDSColumn("name", "String"));
+
+        Elasticsearch7RequestExecutionNode node = new Elasticsearch7RequestExecutionNode();
+        node.resultType = resultType;
+        node.metadata = metadata;
+        return node;
+    }
+
+    private static ElasticsearchV7StoreExecutorConfiguration scanConfiguration()
+    {
+        return ElasticsearchV7StoreExecutorConfiguration.newInstance().withScanSlices(2).withScanPageSize(100).build();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+        {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static class RecordedRequest
+    {
+        private final String method;
+        private final String uri;
+        private final JsonNode body;
+
+        private RecordedRequest(String method, String uri, JsonNode body)
+        {
+            this.method = method;
+            this.uri = uri;
+            this.body = body;
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.method + " " + this.uri + " " + this.body;
+        }
+    }
+
+    private static class StubResponse
+    {
+        private final int status;
+        private final String body;
+
+        private StubResponse(int status, String body)
+        {
+            this.status = status;
+            this.body = body;
+        }
+
+        private static StubResponse ok(JsonNode body)
+        {
+            return new StubResponse(200, body.toString());
+        }
+
+        private static StubResponse error(int status, String body)
+        {
+            return new StubResponse(status, body);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.result;
+
+import io.opentracing.Span;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestPrefetchedResponsePages
+{
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void testPagesAreReadInOrderWithBoundedPrefetch() throws Exception
+    {
+        AtomicInteger fetched = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        AtomicInteger read = new AtomicInteger();
+        try (PrefetchedResponsePages pages = new PrefetchedResponsePages(this.executorService, 2))
+        {
+            pages.start(Collections.singletonList(p ->
+            {
+                for (int i = 0; i < 10; i++)
+                {
+                    int ahead = fetched.incrementAndGet() - read.get();
+                    maxAhead.accumulateAndGet(ahead, Math::max);
+                    if (!p.put(page("page" + i)))
+                    {
+                        return;
+                    }
+                }
+            }));
+
+            List<String> contents = new ArrayList<>();
+            PrefetchedResponsePages.Page page;
+            while ((page = pages.take()) != null)
+            {
+                // slow reader, so that the producer runs into the bound
+                Thread.sleep(5);
+                contents.add(new String(page.getContent(), StandardCharsets.UTF_8));
+                read.incrementAndGet();
+            }
+
+            Assert.assertEquals(Arrays.asList("page0", "page1", "page2", "page3", "page4", "page5", "page6", "page7", "page8", "page9"), contents);
+            // two buffered pages, the page being read and the page being fetched
+            Assert.assertTrue("fetched " + maxAhead.get() + " pages ahead", maxAhead.get() <= 4);
+            Assert.assertNull(pages.take());
+        }
+    }
+
+    @Test
+    public void testEndIsReachedOnceAllProducersAreDone() throws Exception
+    {
+        try (PrefetchedResponsePages pages = new PrefetchedResponsePages(this.executorService, 1))
+        {
+            List<PrefetchedResponsePages.Producer> producers = new ArrayList<>();
+            for (int slice = 0; slice < 3; slice++)
+            {
+                String prefix = "slice" + slice + "-";
+                producers.add(p ->
+                {
+                    for (int i = 0; i < 3; i++)
+                    {
+                        p.put(page(prefix + i));
+                    }
+                });
+            }
+            pages.start(producers);
+
+            List<String> contents = new ArrayList<>();
+            PrefetchedResponsePages.Page page;
+            while ((page = pages.take()) != null)
+            {
+                contents.add(new String(page.getContent(), StandardCharsets.UTF_8));
+            }
+
+            Assert.assertEquals(9, contents.size());
+            for (int slice = 0; slice < 3; slice++)
+            {
+                // pages of a slice keep their order
+                Assert.assertTrue(contents.indexOf("slice" + slice + "-0") < contents.indexOf("slice" + slice + "-1"));
+                Assert.assertTrue(contents.indexOf("slice" + slice + "-1") < contents.indexOf("slice" + slice + "-2"));
+            }
+        }
+    }
+
+    @Test
+    public void testFailureIsHandedOverToReader() throws Exception
+    {
+        try (PrefetchedResponsePages pages = new PrefetchedResponsePages(this.executorService, 1))
+        {
+            pages.start(Collections.singletonList(p ->
+            {
+                p.put(page("page0"));
+                throw new IllegalStateException("boom");
+            }));
+
+            Assert.assertEquals("page0", new String(pages.take().getContent(), StandardCharsets.UTF_8));
+            PrefetchedResponsePages.Page failed = pages.take();
+            Assert.assertTrue(failed.getFailure() instanceof IllegalStateException);
+            Assert.assertEquals("boom", failed.getFailure().getMessage());
+            Assert.assertNull(pages.take());
+        }
+    }
+
+    @Test
+    public void testCloseStopsBlockedProducer() throws Exception
+    {
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicInteger put = new AtomicInteger();
+        PrefetchedResponsePages pages = new PrefetchedResponsePages(this.executorService, 1);
+        pages.start(Collections.singletonList(p ->
+        {
+            try
+            {
+                while (p.put(page("page")))
+                {
+                    put.incrementAndGet();
+                }
+            }
+            finally
+            {
+                stopped.countDown();
+            }
+        }));
+
+        Assert.assertNotNull(pages.take());
+        pages.close();
+
+        Assert.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(pages.isClosed());
+        Assert.assertTrue("put " + put.get() + " pages", put.get() <= 3);
+    }
+
+    @Test
+    public void testCloseFinishesSpansOfUnreadPages() throws Exception
+    {
+        for (int attempt = 0; attempt < 50; attempt++)
+        {
+            AtomicInteger started = new AtomicInteger();
+            AtomicInteger finished = new AtomicInteger();
+            CountDownLatch running = new CountDownLatch(4);
+            CountDownLatch stopped = new CountDownLatch(4);
+            PrefetchedResponsePages pages = new PrefetchedResponsePages(this.executorService, 2);
+            List<PrefetchedResponsePages.Producer> producers = new ArrayList<>();
+            for (int slice = 0; slice < 4; slice++)
+            {
+                producers.add(p ->
+                {
+                    running.countDown();
+                    try
+                    {
+                        boolean put = true;
+                        while (put)
+                        {
+                            started.incrementAndGet();
+                            put = p.put(PrefetchedResponsePages.Page.of(new byte[0], "{}", span(finished)));
+                        }
+                    }
+                    finally
+                    {
+                        stopped.countDown();
+                    }
+                });
+            }
+            pages.start(producers);
+            Assert.assertTrue(running.await(10, TimeUnit.SECONDS));
+
+            pages.take().finishSpan();
+            pages.close();
+
+            Assert.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(started.get(), finished.get());
+        }
+    }
+
+    private static Span span(AtomicInteger finished)
+    {
+        return (Span) Proxy.newProxyInstance(Span.class.getClassLoader(), new Class<?>[]{Span.class}, (proxy, method, args) ->
+        {
+            if ("finish".equals(method.getName()))
+            {
+                finished.incrementAndGet();
+            }
+            return null;
+        });
+    }
+
+    private static PrefetchedResponsePages.Page page(String content)
+    {
+        return PrefetchedResponsePages.Page.of(content.getBytes(StandardCharsets.UTF_8), "{}", null);
+    }
+}
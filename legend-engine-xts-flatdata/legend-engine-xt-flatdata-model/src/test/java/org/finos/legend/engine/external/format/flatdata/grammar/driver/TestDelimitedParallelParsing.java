@@ -0,0 +1,106 @@
+//  Copyright 2023 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.grammar.driver;
+
+import org.finos.legend.engine.external.format.flatdata.driver.spi.RawFlatData;
+import org.finos.legend.engine.external.format.flatdata.metamodel.FlatData;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TestDelimitedParallelParsing extends AbstractDriverTest
+{
+    @Test
+    public void parallelParsingReadsTheSameRecordsInOrder()
+    {
+        StringBuilder data = new StringBuilder("NAME,AGE,TITLE\n");
+        for (int i = 0; i < 5000; i++)
+        {
+            data.append("'Name, ").append(i).append("',").append(i % 100).append(",");
+            if (i % 7 == 0)
+            {
+                data.append("'Multi\nline\ntitle ''").append(i).append("'''");
+            }
+            else if (i % 101 == 0)
+            {
+                data.append("'Quoted").append(i).append("' and unquoted");
+            }
+            else if (i % 103 == 0)
+            {
+                data.append("Escaped \\' and invalid \\x");
+            }
+            else
+            {
+                data.append("Title ").append(i);
+            }
+            data.append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+
+        List<IChecked<Person>> sequential = deserialize(Person.class, flatData(""), data.toString());
+        List<IChecked<Person>> parallel = deserialize(Person.class, flatData("  parallelParsing : 4;\n"), data.toString());
+
+        Assert.assertEquals(5000, sequential.size());
+        Assert.assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++)
+        {
+            IChecked<Person> expected = sequential.get(i);
+            IChecked<Person> actual = parallel.get(i);
+            RawFlatData expectedSource = (RawFlatData) expected.getSource();
+            RawFlatData actualSource = (RawFlatData) actual.getSource();
+            Assert.assertEquals(expectedSource.getNumber(), actualSource.getNumber());
+            Assert.assertEquals(expectedSource.getLineNumber(), actualSource.getLineNumber());
+            Assert.assertEquals(expectedSource.getRecord(), actualSource.getRecord());
+            Assert.assertEquals(expected.getDefects().toString(), actual.getDefects().toString());
+            if (expected.getValue() == null)
+            {
+                Assert.assertNull(actual.getValue());
+            }
+            else
+            {
+                Assert.assertEquals(expected.getValue().NAME, actual.getValue().NAME);
+                Assert.assertEquals(expected.getValue().AGE, actual.getValue().AGE);
+                Assert.assertEquals(expected.getValue().TITLE, actual.getValue().TITLE);
+            }
+        }
+    }
+
+    private FlatData flatData(String additionalProperties)
+    {
+        return parseFlatData("section default: DelimitedWithHeadings\n" +
+                "{\n" +
+                "  scope.untilEof;\n" +
+                "  delimiter       : ',';\n" +
+                "  quoteChar       : '\\'';\n" +
+                "  escapingChar    : '\\\\';\n" +
+                additionalProperties +
+                "\n" +
+                "  Record\n" +
+                "  {\n" +
+                "    NAME          : STRING;\n" +
+                "    AGE           : INTEGER;\n" +
+                "    TITLE         : STRING;\n" +
+                "  }\n" +
+                "}\n");
+    }
+
+    public static class Person
+    {
+        public String NAME;
+        public long AGE;
+        public String TITLE;
+    }
+}
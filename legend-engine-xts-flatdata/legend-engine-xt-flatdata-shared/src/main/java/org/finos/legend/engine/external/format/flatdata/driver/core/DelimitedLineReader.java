@@ -40,6 +40,9 @@ public class DelimitedLineReader implements LineReader
     private final Runnable eolConsumer;
     private final Predicate<LineParser> delimiterTest;
     private final Consumer<LineParser> delimiterConsumer;
+    private final char[] eolChars;
+    private final char[] delimiterChars;
+    private RecordScanner recordScanner;
     private boolean lastLineEndedInEol = false;
     private boolean lastBlankRowReturned = false;
 
@@ -52,6 +55,8 @@ public class DelimitedLineReader implements LineReader
         this.quoteChar = quoteChar;
         this.escapeChar = escapeChar;
         lineParser = new LineParser();
+        this.eolChars = eol == null ? null : eol.toCharArray();
+        this.delimiterChars = delimiter.toCharArray();
 
         if (eol == null)
         {
@@ -67,7 +72,6 @@ public class DelimitedLineReader implements LineReader
         }
         else
         {
-            char[] eolChars = eol.toCharArray();
             if (eolChars.length == 1)
             {
                 eolTest = parser -> parser.ch == eolChars[0];
@@ -80,7 +84,6 @@ public class DelimitedLineReader implements LineReader
             }
         }
 
-        char[] delimiterChars = delimiter.toCharArray();
         if (delimiterChars.length == 1)
         {
             delimiterTest = parser -> parser.ch == delimiterChars[0];
@@ -110,6 +113,25 @@ public class DelimitedLineReader implements LineReader
         return lineParser.parseLine(lineNumberSupplier.getAsLong());
     }
 
+    /**
+     * Advances the cursor past the next record without parsing its values, returning the characters of the record
+     * including its record separator. Records are split exactly where {@link #readLine()} would end them (so quoted
+     * values may span record separators) which allows the returned characters to be parsed later, on another thread,
+     * by a reader over them.
+     */
+    char[] readRecordChars()
+    {
+        if (cursor.isEndOfData())
+        {
+            throw new IllegalStateException("Unexpected EOF Reached");
+        }
+        if (recordScanner == null)
+        {
+            recordScanner = new RecordScanner();
+        }
+        return recordScanner.scanRecord();
+    }
+
     private class LineParser
     {
         private FullLineData fullLine = new FullLineData();
@@ -292,7 +314,7 @@ public class DelimitedLineReader implements LineReader
             {
                 if (isEscape() || (delimiter.length() == 1 && ch == delimiter.charAt(0)) || isQuote())
                 {
-                    addCharToValue();
+                    acceptEscapedChar();
                     return returnToState;
                 }
                 else
@@ -304,6 +326,11 @@ public class DelimitedLineReader implements LineReader
                 }
             }
 
+            void acceptEscapedChar()
+            {
+                addCharToValue();
+            }
+
             @Override
             void finish()
             {
@@ -455,6 +482,7 @@ public class DelimitedLineReader implements LineReader
             void finish()
             {
                 discardValue();
+                consumeSkippedChars();
                 addDefect("Unclosed quotes in value " + (values.size() + 1));
             }
         };
@@ -628,6 +656,12 @@ public class DelimitedLineReader implements LineReader
 
         private State escapeWhileSkippingToDelimiter = new EscapeState(skipToNextDelimiter, skipToNextDelimiter)
         {
+            @Override
+            void acceptEscapedChar()
+            {
+                // There is no value to add to while skipping, so the char must be skipped for the line to be consumed
+                skipChar();
+            }
         };
 
         private class FullLineData
@@ -658,6 +692,160 @@ public class DelimitedLineReader implements LineReader
         }
     }
 
+    private enum ScanState
+    {
+        START_OF_VALUE,
+        WHITESPACE_AT_START_OF_VALUE,
+        IN_UNQUOTED_VALUE,
+        IN_QUOTED_VALUE,
+        POSSIBLY_CLOSING_QUOTED_VALUE,
+        WHITESPACE_AFTER_QUOTED_VALUE,
+        SKIP_TO_NEXT_DELIMITER,
+        SKIP_TO_CLOSING_QUOTE,
+        POSSIBLY_CLOSING_QUOTED_VALUE_WHILE_SKIPPING,
+        ESCAPE_IN_UNQUOTED_VALUE,
+        ESCAPE_IN_QUOTED_VALUE,
+        ESCAPE_WHILE_SKIPPING_TO_DELIMITER
+    }
+
+    /**
+     * Follows the transitions of the {@link LineParser} states, without collecting values or defects, to find where a
+     * record ends.
+     */
+    private class RecordScanner
+    {
+        private int aheadOfCursor;
+        private int ch;
+
+        private char[] scanRecord()
+        {
+            aheadOfCursor = 0;
+            ScanState state = ScanState.START_OF_VALUE;
+            nextChar();
+            while (ch != CharCursor.END_OF_DATA && !(state != ScanState.IN_QUOTED_VALUE && isEol()))
+            {
+                state = evaluate(state);
+                nextChar();
+            }
+
+            int length = aheadOfCursor - 1;
+            if (ch != CharCursor.END_OF_DATA && isEol())
+            {
+                length += eolChars != null
+                        ? eolChars.length
+                        : (ch == '\r' && cursor.peek(aheadOfCursor + 1) == '\n') ? 2 : 1;
+            }
+            return cursor.advance(length);
+        }
+
+        private ScanState evaluate(ScanState state)
+        {
+            switch (state)
+            {
+                case START_OF_VALUE:
+                    return isDelimiter() ? skipDelimiter()
+                            : isEscape() ? ScanState.ESCAPE_IN_UNQUOTED_VALUE
+                            : isWhitespace() ? ScanState.WHITESPACE_AT_START_OF_VALUE
+                            : isQuote() ? ScanState.IN_QUOTED_VALUE
+                            : ScanState.IN_UNQUOTED_VALUE;
+                case WHITESPACE_AT_START_OF_VALUE:
+                    return isEscape() ? ScanState.ESCAPE_IN_UNQUOTED_VALUE
+                            : isWhitespace() ? ScanState.WHITESPACE_AT_START_OF_VALUE
+                            : isQuote() ? ScanState.IN_QUOTED_VALUE
+                            : isDelimiter() ? skipDelimiter()
+                            : ScanState.IN_UNQUOTED_VALUE;
+                case IN_UNQUOTED_VALUE:
+                    return isEscape() ? ScanState.ESCAPE_IN_UNQUOTED_VALUE
+                            : isDelimiter() ? skipDelimiter()
+                            : ScanState.IN_UNQUOTED_VALUE;
+                case IN_QUOTED_VALUE:
+                    return isEscape() ? ScanState.ESCAPE_IN_QUOTED_VALUE
+                            : isQuote() ? ScanState.POSSIBLY_CLOSING_QUOTED_VALUE
+                            : ScanState.IN_QUOTED_VALUE;
+                case POSSIBLY_CLOSING_QUOTED_VALUE:
+                    return isQuote() ? ScanState.IN_QUOTED_VALUE
+                            : isWhitespace() ? ScanState.WHITESPACE_AFTER_QUOTED_VALUE
+                            : isDelimiter() ? skipDelimiter()
+                            : ScanState.SKIP_TO_NEXT_DELIMITER;
+                case WHITESPACE_AFTER_QUOTED_VALUE:
+                    return isWhitespace() ? ScanState.WHITESPACE_AFTER_QUOTED_VALUE
+                            : isDelimiter() ? skipDelimiter()
+                            : ScanState.SKIP_TO_NEXT_DELIMITER;
+                case SKIP_TO_NEXT_DELIMITER:
+                    return isEscape() ? ScanState.ESCAPE_WHILE_SKIPPING_TO_DELIMITER
+                            : isDelimiter() ? skipDelimiter()
+                            : ScanState.SKIP_TO_NEXT_DELIMITER;
+                case SKIP_TO_CLOSING_QUOTE:
+                    return isQuote() ? ScanState.POSSIBLY_CLOSING_QUOTED_VALUE_WHILE_SKIPPING : ScanState.SKIP_TO_CLOSING_QUOTE;
+                case POSSIBLY_CLOSING_QUOTED_VALUE_WHILE_SKIPPING:
+                    return isQuote() ? ScanState.SKIP_TO_CLOSING_QUOTE
+                            : isWhitespace() ? ScanState.WHITESPACE_AFTER_QUOTED_VALUE
+                            : isDelimiter() ? skipDelimiter()
+                            : ScanState.SKIP_TO_NEXT_DELIMITER;
+                case ESCAPE_IN_UNQUOTED_VALUE:
+                    return isEscapable() ? ScanState.IN_UNQUOTED_VALUE : ScanState.SKIP_TO_NEXT_DELIMITER;
+                case ESCAPE_IN_QUOTED_VALUE:
+                    return isEscapable() ? ScanState.IN_QUOTED_VALUE : ScanState.SKIP_TO_CLOSING_QUOTE;
+                case ESCAPE_WHILE_SKIPPING_TO_DELIMITER:
+                    return ScanState.SKIP_TO_NEXT_DELIMITER;
+                default:
+                    throw new IllegalStateException("Unknown state: " + state);
+            }
+        }
+
+        private void nextChar()
+        {
+            aheadOfCursor++;
+            ch = cursor.peek(aheadOfCursor);
+        }
+
+        private boolean isEol()
+        {
+            return eolChars == null ? (ch == '\n' || ch == '\r') : matches(eolChars);
+        }
+
+        private boolean isDelimiter()
+        {
+            return matches(delimiterChars);
+        }
+
+        private ScanState skipDelimiter()
+        {
+            aheadOfCursor += delimiterChars.length - 1;
+            return ScanState.START_OF_VALUE;
+        }
+
+        private boolean matches(char[] chars)
+        {
+            boolean result = ch == chars[0];
+            for (int index = 1; result && index < chars.length; index++)
+            {
+                result = cursor.peek(aheadOfCursor + index) == chars[index];
+            }
+            return result;
+        }
+
+        private boolean isQuote()
+        {
+            return quoteChar != null && ch == quoteChar.charAt(0);
+        }
+
+        private boolean isWhitespace()
+        {
+            return Character.isWhitespace(ch);
+        }
+
+        private boolean isEscape()
+        {
+            return escapeChar != null && ch == escapeChar.charAt(0);
+        }
+
+        private boolean isEscapable()
+        {
+            return isEscape() || (delimiter.length() == 1 && ch == delimiter.charAt(0)) || isQuote();
+        }
+    }
+
     private class MultiCharacterHandler implements Predicate<LineParser>, Consumer<LineParser>
     {
         private final char[] chars;
@@ -26,6 +26,7 @@ import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
 {
@@ -33,6 +34,7 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     static final String QUOTE_CHAR = "quoteChar";
     static final String ESCAPING_CHAR = "escapingChar";
     static final String NULL_STRING = "nullString";
+    static final String PARALLEL_PARSING = "parallelParsing";
 
     protected final DelimitedDriverHelper helper;
 
@@ -48,6 +50,24 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
         return new DelimitedLineReader(cursor, helper.eol, helper.context.getDefiningPath(), lineNumberSupplier, helper.delimiter, helper.quoteChar, helper.escapeChar);
     }
 
+    @Override
+    protected int parsingThreads()
+    {
+        return helper.parallelParsing;
+    }
+
+    @Override
+    protected boolean supportsRecordSplitting()
+    {
+        return true;
+    }
+
+    @Override
+    protected Supplier<char[]> createRecordSplitter(CharCursor cursor)
+    {
+        return new DelimitedLineReader(cursor, helper.eol, helper.context.getDefiningPath(), () -> 0, helper.delimiter, helper.quoteChar, helper.escapeChar)::readRecordChars;
+    }
+
     @Override
     public void stop()
     {
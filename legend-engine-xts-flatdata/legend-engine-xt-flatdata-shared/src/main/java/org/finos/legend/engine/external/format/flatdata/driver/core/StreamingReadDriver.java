@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.external.format.flatdata.driver.core;
 
+import org.finos.legend.engine.external.format.flatdata.driver.core.connection.CharArrayCursor;
 import org.finos.legend.engine.external.format.flatdata.driver.core.connection.CharCursor;
 import org.finos.legend.engine.external.format.flatdata.driver.core.connection.InputStreamConnection;
 import org.finos.legend.engine.external.format.flatdata.driver.core.fieldHandler.FieldHandler;
@@ -24,10 +25,18 @@ import org.finos.legend.engine.external.format.flatdata.driver.core.variables.In
 import org.finos.legend.engine.external.format.flatdata.driver.spi.FlatDataReadDriver;
 import org.finos.legend.engine.external.format.flatdata.driver.spi.ParsedFlatDataToObject;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,6 +44,7 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
 {
@@ -42,6 +52,9 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
     {
     };
 
+    private static final int MAX_CHUNK_RECORDS = 1024;
+    private static final int MAX_CHUNK_CHARS = 64 * 1024;
+
     private static AtomicInteger nextRawThreadReaderId = new AtomicInteger(1);
 
     protected final StreamingDriverHelper helper;
@@ -62,12 +75,42 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
 
     protected abstract LineReader createLineReader(CharCursor cursor, LongSupplier lineNumberSupplier);
 
+    /**
+     * The number of threads used to parse the lines of a section read until the end of the input. When more than one
+     * is used and the driver {@link #supportsRecordSplitting() supports record splitting}, the input is split into
+     * chunks of records using {@link #createRecordSplitter(CharCursor)} and the chunks are parsed concurrently, the
+     * lines still being consumed in the order they are read. Otherwise lines are parsed as they are read.
+     */
+    protected int parsingThreads()
+    {
+        return 1;
+    }
+
+    /**
+     * Whether {@link #createRecordSplitter(CharCursor)} is implemented, drivers which cannot split records before
+     * parsing them always parse lines as they are read.
+     */
+    protected boolean supportsRecordSplitting()
+    {
+        return false;
+    }
+
+    /**
+     * Creates a splitter that advances the cursor past the next record and returns its characters unparsed, such that a
+     * line reader over the returned characters reads the same line as a line reader over the cursor would have. Only
+     * called when {@link #supportsRecordSplitting()}.
+     */
+    protected Supplier<char[]> createRecordSplitter(CharCursor cursor)
+    {
+        throw new UnsupportedOperationException("Records cannot be split before parsing by " + getClass().getSimpleName());
+    }
+
     @Override
     public void start()
     {
         IntegerVariable lineNumber = helper.lineNumber();
         LineReader lineReader = createLineReader(connection.getCursor(), lineNumber::increment);
-        rawLines = new RawLines(lineReader);
+        rawLines = new RawLines(lineReader, lineNumber::increment);
         rawLines.start();
     }
 
@@ -167,6 +210,7 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
         };
 
         private final LineReader lineReader;
+        private final LongSupplier lineNumberSupplier;
 
         private long lineCount = 0;
         private LineReader.Line lastLine = null;
@@ -178,9 +222,10 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
 
         private AtomicReference<LineReader.Line> pending = new AtomicReference<>();
 
-        RawLines(LineReader lineReader)
+        RawLines(LineReader lineReader, LongSupplier lineNumberSupplier)
         {
             this.lineReader = lineReader;
+            this.lineNumberSupplier = lineNumberSupplier;
         }
 
         void start()
@@ -194,9 +239,11 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
             try
             {
                 BooleanSupplier sectionHasConsumedAllItsRawLines;
+                boolean parseInParallel = false;
                 if (FlatDataUtils.getBoolean(helper.section.sectionProperties, StreamingDriverHelper.SCOPE, StreamingDriverHelper.UNTIL_EOF))
                 {
                     sectionHasConsumedAllItsRawLines = StreamingReadDriver.this.connection::isConsumedToEof;
+                    parseInParallel = parsingThreads() > 1;
                 }
                 else if (FlatDataUtils.getString(helper.section.sectionProperties, StreamingDriverHelper.SCOPE, StreamingDriverHelper.UNTIL_LINE_EQUALS).isPresent())
                 {
@@ -214,11 +261,13 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
                     sectionHasConsumedAllItsRawLines = () -> ((StreamingSequentialSectionsProcessingContext) helper.context).isNextSectionReadyToStartAt(connection.getCursor());
                 }
 
-                while (!sectionHasConsumedAllItsRawLines.getAsBoolean())
+                if (parseInParallel)
+                {
+                    readLinesInParallel(sectionHasConsumedAllItsRawLines);
+                }
+                else
                 {
-                    lastLine = lineReader.readLine();
-                    queue.put(lastLine);
-                    lineCount++;
+                    readLinesSequentially(sectionHasConsumedAllItsRawLines);
                 }
             }
             catch (InterruptedException e)
@@ -249,6 +298,83 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
             }
         }
 
+        // Called on Producer (Raw Lines) Thread
+        private void readLinesSequentially(BooleanSupplier sectionHasConsumedAllItsRawLines) throws InterruptedException
+        {
+            while (!sectionHasConsumedAllItsRawLines.getAsBoolean())
+            {
+                lastLine = lineReader.readLine();
+                queue.put(lastLine);
+                lineCount++;
+            }
+        }
+
+        // Called on Producer (Raw Lines) Thread
+        private void readLinesInParallel(BooleanSupplier sectionHasConsumedAllItsRawLines) throws Exception
+        {
+            if (!supportsRecordSplitting())
+            {
+                readLinesSequentially(sectionHasConsumedAllItsRawLines);
+                return;
+            }
+
+            int threads = parsingThreads();
+            String threadName = Thread.currentThread().getName() + " Parser";
+            ExecutorService executor = Executors.newFixedThreadPool(threads, runnable ->
+            {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            try
+            {
+                Supplier<char[]> recordSplitter = createRecordSplitter(connection.getCursor());
+                Deque<Future<List<LineReader.Line>>> chunksInProgress = new ArrayDeque<>();
+                while (!sectionHasConsumedAllItsRawLines.getAsBoolean())
+                {
+                    RecordChunk chunk = new RecordChunk();
+                    while (!chunk.isFull() && !sectionHasConsumedAllItsRawLines.getAsBoolean())
+                    {
+                        chunk.add(lineNumberSupplier.getAsLong(), recordSplitter.get());
+                    }
+                    chunksInProgress.add(executor.submit(chunk));
+
+                    // Bound the records held in memory, and hand over lines in the order they were read
+                    if (chunksInProgress.size() >= 2 * threads)
+                    {
+                        putLines(chunksInProgress.remove());
+                    }
+                }
+                while (!chunksInProgress.isEmpty())
+                {
+                    putLines(chunksInProgress.remove());
+                }
+            }
+            finally
+            {
+                executor.shutdownNow();
+            }
+        }
+
+        private void putLines(Future<List<LineReader.Line>> chunk) throws Exception
+        {
+            List<LineReader.Line> lines;
+            try
+            {
+                lines = chunk.get();
+            }
+            catch (ExecutionException e)
+            {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            for (LineReader.Line line : lines)
+            {
+                lastLine = line;
+                queue.put(lastLine);
+                lineCount++;
+            }
+        }
+
         // Called on Consumer Thread
         LineReader.Line next()
         {
@@ -314,4 +440,45 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
             }
         }
     }
+
+    // Records split from the input, parsed by a line reader of their own
+    private class RecordChunk implements Callable<List<LineReader.Line>>
+    {
+        private final List<char[]> records = new ArrayList<>();
+        private final long[] lineNumbers = new long[MAX_CHUNK_RECORDS];
+        private int length = 0;
+        private int nextLine = 0;
+
+        private void add(long lineNumber, char[] record)
+        {
+            lineNumbers[records.size()] = lineNumber;
+            records.add(record);
+            length += record.length;
+        }
+
+        private boolean isFull()
+        {
+            return records.size() >= MAX_CHUNK_RECORDS || length >= MAX_CHUNK_CHARS;
+        }
+
+        @Override
+        public List<LineReader.Line> call()
+        {
+            char[] chars = new char[length];
+            int position = 0;
+            for (char[] record : records)
+            {
+                System.arraycopy(record, 0, chars, position, record.length);
+                position += record.length;
+            }
+
+            LineReader reader = createLineReader(new CharArrayCursor(chars), () -> lineNumbers[nextLine++]);
+            List<LineReader.Line> lines = new ArrayList<>(records.size());
+            for (int i = 0; i < records.size(); i++)
+            {
+                lines.add(reader.readLine());
+            }
+            return lines;
+        }
+    }
 }
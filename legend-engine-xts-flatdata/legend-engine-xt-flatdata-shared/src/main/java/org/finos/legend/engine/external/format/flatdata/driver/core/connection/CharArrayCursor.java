@@ -0,0 +1,112 @@
+//  Copyright 2023 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.driver.core.connection;
+
+import java.util.Arrays;
+
+/**
+ * Cursor over characters already held in memory, such as a chunk of records split from a larger input so that it can be
+ * parsed independently.
+ * <p>
+ * As with the cursors of a {@link BufferedReader}, the end of data is only reported once the cursor has started reading
+ * so that empty data is read as a single empty line.
+ */
+public class CharArrayCursor implements CharCursor
+{
+    private final char[] chars;
+    private int position;
+    private boolean started;
+    private boolean destroyed = false;
+
+    public CharArrayCursor(char[] chars)
+    {
+        this(chars, 0, false);
+    }
+
+    private CharArrayCursor(char[] chars, int position, boolean started)
+    {
+        this.chars = chars;
+        this.position = position;
+        this.started = started;
+    }
+
+    @Override
+    public int advance()
+    {
+        checkNotDestroyed();
+        started = true;
+        return position < chars.length ? chars[position++] : END_OF_DATA;
+    }
+
+    @Override
+    public char[] advance(int howMany)
+    {
+        checkNotDestroyed();
+        if (howMany < 0)
+        {
+            throw new IllegalArgumentException("Cannot advance negatively");
+        }
+        started = true;
+        int end = Math.min(chars.length, position + howMany);
+        char[] result = Arrays.copyOfRange(chars, position, end);
+        position = end;
+        return result;
+    }
+
+    @Override
+    public int peek(int ahead)
+    {
+        checkNotDestroyed();
+        if (ahead <= 0)
+        {
+            throw new IllegalArgumentException("Cannot peek on characters that have been advanced");
+        }
+        started = true;
+        int index = position + ahead - 1;
+        return index < chars.length ? chars[index] : END_OF_DATA;
+    }
+
+    @Override
+    public boolean isEndOfData()
+    {
+        checkNotDestroyed();
+        return started && position >= chars.length;
+    }
+
+    @Override
+    public CharArrayCursor copy()
+    {
+        checkNotDestroyed();
+        return new CharArrayCursor(chars, position, started);
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (destroyed)
+        {
+            throw new IllegalStateException("This cursor has already been destroyed");
+        }
+        destroyed = true;
+    }
+
+    private void checkNotDestroyed()
+    {
+        if (destroyed)
+        {
+            throw new IllegalStateException("This cursor has been destroyed");
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class DateParser implements ValueParser
     private final List<DateTimeFormatter> possibleFormatters;
     private String format;
     private DateTimeFormatter formatter;
+    private boolean isoFormat;
 
     private DateParser(List<String> formats)
     {
@@ -34,11 +35,17 @@ public class DateParser implements ValueParser
         this.possibleFormatters = formats.stream().map(DateTimeFormatter::ofPattern).collect(Collectors.toList());
         if (possibleFormats.size() == 1)
         {
-            formatter = possibleFormatters.get(0);
-            format = possibleFormats.get(0);
+            select(0);
         }
     }
 
+    private void select(int i)
+    {
+        formatter = possibleFormatters.get(i);
+        format = possibleFormats.get(i);
+        isoFormat = TextParsing.ISO_DATE_FORMAT.equals(format);
+    }
+
     public LocalDate parse(String s) throws ParseException
     {
         if (formatter == null)
@@ -48,8 +55,7 @@ public class DateParser implements ValueParser
                 try
                 {
                     LocalDate date = LocalDate.parse(s, possibleFormatters.get(i));
-                    formatter = possibleFormatters.get(i);
-                    format = possibleFormats.get(i);
+                    select(i);
                     return date;
                 }
                 catch (DateTimeParseException e)
@@ -61,6 +67,11 @@ public class DateParser implements ValueParser
         }
         else
         {
+            LocalDate date = isoFormat ? TextParsing.parseIsoDate(s) : null;
+            if (date != null)
+            {
+                return date;
+            }
             try
             {
                 return LocalDate.parse(s, formatter);
@@ -82,8 +93,7 @@ public class DateParser implements ValueParser
                 try
                 {
                     possibleFormatters.get(i).parse(s);
-                    formatter = possibleFormatters.get(i);
-                    format = possibleFormats.get(i);
+                    select(i);
                     return null;
                 }
                 catch (DateTimeParseException e)
@@ -93,6 +103,10 @@ public class DateParser implements ValueParser
             }
             return "Unparseable date: \"" + s + "\" for formats " + possibleFormats.stream().map(f -> "'" + f + "'").collect(Collectors.joining(", "));
         }
+        else if (isoFormat && TextParsing.parseIsoDate(s) != null)
+        {
+            return null;
+        }
         else
         {
             try
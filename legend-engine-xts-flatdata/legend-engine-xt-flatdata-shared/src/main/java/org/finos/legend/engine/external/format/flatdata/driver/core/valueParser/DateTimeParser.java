@@ -50,21 +50,36 @@ public abstract class DateTimeParser implements ValueParser
         private final List<String> possibleFormats;
         private final List<DateTimeFormatter> possibleFormatters;
         private final ZoneId timeZone;
+        private final boolean[] possibleFormatsFixTimezone;
         private String format;
         private DateTimeFormatter formatter;
+        private boolean fixTimezone;
+        private boolean isoFormat;
 
         private BasicDateTimeParser(List<String> formats, String timeZone)
         {
             this.possibleFormats = formats;
             this.possibleFormatters = formats.stream().map(DateTimeFormatter::ofPattern).collect(Collectors.toList());
+            this.possibleFormatsFixTimezone = new boolean[formats.size()];
+            for (int i = 0; i < formats.size(); i++)
+            {
+                this.possibleFormatsFixTimezone[i] = requiresTimezoneFix(formats.get(i));
+            }
             this.timeZone = ZoneId.of(timeZone, ZoneId.SHORT_IDS);
             if (possibleFormats.size() == 1)
             {
-                formatter = possibleFormatters.get(0);
-                format = possibleFormats.get(0);
+                select(0);
             }
         }
 
+        private void select(int i)
+        {
+            formatter = possibleFormatters.get(i);
+            format = possibleFormats.get(i);
+            fixTimezone = possibleFormatsFixTimezone[i];
+            isoFormat = TextParsing.ISO_DATETIME_FORMAT.equals(format);
+        }
+
         @Override
         public Instant parse(String s) throws ParseException
         {
@@ -81,16 +96,14 @@ public abstract class DateTimeParser implements ValueParser
                     {
                         try
                         {
-                            Instant dateTime = Instant.from(possibleFormatters.get(i).withZone(tz).parse(fixTimezone(s, possibleFormats.get(i))));
-                            formatter = possibleFormatters.get(i);
-                            format = possibleFormats.get(i);
+                            Instant dateTime = Instant.from(possibleFormatters.get(i).withZone(tz).parse(fixTimezone(s, possibleFormatsFixTimezone[i])));
+                            select(i);
                             return dateTime;
                         }
                         catch (DateTimeException e)
                         {
                             Instant dateTime = LocalDateTime.from(possibleFormatters.get(i).parse(s)).atZone(tz).toInstant();
-                            formatter = possibleFormatters.get(i);
-                            format = possibleFormats.get(i);
+                            select(i);
                             return dateTime;
                         }
                     }
@@ -103,11 +116,17 @@ public abstract class DateTimeParser implements ValueParser
             }
             else
             {
+                // The offset of the ISO format takes precedence over the zone
+                Instant dateTime = isoFormat ? TextParsing.parseIsoDateTime(s) : null;
+                if (dateTime != null)
+                {
+                    return dateTime;
+                }
                 try
                 {
                     try
                     {
-                        return Instant.from(formatter.withZone(tz).parse(fixTimezone(s, format)));
+                        return Instant.from(formatter.withZone(tz).parse(fixTimezone(s, fixTimezone)));
                     }
                     catch (DateTimeException e)
                     {
@@ -135,9 +154,8 @@ public abstract class DateTimeParser implements ValueParser
                 {
                     try
                     {
-                        possibleFormatters.get(i).withZone(tz).parse(fixTimezone(s, possibleFormats.get(i)));
-                        formatter = possibleFormatters.get(i);
-                        format = possibleFormats.get(i);
+                        possibleFormatters.get(i).withZone(tz).parse(fixTimezone(s, possibleFormatsFixTimezone[i]));
+                        select(i);
                         return null;
                     }
                     catch (DateTimeParseException e)
@@ -147,11 +165,15 @@ public abstract class DateTimeParser implements ValueParser
                 }
                 return "Unparseable datetime: \"" + s + "\" for formats " + possibleFormats.stream().map(f -> "'" + f + "'").collect(Collectors.joining(", "));
             }
+            else if (isoFormat && TextParsing.parseIsoDateTime(s) != null)
+            {
+                return null;
+            }
             else
             {
                 try
                 {
-                    formatter.withZone(tz).parse(fixTimezone(s, format));
+                    formatter.withZone(tz).parse(fixTimezone(s, fixTimezone));
                     return null;
                 }
                 catch (DateTimeParseException e)
@@ -172,9 +194,14 @@ public abstract class DateTimeParser implements ValueParser
         }
 
         // TODO Allow configuration of this - in the interim zz implies do this while z or zzz will not invoke it
-        private String fixTimezone(String s, String fmt)
+        private static boolean requiresTimezoneFix(String fmt)
+        {
+            return Arrays.asList(fmt.split(" ")).contains("zz");
+        }
+
+        private String fixTimezone(String s, boolean fix)
         {
-            return Arrays.asList(fmt.split(" ")).contains("zz")
+            return fix
                     ? s.replace("BST", "+01:00")
                     : s;
         }
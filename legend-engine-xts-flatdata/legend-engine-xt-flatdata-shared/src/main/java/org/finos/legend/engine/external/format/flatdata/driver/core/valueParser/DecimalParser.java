@@ -22,7 +22,8 @@ import java.util.regex.Pattern;
 
 public abstract class DecimalParser implements ValueParser
 {
-    private static final Predicate<String> DEFAULT_IS_VALID_DECIMAL = Pattern.compile("[+-]?(\\d+|\\d*\\.\\d+|\\d+\\.\\d*)([eE]\\d+)?").asPredicate();
+    // The default pattern is found within rather than matched against values, which amounts to containing a digit
+    private static final Predicate<String> DEFAULT_IS_VALID_DECIMAL = TextParsing::containsDigit;
     private static final Predicate<String> VALID_FORMAT = Pattern.compile("#,#*(#|0+)(\\.0*#*)?(E\\d+)?").asPredicate();
 
     public abstract double parseDouble(String s) throws ParseException;
@@ -59,6 +60,11 @@ public abstract class DecimalParser implements ValueParser
         @Override
         public double parseDouble(String s) throws ParseException
         {
+            double simple = TextParsing.parseSimpleDouble(s);
+            if (!Double.isNaN(simple))
+            {
+                return simple;
+            }
             try
             {
                 return Double.parseDouble(s);
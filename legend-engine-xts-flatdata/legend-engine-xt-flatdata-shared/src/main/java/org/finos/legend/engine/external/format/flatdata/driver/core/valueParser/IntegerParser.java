@@ -23,7 +23,8 @@ import java.util.regex.Pattern;
 
 public abstract class IntegerParser implements ValueParser
 {
-    private static final Predicate<String> DEFAULT_IS_VALID_INTEGER = Pattern.compile("[+-]?\\d+").asPredicate();
+    // The default pattern is found within rather than matched against values, which amounts to containing a digit
+    private static final Predicate<String> DEFAULT_IS_VALID_INTEGER = TextParsing::containsDigit;
     private static final Predicate<String> VALID_FORMAT = Pattern.compile("#,#*(#|0+)").asPredicate();
 
     public abstract long parseLong(String s) throws ParseException;
@@ -77,6 +78,11 @@ public abstract class IntegerParser implements ValueParser
         @Override
         public double parseDouble(String s) throws ParseException
         {
+            double simple = TextParsing.parseSimpleDouble(s);
+            if (!Double.isNaN(simple))
+            {
+                return simple;
+            }
             try
             {
                 return Double.parseDouble(s);
@@ -0,0 +1,224 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.driver.core.valueParser;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+
+/**
+ * Allocation free parsing of the common shapes of numbers and ISO dates, used by the value parsers before falling back
+ * to the general JDK parsers. Each method either returns exactly what the JDK parser would for the text, or signals
+ * that the text is not of a shape it handles (in which case the caller falls back), so errors are always reported by
+ * the JDK parsers.
+ */
+final class TextParsing
+{
+    static final String ISO_DATE_FORMAT = "yyyy-MM-dd";
+    static final String ISO_DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXX";
+
+    // Largest number of significant digits that always fits in the 53 bit mantissa of a double
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private TextParsing()
+    {
+    }
+
+    /**
+     * The default number validation patterns are found within (rather than matched against) the text, which amounts to
+     * the text containing an ASCII digit. Values are fully checked when parsed.
+     */
+    static boolean containsDigit(CharSequence s)
+    {
+        for (int i = 0; i < s.length(); i++)
+        {
+            if (isDigit(s.charAt(i)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses an optionally signed decimal without exponent and with at most 15 significant digits, such as
+     * <code>-123.45</code>, as {@link Double#parseDouble} would. As both the digits and the power of ten are exact
+     * doubles the correctly rounded division gives the same result.
+     *
+     * @return the value or NaN if the text is not of this shape
+     */
+    static double parseSimpleDouble(CharSequence s)
+    {
+        int length = s.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+'))
+        {
+            negative = s.charAt(0) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        int digits = 0;
+        boolean inFraction = false;
+        for (; i < length; i++)
+        {
+            char ch = s.charAt(i);
+            if (isDigit(ch))
+            {
+                if (mantissa != 0 || ch != '0')
+                {
+                    if (++significantDigits > MAX_EXACT_DIGITS)
+                    {
+                        return Double.NaN;
+                    }
+                }
+                mantissa = mantissa * 10 + (ch - '0');
+                digits++;
+                if (inFraction)
+                {
+                    fractionDigits++;
+                }
+            }
+            else if (ch == '.' && !inFraction)
+            {
+                inFraction = true;
+            }
+            else
+            {
+                return Double.NaN;
+            }
+        }
+        if (digits == 0 || fractionDigits >= EXACT_POWERS_OF_TEN.length)
+        {
+            return Double.NaN;
+        }
+
+        double value = fractionDigits == 0 ? (double) mantissa : mantissa / EXACT_POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a date in the {@value #ISO_DATE_FORMAT} format as a formatter of that pattern would, including its smart
+     * resolution of days beyond the end of the month to the last day of the month.
+     *
+     * @return the date or null if the text is not of this shape
+     */
+    static LocalDate parseIsoDate(CharSequence s)
+    {
+        if (s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-')
+        {
+            return null;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        return isValidDate(year, month, day) ? resolveDate(year, month, day) : null;
+    }
+
+    /**
+     * Parses a date time in the {@value #ISO_DATETIME_FORMAT} format, with an offset of <code>Z</code> or
+     * <code>+HHMM</code>, as a formatter of that pattern would.
+     *
+     * @return the instant or null if the text is not of this shape
+     */
+    static Instant parseIsoDateTime(CharSequence s)
+    {
+        int length = s.length();
+        if ((length != 24 && length != 28)
+                || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T'
+                || s.charAt(13) != ':' || s.charAt(16) != ':' || s.charAt(19) != '.')
+        {
+            return null;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        int second = digits(s, 17, 2);
+        int millis = digits(s, 20, 3);
+        if (!isValidDate(year, month, day) || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0)
+        {
+            return null;
+        }
+
+        int offsetSeconds;
+        char sign = s.charAt(23);
+        if (length == 24)
+        {
+            if (sign != 'Z')
+            {
+                return null;
+            }
+            offsetSeconds = 0;
+        }
+        else
+        {
+            int offsetHours = digits(s, 24, 2);
+            int offsetMinutes = digits(s, 26, 2);
+            if ((sign != '+' && sign != '-') || offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59 || (offsetHours == 18 && offsetMinutes > 0))
+            {
+                return null;
+            }
+            offsetSeconds = (sign == '-' ? -1 : 1) * (offsetHours * 3600 + offsetMinutes * 60);
+        }
+
+        long epochSecond = resolveDate(year, month, day).toEpochDay() * 86400 + hour * 3600 + minute * 60 + second - offsetSeconds;
+        return Instant.ofEpochSecond(epochSecond, millis * 1_000_000L);
+    }
+
+    private static boolean isValidDate(int year, int month, int day)
+    {
+        // A year of era of zero is invalid, and days beyond 31 are not resolved
+        return year > 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    private static LocalDate resolveDate(int year, int month, int day)
+    {
+        return LocalDate.of(year, month, Math.min(day, Month.of(month).length(Year.isLeap(year))));
+    }
+
+    /**
+     * @return the value of the digits or -1 if any of the chars is not a digit
+     */
+    private static int digits(CharSequence s, int start, int count)
+    {
+        int value = 0;
+        for (int i = start; i < start + count; i++)
+        {
+            char ch = s.charAt(i);
+            if (!isDigit(ch))
+            {
+                return -1;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char ch)
+    {
+        return ch >= '0' && ch <= '9';
+    }
+}
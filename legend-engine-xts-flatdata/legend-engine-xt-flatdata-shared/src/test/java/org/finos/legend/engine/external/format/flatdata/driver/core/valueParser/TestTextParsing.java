@@ -0,0 +1,161 @@
+//  Copyright 2023 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.driver.core.valueParser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class TestTextParsing
+{
+    private static final List<String> YEARS = Arrays.asList("0000", "0001", "1900", "1970", "2000", "2023", "2024", "9999", "20x3");
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern(TextParsing.ISO_DATE_FORMAT);
+    private static final DateTimeFormatter ISO_DATETIME = DateTimeFormatter.ofPattern(TextParsing.ISO_DATETIME_FORMAT).withZone(ZoneId.of("America/New_York"));
+
+    @Test
+    public void containsDigit()
+    {
+        Assert.assertTrue(TextParsing.containsDigit("123"));
+        Assert.assertTrue(TextParsing.containsDigit("abc1"));
+        Assert.assertFalse(TextParsing.containsDigit(""));
+        Assert.assertFalse(TextParsing.containsDigit("+-.e"));
+    }
+
+    @Test
+    public void parseSimpleDoubleAgreesWithParseDouble()
+    {
+        for (String s : Arrays.asList("0", "-0", "+0", "0.0", "-0.0", "1", "-1", "1.", ".5", "-.5", "0.1", "0.3", "123.456", "999999999999999", "0.000000000000000000001", "9007199254740993"))
+        {
+            assertSimpleDouble(s);
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++)
+        {
+            String digits = Long.toString(Math.abs(random.nextLong()) % 10_000_000_000_000_000L);
+            int point = random.nextInt(digits.length() + 1);
+            assertSimpleDouble((random.nextBoolean() ? "-" : "") + digits.substring(0, point) + "." + digits.substring(point));
+        }
+    }
+
+    @Test
+    public void parseSimpleDoubleRejectsOtherShapes()
+    {
+        for (String s : Arrays.asList("", "-", ".", "1.2.3", "1e5", "1,000", " 1", "NaN", "Infinity", "0x10", "1234567890123456", "0.00000000000000000000001"))
+        {
+            Assert.assertTrue(s, Double.isNaN(TextParsing.parseSimpleDouble(s)));
+        }
+    }
+
+    @Test
+    public void parseIsoDateAgreesWithFormatter()
+    {
+        for (String year : YEARS)
+        {
+            for (int month = 0; month <= 13; month++)
+            {
+                for (int day = 0; day <= 32; day++)
+                {
+                    String s = year + "-" + pad(month) + "-" + pad(day);
+                    // a year of era of zero is left to the formatter
+                    Assert.assertEquals(s, year.equals("0000") ? null : parseOrNull(s), TextParsing.parseIsoDate(s));
+                }
+            }
+        }
+        Assert.assertNull(TextParsing.parseIsoDate("2023-1-01"));
+        Assert.assertNull(TextParsing.parseIsoDate("2023/01/01"));
+        Assert.assertNotNull(TextParsing.parseIsoDateTime("2023-10-05T18:57:22.123+0100"));
+    }
+
+    @Test
+    public void parseIsoDateTimeAgreesWithFormatter()
+    {
+        List<String> times = Arrays.asList("00:00:00.000", "12:34:56.789", "23:59:59.999", "24:00:00.000", "12:60:00.000", "12:00:60.000", "1a:00:00.000");
+        List<String> offsets = Arrays.asList("Z", "+0000", "-0000", "+0130", "-0500", "+1800", "-1800", "+1801", "+1900", "+0160", "z", "+01:00", "");
+        for (String date : Arrays.asList("0001-01-01", "1969-12-31", "1970-01-01", "2023-02-29", "2024-02-29", "2023-04-31", "2023-00-10", "9999-12-31"))
+        {
+            for (String time : times)
+            {
+                for (String offset : offsets)
+                {
+                    String s = date + "T" + time + offset;
+                    Instant instant = TextParsing.parseIsoDateTime(s);
+                    // values the formatter resolves beyond the simple shapes, such as 24:00, are left to it
+                    if (instant != null)
+                    {
+                        Assert.assertEquals(s, Instant.from(ISO_DATETIME.parse(s)), instant);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parsersUseFastPathsForDefaultFormats() throws ParseException
+    {
+        DateParser dateParser = DateParser.of(Collections.singletonList(TextParsing.ISO_DATE_FORMAT));
+        Assert.assertEquals(LocalDate.of(2023, 2, 28), dateParser.parse("2023-02-30"));
+        Assert.assertNull(dateParser.validate("2023-02-28"));
+        Assert.assertNotNull(dateParser.validate("2023-02-32"));
+
+        DateTimeParser dateTimeParser = DateTimeParser.of(Collections.singletonList(TextParsing.ISO_DATETIME_FORMAT), "UTC");
+        Assert.assertEquals(Instant.parse("2023-10-05T17:57:22.123Z"), dateTimeParser.parse("2023-10-05T18:57:22.123+0100"));
+        Assert.assertEquals(Instant.parse("2023-10-05T18:57:22.123Z"), DateTimeParser.of(dateTimeParser, "EST").parse("2023-10-05T18:57:22.123Z"));
+        Assert.assertNull(dateTimeParser.validate("2023-10-05T18:57:22.123Z"));
+        Assert.assertNotNull(dateTimeParser.validate("2023-10-05T25:57:22.123Z"));
+
+        Assert.assertEquals(-12.5, DecimalParser.of().parseDouble("-12.5"), 0.0);
+        Assert.assertEquals(1.5E10, DecimalParser.of().parseDouble("1.5E10"), 0.0);
+        Assert.assertEquals(42.0, IntegerParser.of().parseDouble("+42"), 0.0);
+        Assert.assertNull(IntegerParser.of().validate("42"));
+        Assert.assertNotNull(IntegerParser.of().validate("forty two"));
+    }
+
+    private static void assertSimpleDouble(String s)
+    {
+        double parsed = TextParsing.parseSimpleDouble(s);
+        if (!Double.isNaN(parsed))
+        {
+            Assert.assertEquals(s, Double.doubleToLongBits(Double.parseDouble(s)), Double.doubleToLongBits(parsed));
+        }
+    }
+
+    private static LocalDate parseOrNull(String s)
+    {
+        try
+        {
+            return LocalDate.parse(s, ISO_DATE);
+        }
+        catch (DateTimeException e)
+        {
+            return null;
+        }
+    }
+
+    private static String pad(int i)
+    {
+        return i < 10 ? "0" + i : Integer.toString(i);
+    }
+}
@@ -30,13 +30,15 @@ import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
@@ -44,12 +46,43 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public abstract class JsonDataReader<T>
 {
+    // read methods of each generated reader class, looked up once rather than on every dispatch to a subtype
+    private static final ClassValue<Set<String>> DECLARED_METHODS = new ClassValue<Set<String>>()
+    {
+        @Override
+        protected Set<String> computeValue(Class<?> type)
+        {
+            Set<String> names = new HashSet<>();
+            for (Method method : type.getDeclaredMethods())
+            {
+                names.add(method.getName());
+            }
+            return names;
+        }
+    };
+
+    private static final ClassValue<Map<String, Method>> READ_METHODS = new ClassValue<Map<String, Method>>()
+    {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type)
+        {
+            Map<String, Method> methods = new HashMap<>();
+            for (Method method : type.getMethods())
+            {
+                if ((method.getParameterCount() == 1) && (method.getParameterTypes()[0] == JsonNode.class))
+                {
+                    methods.put(method.getName(), method);
+                }
+            }
+            return methods;
+        }
+    };
+
     private final JsonParser parser;
     private final ObjectMapper objectMapper;
 
@@ -57,8 +90,9 @@ public abstract class JsonDataReader<T>
     private boolean inArray = false;
     private long recordCount = 0;
 
-    private final Queue<IChecked<T>> queue = new LinkedList<>();
-    private final Set<String> declaredMethods = Arrays.stream(this.getClass().getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
+    private final Queue<IChecked<T>> queue = new ArrayDeque<>();
+    private final Set<String> declaredMethods = DECLARED_METHODS.get(this.getClass());
+    private final Map<String, Method> readMethods = READ_METHODS.get(this.getClass());
 
     public JsonDataReader(InputStream in, boolean useBigDecimalForFloats, String pathOffset)
     {
@@ -127,6 +161,7 @@ public abstract class JsonDataReader<T>
         {
             this.recordCount++;
             JsonNode node = this.objectMapper.readValue(this.parser, JsonNode.class);
+            // the source keeps the record text rather than the parsed tree, as checked results may be held long after reading
             return Collections.singleton(readCheckedObject(node, new JsonDataRecord(this.recordCount, node.toString())));
         }
         catch (IOException e)
@@ -189,19 +224,15 @@ public abstract class JsonDataReader<T>
 
     protected boolean readMethodExists(String name)
     {
-        return declaredMethods.contains(name);
+        return this.declaredMethods.contains(name);
     }
 
     protected Object readMethodInvoke(String name, JsonNode node)
     {
-        Method m;
-        try
-        {
-            m = this.getClass().getMethod(name, JsonNode.class);
-        }
-        catch (NoSuchMethodException e)
+        Method m = this.readMethods.get(name);
+        if (m == null)
         {
-            throw new RuntimeException(e.getMessage());
+            throw new RuntimeException(this.getClass().getName() + "." + name + "(" + JsonNode.class.getName() + ")");
         }
 
         try
@@ -216,79 +247,34 @@ public abstract class JsonDataReader<T>
 
     protected String acceptString(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE String";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.textValue();
-        }
-        catch (IllegalArgumentException ex)
-        {
-            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException(ex.getMessage());
-        }
+        this.checkNodeType(node, JsonNodeType.STRING, "String");
+        return node.textValue();
     }
 
     protected boolean acceptBoolean(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Boolean";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("BOOLEAN")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.booleanValue();
-        }
-        catch (IllegalArgumentException ex)
-        {
-            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException(ex.getMessage());
-        }
+        this.checkNodeType(node, JsonNodeType.BOOLEAN, "Boolean");
+        return node.booleanValue();
     }
 
     protected long acceptInteger(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Integer";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.longValue();
-        }
-        catch (IllegalArgumentException ex)
-        {
-            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException(ex.getMessage());
-        }
+        this.checkNodeType(node, JsonNodeType.NUMBER, "Integer");
+        return node.longValue();
     }
 
     protected double acceptFloat(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Float";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.doubleValue();
-        }
-        catch (IllegalArgumentException ex)
-        {
-            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException(ex.getMessage());
-        }
+        this.checkNodeType(node, JsonNodeType.NUMBER, "Float");
+        return node.doubleValue();
     }
 
     protected BigDecimal acceptDecimal(JsonNode node)
     {
+        this.checkNodeType(node, JsonNodeType.STRING, JsonNodeType.NUMBER, "Decimal");
         try
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Decimal";
-            this.check(Arrays.asList(JsonNodeType.valueOf("STRING"),
-                    JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.getNodeType()
-                    .equals(JsonNodeType.STRING)
+            return node.isTextual()
                     ? new BigDecimal(node.textValue())
                     : node.decimalValue();
         }
@@ -300,15 +286,10 @@ public abstract class JsonDataReader<T>
 
     protected Number acceptNumber(JsonNode node)
     {
+        this.checkNodeType(node, JsonNodeType.STRING, JsonNodeType.NUMBER, "Number");
         try
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Number";
-            this.check(Arrays.asList(JsonNodeType.valueOf("STRING"),
-                    JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.getNodeType()
-                    .equals(JsonNodeType.STRING)
+            return node.isTextual()
                     ? new BigDecimal(node.textValue())
                     : node.isDouble()
                     ? node.doubleValue()
@@ -322,31 +303,25 @@ public abstract class JsonDataReader<T>
 
     protected PureDate acceptStrictDate(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE StrictDate";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
-            return org.finos.legend.engine.plan.dependencies.domain.date.PureDate
-                    .parsePureDate(node.textValue());
-        }
-        catch (IllegalArgumentException ex)
-        {
-            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException(ex.getMessage());
-        }
+        return this.acceptPureDate(node, "StrictDate");
     }
 
     protected PureDate acceptDateTime(JsonNode node)
     {
+        return this.acceptPureDate(node, "DateTime");
+    }
+
+    protected PureDate acceptDate(JsonNode node)
+    {
+        return this.acceptPureDate(node, "Date");
+    }
+
+    private PureDate acceptPureDate(JsonNode node, String pureType)
+    {
+        this.checkNodeType(node, JsonNodeType.STRING, pureType);
         try
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE DateTime";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
-            return org.finos.legend.engine.plan.dependencies.domain.date.PureDate
-                    .parsePureDate(node.textValue());
+            return PureDate.parsePureDate(node.textValue());
         }
         catch (IllegalArgumentException ex)
         {
@@ -354,20 +329,21 @@ public abstract class JsonDataReader<T>
         }
     }
 
-    protected PureDate acceptDate(JsonNode node)
+    // the error message is only built when the check fails, as acceptors run for every value read
+    private void checkNodeType(JsonNode node, JsonNodeType expectedNode, String pureType)
     {
-        try
+        if (node.getNodeType() != expectedNode)
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Date";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
-            return org.finos.legend.engine.plan.dependencies.domain.date.PureDate
-                    .parsePureDate(node.textValue());
+            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException("Unexpected node type:" + node.getNodeType() + " for PURE " + pureType);
         }
-        catch (IllegalArgumentException ex)
+    }
+
+    private void checkNodeType(JsonNode node, JsonNodeType expectedNode, JsonNodeType otherExpectedNode, String pureType)
+    {
+        JsonNodeType nodeType = node.getNodeType();
+        if ((nodeType != expectedNode) && (nodeType != otherExpectedNode))
         {
-            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException(ex.getMessage());
+            throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException("Unexpected node type:" + nodeType + " for PURE " + pureType);
         }
     }
 
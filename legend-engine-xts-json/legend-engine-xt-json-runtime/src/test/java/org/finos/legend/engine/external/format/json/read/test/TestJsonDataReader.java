@@ -0,0 +1,192 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.json.read.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.external.format.json.read.JsonDataReader;
+import org.finos.legend.engine.external.format.json.read.JsonDataRecord;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class TestJsonDataReader
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testReadsArrayOfRecords()
+    {
+        List<IChecked<Object>> checked = read("[{\"name\":\"a\"},{\"name\":\"b\"}]").startStream().collect(Collectors.toList());
+
+        Assert.assertEquals(Arrays.asList("a", "b"), checked.stream().map(IChecked::getValue).collect(Collectors.toList()));
+        JsonDataRecord second = (JsonDataRecord) checked.get(1).getSource();
+        Assert.assertEquals(2, second.getNumber());
+        Assert.assertEquals("{\"name\":\"b\"}", second.getRecord());
+    }
+
+    @Test
+    public void testReadMethodsAreDispatchedByName() throws Exception
+    {
+        TestReader reader = read("[]");
+
+        Assert.assertTrue(reader.exists("readPerson"));
+        Assert.assertEquals("person:a", reader.invoke("readPerson", MAPPER.readTree("\"a\"")));
+
+        // declared methods which cannot take a node are known but not invocable
+        Assert.assertTrue(reader.exists("readInternal"));
+        RuntimeException notInvocable = Assert.assertThrows(RuntimeException.class, () -> reader.invoke("readInternal", MAPPER.readTree("\"a\"")));
+        Assert.assertEquals(TestReader.class.getName() + ".readInternal(" + JsonNode.class.getName() + ")", notInvocable.getMessage());
+
+        Assert.assertFalse(reader.exists("readUnknown"));
+        Assert.assertThrows(RuntimeException.class, () -> reader.invoke("readUnknown", MAPPER.readTree("\"a\"")));
+    }
+
+    @Test
+    public void testReadMethodsAreResolvedPerReaderClass() throws Exception
+    {
+        SubTestReader reader = new SubTestReader(stream("[]"));
+
+        // existence is checked against the reader class itself, inherited read methods can still be invoked
+        Assert.assertTrue(reader.exists("readFirm"));
+        Assert.assertFalse(reader.exists("readPerson"));
+        Assert.assertEquals("firm:b", reader.invoke("readFirm", MAPPER.readTree("\"b\"")));
+        Assert.assertEquals("person:b", reader.invoke("readPerson", MAPPER.readTree("\"b\"")));
+        Assert.assertTrue(read("[]").exists("readPerson"));
+        Assert.assertFalse(read("[]").exists("readFirm"));
+    }
+
+    @Test
+    public void testAcceptorsCheckNodeType() throws Exception
+    {
+        TestReader reader = read("[]");
+
+        Assert.assertEquals("a", reader.string(MAPPER.readTree("\"a\"")));
+        Assert.assertEquals(12L, reader.integer(MAPPER.readTree("12")));
+        Assert.assertEquals(new BigDecimal("1.5"), reader.decimal(MAPPER.readTree("\"1.5\"")));
+        Assert.assertEquals(0, new BigDecimal("1.5").compareTo(reader.decimal(MAPPER.readTree("1.5"))));
+
+        DataParsingException notString = Assert.assertThrows(DataParsingException.class, () -> reader.string(MAPPER.readTree("12")));
+        Assert.assertEquals("Unexpected node type:NUMBER for PURE String", notString.getMessage());
+        DataParsingException notInteger = Assert.assertThrows(DataParsingException.class, () -> reader.integer(MAPPER.readTree("\"12\"")));
+        Assert.assertEquals("Unexpected node type:STRING for PURE Integer", notInteger.getMessage());
+        DataParsingException notDecimal = Assert.assertThrows(DataParsingException.class, () -> reader.decimal(MAPPER.readTree("true")));
+        Assert.assertEquals("Unexpected node type:BOOLEAN for PURE Decimal", notDecimal.getMessage());
+    }
+
+    @Test
+    public void testAcceptManyRecordsDefects() throws Exception
+    {
+        TestReader reader = read("[]");
+        Set<String> defects = ConcurrentHashMap.newKeySet();
+
+        List<String> values = reader.many(MAPPER.readTree("[\"a\",1,\"b\"]"), defects::add);
+
+        Assert.assertEquals(Arrays.asList("a", "b"), values);
+        Assert.assertEquals(Collections.singleton("Unexpected node type:NUMBER for PURE String"), defects);
+        Assert.assertEquals(Collections.emptyList(), reader.many(MAPPER.readTree("null"), defects::add));
+    }
+
+    private static TestReader read(String json)
+    {
+        return new TestReader(stream(json));
+    }
+
+    private static InputStream stream(String json)
+    {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class TestReader extends JsonDataReader<Object>
+    {
+        TestReader(InputStream in)
+        {
+            super(in, false, null);
+        }
+
+        @Override
+        protected IChecked<Object> readCheckedObject(JsonNode node, JsonDataRecord source)
+        {
+            return BasicChecked.newChecked(this.acceptString(node.get("name")), source);
+        }
+
+        public String readPerson(JsonNode node)
+        {
+            return "person:" + this.acceptString(node);
+        }
+
+        public String readInternal(String value)
+        {
+            return value;
+        }
+
+        boolean exists(String name)
+        {
+            return this.readMethodExists(name);
+        }
+
+        Object invoke(String name, JsonNode node)
+        {
+            return this.readMethodInvoke(name, node);
+        }
+
+        String string(JsonNode node)
+        {
+            return this.acceptString(node);
+        }
+
+        long integer(JsonNode node)
+        {
+            return this.acceptInteger(node);
+        }
+
+        BigDecimal decimal(JsonNode node)
+        {
+            return this.acceptDecimal(node);
+        }
+
+        List<String> many(JsonNode node, Consumer<String> defectRecorder)
+        {
+            return this.acceptMany(node, this::acceptString, defectRecorder);
+        }
+    }
+
+    public static class SubTestReader extends TestReader
+    {
+        SubTestReader(InputStream in)
+        {
+            super(in);
+        }
+
+        public String readFirm(JsonNode node)
+        {
+            return "firm:" + this.acceptString(node);
+        }
+    }
+}
@@ -14,11 +14,12 @@
 
 package org.finos.legend.engine.plan.execution.stores.mongodb;
 
-import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.eclipse.collections.api.tuple.Pair;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoClientPool;
 import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoDBConnectionSpecification;
 import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoDBStoreConnectionProvider;
 import org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBResult;
@@ -33,10 +34,17 @@ public class MongoDBExecutor
 {
 
     private final CredentialProviderProvider credentialProviderProvider;
+    private final MongoClientPool mongoClientPool;
 
     public MongoDBExecutor(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, MongoClientPool.getDefault());
+    }
+
+    public MongoDBExecutor(CredentialProviderProvider credentialProviderProvider, MongoClientPool mongoClientPool)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.mongoClientPool = mongoClientPool;
     }
 
     public MongoDBResult executeMongoDBQuery(String dbCommand, MongoDBConnection dbConnection, Identity serviceIdentity)
@@ -48,8 +56,9 @@ public class MongoDBExecutor
             try
             {
                 Document bsonCmd = Document.parse(dbCommand);
-                Supplier<Pair<MongoClient, MongoCursor<Document>>> mongoResultSupplier = mongoDBConnectionProvider.executeQuery(dbConnection, serviceIdentity, bsonCmd);
-                return new MongoDBResult(mongoResultSupplier.get().getOne(), mongoResultSupplier.get().getTwo());
+                Supplier<Pair<MongoClientPool.Lease, MongoCursor<RawBsonDocument>>> mongoResultSupplier = mongoDBConnectionProvider.executeQuery(dbConnection, serviceIdentity, bsonCmd);
+                Pair<MongoClientPool.Lease, MongoCursor<RawBsonDocument>> mongoResult = mongoResultSupplier.get();
+                return new MongoDBResult(mongoResult.getOne(), mongoResult.getTwo());
             }
             catch (Exception e)
             {
@@ -70,7 +79,7 @@ public class MongoDBExecutor
 
     private MongoDBStoreConnectionProvider getMongoDBConnectionProvider()
     {
-        MongoDBStoreConnectionProvider connectionProvider = new MongoDBStoreConnectionProvider(this.credentialProviderProvider);
+        MongoDBStoreConnectionProvider connectionProvider = new MongoDBStoreConnectionProvider(this.credentialProviderProvider, this.mongoClientPool);
         return connectionProvider;
     }
 }
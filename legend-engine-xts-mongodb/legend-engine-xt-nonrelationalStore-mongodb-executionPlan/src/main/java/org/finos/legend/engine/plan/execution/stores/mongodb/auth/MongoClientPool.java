@@ -0,0 +1,316 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.auth;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded registry of MongoDB clients shared by executions, keyed by the hosts connected to and the credential used,
+ * so that executions reuse the connection pool, server discovery and authenticated connections of a client instead of
+ * creating a client per query.
+ * <p>
+ * Clients are leased for the lifetime of a result. Clients which have not been used for the idle timeout, or which are
+ * the least recently used once the maximum number of clients is reached, are removed from the registry and closed when
+ * their last lease is released.
+ */
+public class MongoClientPool implements Closeable
+{
+    public static final int DEFAULT_MAX_CLIENTS = 100;
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 600_000L;
+
+    private final String name;
+    private final int maxClients;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    // access ordered: iterates from the least recently used client
+    private final LinkedHashMap<Pair<List<ServerAddress>, MongoCredential>, PooledClient> clients = new LinkedHashMap<>(16, 0.75f, true);
+    private boolean closed = false;
+
+    private MongoClientPool(String name, int maxClients, long idleTimeoutMillis, LongSupplier nanoClock)
+    {
+        this.name = name;
+        this.maxClients = maxClients;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    public static MongoClientPool getDefault()
+    {
+        return DefaultPoolHolder.DEFAULT_POOL;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Leases the client for the hosts and credential of the given settings, creating it with these settings if there is
+     * none. The lease must be closed once the client is no longer used.
+     */
+    public Lease acquire(MongoClientSettings clientSettings)
+    {
+        Pair<List<ServerAddress>, MongoCredential> key = Tuples.pair(new ArrayList<>(clientSettings.getClusterSettings().getHosts()), clientSettings.getCredential());
+        List<PooledClient> removed = new ArrayList<>();
+        Lease lease;
+        synchronized (this)
+        {
+            if (this.closed)
+            {
+                throw new IllegalStateException("MongoDB client pool '" + this.name + "' is closed");
+            }
+            long now = this.nanoClock.getAsLong();
+            this.removeExpired(now, removed);
+            PooledClient pooledClient = this.clients.get(key);
+            if (pooledClient == null)
+            {
+                pooledClient = new PooledClient(MongoClients.create(clientSettings));
+                this.clients.put(key, pooledClient);
+                this.removeLeastRecentlyUsed(removed);
+            }
+            pooledClient.leases++;
+            pooledClient.lastUsedNanos = now;
+            lease = new Lease(pooledClient);
+        }
+        closeAll(removed);
+        this.reportMetrics();
+        return lease;
+    }
+
+    public synchronized int getSize()
+    {
+        return this.clients.size();
+    }
+
+    public synchronized int getLeasedSize()
+    {
+        int leased = 0;
+        for (PooledClient pooledClient : this.clients.values())
+        {
+            if (pooledClient.leases > 0)
+            {
+                leased++;
+            }
+        }
+        return leased;
+    }
+
+    /**
+     * Removes and closes the clients which have not been leased for the idle timeout.
+     */
+    public void evictExpired()
+    {
+        List<PooledClient> removed = new ArrayList<>();
+        synchronized (this)
+        {
+            this.removeExpired(this.nanoClock.getAsLong(), removed);
+        }
+        closeAll(removed);
+        this.reportMetrics();
+    }
+
+    public void reportMetrics()
+    {
+        int total;
+        int leased;
+        synchronized (this)
+        {
+            total = this.clients.size();
+            leased = this.getLeasedSize();
+        }
+        MetricsHandler.setConnectionMetrics(this.name, leased, total, total - leased);
+    }
+
+    @Override
+    public void close()
+    {
+        List<PooledClient> removed = new ArrayList<>();
+        synchronized (this)
+        {
+            this.closed = true;
+            for (PooledClient pooledClient : this.clients.values())
+            {
+                this.remove(pooledClient, removed);
+            }
+            this.clients.clear();
+        }
+        closeAll(removed);
+        MetricsHandler.removeConnectionMetrics(this.name);
+    }
+
+    private void removeExpired(long now, List<PooledClient> removed)
+    {
+        Iterator<PooledClient> iterator = this.clients.values().iterator();
+        while (iterator.hasNext())
+        {
+            PooledClient pooledClient = iterator.next();
+            if ((pooledClient.leases == 0) && (now - pooledClient.lastUsedNanos >= this.idleTimeoutNanos))
+            {
+                iterator.remove();
+                this.remove(pooledClient, removed);
+            }
+        }
+    }
+
+    private void removeLeastRecentlyUsed(List<PooledClient> removed)
+    {
+        Iterator<PooledClient> iterator = this.clients.values().iterator();
+        while ((this.clients.size() > this.maxClients) && iterator.hasNext())
+        {
+            PooledClient pooledClient = iterator.next();
+            iterator.remove();
+            this.remove(pooledClient, removed);
+        }
+    }
+
+    private void remove(PooledClient pooledClient, List<PooledClient> removed)
+    {
+        pooledClient.evicted = true;
+        if (pooledClient.leases == 0)
+        {
+            removed.add(pooledClient);
+        }
+    }
+
+    private void release(PooledClient pooledClient)
+    {
+        boolean close;
+        synchronized (this)
+        {
+            pooledClient.leases--;
+            pooledClient.lastUsedNanos = this.nanoClock.getAsLong();
+            close = pooledClient.evicted && (pooledClient.leases == 0);
+        }
+        if (close)
+        {
+            pooledClient.client.close();
+        }
+        this.reportMetrics();
+    }
+
+    private static void closeAll(List<PooledClient> pooledClients)
+    {
+        pooledClients.forEach(pooledClient -> pooledClient.client.close());
+    }
+
+    public class Lease implements Closeable
+    {
+        private final PooledClient pooledClient;
+        private boolean released = false;
+
+        private Lease(PooledClient pooledClient)
+        {
+            this.pooledClient = pooledClient;
+        }
+
+        public MongoClient getClient()
+        {
+            return this.pooledClient.client;
+        }
+
+        @Override
+        public void close()
+        {
+            synchronized (this)
+            {
+                if (this.released)
+                {
+                    return;
+                }
+                this.released = true;
+            }
+            MongoClientPool.this.release(this.pooledClient);
+        }
+    }
+
+    private static class PooledClient
+    {
+        private final MongoClient client;
+        private int leases = 0;
+        private long lastUsedNanos;
+        private boolean evicted = false;
+
+        private PooledClient(MongoClient client)
+        {
+            this.client = client;
+        }
+    }
+
+    public static class Builder
+    {
+        private String name = "mongoDB";
+        private int maxClients = DEFAULT_MAX_CLIENTS;
+        private long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        public Builder withName(String name)
+        {
+            this.name = name;
+            return this;
+        }
+
+        public Builder withMaxClients(int maxClients)
+        {
+            this.maxClients = maxClients;
+            return this;
+        }
+
+        public Builder withIdleTimeout(long idleTimeout, TimeUnit unit)
+        {
+            this.idleTimeoutMillis = unit.toMillis(idleTimeout);
+            return this;
+        }
+
+        Builder withNanoClock(LongSupplier nanoClock)
+        {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public MongoClientPool build()
+        {
+            if (this.maxClients < 1)
+            {
+                throw new IllegalArgumentException("maxClients must be at least 1, got " + this.maxClients);
+            }
+            return new MongoClientPool(this.name, this.maxClients, this.idleTimeoutMillis, this.nanoClock);
+        }
+    }
+
+    private static class DefaultPoolHolder
+    {
+        private static final MongoClientPool DEFAULT_POOL = builder().build();
+    }
+}
@@ -18,10 +18,10 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
@@ -49,13 +49,21 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
     private static final int DEFAULT_BATCH_SIZE = 10;
     private static final String ADMIN_DB = "admin";
 
+    private final MongoClientPool mongoClientPool;
+
     public MongoDBStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, MongoClientPool.getDefault());
+    }
+
+    public MongoDBStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider, MongoClientPool mongoClientPool)
     {
         super(credentialProviderProvider);
+        this.mongoClientPool = mongoClientPool;
     }
 
 
-    public Supplier<Pair<MongoClient, MongoCursor<Document>>> executeQuery(MongoDBConnection dbConnection, Identity identity, Document bsonCmd) throws Exception
+    public Supplier<Pair<MongoClientPool.Lease, MongoCursor<RawBsonDocument>>> executeQuery(MongoDBConnection dbConnection, Identity identity, Document bsonCmd) throws Exception
     {
         final MongoDBConnectionSpecification connectionSpec = new MongoDBConnectionSpecification(dbConnection.dataSourceSpecification);
         final AuthenticationSpecification authenticationSpec = dbConnection.authenticationSpecification;
@@ -70,7 +78,7 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
         List<ServerAddress> serverAddresses = mongoDBConnectionSpec.getServerAddresses();
         MongoClientSettings.Builder clientSettingsBuilder = MongoClientSettings.builder().applyToClusterSettings(builder -> builder.hosts(serverAddresses)).applicationName("Legend Execution Server");
 
-        Supplier<Pair<MongoClient, MongoCursor<Document>>> mongoResultSupplier;
+        Supplier<Pair<MongoClientPool.Lease, MongoCursor<RawBsonDocument>>> mongoResultSupplier;
         if (authenticationSpec instanceof KerberosAuthenticationSpecification)
         {
             Optional<LegendKerberosCredential> kerberosHolder = identity.getCredential(LegendKerberosCredential.class);
@@ -91,7 +99,7 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
 
             MongoCredential mongoCredential = MongoCredential.createGSSAPICredential(kerberosPrincipal.getName());
             MongoClientSettings clientSettings = clientSettingsBuilder.credential(mongoCredential).build();
-            mongoResultSupplier = () -> KerberosUtils.doAs(identity, (PrivilegedAction<Pair<MongoClient, MongoCursor<Document>>>) () -> this.executeMongoCommand(clientSettings,
+            mongoResultSupplier = () -> KerberosUtils.doAs(identity, (PrivilegedAction<Pair<MongoClientPool.Lease, MongoCursor<RawBsonDocument>>>) () -> this.executeMongoCommand(clientSettings,
                     dbConnection.dataSourceSpecification.databaseName, bsonCmd));
         }
         else
@@ -114,17 +122,33 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
         return mongoResultSupplier;
     }
 
-    private Pair<MongoClient, MongoCursor<Document>> executeMongoCommand(MongoClientSettings clientSettings, String databaseName, Document bsonCmd)
+    private Pair<MongoClientPool.Lease, MongoCursor<RawBsonDocument>> executeMongoCommand(MongoClientSettings clientSettings, String databaseName, Document bsonCmd)
     {
-        MongoClient mongoClient = MongoClients.create(clientSettings);
-        MongoDatabase mongoDatabase = mongoClient.getDatabase(databaseName);
-        MongoCursor<Document> cursor = mongoDatabase.getCollection(bsonCmd.getString("aggregate"))
-                .aggregate(bsonCmd.getList("pipeline", Document.class))
-                .batchSize(DEFAULT_BATCH_SIZE).iterator();
-        return Tuples.pair(mongoClient, cursor);
+        MongoClientPool.Lease lease = this.mongoClientPool.acquire(clientSettings);
+        try
+        {
+            MongoDatabase mongoDatabase = lease.getClient().getDatabase(databaseName);
+            // documents are kept undecoded until read
+            MongoCursor<RawBsonDocument> cursor = mongoDatabase.getCollection(bsonCmd.getString("aggregate"))
+                    .aggregate(bsonCmd.getList("pipeline", Document.class), RawBsonDocument.class)
+                    .batchSize(getBatchSize(bsonCmd)).iterator();
+            return Tuples.pair(lease, cursor);
+        }
+        catch (RuntimeException e)
+        {
+            lease.close();
+            throw e;
+        }
 
     }
 
+    private static int getBatchSize(Document bsonCmd)
+    {
+        Document cursorOptions = bsonCmd.get("cursor", Document.class);
+        Number batchSize = (cursorOptions == null) ? null : cursorOptions.get("batchSize", Number.class);
+        return (batchSize == null) ? DEFAULT_BATCH_SIZE : batchSize.intValue();
+    }
+
     @Override
     public Supplier<MongoClient> makeConnection(ConnectionSpecification connectionSpec, AuthenticationSpecification authenticationSpec, Identity identity) throws Exception
     {
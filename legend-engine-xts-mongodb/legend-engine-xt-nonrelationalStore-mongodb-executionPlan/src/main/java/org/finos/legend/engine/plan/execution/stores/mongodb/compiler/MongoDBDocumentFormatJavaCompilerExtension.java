@@ -16,9 +16,11 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.compiler;
 
 import com.mongodb.client.MongoCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.ExecutionPlanJavaCompilerExtension;
 import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBJsonNodeDecoder;
 import org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBResult;
 import org.finos.legend.engine.plan.execution.stores.mongodb.specifics.IMongoDocumentDeserializeExecutionNodeSpecifics;
 import org.finos.legend.engine.shared.javaCompiler.ClassPathFilter;
@@ -36,9 +38,11 @@ public class MongoDBDocumentFormatJavaCompilerExtension implements ExecutionPlan
     static
     {
         DEPENDENCIES.put("org.bson.Document", Document.class);
+        DEPENDENCIES.put("org.bson.RawBsonDocument", RawBsonDocument.class);
         DEPENDENCIES.put("com.mongodb.client.MongoCursor", MongoCursor.class);
         DEPENDENCIES.put("org.bson.conversions.Bson", Bson.class);
         DEPENDENCIES.put("org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBResult", MongoDBResult.class);
+        DEPENDENCIES.put("org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBJsonNodeDecoder", MongoDBJsonNodeDecoder.class);
         DEPENDENCIES.put("org.finos.legend.engine.plan.execution.result.Result", Result.class);
         DEPENDENCIES.put(PURE_PACKAGE + "_IMongoDocumentDeserializeExecutionNodeSpecifics", IMongoDocumentDeserializeExecutionNodeSpecifics.class);
     }
@@ -36,6 +36,7 @@ import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResul
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.inMemory.plugin.StoreStreamReadingObjectsIterator;
 import org.finos.legend.engine.plan.execution.stores.mongodb.MongoDBExecutor;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoClientPool;
 import org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBResult;
 import org.finos.legend.engine.plan.execution.stores.mongodb.specifics.IMongoDocumentDeserializeExecutionNodeSpecifics;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.DatabaseCommand;
@@ -111,7 +112,9 @@ public class MongoDBExecutionNodeExecutor implements ExecutionNodeVisitor<Result
             CredentialProviderProvider credentialProviderProvider = this.executionState.getCredentialProviderProvider();
             Identity identity = IdentityFactoryProvider.getInstance().makeIdentity(profiles);
 
-            return new MongoDBExecutor(credentialProviderProvider).executeMongoDBQuery(composedDbCommand, mongoDBConnection, identity);
+            MongoClientPool mongoClientPool = ((MongoDBStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.NonRelational_MongoDB)).getMongoClientPool();
+
+            return new MongoDBExecutor(credentialProviderProvider, mongoClientPool).executeMongoDBQuery(composedDbCommand, mongoDBConnection, identity);
         }
         catch (IOException e)
         {
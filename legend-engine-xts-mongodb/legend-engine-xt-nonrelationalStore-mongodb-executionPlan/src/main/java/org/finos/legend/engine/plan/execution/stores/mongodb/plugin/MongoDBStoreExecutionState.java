@@ -19,6 +19,7 @@ import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreState;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoClientPool;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNodeVisitor;
 import org.pac4j.core.profile.CommonProfile;
 
@@ -27,12 +28,24 @@ public class MongoDBStoreExecutionState implements StoreExecutionState
 
     private final MongoDBStoreState state;
     private RuntimeContext runtimeContext;
+    private final MongoClientPool mongoClientPool;
 
 
-    public MongoDBStoreExecutionState(MongoDBStoreState state, RuntimeContext runtimeContext)
+    public MongoDBStoreExecutionState(MongoDBStoreState state, RuntimeContext runtimeContext, MongoClientPool mongoClientPool)
     {
         this.state = state;
         this.runtimeContext = runtimeContext;
+        this.mongoClientPool = mongoClientPool;
+    }
+
+    public MongoDBStoreExecutionState(MongoDBStoreState state, RuntimeContext runtimeContext)
+    {
+        this(state, runtimeContext, MongoClientPool.getDefault());
+    }
+
+    public MongoDBStoreExecutionState(MongoDBStoreState state, MongoClientPool mongoClientPool)
+    {
+        this(state, RuntimeContext.empty(), mongoClientPool);
     }
 
     public MongoDBStoreExecutionState(MongoDBStoreState state)
@@ -55,7 +68,7 @@ public class MongoDBStoreExecutionState implements StoreExecutionState
     @Override
     public StoreExecutionState copy()
     {
-        return new MongoDBStoreExecutionState(this.state, this.runtimeContext);
+        return new MongoDBStoreExecutionState(this.state, this.runtimeContext, this.mongoClientPool);
     }
 
     @Override
@@ -70,5 +83,8 @@ public class MongoDBStoreExecutionState implements StoreExecutionState
         this.runtimeContext = runtimeContext;
     }
 
-
+    public MongoClientPool getMongoClientPool()
+    {
+        return this.mongoClientPool;
+    }
 }
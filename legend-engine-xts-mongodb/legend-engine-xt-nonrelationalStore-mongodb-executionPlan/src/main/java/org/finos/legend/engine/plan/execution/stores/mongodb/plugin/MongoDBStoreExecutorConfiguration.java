@@ -17,10 +17,12 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.plugin;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoClientPool;
 
 public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfiguration
 {
     private CredentialProviderProvider credentialProviderProvider;
+    private MongoClientPool mongoClientPool;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +35,11 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
         return credentialProviderProvider;
     }
 
+    public MongoClientPool getMongoClientPool()
+    {
+        return mongoClientPool;
+    }
+
     public static Builder newInstance()
     {
         return new Builder();
@@ -41,6 +48,7 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.builder().build();
+        private MongoClientPool mongoClientPool = MongoClientPool.getDefault();
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +56,17 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
             return this;
         }
 
+        public Builder withMongoClientPool(MongoClientPool mongoClientPool)
+        {
+            this.mongoClientPool = mongoClientPool;
+            return this;
+        }
+
         public MongoDBStoreExecutorConfiguration build()
         {
             MongoDBStoreExecutorConfiguration mongoDBStoreExecutionConfiguration = new MongoDBStoreExecutorConfiguration();
             mongoDBStoreExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
+            mongoDBStoreExecutionConfiguration.mongoClientPool = mongoClientPool;
             return mongoDBStoreExecutionConfiguration;
         }
     }
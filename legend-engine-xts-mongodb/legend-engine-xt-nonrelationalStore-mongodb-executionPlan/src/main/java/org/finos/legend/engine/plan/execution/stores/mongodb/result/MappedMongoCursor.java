@@ -0,0 +1,70 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.result;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+
+import java.util.function.Function;
+
+class MappedMongoCursor<S, T> implements MongoCursor<T>
+{
+    private final MongoCursor<S> cursor;
+    private final Function<? super S, ? extends T> function;
+
+    MappedMongoCursor(MongoCursor<S> cursor, Function<? super S, ? extends T> function)
+    {
+        this.cursor = cursor;
+        this.function = function;
+    }
+
+    @Override
+    public void close()
+    {
+        this.cursor.close();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return this.cursor.hasNext();
+    }
+
+    @Override
+    public T next()
+    {
+        return this.function.apply(this.cursor.next());
+    }
+
+    @Override
+    public T tryNext()
+    {
+        S next = this.cursor.tryNext();
+        return (next == null) ? null : this.function.apply(next);
+    }
+
+    @Override
+    public ServerCursor getServerCursor()
+    {
+        return this.cursor.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress()
+    {
+        return this.cursor.getServerAddress();
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.result;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDbPointer;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.io.ByteBufferBsonInput;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+
+/**
+ * Decodes MongoDB documents straight from their BSON bytes to the JSON tree that
+ * {@code objectMapper.readTree(document.toJson())} gives for the strict extended JSON of the document, without
+ * creating the intermediate {@link org.bson.Document} maps and JSON text.
+ */
+public class MongoDBJsonNodeDecoder
+{
+    private final JsonNodeFactory nodeFactory;
+    private final boolean useBigDecimalForFloats;
+
+    public MongoDBJsonNodeDecoder(ObjectMapper objectMapper)
+    {
+        this.nodeFactory = objectMapper.getNodeFactory();
+        this.useBigDecimalForFloats = objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    public static ObjectNode toJsonNode(RawBsonDocument document, ObjectMapper objectMapper)
+    {
+        return new MongoDBJsonNodeDecoder(objectMapper).decode(document);
+    }
+
+    public ObjectNode decode(RawBsonDocument document)
+    {
+        try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer())))
+        {
+            return this.readDocument(reader);
+        }
+    }
+
+    private ObjectNode readDocument(BsonReader reader)
+    {
+        ObjectNode node = this.nodeFactory.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT)
+        {
+            String name = reader.readName();
+            node.set(name, this.readValue(reader));
+        }
+        reader.readEndDocument();
+        return node;
+    }
+
+    private ArrayNode readArray(BsonReader reader)
+    {
+        ArrayNode node = this.nodeFactory.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT)
+        {
+            node.add(this.readValue(reader));
+        }
+        reader.readEndArray();
+        return node;
+    }
+
+    private JsonNode readValue(BsonReader reader)
+    {
+        BsonType bsonType = reader.getCurrentBsonType();
+        switch (bsonType)
+        {
+            case DOCUMENT:
+                return this.readDocument(reader);
+            case ARRAY:
+                return this.readArray(reader);
+            case DOUBLE:
+                return this.floatingPointNode(reader.readDouble());
+            case STRING:
+                return this.nodeFactory.textNode(reader.readString());
+            case BINARY:
+                BsonBinary binary = reader.readBinaryData();
+                return this.wrapper("$binary", this.nodeFactory.textNode(Base64.getEncoder().encodeToString(binary.getData())))
+                        .put("$type", String.format("%02X", binary.getType()));
+            case UNDEFINED:
+                reader.readUndefined();
+                return this.wrapper("$undefined", this.nodeFactory.booleanNode(true));
+            case OBJECT_ID:
+                return this.wrapper("$oid", this.nodeFactory.textNode(reader.readObjectId().toHexString()));
+            case BOOLEAN:
+                return this.nodeFactory.booleanNode(reader.readBoolean());
+            case DATE_TIME:
+                return this.wrapper("$date", this.integralNode(reader.readDateTime()));
+            case NULL:
+                reader.readNull();
+                return this.nodeFactory.nullNode();
+            case REGULAR_EXPRESSION:
+                BsonRegularExpression regularExpression = reader.readRegularExpression();
+                return this.wrapper("$regex", this.nodeFactory.textNode(regularExpression.getPattern()))
+                        .put("$options", regularExpression.getOptions());
+            case DB_POINTER:
+                BsonDbPointer dbPointer = reader.readDBPointer();
+                return this.wrapper("$ref", this.nodeFactory.textNode(dbPointer.getNamespace()))
+                        .set("$id", this.wrapper("$oid", this.nodeFactory.textNode(dbPointer.getId().toHexString())));
+            case JAVASCRIPT:
+                return this.wrapper("$code", this.nodeFactory.textNode(reader.readJavaScript()));
+            case SYMBOL:
+                return this.wrapper("$symbol", this.nodeFactory.textNode(reader.readSymbol()));
+            case JAVASCRIPT_WITH_SCOPE:
+                ObjectNode code = this.wrapper("$code", this.nodeFactory.textNode(reader.readJavaScriptWithScope()));
+                return code.set("$scope", this.readDocument(reader));
+            case INT32:
+                return this.nodeFactory.numberNode(reader.readInt32());
+            case TIMESTAMP:
+                BsonTimestamp timestamp = reader.readTimestamp();
+                ObjectNode timestampValue = this.nodeFactory.objectNode();
+                timestampValue.set("t", this.integralNode(Integer.toUnsignedLong(timestamp.getTime())));
+                timestampValue.set("i", this.integralNode(Integer.toUnsignedLong(timestamp.getInc())));
+                return this.wrapper("$timestamp", timestampValue);
+            case INT64:
+                return this.wrapper("$numberLong", this.nodeFactory.textNode(Long.toString(reader.readInt64())));
+            case DECIMAL128:
+                return this.wrapper("$numberDecimal", this.nodeFactory.textNode(reader.readDecimal128().toString()));
+            case MIN_KEY:
+                reader.readMinKey();
+                return this.wrapper("$minKey", this.nodeFactory.numberNode(1));
+            case MAX_KEY:
+                reader.readMaxKey();
+                return this.wrapper("$maxKey", this.nodeFactory.numberNode(1));
+            default:
+                throw new IllegalStateException("Unsupported BSON type: " + bsonType);
+        }
+    }
+
+    private ObjectNode wrapper(String name, JsonNode value)
+    {
+        ObjectNode node = this.nodeFactory.objectNode();
+        node.set(name, value);
+        return node;
+    }
+
+    // as parsed from JSON text: an int when it fits, a long otherwise
+    private JsonNode integralNode(long value)
+    {
+        return ((int) value == value) ? this.nodeFactory.numberNode((int) value) : this.nodeFactory.numberNode(value);
+    }
+
+    private JsonNode floatingPointNode(double value)
+    {
+        if (this.useBigDecimalForFloats && Double.isFinite(value))
+        {
+            // doubles are written with Double.toString, and parsed big decimals have their trailing zeros stripped
+            BigDecimal decimal = new BigDecimal(Double.toString(value));
+            return this.nodeFactory.numberNode((decimal.signum() == 0) ? BigDecimal.ZERO : decimal.stripTrailingZeros());
+        }
+        return this.nodeFactory.numberNode(value);
+    }
+}
@@ -17,20 +17,27 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.result;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
 import org.finos.legend.engine.plan.execution.result.builder.Builder;
 import org.finos.legend.engine.plan.execution.result.builder.stream.StreamBuilder;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoClientPool;
 
 import java.util.Collections;
 import java.util.List;
 
 public class MongoDBResult extends Result
 {
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
     private final MongoCursor<Document> mongoCursor;
 
-    private final MongoClient mongoClient;
+    private final MongoCursor<RawBsonDocument> rawMongoCursor;
+
+    private final Runnable mongoClientRelease;
 
     public MongoDBResult(MongoClient mongoClient, MongoCursor<Document> mongoCursor)
     {
@@ -38,17 +45,44 @@ public class MongoDBResult extends Result
     }
 
     public MongoDBResult(MongoClient mongoClient, MongoCursor<Document> mongoCursor, List<ExecutionActivity> activities)
+    {
+        this(mongoCursor, new MappedMongoCursor<>(mongoCursor, document -> new RawBsonDocument(document, DOCUMENT_CODEC)), mongoClient::close, activities);
+    }
+
+    /**
+     * Result over a cursor of undecoded documents of a client which is shared: closing the result releases the client
+     * instead of closing it.
+     */
+    public MongoDBResult(MongoClientPool.Lease mongoClientLease, MongoCursor<RawBsonDocument> rawMongoCursor)
+    {
+        this(new MappedMongoCursor<>(rawMongoCursor, rawDocument -> rawDocument.decode(DOCUMENT_CODEC)), rawMongoCursor, mongoClientLease::close, Collections.emptyList());
+    }
+
+    private MongoDBResult(MongoCursor<Document> mongoCursor, MongoCursor<RawBsonDocument> rawMongoCursor, Runnable mongoClientRelease, List<ExecutionActivity> activities)
     {
         super("success", activities);
         this.mongoCursor = mongoCursor;
-        this.mongoClient = mongoClient;
+        this.rawMongoCursor = rawMongoCursor;
+        this.mongoClientRelease = mongoClientRelease;
     }
 
+    /**
+     * Cursor over the decoded documents; it shares its position with {@link #getRawMongoCursor()}.
+     */
     public MongoCursor<Document> getMongoCursor()
     {
         return this.mongoCursor;
     }
 
+    /**
+     * Cursor over the documents as returned by the server, to decode with {@link MongoDBJsonNodeDecoder}; it shares its
+     * position with {@link #getMongoCursor()}.
+     */
+    public MongoCursor<RawBsonDocument> getRawMongoCursor()
+    {
+        return this.rawMongoCursor;
+    }
+
     public Builder getResultBuilder()
     {
         return new StreamBuilder();
@@ -57,8 +91,14 @@ public class MongoDBResult extends Result
     @Override
     public void close()
     {
-        this.mongoCursor.close();
-        this.mongoClient.close();
+        try
+        {
+            this.mongoCursor.close();
+        }
+        finally
+        {
+            this.mongoClientRelease.run();
+        }
     }
 
     @Override
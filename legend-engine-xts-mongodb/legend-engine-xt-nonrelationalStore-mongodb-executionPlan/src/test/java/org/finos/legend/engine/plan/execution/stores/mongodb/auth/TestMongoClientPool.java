@@ -0,0 +1,128 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.auth;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestMongoClientPool
+{
+    private final AtomicLong nanoTime = new AtomicLong();
+    private int port;
+    private MongoClientPool mongoClientPool;
+
+    @Before
+    public void setUp()
+    {
+        // clients connect lazily, so no server is needed for the registry itself
+        this.port = DynamicPortGenerator.generatePort();
+        this.mongoClientPool = MongoClientPool.builder().withName("testMongoDB").withMaxClients(2).withIdleTimeout(1, TimeUnit.MINUTES).withNanoClock(this.nanoTime::get).build();
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.mongoClientPool.close();
+    }
+
+    @Test
+    public void testClientsAreReusedForSameHostsAndCredential()
+    {
+        MongoClientPool.Lease first = this.mongoClientPool.acquire(settings("user1", "pwd"));
+        MongoClientPool.Lease second = this.mongoClientPool.acquire(settings("user1", "pwd"));
+        MongoClientPool.Lease otherPassword = this.mongoClientPool.acquire(settings("user1", "other"));
+
+        Assert.assertSame(first.getClient(), second.getClient());
+        Assert.assertNotSame(first.getClient(), otherPassword.getClient());
+        Assert.assertEquals(2, this.mongoClientPool.getSize());
+        Assert.assertEquals(2, this.mongoClientPool.getLeasedSize());
+
+        first.close();
+        // closing a lease twice only releases it once
+        first.close();
+        otherPassword.close();
+        Assert.assertEquals(1, this.mongoClientPool.getLeasedSize());
+        second.close();
+        Assert.assertEquals(0, this.mongoClientPool.getLeasedSize());
+        Assert.assertEquals(2, this.mongoClientPool.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedClientIsEvicted()
+    {
+        MongoClientPool.Lease user1 = this.mongoClientPool.acquire(settings("user1", "pwd"));
+        MongoClientPool.Lease user2 = this.mongoClientPool.acquire(settings("user2", "pwd"));
+        user2.close();
+        user1.close();
+        this.mongoClientPool.acquire(settings("user1", "pwd")).close();
+
+        MongoClientPool.Lease user3 = this.mongoClientPool.acquire(settings("user3", "pwd"));
+        Assert.assertEquals(2, this.mongoClientPool.getSize());
+        MongoClientPool.Lease user1Again = this.mongoClientPool.acquire(settings("user1", "pwd"));
+        Assert.assertSame(user1.getClient(), user1Again.getClient());
+        MongoClientPool.Lease user2Again = this.mongoClientPool.acquire(settings("user2", "pwd"));
+        Assert.assertNotSame(user2.getClient(), user2Again.getClient());
+        Assert.assertEquals(2, this.mongoClientPool.getSize());
+
+        user3.close();
+        user1Again.close();
+        user2Again.close();
+    }
+
+    @Test
+    public void testIdleClientsExpire()
+    {
+        MongoClientPool.Lease idle = this.mongoClientPool.acquire(settings("user1", "pwd"));
+        idle.close();
+        MongoClientPool.Lease leased = this.mongoClientPool.acquire(settings("user2", "pwd"));
+
+        this.nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        this.mongoClientPool.evictExpired();
+        // leased clients are kept, whatever their age
+        Assert.assertEquals(1, this.mongoClientPool.getSize());
+        MongoClientPool.Lease leasedAgain = this.mongoClientPool.acquire(settings("user2", "pwd"));
+        Assert.assertSame(leased.getClient(), leasedAgain.getClient());
+        MongoClientPool.Lease idleAgain = this.mongoClientPool.acquire(settings("user1", "pwd"));
+        Assert.assertNotSame(idle.getClient(), idleAgain.getClient());
+
+        leased.close();
+        leasedAgain.close();
+        idleAgain.close();
+    }
+
+    @Test
+    public void testInvalidMaxClients()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> MongoClientPool.builder().withMaxClients(0).build());
+    }
+
+    private MongoClientSettings settings(String user, String password)
+    {
+        return MongoClientSettings.builder()
+                .applyToClusterSettings(builder -> builder.hosts(Collections.singletonList(new ServerAddress("localhost", this.port))))
+                .credential(MongoCredential.createCredential(user, "admin", password.toCharArray()))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.result;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonBinary;
+import org.bson.BsonDbPointer;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.Code;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.bson.types.Symbol;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+
+public class TestMongoDBJsonNodeDecoder
+{
+    private static final JsonWriterSettings STRICT = JsonWriterSettings.builder().outputMode(JsonMode.STRICT).build();
+
+    @Test
+    public void testSameTreeAsStrictJson() throws Exception
+    {
+        Document document = new Document("_id", new ObjectId("5f1e3c2b9d4a8e0012345678"))
+                .append("string", "quote\" unicode \u00E9 \uD83D\uDE00")
+                .append("int", 42)
+                .append("negativeInt", Integer.MIN_VALUE)
+                .append("long", 1234567890123L)
+                .append("smallLong", 7L)
+                .append("double", 1.5d)
+                .append("wholeDouble", 3.0d)
+                .append("largeDouble", 1.0E10d)
+                .append("smallDouble", -1.25E-7d)
+                .append("decimal", new Decimal128(new BigDecimal("12345678901234567890.123")))
+                .append("boolean", true)
+                .append("null", null)
+                .append("date", new Date(1696532242123L))
+                .append("epochDate", new Date(0L))
+                .append("beforeEpochDate", new Date(-62200000000000L))
+                .append("binary", new BsonBinary(new byte[]{0, 1, 2, (byte) 255}))
+                .append("timestamp", new BsonTimestamp(-2, 3))
+                .append("regex", new BsonRegularExpression("^a.*", "i"))
+                .append("code", new Code("function() {}"))
+                .append("codeWithScope", new BsonJavaScriptWithScope("function() { return x; }", new org.bson.BsonDocument("x", new org.bson.BsonInt32(1))))
+                .append("symbol", new Symbol("sym"))
+                .append("dbPointer", new BsonDbPointer("db.coll", new ObjectId("5f1e3c2b9d4a8e0012345679")))
+                .append("undefined", new BsonUndefined())
+                .append("minKey", new BsonMinKey())
+                .append("maxKey", new BsonMaxKey())
+                .append("array", Arrays.asList(1, "two", new Document("three", 3.0d), Arrays.asList(4L, false)))
+                .append("nested", new Document("firm", new Document("name", "Goldman").append("employees", Arrays.asList(new Document("age", 30), new Document("age", 31)))));
+
+        for (ObjectMapper objectMapper : Arrays.asList(new ObjectMapper(), new ObjectMapper().configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true)))
+        {
+            RawBsonDocument rawDocument = new RawBsonDocument(document, new DocumentCodec());
+            JsonNode expected = objectMapper.readTree(document.toJson(STRICT));
+            JsonNode actual = MongoDBJsonNodeDecoder.toJsonNode(rawDocument, objectMapper);
+            Assert.assertEquals(expected, actual);
+            Assert.assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public void testNumberNodeTypes()
+    {
+        Document document = new Document("int", 1).append("date", new Date(1696532242123L)).append("epochDate", new Date(5L)).append("double", 2.5d);
+        JsonNode node = MongoDBJsonNodeDecoder.toJsonNode(new RawBsonDocument(document, new DocumentCodec()), new ObjectMapper());
+        Assert.assertTrue(node.get("int").isInt());
+        // dates are read back with isLong checks
+        Assert.assertTrue(node.get("date").get("$date").isLong());
+        Assert.assertTrue(node.get("epochDate").get("$date").isInt());
+        Assert.assertTrue(node.get("double").isDouble());
+    }
+}
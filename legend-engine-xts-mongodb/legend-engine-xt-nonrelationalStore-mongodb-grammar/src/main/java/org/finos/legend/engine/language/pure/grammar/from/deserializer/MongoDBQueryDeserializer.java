@@ -27,6 +27,7 @@ import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.Arg
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.ArrayTypeValue;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.BaseTypeValue;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.BoolTypeValue;
+import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.Cursor;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.DatabaseCommand;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.DecimalTypeValue;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.aggregation.EqOperatorExpression;
@@ -202,7 +203,7 @@ public class MongoDBQueryDeserializer extends StdDeserializer<DatabaseCommand>
                         dbCommand.aggregationPipeline = getAggPipeline(jsonParser);
                         break;
                     case "cursor":
-                        LOGGER.info("Output = cursor, default format for output");
+                        dbCommand.cursor = getCursor(jsonParser);
                         break;
                     default:
                         LOGGER.trace("Ignoring unknown property: {}", propertyName);
@@ -213,6 +214,23 @@ public class MongoDBQueryDeserializer extends StdDeserializer<DatabaseCommand>
         return dbCommand;
     }
 
+    private Cursor getCursor(JsonParser jsonParser) throws IOException
+    {
+        JsonNode cursorNode = jsonParser.getCodec().readTree(jsonParser);
+        if (!cursorNode.isObject())
+        {
+            throw new IllegalStateException("Expected cursor node to be an object");
+        }
+        if (!cursorNode.has("batchSize"))
+        {
+            LOGGER.info("Output = cursor, default format for output");
+            return null;
+        }
+        Cursor cursor = new Cursor();
+        cursor.batchSize = cursorNode.get("batchSize").asLong();
+        return cursor;
+    }
+
     private AggregationPipeline getAggPipeline(JsonParser jsonParser) throws IOException
     {
         AggregationPipeline aggPipeline = new AggregationPipeline();
@@ -42,8 +42,13 @@ public class MongoDBQueryJsonComposer
     {
         String collectionName = databaseCommand.collectionName;
         return withTypeIdentifier
-                ? "{ " + const_TypeValue + "\"aggregate\": \"" + collectionName + "\" , " + visitDatabaseCommand(databaseCommand) + ", \"cursor\": {} }"
-                : "{ \"aggregate\": \"" + collectionName + "\" , " + visitDatabaseCommand(databaseCommand) + ", \"cursor\": {} }";
+                ? "{ " + const_TypeValue + "\"aggregate\": \"" + collectionName + "\" , " + visitDatabaseCommand(databaseCommand) + ", \"cursor\": " + visitCursor(databaseCommand) + " }"
+                : "{ \"aggregate\": \"" + collectionName + "\" , " + visitDatabaseCommand(databaseCommand) + ", \"cursor\": " + visitCursor(databaseCommand) + " }";
+    }
+
+    private String visitCursor(DatabaseCommand databaseCommand)
+    {
+        return (databaseCommand.cursor == null) ? "{}" : "{ \"batchSize\": " + databaseCommand.cursor.batchSize + " }";
     }
 
     private String visitDatabaseCommand(DatabaseCommand databaseCommand)
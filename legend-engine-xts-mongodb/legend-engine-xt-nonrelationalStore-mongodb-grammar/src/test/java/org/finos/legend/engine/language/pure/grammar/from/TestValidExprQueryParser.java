@@ -47,6 +47,7 @@ public class TestValidExprQueryParser
         return Arrays.asList(new Object[][]{
                 {"json/exprquery/match_and_query.json"},
                 {"json/exprquery/match_eq_query.json"},
+                {"json/exprquery/match_eq_query_with_batch_size.json"},
                 {"json/exprquery/match_empty_query.json"},
                 {"json/exprquery/empty_pipeline.json"},
                 {"json/exprquery/match_eq_object_query.json"},
@@ -181,7 +181,10 @@ public abstract class DataSourceSpecification
                 scope.span().setTag("Pool", poolName);
                 int requests = dataSourceWithStatistics.requestConnection();
                 LOGGER.info("Principal [{}] has requested [{}] connections for pool [{}]", principal, requests, poolName);
-                return authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
+                long start = System.nanoTime();
+                Connection connection = authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
+                MetricsHandler.observeConnectionAcquisition(this.getClass().getSimpleName(), System.nanoTime() - start);
+                return connection;
             }
             catch (ConnectionException ce)
             {
@@ -41,10 +41,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -83,8 +86,9 @@ import static org.finos.legend.engine.plan.execution.stores.relational.connectio
     1/ The DevOps threads can observe an inconsistent state of the map. This is because we do not lock the entire map when it is being read. While this can produce an inconsistent view, it does not affect correctness/safety.
 
     2/ The connection serving threads and connection creation threads are properly synchronized.
-    The state objects are keyed by the name of the pool. Writes and reads to this pool's state are synchronized using a lock. We do use an explicit lock,
-    this pool specific lock enforces a "happens before" relationship between the write in the serving thread and read in the creation thread.
+    The state objects are keyed by the name of the pool. Writes and reads to this pool's state go through the concurrent map, which enforces a "happens before"
+    relationship between the write in the serving thread and read in the creation thread. Pool creation is deduplicated per pool name with a future that
+    concurrent requests for the same pool wait on, so a slow pool creation never blocks requests for other pools.
 
     3/ The eviction thread races with connection serving/creation threads.
     Consider the following sequence :
@@ -97,7 +101,7 @@ import static org.finos.legend.engine.plan.execution.stores.relational.connectio
 
     - First, it computes the map entries to be evicted. This read is done *without* acquiring a full lock on the map.
     - Second, for each entry to be evicted, it checks if the entry has not been updated (since the first read). If the entry has been updated, it simply skips the entry.
-    - The second read of each state object is synchronized using the pool specific lock. This lock enforces a "happens before" relationship between this read and any other thread that might have previously updated this state object.
+    - The removal is a compare-and-remove on the concurrent map, so an entry replaced since the second read is never removed. Pools with a creation in progress are skipped.
 
     4/ Connection acquisition threads for the same pool (i.e same logical identity, same database, same auth type) race. Consider the following sequence :
         time t0 : Connection thread1 : Creates state object S1 for key K1
@@ -173,8 +177,8 @@ public class ConnectionStateManager implements Closeable
         return INSTANCE;
     }
 
-    private final KeyLockManager<String> poolLockManager = KeyLockManager.newManager();
     private final ConcurrentMutableMap<String, DataSourceWithStatistics> connectionPools = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, CompletableFuture<Void>> poolCreations = ConcurrentHashMap.newMap();
 
     private Clock clock;
 
@@ -209,18 +213,17 @@ public class ConnectionStateManager implements Closeable
         return this.connectionPools.get(poolName);
     }
 
-    private void atomicallyRemovePool(String poolName, DataSourceStatistics expectedState)
+    private boolean atomicallyRemovePool(String poolName, DataSourceStatistics expectedState)
     {
-        synchronized (poolLockManager.getLock(poolName))
+        // pools being created are never evicted, their state object is needed to open the first connection
+        DataSourceWithStatistics currentState = this.connectionPools.get(poolName);
+        if ((currentState != null) && currentState.getStatistics().equals(expectedState) && !this.poolCreations.containsKey(poolName) && this.connectionPools.remove(poolName, currentState))
         {
-            DataSourceWithStatistics currentState = this.connectionPools.get(poolName);
-            if (currentState.getStatistics().equals(expectedState))
-            {
-                currentState.close();
-                this.connectionPools.remove(poolName);
-                LOGGER.info("Removed and closed pool {}", poolName);
-            }
+            currentState.close();
+            LOGGER.info("Removed and closed pool {}", poolName);
+            return true;
         }
+        return false;
     }
 
     protected Set<Pair<String, DataSourceStatistics>> findUnusedPoolsOlderThan(Duration duration)
@@ -239,8 +242,10 @@ public class ConnectionStateManager implements Closeable
         // step 2 - remove atomically - i.e remove iff the state has not been updated since it was read in step 1
         entriesToPurge.forEach(pool ->
         {
-            this.atomicallyRemovePool(pool.getOne(), pool.getTwo());
-            MetricsHandler.removeConnectionMetrics(pool.getOne());
+            if (this.atomicallyRemovePool(pool.getOne(), pool.getTwo()))
+            {
+                MetricsHandler.removeConnectionMetrics(pool.getOne());
+            }
         });
     }
 
@@ -259,7 +264,7 @@ public class ConnectionStateManager implements Closeable
         return new ConnectionStateManagerPOJO(this.connectionPools);
     }
 
-    private synchronized void purge(long durationInSeconds)
+    private void purge(long durationInSeconds)
     {
         int sizeBeforePurge = this.size();
         LOGGER.info("ConnectionStateManager.HouseKeeper : Starting  with cache size={}", sizeBeforePurge);
@@ -322,6 +327,10 @@ public class ConnectionStateManager implements Closeable
         this.connectionPools.forEach(p ->
         {
             MetricsHandler.setConnectionMetrics(p.getPoolName(), p.getActiveConnections(), p.getTotalConnections(), p.getIdleConnections());
+            if (p.getDataSource() != null)
+            {
+                MetricsHandler.observeConnectionPoolUsage(p.getDataSourceSpecification().getClass().getSimpleName(), p.getActiveConnections(), p.getIdleConnections());
+            }
         });
     }
 
@@ -342,33 +351,15 @@ public class ConnectionStateManager implements Closeable
         //This will invoke the DriverWrapper connect method, for this method to create that test connection we need to pass minimal state
         Function0<DataSourceWithStatistics> dsSupplier = () -> new DataSourceWithStatistics(poolName, identityState, dataSourceSpecification);
         DataSource dataSource = this.connectionPools.getIfAbsentPut(poolName, dsSupplier).getDataSource();
-        //why this thread safety pattern?  Consider this scenario: poolOne does not exist, then two threads concurrently request poolOne
-        //both threads check if pool has been created and both evaluate to true
-        //to avoid both threads to create a pool, we enter a sync block to ensure only one thread at a time attempt pool creation
-        //thread1 creates poolOne , thread2 enters block and check if indeed the pools does not exist, so will skip
-        //this will ensure threads will wait for pool creation while only locking in the scenario there is no pool
-        //not for every pool request
         if (dataSource == null)
         {
-            synchronized (poolLockManager.getLock(poolName))
+            this.createPool(poolName, dsSupplier, pool -> pool.getDataSource() == null, () ->
             {
-                dataSource = this.connectionPools.getIfAbsentPut(poolName, dsSupplier).getDataSource();
-                if (dataSource == null)
-                {
-                    LOGGER.info("Pool not found for [{}] for datasource [{}], creating one", principal, connectionKey.shortId());
-                    try
-                    {
-                        DataSourceWithStatistics dataSourceWithStatistics = new DataSourceWithStatistics(poolName, dataSourceBuilder.get(), identityState, dataSourceSpecification);
-                        this.connectionPools.put(poolName, dataSourceWithStatistics);
-                        LOGGER.info("Pool created for [{}] for datasource [{}], name {}", principal, connectionKey.shortId(), poolName);
-                    }
-                    catch (Exception e)
-                    {
-                        LOGGER.error("Error creating pool {} {}", poolName, e);
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
+                LOGGER.info("Pool not found for [{}] for datasource [{}], creating one", principal, connectionKey.shortId());
+                DataSourceWithStatistics dataSourceWithStatistics = new DataSourceWithStatistics(poolName, dataSourceBuilder.get(), identityState, dataSourceSpecification);
+                this.connectionPools.put(poolName, dataSourceWithStatistics);
+                LOGGER.info("Pool created for [{}] for datasource [{}], name {}", principal, connectionKey.shortId(), poolName);
+            });
         }
 
 
@@ -379,29 +370,69 @@ public class ConnectionStateManager implements Closeable
         if (!this.connectionPools.get(poolName).getIdentityState().isValid())
         {
             LOGGER.info("Pool [{}] for datasource [{}] does not have a valid identity state", principal, connectionKey.shortId());
-            synchronized (poolLockManager.getLock(poolName))
+            this.createPool(poolName, dsSupplier, pool -> !pool.getIdentityState().isValid(), () ->
             {
                 DataSourceWithStatistics dataSourceWithStatistics = this.connectionPools.get(poolName);
-                if (!dataSourceWithStatistics.getIdentityState().isValid())
-                {
-                    //at this point, the data source for the current pool in this.connectionPools has an invalid identity state
-                    //recreation of pool will create a new Hikari data source
-                    //since, Hikari is configured to fail fast, a new test connection will be created which invokes the DriverWrapper#connect method
-                    //for that method to successfully create the new test connection, we need to update the data source for the current pool in this.connectionPools
-                    this.connectionPools.put(poolName, dsSupplier.get());
-                    DataSourceWithStatistics newDataSourceWithStatistics = new DataSourceWithStatistics(poolName, dataSourceBuilder.get(), identityState, dataSourceSpecification);
-                    this.connectionPools.put(poolName, newDataSourceWithStatistics);
-                    LOGGER.info("DataSource re-created for [{}] for datasource [{}], name {}", principal, connectionKey.shortId(), poolName);
-                    dataSourceWithStatistics.close();
-                }
-            }
+                //at this point, the data source for the current pool in this.connectionPools has an invalid identity state
+                //recreation of pool will create a new Hikari data source
+                //since, Hikari is configured to fail fast, a new test connection will be created which invokes the DriverWrapper#connect method
+                //for that method to successfully create the new test connection, we need to update the data source for the current pool in this.connectionPools
+                this.connectionPools.put(poolName, dsSupplier.get());
+                DataSourceWithStatistics newDataSourceWithStatistics = new DataSourceWithStatistics(poolName, dataSourceBuilder.get(), identityState, dataSourceSpecification);
+                this.connectionPools.put(poolName, newDataSourceWithStatistics);
+                LOGGER.info("DataSource re-created for [{}] for datasource [{}], name {}", principal, connectionKey.shortId(), poolName);
+                dataSourceWithStatistics.close();
+            });
         }
 
-
         LOGGER.info("Pool found for [{}] in datasource [{}] : pool Name [{}]", principal, connectionKey.shortId(), poolName);
         return this.connectionPools.get(poolName);
     }
 
+    /*
+        Pool creation is deduplicated per pool name: the first thread to ask for a missing (or invalid) pool builds it,
+        concurrent requests for the same pool wait for that build instead of starting their own, and requests for other
+        pools are not blocked at all. The build runs in the requesting thread, as it may need that thread's security context.
+     */
+    private void createPool(String poolName, Function0<DataSourceWithStatistics> dsSupplier, Predicate<DataSourceWithStatistics> needsCreation, Runnable creation)
+    {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        CompletableFuture<Void> inProgress = this.poolCreations.putIfAbsent(poolName, pending);
+        if (inProgress != null)
+        {
+            try
+            {
+                inProgress.join();
+                return;
+            }
+            catch (CompletionException e)
+            {
+                throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+            }
+        }
+        try
+        {
+            if (needsCreation.test(this.connectionPools.getIfAbsentPut(poolName, dsSupplier)))
+            {
+                long start = System.nanoTime();
+                creation.run();
+                MetricsHandler.observeConnectionPoolCreation(this.connectionPools.get(poolName).getDataSourceSpecification().getClass().getSimpleName(), System.nanoTime() - start);
+            }
+            pending.complete(null);
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error creating pool {} {}", poolName, e);
+            RuntimeException exception = (e instanceof RuntimeException) ? (RuntimeException) e : new RuntimeException(e);
+            pending.completeExceptionally(exception);
+            throw exception;
+        }
+        finally
+        {
+            this.poolCreations.remove(poolName, pending);
+        }
+    }
+
     public Object getPoolStatisticsAsJSON(DataSourceWithStatistics poolState)
     {
         try
@@ -461,40 +492,4 @@ public class ConnectionStateManager implements Closeable
         }
         return true;
     }
-
-    private static class KeyLockManager<K>
-    {
-        private static final Function0<Object> NEW_LOCK = () -> new Object();
-        private final ConcurrentMutableMap<K, Object> locks = ConcurrentHashMap.newMap();
-
-        private KeyLockManager()
-        {
-        }
-
-        /**
-         * Get a lock for key.  This "lock" is simply an Object
-         * whose intrinsic lock may be used in a synchronized
-         * statement.  Each key yields a unique lock.  Each call
-         * to this method with a given key will yield the same
-         * lock.  This method supports concurrent access.
-         *
-         * @param key lock key
-         * @return key lock
-         */
-        public Object getLock(K key)
-        {
-            return this.locks.getIfAbsentPut(key, NEW_LOCK);
-        }
-
-        /**
-         * Create a new key lock manager.
-         *
-         * @param <T> key type
-         * @return new key lock manager
-         */
-        static <T> KeyLockManager<T> newManager()
-        {
-            return new KeyLockManager<T>();
-        }
-    }
 }
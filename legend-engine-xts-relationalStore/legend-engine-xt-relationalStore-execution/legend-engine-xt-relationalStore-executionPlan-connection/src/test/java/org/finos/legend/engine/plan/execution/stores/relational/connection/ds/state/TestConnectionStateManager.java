@@ -20,6 +20,7 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.Da
 import org.finos.legend.engine.shared.core.identity.Credential;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvider;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -195,6 +196,40 @@ public class TestConnectionStateManager extends TestConnectionManagement
 
     }
 
+    @Test
+    public void testPoolHistogramsLabelledByDatasource()
+    {
+        CollectorRegistry collectorRegistry = MetricsHandler.getMetricsRegistry();
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Arrays.asList("DROP TABLE IF EXISTS T1"));
+        Identity user1 = IdentityFactoryProvider.getInstance().makeIdentityForTesting("user1");
+        String[] labels = new String[]{ds1.getClass().getSimpleName()};
+        double creations = sampleValue(collectorRegistry, "legend_engine_connection_pool_creation_latency_count", labels);
+        double acquisitions = sampleValue(collectorRegistry, "legend_engine_connection_acquisition_latency_count", labels);
+        double activeSamples = sampleValue(collectorRegistry, "legend_engine_connection_pool_active_connections_count", labels);
+        double activeSum = sampleValue(collectorRegistry, "legend_engine_connection_pool_active_connections_sum", labels);
+        double idleSamples = sampleValue(collectorRegistry, "legend_engine_connection_pool_idle_connections_count", labels);
+
+        ConnectionStateManager.ConnectionStateHousekeepingTask houseKeeper = new ConnectionStateManager.ConnectionStateHousekeepingTask(Duration.ofMinutes(5).getSeconds());
+        requestConnection(user1, ds1);
+        requestConnection(user1, ds1);
+
+        //the pool is created once, both connections are acquired from it
+        Assert.assertEquals(creations + 1, sampleValue(collectorRegistry, "legend_engine_connection_pool_creation_latency_count", labels), 0d);
+        Assert.assertEquals(acquisitions + 2, sampleValue(collectorRegistry, "legend_engine_connection_acquisition_latency_count", labels), 0d);
+
+        //usage is sampled per pool by the housekeeper
+        houseKeeper.run();
+        Assert.assertEquals(activeSamples + 1, sampleValue(collectorRegistry, "legend_engine_connection_pool_active_connections_count", labels), 0d);
+        Assert.assertEquals(activeSum + 2, sampleValue(collectorRegistry, "legend_engine_connection_pool_active_connections_sum", labels), 0d);
+        Assert.assertEquals(idleSamples + 1, sampleValue(collectorRegistry, "legend_engine_connection_pool_idle_connections_count", labels), 0d);
+    }
+
+    private static double sampleValue(CollectorRegistry collectorRegistry, String name, String[] labels)
+    {
+        Double value = collectorRegistry.getSampleValue(name, new String[]{"datasource"}, labels);
+        return (value == null) ? 0 : value;
+    }
+
     @Test
     public void testMetricsUpdateWithIdleConnectionInActivePool() throws SQLException
     {
@@ -44,6 +44,8 @@ import org.finos.legend.engine.plan.execution.stores.relational.config.Temporary
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.manager.ConnectionManagerSelector;
+import org.finos.legend.engine.plan.execution.stores.relational.parameterization.ParameterizedSQL;
+import org.finos.legend.engine.plan.execution.stores.relational.parameterization.SQLParameterizer;
 import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.relational.result.PreparedTempTableResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RealizedRelationalResult;
@@ -136,7 +138,7 @@ public class RelationalExecutor
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseTypeName, tempTableList, profiles, executionState, true);
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseTypeName, tempTableList, profiles, executionState, true, true);
 
         if (executionState.inAllocation)
         {
@@ -237,7 +239,7 @@ public class RelationalExecutor
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, profiles, executionState, true);
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, profiles, executionState, true, true);
         
         if (node.isResultVoid())
         {
@@ -261,12 +263,12 @@ public class RelationalExecutor
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, profiles, executionState, false);
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, profiles, executionState, false, false);
 
         return new SQLUpdateResult(executionState.activities, databaseType, connectionManagerConnection, profiles, tempTableList, executionState.getRequestContext());
     }
 
-    private void prepareForSQLExecution(String sqlQuery, String sqlComment, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, MutableList<CommonProfile> profiles, ExecutionState executionState, boolean shouldLogSQL)
+    private void prepareForSQLExecution(String sqlQuery, String sqlComment, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, MutableList<CommonProfile> profiles, ExecutionState executionState, boolean shouldLogSQL, boolean allowParameterBinding)
     {
         DatabaseManager databaseManager = DatabaseManager.fromString(databaseTypeName);
         RelationalDatabaseCommands relationalDatabaseCommands = databaseManager.relationalDatabaseSupport();
@@ -308,14 +310,29 @@ public class RelationalExecutor
             throw new RuntimeException("Relational execution not supported on external server");
         }
 
+        List<Object> parameters = null;
         try
         {
             sqlComment = sqlComment != null ? FreeMarkerExecutor.process(sqlComment, executionState, databaseTypeName, databaseTimeZone) : null;
-            sqlQuery = FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone);
+            // templates which cannot be parameterized are still rendered by FreeMarker
+            ParameterizedSQL parameterizedSQL = allowParameterBinding && this.relationalExecutionConfiguration.isParameterBindingEnabled(databaseTypeName) ? SQLParameterizer.parameterize(sqlQuery, executionState.getResults()) : null;
+            if (parameterizedSQL != null)
+            {
+                sqlQuery = parameterizedSQL.getSql();
+                parameters = parameterizedSQL.getParameters();
+            }
+            else
+            {
+                sqlQuery = FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone);
+            }
             Span span = GlobalTracer.get().activeSpan();
             if (span != null && shouldLogSQL && executionState.logSQLWithParamValues())
             {
                 span.setTag("generatedSQL", sqlQuery);
+                if (parameters != null)
+                {
+                    span.setTag("sqlParameters", parameters.toString());
+                }
             }
         }
         catch (Exception e)
@@ -325,10 +342,10 @@ public class RelationalExecutor
 
         if (executionState.logSQLWithParamValues())
         {
-            LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + sqlQuery).toString());
+            LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + sqlQuery + (parameters == null ? "" : " with parameters " + parameters)).toString());
         }
 
-        executionState.activities.add(new RelationalExecutionActivity(sqlQuery, sqlComment));
+        executionState.activities.add(new RelationalExecutionActivity(sqlQuery, sqlComment, parameters));
     }
 
     private void prepareTempTable(Connection connectionManagerConnection, StreamingResult res, String tempTableName, String databaseTypeName, String databaseTimeZone, List<String> tempTableList)
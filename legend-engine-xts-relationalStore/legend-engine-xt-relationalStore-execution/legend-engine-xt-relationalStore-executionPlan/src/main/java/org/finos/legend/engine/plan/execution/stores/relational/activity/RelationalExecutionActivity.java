@@ -14,16 +14,29 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.activity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 
+import java.util.List;
+
 public class RelationalExecutionActivity extends ExecutionActivity
 {
     public String comment;
     public String sql;
+    // values bound to the placeholders of sql, in order, so that they are reported along with it; null when the
+    // parameters are rendered in the sql
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<Object> parameters;
 
     public RelationalExecutionActivity(String sqlQuery, String sqlComment)
+    {
+        this(sqlQuery, sqlComment, null);
+    }
+
+    public RelationalExecutionActivity(String sqlQuery, String sqlComment, List<Object> parameters)
     {
         this.comment = sqlComment;
         this.sql = sqlQuery;
+        this.parameters = parameters;
     }
 }
@@ -39,6 +39,9 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
     private ConnectionFactory connectionFactory;
     private List<HACKY__RelationalDatabaseConnectionAdapter> relationalDatabaseConnectionAdapters = Lists.mutable.empty();
+    // database types (e.g. Snowflake, Postgres) for which plan parameters are bound to prepared statements rather than rendered in the SQL
+    @JsonProperty
+    private List<String> parameterBindingDatabaseTypes = Lists.mutable.empty();
 
     @Override
     public StoreType getStoreType()
@@ -85,6 +88,21 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         return relationalDatabaseConnectionAdapters;
     }
 
+    public List<String> getParameterBindingDatabaseTypes()
+    {
+        return this.parameterBindingDatabaseTypes;
+    }
+
+    public boolean isParameterBindingEnabled(String databaseType)
+    {
+        return (this.parameterBindingDatabaseTypes != null) && this.parameterBindingDatabaseTypes.contains(databaseType);
+    }
+
+    public void setParameterBindingDatabaseTypes(List<String> parameterBindingDatabaseTypes)
+    {
+        this.parameterBindingDatabaseTypes = parameterBindingDatabaseTypes;
+    }
+
     public void setCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
     {
         this.credentialProviderProvider = credentialProviderProvider;
@@ -131,6 +149,7 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
         private ConnectionFactory connectionFactory;
         private final List<HACKY__RelationalDatabaseConnectionAdapter> relationalDatabaseConnectionAdapters = Lists.mutable.empty();
+        private final List<String> parameterBindingDatabaseTypes = Lists.mutable.empty();
 
         public Builder withTempPath(String tempPath)
         {
@@ -189,6 +208,12 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             return this;
         }
 
+        public Builder withParameterBindingDatabaseTypes(List<String> databaseTypes)
+        {
+            this.parameterBindingDatabaseTypes.addAll(databaseTypes);
+            return this;
+        }
+
         public RelationalExecutionConfiguration build()
         {
             RelationalExecutionConfiguration relationalExecutionConfiguration = new RelationalExecutionConfiguration();
@@ -201,6 +226,7 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             relationalExecutionConfiguration.relationalGraphFetchExecutionConfig = relationalGraphFetchExecutionConfig;
             relationalExecutionConfiguration.connectionFactory = connectionFactory;
             relationalExecutionConfiguration.relationalDatabaseConnectionAdapters = relationalDatabaseConnectionAdapters;
+            relationalExecutionConfiguration.parameterBindingDatabaseTypes = parameterBindingDatabaseTypes;
             return relationalExecutionConfiguration;
         }
     }
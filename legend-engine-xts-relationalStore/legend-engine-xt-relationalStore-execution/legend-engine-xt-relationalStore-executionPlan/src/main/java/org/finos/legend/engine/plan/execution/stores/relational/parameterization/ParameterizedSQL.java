@@ -0,0 +1,97 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.parameterization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * SQL text with JDBC placeholders, and the values to bind to them in order.
+ */
+public class ParameterizedSQL
+{
+    private final String sql;
+    private final List<Object> parameters;
+
+    public ParameterizedSQL(String sql, List<Object> parameters)
+    {
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    public String getSql()
+    {
+        return this.sql;
+    }
+
+    public List<Object> getParameters()
+    {
+        return this.parameters;
+    }
+
+    public static PreparedStatement bind(PreparedStatement statement, List<Object> parameters) throws SQLException
+    {
+        int index = 1;
+        for (Object parameter : parameters)
+        {
+            if (parameter instanceof String)
+            {
+                statement.setString(index, (String) parameter);
+            }
+            else if ((parameter instanceof Long) || (parameter instanceof Integer) || (parameter instanceof Short) || (parameter instanceof Byte))
+            {
+                statement.setLong(index, ((Number) parameter).longValue());
+            }
+            else if ((parameter instanceof Double) || (parameter instanceof Float))
+            {
+                statement.setDouble(index, ((Number) parameter).doubleValue());
+            }
+            else if (parameter instanceof BigDecimal)
+            {
+                statement.setBigDecimal(index, (BigDecimal) parameter);
+            }
+            else if (parameter instanceof BigInteger)
+            {
+                statement.setBigDecimal(index, new BigDecimal((BigInteger) parameter));
+            }
+            else
+            {
+                statement.setObject(index, parameter);
+            }
+            index++;
+        }
+        return statement;
+    }
+
+    /**
+     * Executes a statement without parameters (e.g. dropping temporary tables) through the given statement, or through
+     * a new statement on the same connection when the given one was prepared for another query.
+     */
+    public static boolean execute(Statement statement, String sql) throws SQLException
+    {
+        if (!(statement instanceof PreparedStatement))
+        {
+            return statement.execute(sql);
+        }
+        try (Statement unprepared = statement.getConnection().createStatement())
+        {
+            return unprepared.execute(sql);
+        }
+    }
+}
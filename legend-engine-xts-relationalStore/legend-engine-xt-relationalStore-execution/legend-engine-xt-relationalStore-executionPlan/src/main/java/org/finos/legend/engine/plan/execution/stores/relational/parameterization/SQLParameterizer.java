@@ -0,0 +1,536 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.parameterization;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the SQL templates of relational execution nodes into {@link ParameterizedSQL}, so that plan parameters are
+ * bound rather than rendered as literals and the database sees the same statement whatever their values.
+ * <p>
+ * Only the placeholders generated for scalar and collection parameters are supported: {@code '${p}'} and
+ * {@code '${p?replace("'", "''")}'} for strings, {@code ${p}} for numbers, {@code ${renderCollection(...)}} and
+ * {@code ${varPlaceHolderToString(...)}}. Templates with anything else (directives, other template functions, values
+ * which are neither strings nor numbers, ...) are not parameterized, and must be rendered by FreeMarker instead.
+ */
+public class SQLParameterizer
+{
+    private static final long TEMPLATE_CACHE_MAX_CHARACTERS = 16L * 1024 * 1024;
+
+    // parsed templates, empty when the template cannot be parameterized
+    private static final Cache<String, Optional<List<Segment>>> templateCache = CacheBuilder.newBuilder()
+            .maximumWeight(TEMPLATE_CACHE_MAX_CHARACTERS)
+            .<String, Optional<List<Segment>>>weigher((template, segments) -> template.length())
+            .build();
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final Pattern ESCAPED_STRING = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)\\?replace\\(\\s*\"'\"\\s*,\\s*\"''\"\\s*\\)");
+    private static final Pattern FUNCTION = Pattern.compile("(renderCollection|varPlaceHolderToString)\\((.*)\\)", Pattern.DOTALL);
+    private static final Object UNSUPPORTED = new Object();
+
+    private SQLParameterizer()
+    {
+    }
+
+    /**
+     * Returns the parameterized form of the SQL template for the given parameter values, or null if the template (or
+     * one of the values it uses) cannot be bound.
+     */
+    public static ParameterizedSQL parameterize(String sqlTemplate, Map<String, Result> results)
+    {
+        String template = sqlTemplate.replace("\\\"", "\"");
+        List<Segment> segments;
+        try
+        {
+            segments = templateCache.get(template, () -> Optional.ofNullable(parse(template))).orElse(null);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+        if (segments == null)
+        {
+            return null;
+        }
+        StringBuilder sql = new StringBuilder(template.length());
+        MutableList<Object> parameters = Lists.mutable.empty();
+        for (Segment segment : segments)
+        {
+            if (!segment.render(sql, parameters, results))
+            {
+                return null;
+            }
+        }
+        return new ParameterizedSQL(sql.toString(), parameters);
+    }
+
+    static List<Segment> parse(String template)
+    {
+        MutableList<Segment> segments = Lists.mutable.empty();
+        StringBuilder text = new StringBuilder();
+        int length = template.length();
+        int i = 0;
+        while (i < length)
+        {
+            char c = template.charAt(i);
+            if ((c == '\'') && template.startsWith("${", i + 1))
+            {
+                int end = placeholderEnd(template, i + 1);
+                String name = (end == -1) || (end + 1 >= length) || (template.charAt(end + 1) != '\'') ? null : quotedParameterName(template.substring(i + 3, end));
+                if (name == null)
+                {
+                    return null;
+                }
+                addText(text, segments);
+                segments.add(new StringParameter(name));
+                i = end + 2;
+            }
+            else if ((c == '\'') || (c == '"'))
+            {
+                int end = literalEnd(template, i);
+                if ((end == -1) || isTemplated(template.substring(i, end + 1)) || (template.substring(i, end + 1).indexOf('\\') != -1))
+                {
+                    return null;
+                }
+                text.append(template, i, end + 1);
+                i = end + 1;
+            }
+            else if (template.startsWith("${", i))
+            {
+                int end = placeholderEnd(template, i);
+                Segment segment = (end == -1) ? null : placeholder(template.substring(i + 2, end));
+                if (segment == null)
+                {
+                    return null;
+                }
+                addText(text, segments);
+                segments.add(segment);
+                i = end + 1;
+            }
+            else if ((c == '?') || startsDirective(template, i))
+            {
+                // existing JDBC placeholders or FreeMarker directives
+                return null;
+            }
+            else
+            {
+                text.append(c);
+                i++;
+            }
+        }
+        addText(text, segments);
+        return segments;
+    }
+
+    private static void addText(StringBuilder text, MutableList<Segment> segments)
+    {
+        if (text.length() > 0)
+        {
+            String value = text.toString();
+            segments.add((sql, parameters, results) ->
+            {
+                sql.append(value);
+                return true;
+            });
+            text.setLength(0);
+        }
+    }
+
+    private static boolean isTemplated(String text)
+    {
+        return text.contains("${") || text.contains("#{") || text.contains("<#") || text.contains("</#") || text.contains("<@") || text.contains("</@");
+    }
+
+    private static boolean startsDirective(String template, int index)
+    {
+        return template.startsWith("#{", index) || template.startsWith("<#", index) || template.startsWith("</#", index) || template.startsWith("<@", index) || template.startsWith("</@", index);
+    }
+
+    private static int literalEnd(String template, int start)
+    {
+        char quote = template.charAt(start);
+        int i = start + 1;
+        while (i < template.length())
+        {
+            if (template.charAt(i) == quote)
+            {
+                if ((i + 1 < template.length()) && (template.charAt(i + 1) == quote))
+                {
+                    i += 2;
+                    continue;
+                }
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static int placeholderEnd(String template, int start)
+    {
+        int depth = 0;
+        int i = start + 1;
+        while (i < template.length())
+        {
+            char c = template.charAt(i);
+            if (c == '{')
+            {
+                depth++;
+            }
+            else if (c == '}')
+            {
+                depth--;
+                if (depth == 0)
+                {
+                    return i;
+                }
+            }
+            else if ((c == '"') || (c == '\''))
+            {
+                i = stringEnd(template, i);
+                if (i == -1)
+                {
+                    return -1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static int stringEnd(String expression, int start)
+    {
+        char quote = expression.charAt(start);
+        int i = start + 1;
+        while (i < expression.length())
+        {
+            char c = expression.charAt(i);
+            if (c == '\\')
+            {
+                i++;
+            }
+            else if (c == quote)
+            {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static String quotedParameterName(String expression)
+    {
+        String trimmed = expression.trim().replace("\\'", "'");
+        if (NAME.matcher(trimmed).matches())
+        {
+            return trimmed;
+        }
+        Matcher escaped = ESCAPED_STRING.matcher(trimmed);
+        return escaped.matches() ? escaped.group(1) : null;
+    }
+
+    private static Segment placeholder(String expression)
+    {
+        String trimmed = expression.trim();
+        if (NAME.matcher(trimmed).matches())
+        {
+            return new NumberParameter(trimmed);
+        }
+        Matcher function = FUNCTION.matcher(trimmed);
+        List<String> arguments = function.matches() ? arguments(function.group(2)) : null;
+        if (arguments == null)
+        {
+            return null;
+        }
+        boolean collection = "renderCollection".equals(function.group(1));
+        if (arguments.size() != (collection ? 6 : 5))
+        {
+            return null;
+        }
+        String variable = arguments.get(0);
+        boolean optional = variable.endsWith("![]");
+        String name = optional ? variable.substring(0, variable.length() - 3) : variable;
+        int first = collection ? 2 : 1;
+        String prefix = stringArgument(arguments.get(first));
+        String suffix = stringArgument(arguments.get(first + 1));
+        String defaultValue = stringArgument(arguments.get(first + 3));
+        if (!NAME.matcher(name).matches() || (prefix == null) || (suffix == null) || (defaultValue == null) || !arguments.get(first + 2).startsWith("{"))
+        {
+            return null;
+        }
+        boolean strings;
+        if ("'".equals(prefix) && "'".equals(suffix))
+        {
+            strings = true;
+        }
+        else if (prefix.isEmpty() && suffix.isEmpty())
+        {
+            strings = false;
+        }
+        else
+        {
+            return null;
+        }
+        if (collection)
+        {
+            String separator = stringArgument(arguments.get(1));
+            return (separator == null) ? null : new CollectionParameter(name, optional, separator, strings, defaultValue);
+        }
+        return new OptionalParameter(name, optional, strings, defaultValue);
+    }
+
+    // splits function arguments, string arguments are returned unescaped and prefixed with a double quote
+    private static List<String> arguments(String text)
+    {
+        MutableList<String> arguments = Lists.mutable.empty();
+        int i = 0;
+        while (i < text.length())
+        {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || (c == ','))
+            {
+                i++;
+            }
+            else if ((c == '"') || (c == '\''))
+            {
+                int end = stringEnd(text, i);
+                if (end == -1)
+                {
+                    return null;
+                }
+                arguments.add("\"" + text.substring(i + 1, end).replaceAll("\\\\(.)", "$1"));
+                i = end + 1;
+            }
+            else if (c == '{')
+            {
+                int end = placeholderEnd("$" + text.substring(i), 0);
+                if (end == -1)
+                {
+                    return null;
+                }
+                arguments.add(text.substring(i, i + end));
+                i += end;
+            }
+            else
+            {
+                int end = i;
+                while ((end < text.length()) && (Character.isLetterOrDigit(text.charAt(end)) || (text.charAt(end) == '_')))
+                {
+                    end++;
+                }
+                if (text.startsWith("![]", end))
+                {
+                    end += 3;
+                }
+                if (end == i)
+                {
+                    return null;
+                }
+                arguments.add(text.substring(i, end));
+                i = end;
+            }
+        }
+        return arguments;
+    }
+
+    private static String stringArgument(String argument)
+    {
+        return argument.startsWith("\"") ? argument.substring(1) : null;
+    }
+
+    private static Object value(Map<String, Result> results, String name)
+    {
+        Result result = results.get(name);
+        if (result == null)
+        {
+            return null;
+        }
+        return (result instanceof ConstantResult) ? ((ConstantResult) result).getValue() : UNSUPPORTED;
+    }
+
+    private static boolean isBindable(Object value, boolean strings)
+    {
+        if (strings)
+        {
+            // backslashes are escaped when rendered as literals, which some databases do not undo
+            return (value instanceof String) && (((String) value).indexOf('\\') == -1);
+        }
+        return (value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value instanceof Byte) || (value instanceof BigInteger)
+                || (value instanceof Double) || (value instanceof Float) || (value instanceof BigDecimal);
+    }
+
+    private interface Segment
+    {
+        boolean render(StringBuilder sql, List<Object> parameters, Map<String, Result> results);
+    }
+
+    private static class StringParameter implements Segment
+    {
+        private final String name;
+
+        private StringParameter(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public boolean render(StringBuilder sql, List<Object> parameters, Map<String, Result> results)
+        {
+            Object value = value(results, this.name);
+            if (!isBindable(value, true))
+            {
+                return false;
+            }
+            sql.append('?');
+            parameters.add(value);
+            return true;
+        }
+    }
+
+    private static class NumberParameter implements Segment
+    {
+        private final String name;
+
+        private NumberParameter(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public boolean render(StringBuilder sql, List<Object> parameters, Map<String, Result> results)
+        {
+            Object value = value(results, this.name);
+            if (!isBindable(value, false))
+            {
+                return false;
+            }
+            sql.append('?');
+            parameters.add(value);
+            return true;
+        }
+    }
+
+    private static class OptionalParameter implements Segment
+    {
+        private final String name;
+        private final boolean optional;
+        private final boolean strings;
+        private final String defaultValue;
+
+        private OptionalParameter(String name, boolean optional, boolean strings, String defaultValue)
+        {
+            this.name = name;
+            this.optional = optional;
+            this.strings = strings;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public boolean render(StringBuilder sql, List<Object> parameters, Map<String, Result> results)
+        {
+            Object value = value(results, this.name);
+            if ((value == null) || ((value instanceof Collection) && ((Collection<?>) value).isEmpty()))
+            {
+                if (!this.optional)
+                {
+                    return false;
+                }
+                sql.append(this.defaultValue);
+                return true;
+            }
+            if (!isBindable(value, this.strings))
+            {
+                return false;
+            }
+            sql.append('?');
+            parameters.add(value);
+            return true;
+        }
+    }
+
+    private static class CollectionParameter implements Segment
+    {
+        private final String name;
+        private final boolean optional;
+        private final String separator;
+        private final boolean strings;
+        private final String defaultValue;
+
+        private CollectionParameter(String name, boolean optional, String separator, boolean strings, String defaultValue)
+        {
+            this.name = name;
+            this.optional = optional;
+            this.separator = separator;
+            this.strings = strings;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public boolean render(StringBuilder sql, List<Object> parameters, Map<String, Result> results)
+        {
+            Object value = value(results, this.name);
+            if (value == null)
+            {
+                if (!this.optional)
+                {
+                    return false;
+                }
+                sql.append(this.defaultValue);
+                return true;
+            }
+            if (!(value instanceof Collection))
+            {
+                return false;
+            }
+            Collection<?> values = (Collection<?>) value;
+            if (values.isEmpty())
+            {
+                sql.append(this.defaultValue);
+                return true;
+            }
+            boolean first = true;
+            for (Object element : values)
+            {
+                if (!isBindable(element, this.strings))
+                {
+                    return false;
+                }
+                if (!first)
+                {
+                    sql.append(this.separator);
+                }
+                sql.append('?');
+                parameters.add(element);
+                first = false;
+            }
+            return true;
+        }
+    }
+}
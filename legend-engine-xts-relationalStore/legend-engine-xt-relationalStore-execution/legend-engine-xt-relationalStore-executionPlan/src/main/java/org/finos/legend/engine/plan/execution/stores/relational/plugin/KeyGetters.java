@@ -0,0 +1,91 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.plugin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Key getters of the objects of a graph fetch node, resolved once per node into method handles so that reading the keys
+ * of each object avoids reflective invocation.
+ * <p>
+ * The getters belong to classes compiled for the plan in their own class loader, so they are not spun into lambdas,
+ * which would need those classes to be visible from this one.
+ */
+final class KeyGetters
+{
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final List<Method> methods;
+    private final MethodHandle[] handles;
+
+    private KeyGetters(List<Method> methods)
+    {
+        this.methods = methods;
+        this.handles = new MethodHandle[methods.size()];
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (int i = 0; i < this.handles.length; i++)
+        {
+            try
+            {
+                this.handles[i] = lookup.unreflect(methods.get(i)).asType(GETTER_TYPE);
+            }
+            catch (IllegalAccessException e)
+            {
+                // Invoked reflectively instead
+                this.handles[i] = null;
+            }
+        }
+    }
+
+    static KeyGetters of(List<Method> methods)
+    {
+        return new KeyGetters(methods);
+    }
+
+    List<Method> getMethods()
+    {
+        return this.methods;
+    }
+
+    int size()
+    {
+        return this.handles.length;
+    }
+
+    /**
+     * Gets the value of the key at the given index, with the exceptions of {@link Method#invoke}.
+     */
+    Object get(Object obj, int index) throws InvocationTargetException, IllegalAccessException
+    {
+        MethodHandle handle = this.handles[index];
+        if (handle == null)
+        {
+            return this.methods.get(index).invoke(obj);
+        }
+        try
+        {
+            return (Object) handle.invokeExact(obj);
+        }
+        catch (Throwable t)
+        {
+            throw new InvocationTargetException(t);
+        }
+    }
+}
@@ -140,7 +140,6 @@ import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvi
 import org.pac4j.core.profile.CommonProfile;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -551,7 +550,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 if (Arrays.asList(executeClass.getInterfaces()).contains(IRelationalRootGraphNodeExecutor.class))
                 {
                     IRelationalRootGraphNodeExecutor executor = (IRelationalRootGraphNodeExecutor) executeClass.getConstructor().newInstance();
-                    List<Method> primaryKeyGetters = executor.primaryKeyGetters();
+                    KeyGetters primaryKeyGetters = KeyGetters.of(executor.primaryKeyGetters());
                     int primaryKeyCount = primaryKeyGetters.size();
 
                     /* Check if caching is enabled and fetch the cache if required */
@@ -712,7 +711,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         String parentTempTableName = node.parentTempTableName;
                         RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns);
 
-                        List<Method> crossKeyGetters = executor.parentCrossKeyGetters();
+                        KeyGetters crossKeyGetters = KeyGetters.of(executor.parentCrossKeyGetters());
                         int parentKeyCount = crossKeyGetters.size();
 
                         for (Object parentObject : parentObjects)
@@ -761,7 +760,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                             }
                         }
 
-                        List<Method> primaryKeyGetters = executor.primaryKeyGetters();
+                        KeyGetters primaryKeyGetters = KeyGetters.of(executor.primaryKeyGetters());
                         final int primaryKeyCount = primaryKeyGetters.size();
                         DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters));
                         String databaseConnectionString = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(childResult.getSQLExecutionNode().connection);
@@ -835,7 +834,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         throw new RuntimeException("Not implemented!");
     }
 
-    private void executeRelationalChildren(RelationalGraphFetchExecutionNode node, String tempTableNameFromNode, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, List<Method> parentKeyGetters)
+    private void executeRelationalChildren(RelationalGraphFetchExecutionNode node, String tempTableNameFromNode, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, KeyGetters parentKeyGetters)
     {
         try (Scope ignored1 = GlobalTracer.get().buildSpan("Graph Query Relational: Execute Children").startActive(true))
         {
@@ -973,15 +972,16 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         state.addResult(key, new ConstantResult(result));
     }
 
-    private void addKeyRowToRealizedRelationalResult(Object obj, List<Method> keyGetters, RealizedRelationalResult realizedRelationalResult) throws InvocationTargetException, IllegalAccessException
+    private void addKeyRowToRealizedRelationalResult(Object obj, KeyGetters keyGetters, RealizedRelationalResult realizedRelationalResult) throws InvocationTargetException, IllegalAccessException
     {
         int keyCount = keyGetters.size();
         List<Object> pkRowTransformed = FastList.newList(keyCount);
         List<Object> pkRowNormalized = FastList.newList(keyCount);
 
-        for (Method keyGetter : keyGetters)
+        Object resolved = RelationalGraphFetchUtils.resolveValueIfIChecked(obj);
+        for (int i = 0; i < keyCount; i++)
         {
-            Object key = keyGetter.invoke(RelationalGraphFetchUtils.resolveValueIfIChecked(obj));
+            Object key = keyGetters.get(resolved, i);
             pkRowTransformed.add(key);
             pkRowNormalized.add(key);
         }
@@ -1230,7 +1230,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         }
     }
 
-    private void executeLocalRelationalGraphOperation(RelationalGraphFetchExecutionNode node, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, List<Method> parentKeyGetters)
+    private void executeLocalRelationalGraphOperation(RelationalGraphFetchExecutionNode node, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, KeyGetters parentKeyGetters)
     {
         GraphExecutionState graphExecutionState = (GraphExecutionState) executionState;
 
@@ -1264,7 +1264,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                 if (nonPrimitiveNode)
                 {
-                    List<Method> primaryKeyGetters = executor.primaryKeyGetters();
+                    KeyGetters primaryKeyGetters = KeyGetters.of(executor.primaryKeyGetters());
                     int primaryKeyCount = primaryKeyGetters.size();
                     DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(
                             RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters)
@@ -1378,7 +1378,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             IRelationalRootQueryTempTableGraphFetchExecutionNodeSpecifics nodeSpecifics = ExecutionNodeJavaPlatformHelper.getNodeSpecificsInstance(node, this.executionState, this.profiles);
 
-            List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
+            KeyGetters primaryKeyGetters = KeyGetters.of(nodeSpecifics.primaryKeyGetters());
 
             /* Check if caching is enabled and fetch caches if required */
             List<Pair<String, String>> allInstanceSetImplementations = nodeSpecifics.allInstanceSetImplementations();
@@ -1659,7 +1659,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     databaseConnection
             ); // child to parent map.
 
-            List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
+            KeyGetters primaryKeyGetters = KeyGetters.of(nodeSpecifics.primaryKeyGetters());
             DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters)); // for the children
             realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
 
@@ -1743,7 +1743,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     return new ArrayList<>();
                 }
                 relationalGraphObjectsBatch.setNodeObjectsHashMap(node.nodeIndex, currentMap);
-                relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, primaryKeyGetters);
+                relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, primaryKeyGetters.getMethods());
 
                 return submitTasksToExecutorIfPossible(node, realizedRelationalResult, databaseConnection, databaseType, databaseTimeZone, relationalGraphObjectsBatch);
             };
@@ -1849,11 +1849,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                 boolean cachingEnabled = false;
                 ExecutionCache<GraphFetchCacheKey, List<Object>> crossCache = relationalGraphObjectsBatch.getXStorePropertyCacheForNodeIndex(node.nodeIndex);
-                List<Method> parentCrossKeyGettersOrderedPerTargetProperties = null;
+                KeyGetters parentCrossKeyGettersOrderedPerTargetProperties = null;
                 if (crossCache != null)
                 {
                     cachingEnabled = true;
-                    parentCrossKeyGettersOrderedPerTargetProperties = nodeSpecifics.parentCrossKeyGettersOrderedByTargetProperties();
+                    parentCrossKeyGettersOrderedPerTargetProperties = KeyGetters.of(nodeSpecifics.parentCrossKeyGettersOrderedByTargetProperties());
                 }
 
                 List<Object> parentsToDeepFetch = new ArrayList<>();
@@ -1886,7 +1886,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     Map<Object, List<Object>> parentToChildMap = new HashMap<>();
 
                     RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns);
-                    List<Method> crossKeyGetters = nodeSpecifics.parentCrossKeyGetters();
+                    KeyGetters crossKeyGetters = KeyGetters.of(nodeSpecifics.parentCrossKeyGetters());
 
                     for (Object parentObject : parentsToDeepFetch)
                     {
@@ -1964,7 +1964,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                     RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
 
-                    List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
+                    KeyGetters primaryKeyGetters = KeyGetters.of(nodeSpecifics.primaryKeyGetters());
                     DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(
                             RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters)
                     );
@@ -2027,7 +2027,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                     if (cachingEnabled)
                     {
-                        List<Method> getters = parentCrossKeyGettersOrderedPerTargetProperties;
+                        KeyGetters getters = parentCrossKeyGettersOrderedPerTargetProperties;
                         parentToChildMap.forEach((p, cs) ->
                         {
                             crossCache.put(
@@ -2092,7 +2092,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         }
     }
 
-    private void executeRootTempTableNodeChildren(RelationalTempTableGraphFetchExecutionNode node, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> nodeObjectsMap, List<Method> nodePrimaryKeyGetters)
+    private void executeRootTempTableNodeChildren(RelationalTempTableGraphFetchExecutionNode node, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> nodeObjectsMap, KeyGetters nodePrimaryKeyGetters)
     {
         RelationalGraphObjectsBatch relationalGraphObjectsBatch = (RelationalGraphObjectsBatch) this.executionState.graphObjectsBatch;
 
@@ -2103,7 +2103,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         else
         {
             relationalGraphObjectsBatch.setNodeObjectsHashMap(node.nodeIndex, nodeObjectsMap);
-            relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, nodePrimaryKeyGetters);
+            relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, nodePrimaryKeyGetters.getMethods());
 
             Queue<DelayedGraphFetchResultWithExecInfo> submittedTasks = new LinkedList<>();
             submittedTasks.addAll(submitTasksToExecutorIfPossible(node, realizedRelationalResult, databaseConnection, databaseType, databaseTimeZone, relationalGraphObjectsBatch));
@@ -2173,7 +2173,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         List<String> parentPrimaryKeyColumnNames = UpperCaseColumnsIfDbConnectionIsNotCaseSensitive(parentPrimaryKeyColumnsSupplier.get(),databaseConnection);
         List<Integer> parentPrimaryKeyIndices = parentPrimaryKeyColumnNames.stream().map(FunctionHelper.unchecked(childResultSet::findColumn)).collect(Collectors.toList());
         DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap = relationalGraphObjectsBatch.getNodeObjectsHashMap(parentIndex);
-        RelationalGraphFetchUtils.switchSecondKeyHashingStrategy(parentMap, relationalGraphObjectsBatch.getNodePrimaryKeyGetters(parentIndex), parentPrimaryKeyIndices);
+        RelationalGraphFetchUtils.switchSecondKeyHashingStrategy(parentMap, KeyGetters.of(relationalGraphObjectsBatch.getNodePrimaryKeyGetters(parentIndex)), parentPrimaryKeyIndices);
         return parentMap;
     }
 
@@ -36,7 +36,6 @@ import org.finos.legend.engine.shared.core.collectionsExtensions.DoubleStrategyH
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -47,25 +46,25 @@ import java.util.stream.Collectors;
 
 class RelationalGraphFetchUtils
 {
-    private static final Function<List<Method>, Function<Object, Integer>> OBJECT_KEYS_HASHING_FUNCTION =
+    private static final Function<KeyGetters, Function<Object, Integer>> OBJECT_KEYS_HASHING_FUNCTION =
             (getters) -> (obj) -> hashWithKeys(obj, getters);
 
-    private static final Function<List<Method>, BiFunction<Object, Object, Boolean>> OBJECT_KEYS_EQUALITY_FUNCTION =
+    private static final Function<KeyGetters, BiFunction<Object, Object, Boolean>> OBJECT_KEYS_EQUALITY_FUNCTION =
             (getters) -> (obj1, obj2) -> equalsWithKeys(obj1, obj2, getters);
 
     private static final Function<List<Integer>, Function<SQLExecutionResult, Integer>> SQL_RESULT_INDICES_HASHING_FUNCTION =
             (indices) -> (obj) -> hashSQLResultWithKeyIndices(obj, indices);
 
-    private static final BiFunction<List<Method>, List<Integer>, BiFunction<Object, SQLExecutionResult, Boolean>> OBJECT_SQL_RESULT_HETEROGENEOUS_EQUALS_FUNCTION =
+    private static final BiFunction<KeyGetters, List<Integer>, BiFunction<Object, SQLExecutionResult, Boolean>> OBJECT_SQL_RESULT_HETEROGENEOUS_EQUALS_FUNCTION =
             (getters, indices) -> (object, sqlResult) -> heterogeneousEqualsObjectAndSQLResult(object, sqlResult, getters, indices);
 
 
     static class RelationalObjectGraphFetchCacheKey extends GraphFetchCacheKey
     {
         Object relationalObject;
-        List<Method> keyGetters;
+        KeyGetters keyGetters;
 
-        RelationalObjectGraphFetchCacheKey(Object relationalObject, List<Method> keyGetters)
+        RelationalObjectGraphFetchCacheKey(Object relationalObject, KeyGetters keyGetters)
         {
             this.relationalObject = relationalObject;
             this.keyGetters = keyGetters;
@@ -77,13 +76,11 @@ class RelationalGraphFetchUtils
             try
             {
                 StringBuilder s = new StringBuilder("RelationalObjectGraphFetchCacheKey{");
-                int i = 0;
-                for (Method getter : this.keyGetters)
+                for (int i = 0; i < this.keyGetters.size(); i++)
                 {
-                    Object val = getter.invoke(this.relationalObject);
+                    Object val = this.keyGetters.get(this.relationalObject, i);
                     s.append(val == null ? "NULL" : val.toString());
-                    i++;
-                    if (i != this.keyGetters.size())
+                    if (i + 1 != this.keyGetters.size())
                     {
                         s.append("|");
                     }
@@ -192,10 +189,10 @@ class RelationalGraphFetchUtils
         private static final long serialVersionUID = -5965677842102369070L;
 
         Object relationalObject;
-        List<Method> keyGetters;
+        KeyGetters keyGetters;
         List<Object> values;
 
-        RelationalCrossObjectGraphFetchCacheKey(Object relationalObject, List<Method> keyGetters)
+        RelationalCrossObjectGraphFetchCacheKey(Object relationalObject, KeyGetters keyGetters)
         {
             this.relationalObject = relationalObject;
             this.keyGetters = keyGetters;
@@ -233,9 +230,9 @@ class RelationalGraphFetchUtils
                 this.values = new ArrayList<>();
                 try
                 {
-                    for (Method getter : this.keyGetters)
+                    for (int i = 0; i < this.keyGetters.size(); i++)
                     {
-                        this.values.add(getter.invoke(this.relationalObject));
+                        this.values.add(this.keyGetters.get(this.relationalObject, i));
                     }
                 }
                 catch (Exception e)
@@ -258,7 +255,7 @@ class RelationalGraphFetchUtils
         }
     }
 
-    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategy(List<Method> keyGetters, List<Integer> keyIndices)
+    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategy(KeyGetters keyGetters, List<Integer> keyIndices)
     {
         return new DoubleHashingStrategy<>(
                 RelationalGraphFetchUtils.OBJECT_KEYS_HASHING_FUNCTION.apply(keyGetters),
@@ -268,7 +265,7 @@ class RelationalGraphFetchUtils
         );
     }
 
-    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(List<Method> keyGetters)
+    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(KeyGetters keyGetters)
     {
         return new DoubleHashingStrategy<>(
                 RelationalGraphFetchUtils.OBJECT_KEYS_HASHING_FUNCTION.apply(keyGetters),
@@ -278,7 +275,7 @@ class RelationalGraphFetchUtils
         );
     }
 
-    static void switchSecondKeyHashingStrategy(DoubleStrategyHashMap<Object, Object, SQLExecutionResult> hashMap, List<Method> keyGetters, List<Integer> keyIndices)
+    static void switchSecondKeyHashingStrategy(DoubleStrategyHashMap<Object, Object, SQLExecutionResult> hashMap, KeyGetters keyGetters, List<Integer> keyIndices)
     {
         hashMap.switchSecondKeyHashingStrategy(
                 SQL_RESULT_INDICES_HASHING_FUNCTION.apply(keyIndices),
@@ -337,15 +334,16 @@ class RelationalGraphFetchUtils
         return matchingUtilizedCache;
     }
 
-    private static int hashWithKeys(Object obj, List<Method> getters)
+    private static int hashWithKeys(Object obj, KeyGetters getters)
     {
         try
         {
             int hash = 0;
             int mul = 1;
-            for (Method getter : getters)
+            Object resolved = resolveValueIfIChecked(obj);
+            for (int i = 0; i < getters.size(); i++)
             {
-                Object val = getter.invoke(resolveValueIfIChecked(obj));
+                Object val = getters.get(resolved, i);
                 hash = hash + mul * (val == null ? -1 : val.hashCode());
                 mul = mul * 29;
             }
@@ -369,7 +367,7 @@ class RelationalGraphFetchUtils
         return hash;
     }
 
-    private static boolean equalsWithKeys(Object obj1, Object obj2, List<Method> getters)
+    private static boolean equalsWithKeys(Object obj1, Object obj2, KeyGetters getters)
     {
         try
         {
@@ -382,10 +380,10 @@ class RelationalGraphFetchUtils
                 return false;
             }
 
-            for (Method getter : getters)
+            for (int i = 0; i < getters.size(); i++)
             {
-                Object obj1Val = getter.invoke(obj1);
-                Object obj2Val = getter.invoke(obj2);
+                Object obj1Val = getters.get(obj1, i);
+                Object obj2Val = getters.get(obj2, i);
                 if (!Objects.equals(obj1Val, obj2Val))
                 {
                     return false;
@@ -399,7 +397,7 @@ class RelationalGraphFetchUtils
         }
     }
 
-    private static boolean equalsWithDifferentKeys(Object obj1, Object obj2, List<Method> getters1, List<Method> getters2)
+    private static boolean equalsWithDifferentKeys(Object obj1, Object obj2, KeyGetters getters1, KeyGetters getters2)
     {
         try
         {
@@ -412,16 +410,14 @@ class RelationalGraphFetchUtils
                 return false;
             }
 
-            int i = 0;
-            for (Method getter1 : getters1)
+            for (int i = 0; i < getters1.size(); i++)
             {
-                Object obj1Val = getter1.invoke(obj1);
-                Object obj2Val = getters2.get(i).invoke(obj2);
+                Object obj1Val = getters1.get(obj1, i);
+                Object obj2Val = getters2.get(obj2, i);
                 if (!Objects.equals(obj1Val, obj2Val))
                 {
                     return false;
                 }
-                i++;
             }
             return true;
         }
@@ -446,20 +442,18 @@ class RelationalGraphFetchUtils
         return true;
     }
 
-    private static boolean equalsWithKeysAndValues(Object obj, List<Method> getters, List<Object> values)
+    private static boolean equalsWithKeysAndValues(Object obj, KeyGetters getters, List<Object> values)
     {
         try
         {
-            int i = 0;
-            for (Method getter : getters)
+            for (int i = 0; i < getters.size(); i++)
             {
-                Object obj1Val = getter.invoke(obj);
+                Object obj1Val = getters.get(obj, i);
                 Object obj2Val = values.get(i);
                 if (!Objects.equals(obj1Val, obj2Val))
                 {
                     return false;
                 }
-                i++;
             }
             return true;
         }
@@ -489,20 +483,19 @@ class RelationalGraphFetchUtils
         }
     }
 
-    private static boolean heterogeneousEqualsObjectAndSQLResult(Object object, SQLExecutionResult sqlResult, List<Method> getters, List<Integer> indices)
+    private static boolean heterogeneousEqualsObjectAndSQLResult(Object object, SQLExecutionResult sqlResult, KeyGetters getters, List<Integer> indices)
     {
         try
         {
-            int i = 0;
-            for (int index : indices)
+            Object resolved = resolveValueIfIChecked(object);
+            for (int i = 0; i < indices.size(); i++)
             {
-                Object thisVal = sqlResult.getTransformedValue(index);
-                Object thatVal = getters.get(i).invoke(resolveValueIfIChecked(object));
+                Object thisVal = sqlResult.getTransformedValue(indices.get(i));
+                Object thatVal = getters.get(resolved, i);
                 if (!Objects.equals(thisVal, thatVal))
                 {
                     return false;
                 }
-                i++;
             }
             return true;
         }
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.opentracing.Span;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -68,6 +69,7 @@ import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
+import org.finos.legend.engine.plan.execution.stores.relational.parameterization.ParameterizedSQL;
 import org.finos.legend.engine.plan.execution.stores.relational.result.builder.relation.RelationBuilder;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializerWithTransformersApplied;
@@ -137,7 +139,9 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         try
         {
             this.connection = connection;
-            this.statement = connection.createStatement();
+            RelationalExecutionActivity activity = ((RelationalExecutionActivity) activities.getLast());
+            String sql = activity.comment != null ? activity.comment.concat("\n").concat(activity.sql) : activity.sql;
+            this.statement = activity.parameters == null ? connection.createStatement() : ParameterizedSQL.bind(connection.prepareStatement(sql), activity.parameters);
             if (DatabaseType.MemSQL.name().equals(databaseType))
             {
                 this.statement.setFetchSize(100);
@@ -149,11 +153,9 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             }
 
             long start = System.currentTimeMillis();
-            RelationalExecutionActivity activity = ((RelationalExecutionActivity) activities.getLast());
-            String sql = activity.comment != null ? activity.comment.concat("\n").concat(activity.sql) : activity.sql;
             String logMessage = logSQLWithParamValues ? sql : node.sqlQuery();
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, logMessage).toString());
-            this.resultSet = this.statement.executeQuery(sql);
+            this.resultSet = activity.parameters == null ? this.statement.executeQuery(sql) : ((PreparedStatement) this.statement).executeQuery();
             this.executedSQl = sql;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.resultSetMetaData = resultSet.getMetaData();
@@ -365,7 +367,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 try
                 {
                     DatabaseManager databaseManager = DatabaseManager.fromString(this.databaseType);
-                    statement.execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+                    ParameterizedSQL.execute(statement, databaseManager.relationalDatabaseSupport().dropTempTable(table));
                 }
                 catch (Exception ignored)
                 {
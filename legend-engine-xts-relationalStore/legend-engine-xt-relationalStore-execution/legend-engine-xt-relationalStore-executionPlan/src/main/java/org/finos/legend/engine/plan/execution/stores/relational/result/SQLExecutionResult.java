@@ -31,6 +31,7 @@ import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.util.Calendar;
@@ -84,7 +85,7 @@ public class SQLExecutionResult extends SQLResult
             {
                 StoreExecutableManager.INSTANCE.addExecutable(this.getRequestContext(), this);
             }
-            this.resultSet = this.getStatement().executeQuery(sql);
+            this.resultSet = activity.parameters == null ? this.getStatement().executeQuery(sql) : ((PreparedStatement) this.getStatement()).executeQuery();
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.executedSql = sql;
 
@@ -20,7 +20,9 @@ import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
+import org.finos.legend.engine.plan.execution.stores.relational.parameterization.ParameterizedSQL;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
@@ -54,7 +56,17 @@ public abstract class SQLResult extends Result implements StoreExecutable
         
         try
         {
-            this.statement = connection.createStatement();
+            ExecutionActivity activity = activities.isEmpty() ? null : activities.get(activities.size() - 1);
+            if ((activity instanceof RelationalExecutionActivity) && (((RelationalExecutionActivity) activity).parameters != null))
+            {
+                RelationalExecutionActivity relationalActivity = (RelationalExecutionActivity) activity;
+                String sql = relationalActivity.comment != null ? relationalActivity.comment.concat("\n").concat(relationalActivity.sql) : relationalActivity.sql;
+                this.statement = ParameterizedSQL.bind(connection.prepareStatement(sql), relationalActivity.parameters);
+            }
+            else
+            {
+                this.statement = connection.createStatement();
+            }
             if (DatabaseType.MemSQL.name().equals(databaseType))
             {
                 this.statement.setFetchSize(100);
@@ -118,7 +130,7 @@ public abstract class SQLResult extends Result implements StoreExecutable
             {
                 try
                 {
-                    this.getStatement().execute(databaseManager.relationalDatabaseSupport().dropTempTable(table));
+                    ParameterizedSQL.execute(this.getStatement(), databaseManager.relationalDatabaseSupport().dropTempTable(table));
                 }
                 catch (Exception ignored)
                 {
@@ -19,6 +19,7 @@ import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.parameterization.ParameterizedSQL;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
@@ -28,6 +29,7 @@ import org.pac4j.core.profile.CommonProfile;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -50,9 +52,10 @@ public class VoidRelationalResult extends Result
 
         try
         {
-            String sql = ((RelationalExecutionActivity) activities.getLast()).sql;
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) activities.getLast();
+            String sql = activity.sql;
             this.connection = connection;
-            this.statement = connection.createStatement();
+            this.statement = activity.parameters == null ? connection.createStatement() : ParameterizedSQL.bind(connection.prepareStatement(sql), activity.parameters);
             long start = System.currentTimeMillis();
             String nodeSql = "";
             if (node instanceof RelationalExecutionNode)
@@ -65,7 +68,14 @@ public class VoidRelationalResult extends Result
             }
             String logMessage = logSQLWithParamValues ? sql : nodeSql;
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_START, logMessage).toString());
-            this.statement.execute(sql);
+            if (activity.parameters == null)
+            {
+                this.statement.execute(sql);
+            }
+            else
+            {
+                ((PreparedStatement) this.statement).execute();
+            }
             LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
         }
         catch (SQLException e)
@@ -0,0 +1,367 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Writes relational values as JSON into a reusable buffer which is flushed to the underlying stream when full, without
+ * building intermediate strings for the common value types.
+ * <p>
+ * The output is the same as {@link ValueTransformer#transformWrappedRelationalValueForJSON} followed by the pure
+ * primitive to JSON converter of the execution result object mapper factory, encoded as UTF-8.
+ */
+final class JsonValueWriter
+{
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+
+    private static final int SECONDS_PER_DAY = 86400;
+    // largest encoding of a single char is a \\uXXXX escape
+    private static final int MAX_CHAR_SIZE = 6;
+    // "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+0000" with quotes
+    private static final int MAX_FIXED_SIZE = 36;
+
+    private final OutputStream stream;
+    private final ValueTransformer fallback = new ValueTransformer();
+    private final byte[] buffer;
+    private int position = 0;
+
+    JsonValueWriter(OutputStream stream, int bufferSize)
+    {
+        if (bufferSize < MAX_FIXED_SIZE)
+        {
+            throw new IllegalArgumentException("Buffer size must be at least " + MAX_FIXED_SIZE + ": " + bufferSize);
+        }
+        this.stream = stream;
+        this.buffer = new byte[bufferSize];
+    }
+
+    void writeRaw(byte[] bytes) throws IOException
+    {
+        if (this.position + bytes.length > this.buffer.length)
+        {
+            this.flush();
+            if (bytes.length > this.buffer.length)
+            {
+                this.stream.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+        this.position += bytes.length;
+    }
+
+    /**
+     * Writes a value read from a result set: SQL timestamps and dates are written as quoted ISO strings, anything else
+     * is transformed and written as a pure primitive.
+     */
+    void writeRelationalValue(Object value, Function<Object, Object> transformer) throws IOException
+    {
+        if (value instanceof Timestamp)
+        {
+            this.writeTimestamp((Timestamp) value);
+        }
+        else if (value instanceof java.sql.Date)
+        {
+            this.writeDate((java.sql.Date) value);
+        }
+        else
+        {
+            this.writePurePrimitive(transformer.valueOf(value));
+        }
+    }
+
+    void writePurePrimitive(Object value) throws IOException
+    {
+        if (value == null)
+        {
+            this.writeRaw(NULL);
+        }
+        else if (value instanceof String)
+        {
+            this.writeString((String) value);
+        }
+        else if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value instanceof Byte))
+        {
+            this.writeLong(((Number) value).longValue());
+        }
+        else if (value instanceof Boolean)
+        {
+            this.writeRaw((Boolean) value ? TRUE : FALSE);
+        }
+        else if (value instanceof Double)
+        {
+            double d = (Double) value;
+            if (Double.isNaN(d) || Double.isInfinite(d))
+            {
+                this.writeRaw(NULL);
+            }
+            else
+            {
+                this.writeUnescaped(Double.toString(d));
+            }
+        }
+        else if (value instanceof Float)
+        {
+            float f = (Float) value;
+            if (Float.isNaN(f) || Float.isInfinite(f))
+            {
+                this.writeRaw(NULL);
+            }
+            else
+            {
+                this.writeUnescaped(Float.toString(f));
+            }
+        }
+        else if (value instanceof PureDate)
+        {
+            this.ensureCapacity(1);
+            this.buffer[this.position++] = '"';
+            this.writeUnescaped(value.toString());
+            this.ensureCapacity(1);
+            this.buffer[this.position++] = '"';
+        }
+        else
+        {
+            this.writeUnescaped(value.toString());
+        }
+    }
+
+    void flush() throws IOException
+    {
+        if (this.position > 0)
+        {
+            this.stream.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    private void writeTimestamp(Timestamp timestamp) throws IOException
+    {
+        long epochSecond = Math.floorDiv(timestamp.getTime(), 1000L);
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (!isFourDigitYear(date.getYear()))
+        {
+            this.writeUnescaped(this.fallback.transformWrappedRelationalValueForJSON(timestamp, null));
+            return;
+        }
+        this.ensureCapacity(MAX_FIXED_SIZE);
+        this.buffer[this.position++] = '"';
+        this.writeDateDigits(date);
+        this.buffer[this.position++] = 'T';
+        this.writeDigits(secondOfDay / 3600, 2);
+        this.buffer[this.position++] = ':';
+        this.writeDigits((secondOfDay / 60) % 60, 2);
+        this.buffer[this.position++] = ':';
+        this.writeDigits(secondOfDay % 60, 2);
+        this.buffer[this.position++] = '.';
+        this.writeDigits(timestamp.getNanos(), 9);
+        this.buffer[this.position++] = '+';
+        this.writeDigits(0, 4);
+        this.buffer[this.position++] = '"';
+    }
+
+    private void writeDate(java.sql.Date sqlDate) throws IOException
+    {
+        LocalDate date = sqlDate.toLocalDate();
+        if (!isFourDigitYear(date.getYear()))
+        {
+            this.writeUnescaped(this.fallback.transformWrappedRelationalValueForJSON(sqlDate, null));
+            return;
+        }
+        this.ensureCapacity(MAX_FIXED_SIZE);
+        this.buffer[this.position++] = '"';
+        this.writeDateDigits(date);
+        this.buffer[this.position++] = '"';
+    }
+
+    private void writeDateDigits(LocalDate date)
+    {
+        this.writeDigits(date.getYear(), 4);
+        this.buffer[this.position++] = '-';
+        this.writeDigits(date.getMonthValue(), 2);
+        this.buffer[this.position++] = '-';
+        this.writeDigits(date.getDayOfMonth(), 2);
+    }
+
+    private void writeDigits(int value, int width)
+    {
+        for (int i = this.position + width - 1; i >= this.position; i--)
+        {
+            this.buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        this.position += width;
+    }
+
+    private void writeLong(long value) throws IOException
+    {
+        if (value == Long.MIN_VALUE)
+        {
+            this.writeUnescaped(Long.toString(value));
+            return;
+        }
+        this.ensureCapacity(20);
+        if (value < 0)
+        {
+            this.buffer[this.position++] = '-';
+            value = -value;
+        }
+        int length = 1;
+        for (long v = value / 10; v > 0; v /= 10)
+        {
+            length++;
+        }
+        for (int i = this.position + length - 1; i >= this.position; i--)
+        {
+            this.buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        this.position += length;
+    }
+
+    private void writeString(String value) throws IOException
+    {
+        this.ensureCapacity(1);
+        this.buffer[this.position++] = '"';
+        int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            this.ensureCapacity(MAX_CHAR_SIZE);
+            char ch = value.charAt(i);
+            switch (ch)
+            {
+                case '"':
+                    this.writeEscape('"');
+                    break;
+                case '\\':
+                    this.writeEscape('\\');
+                    break;
+                case '\n':
+                    this.writeEscape('n');
+                    break;
+                case '\r':
+                    this.writeEscape('r');
+                    break;
+                case '\t':
+                    this.writeEscape('t');
+                    break;
+                case '/':
+                    this.writeEscape('/');
+                    break;
+                case '\b':
+                    this.writeEscape('b');
+                    break;
+                case '\f':
+                    this.writeEscape('f');
+                    break;
+                default:
+                    if (ch <= '\u001F' || (ch >= '\u007F' && ch <= '\u009F') || (ch >= '\u2000' && ch <= '\u20FF'))
+                    {
+                        this.buffer[this.position++] = '\\';
+                        this.buffer[this.position++] = 'u';
+                        this.buffer[this.position++] = HEX[(ch >> 12) & 0xF];
+                        this.buffer[this.position++] = HEX[(ch >> 8) & 0xF];
+                        this.buffer[this.position++] = HEX[(ch >> 4) & 0xF];
+                        this.buffer[this.position++] = HEX[ch & 0xF];
+                    }
+                    else
+                    {
+                        i = this.writeChar(value, i, ch);
+                    }
+            }
+        }
+        this.ensureCapacity(1);
+        this.buffer[this.position++] = '"';
+    }
+
+    private void writeUnescaped(String value) throws IOException
+    {
+        int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            this.ensureCapacity(MAX_CHAR_SIZE);
+            i = this.writeChar(value, i, value.charAt(i));
+        }
+    }
+
+    private void writeEscape(char ch)
+    {
+        this.buffer[this.position++] = '\\';
+        this.buffer[this.position++] = (byte) ch;
+    }
+
+    /**
+     * Writes the UTF-8 encoding of the char at the given index, and returns the index of the last char consumed.
+     */
+    private int writeChar(String value, int index, char ch)
+    {
+        if (ch < 0x80)
+        {
+            this.buffer[this.position++] = (byte) ch;
+        }
+        else if (ch < 0x800)
+        {
+            this.buffer[this.position++] = (byte) (0xC0 | (ch >> 6));
+            this.buffer[this.position++] = (byte) (0x80 | (ch & 0x3F));
+        }
+        else if (!Character.isSurrogate(ch))
+        {
+            this.buffer[this.position++] = (byte) (0xE0 | (ch >> 12));
+            this.buffer[this.position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+            this.buffer[this.position++] = (byte) (0x80 | (ch & 0x3F));
+        }
+        else if (Character.isHighSurrogate(ch) && (index + 1 < value.length()) && Character.isLowSurrogate(value.charAt(index + 1)))
+        {
+            int codePoint = Character.toCodePoint(ch, value.charAt(index + 1));
+            this.buffer[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+            this.buffer[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            this.buffer[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            this.buffer[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 1;
+        }
+        else
+        {
+            // unpaired surrogates are replaced, as String.getBytes does
+            this.buffer[this.position++] = '?';
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int size) throws IOException
+    {
+        if (this.position + size > this.buffer.length)
+        {
+            this.flush();
+        }
+    }
+
+    private static boolean isFourDigitYear(int year)
+    {
+        // outside of this range the formatter prints the year of era with more digits or a different era
+        return (year >= 1) && (year <= 9999);
+    }
+}
@@ -23,6 +23,7 @@ import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
@@ -40,8 +41,9 @@ import java.util.List;
 
 public class RelationalResultToJsonDefaultSerializer extends Serializer
 {
+    private static final int BUFFER_SIZE = 8192;
+
     private final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
-    private final Function<Object, String> purePrimitiveToJsonConverter = ExecutionResultObjectMapperFactory.getPurePrimitiveToJsonConverter();
     private final RelationalResult relationalResult;
     private final byte[] b_builder = "{\"builder\": ".getBytes();
     private final byte[] b_generation = ", \"generationInfo\": ".getBytes();
@@ -53,7 +55,6 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
     private final byte[] b_values = "{\"values\": [".getBytes();
     private final byte[] b_end = "]}".getBytes();
     private final byte[] b_endResult = "}".getBytes();
-    private final ValueTransformer transformer = new ValueTransformer();
 
     public RelationalResultToJsonDefaultSerializer(RelationalResult relationalResult)
     {
@@ -98,22 +99,27 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
     private void streamRows(OutputStream outputStream) throws Exception
     {
         int rowCount = 0;
+        JsonValueWriter writer = new JsonValueWriter(outputStream, BUFFER_SIZE);
+        // transformers only vary by row when the result mixes several set implementations
+        MutableList<Function<Object, Object>> transformers = relationalResult.setTransformers.size() == 1 ? relationalResult.getTransformers() : null;
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: Fetch first row").startActive(true))
         {
             if (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
             {
-                processRow(outputStream);
+                processRow(writer, transformers);
                 rowCount++;
             }
+            writer.flush();
         }
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: remaining rows").startActive(true))
         {
             while (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
             {
-                outputStream.write(b_comma);
-                processRow(outputStream);
+                writer.writeRaw(b_comma);
+                processRow(writer, transformers);
                 rowCount++;
             }
+            writer.flush();
             scope.span().setTag("rowCount", rowCount);
             if (relationalResult.topSpan != null)
             {
@@ -122,20 +128,19 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
         }
     }
 
-    private void processRow(OutputStream outputStream) throws IOException, SQLException
+    private void processRow(JsonValueWriter writer, MutableList<Function<Object, Object>> transformers) throws IOException, SQLException
     {
-        outputStream.write(b_values);
-
-
-        for (int i = 1; i <= relationalResult.columnCount - 1; i++)
+        MutableList<Function<Object, Object>> rowTransformers = transformers == null ? relationalResult.getTransformers() : transformers;
+        writer.writeRaw(b_values);
+        for (int i = 1; i <= relationalResult.columnCount; i++)
         {
-            Object value = relationalResult.getValue(i);
-
-            outputStream.write((transformer.transformWrappedRelationalValueForJSON(value, relationalResult.getTransformers().get(i - 1).andThen(purePrimitiveToJsonConverter))).getBytes());
-            outputStream.write(b_comma);
+            if (i > 1)
+            {
+                writer.writeRaw(b_comma);
+            }
+            writer.writeRelationalValue(relationalResult.getValue(i), rowTransformers.get(i - 1));
         }
-        outputStream.write((transformer.transformWrappedRelationalValueForJSON(relationalResult.getValue(relationalResult.columnCount), relationalResult.getTransformers().get(relationalResult.columnCount - 1).andThen(purePrimitiveToJsonConverter))).getBytes());
-        outputStream.write(b_end);
+        writer.writeRaw(b_end);
     }
 
 
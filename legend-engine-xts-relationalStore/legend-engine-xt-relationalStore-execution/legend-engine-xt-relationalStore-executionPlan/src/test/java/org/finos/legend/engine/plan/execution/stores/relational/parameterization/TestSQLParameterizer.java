@@ -0,0 +1,122 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.parameterization;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+public class TestSQLParameterizer
+{
+    private static final String RENDER_COLLECTION = "${renderCollection(names![] \",\" \"'\" \"'\" {\"'\" : \"''\"} \"null\")}";
+    private static final String OPTIONAL_STRING = "${varPlaceHolderToString(name![] \"'\" \"'\" {\"'\" : \"''\"} \"null\")}";
+
+    @Test
+    public void testScalarParameters()
+    {
+        ParameterizedSQL sql = SQLParameterizer.parameterize("select * from person as \"root\" where \"root\".NAME = '${name?replace(\"'\", \"''\")}' and \"root\".AGE > ${age} and \"root\".CITY = 'it''s'",
+                results("name", "O'Brien", "age", 30L));
+        Assert.assertEquals("select * from person as \"root\" where \"root\".NAME = ? and \"root\".AGE > ? and \"root\".CITY = 'it''s'", sql.getSql());
+        Assert.assertEquals(Lists.mutable.with("O'Brien", 30L), sql.getParameters());
+    }
+
+    @Test
+    public void testSameStatementForDifferentValues()
+    {
+        String template = "select * from person as \"root\" where \"root\".NAME = '${name}'";
+        ParameterizedSQL first = SQLParameterizer.parameterize(template, results("name", "John"));
+        ParameterizedSQL second = SQLParameterizer.parameterize(template, results("name", "Jane"));
+        Assert.assertEquals(first.getSql(), second.getSql());
+        Assert.assertEquals(Lists.mutable.with("Jane"), second.getParameters());
+    }
+
+    @Test
+    public void testCollectionParameters()
+    {
+        String template = "select * from person as \"root\" where \"root\".NAME in (" + RENDER_COLLECTION + ")";
+        ParameterizedSQL sql = SQLParameterizer.parameterize(template, results("names", Lists.mutable.with("John", "Jane")));
+        Assert.assertEquals("select * from person as \"root\" where \"root\".NAME in (?,?)", sql.getSql());
+        Assert.assertEquals(Lists.mutable.with("John", "Jane"), sql.getParameters());
+
+        ParameterizedSQL empty = SQLParameterizer.parameterize(template, results("names", Lists.mutable.empty()));
+        Assert.assertEquals("select * from person as \"root\" where \"root\".NAME in (null)", empty.getSql());
+        Assert.assertTrue(empty.getParameters().isEmpty());
+    }
+
+    @Test
+    public void testOptionalParameters()
+    {
+        String template = "select * from person as \"root\" where \"root\".NAME = " + OPTIONAL_STRING;
+        Assert.assertEquals(Lists.mutable.with("John"), SQLParameterizer.parameterize(template, results("name", "John")).getParameters());
+        Assert.assertEquals("select * from person as \"root\" where \"root\".NAME = null", SQLParameterizer.parameterize(template, results()).getSql());
+    }
+
+    @Test
+    public void testFallbackToFreeMarker()
+    {
+        // directives, unknown template functions, placeholders within literals and values of other types are not bound
+        Assert.assertNull(SQLParameterizer.parameterize("select * from person <#if age?has_content>where AGE > ${age}</#if>", results("age", 1L)));
+        Assert.assertNull(SQLParameterizer.parameterize("select * from ${tableName(role)}", results("role", "admin")));
+        Assert.assertNull(SQLParameterizer.parameterize("select * from person where NAME like '${name}%'", results("name", "J")));
+        Assert.assertNull(SQLParameterizer.parameterize("select * from person where NAME = '${name}'", results("name", 1L)));
+        Assert.assertNull(SQLParameterizer.parameterize("select * from ${table}", results("table", "person")));
+        Assert.assertNull(SQLParameterizer.parameterize("select * from person where NAME = '${name}'", results("name", "back\\slash")));
+        Assert.assertNull(SQLParameterizer.parameterize("select * from person where NAME = '${name}'", results()));
+    }
+
+    @Test
+    public void testBindWithH2() throws Exception
+    {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testSQLParameterizer;DB_CLOSE_DELAY=-1", "sa", ""))
+        {
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute("create table person(NAME varchar(100), AGE int)");
+                statement.execute("insert into person values ('John', 25), ('Jane', 35), ('O''Brien', 45)");
+            }
+            ParameterizedSQL sql = SQLParameterizer.parameterize("select NAME from person where NAME in (" + RENDER_COLLECTION + ") and AGE > ${age} order by NAME",
+                    results("names", Lists.mutable.with("O'Brien", "Jane", "John"), "age", 30));
+            try (PreparedStatement statement = ParameterizedSQL.bind(connection.prepareStatement(sql.getSql()), sql.getParameters());
+                 ResultSet resultSet = statement.executeQuery())
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals("Jane", resultSet.getString(1));
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals("O'Brien", resultSet.getString(1));
+                Assert.assertFalse(resultSet.next());
+            }
+        }
+    }
+
+    private static Map<String, Result> results(Object... namesAndValues)
+    {
+        Map<String, Result> results = Maps.mutable.empty();
+        for (int i = 0; i < namesAndValues.length; i += 2)
+        {
+            results.put((String) namesAndValues[i], new ConstantResult(namesAndValues[i + 1]));
+        }
+        return results;
+    }
+}
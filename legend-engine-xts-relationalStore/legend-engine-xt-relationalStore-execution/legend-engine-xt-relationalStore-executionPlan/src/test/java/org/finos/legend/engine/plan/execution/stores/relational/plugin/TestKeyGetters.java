@@ -0,0 +1,93 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.plugin;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+public class TestKeyGetters
+{
+    @Test
+    public void testGetsKeys() throws Exception
+    {
+        KeyGetters getters = KeyGetters.of(Arrays.asList(Person.class.getMethod("getId"), Person.class.getMethod("getName"), Person.class.getMethod("getAge")));
+        Person person = new Person(1L, "John", 42);
+        Assert.assertEquals(3, getters.size());
+        Assert.assertEquals(1L, getters.get(person, 0));
+        Assert.assertEquals("John", getters.get(person, 1));
+        Assert.assertEquals(42, getters.get(person, 2));
+        Assert.assertNull(getters.get(new Person(null, null, 0), 0));
+    }
+
+    @Test
+    public void testGetsKeysOfInaccessibleClasses() throws Exception
+    {
+        KeyGetters getters = KeyGetters.of(Arrays.asList(Hidden.class.getMethod("getId")));
+        Assert.assertEquals("hidden", getters.get(new Hidden(), 0));
+    }
+
+    @Test
+    public void testWrapsGetterExceptions() throws Exception
+    {
+        KeyGetters getters = KeyGetters.of(Arrays.asList(Person.class.getMethod("getFailing")));
+        InvocationTargetException e = Assert.assertThrows(InvocationTargetException.class, () -> getters.get(new Person(1L, "John", 42), 0));
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    public static class Person
+    {
+        private final Long id;
+        private final String name;
+        private final int age;
+
+        Person(Long id, String name, int age)
+        {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+        }
+
+        public Long getId()
+        {
+            return this.id;
+        }
+
+        public String getName()
+        {
+            return this.name;
+        }
+
+        public int getAge()
+        {
+            return this.age;
+        }
+
+        public String getFailing()
+        {
+            throw new IllegalStateException("failing");
+        }
+    }
+
+    private static class Hidden
+    {
+        public String getId()
+        {
+            return "hidden";
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestJsonValueWriter
+{
+    private final Function<Object, String> purePrimitiveToJsonConverter = ExecutionResultObjectMapperFactory.getPurePrimitiveToJsonConverter();
+
+    @Test
+    public void testSameOutputAsValueTransformer() throws IOException
+    {
+        Timestamp preciseTimestamp = new Timestamp(1696532242123L);
+        preciseTimestamp.setNanos(123456789);
+        List<Object> values = Arrays.asList(
+                null, "", "plain", "quote\" backslash\\ slash/ \n\r\t\b\f", "control\u0001\u007F\u0085\u2028", "unicode \u00E9 \u20AC \uD83D\uDE00", "unpaired \uD83D high surrogate",
+                0, -1, 42L, Long.MAX_VALUE, Long.MIN_VALUE, (short) 7, (byte) -8,
+                1.5d, -0.0d, 1.0E-10d, Double.NaN, Double.POSITIVE_INFINITY, 2.5f, Float.NaN,
+                true, false, new BigDecimal("12345678901234567890.123"),
+                PureDate.newPureDate(2023, 10, 5), PureDate.newPureDate(2023, 10, 5, 18, 57, 22, "123"),
+                new Timestamp(1696532242123L), preciseTimestamp, new Timestamp(-1L), new Timestamp(0L), new Date(1696532242123L), Date.valueOf("0001-01-01"),
+                // outside of the four digit years
+                new Timestamp(-62200000000000L), new Timestamp(316800000000000L)
+        );
+
+        ValueTransformer transformer = new ValueTransformer();
+        for (Object value : values)
+        {
+            // compared as UTF-8 bytes, which replace unpaired surrogates
+            byte[] expected = transformer.transformWrappedRelationalValueForJSON(value, purePrimitiveToJsonConverter::valueOf).getBytes(StandardCharsets.UTF_8);
+            Assert.assertEquals(String.valueOf(value), new String(expected, StandardCharsets.UTF_8), write(value, 64));
+        }
+    }
+
+    @Test
+    public void testBufferSmallerThanValues() throws IOException
+    {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+        {
+            builder.append("value \u00E9\"").append(i);
+        }
+        String value = builder.toString();
+        Assert.assertEquals(purePrimitiveToJsonConverter.valueOf(value), write(value, 64));
+    }
+
+    @Test
+    public void testAppliesTransformer() throws IOException
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JsonValueWriter writer = new JsonValueWriter(stream, 64);
+        writer.writeRelationalValue(1, o -> ((Integer) o) != 0);
+        writer.writeRaw(",".getBytes(StandardCharsets.UTF_8));
+        writer.writeRelationalValue(new Date(1696532242123L), o -> "ignored");
+        writer.flush();
+        Assert.assertEquals("true,\"2023-10-05\"", stream.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    private static String write(Object value, int bufferSize) throws IOException
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JsonValueWriter writer = new JsonValueWriter(stream, bufferSize);
+        writer.writeRelationalValue(value, Functions.identity());
+        writer.flush();
+        return stream.toString(StandardCharsets.UTF_8.name());
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.test.execution;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.AlloyTestServer;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
+import org.finos.legend.engine.plan.execution.stores.relational.test.full.functions.in.TestPlanExecutionForIn;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+
+public class TestPlanExecutionWithParameterBinding extends AlloyTestServer
+{
+    @Override
+    protected PlanExecutor buildRelationalPlanExecutor()
+    {
+        return PlanExecutor.newPlanExecutor(Relational.build(RelationalExecutionConfiguration.newInstance()
+                .withTemporaryTestDbConfiguration(new TemporaryTestDbConfiguration(serverPort))
+                .withParameterBindingDatabaseTypes(Collections.singletonList("H2"))
+                .build()));
+    }
+
+    @Override
+    protected void insertTestData(Statement statement) throws SQLException
+    {
+        statement.execute("Drop table if exists PERSON;");
+        statement.execute("Create Table PERSON(fullName VARCHAR(100) NOT NULL,firmName VARCHAR(100) NULL,addressName VARCHAR(100) NULL,birthTime TIMESTAMP NULL, PRIMARY KEY(fullName));");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('P1','F1','A1','2020-12-12 20:00:00');");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('P2','F2','A2','2020-12-13 20:00:00');");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('SpecialName''1','F2','A2','2020-12-13 20:00:00');");
+    }
+
+    @Test
+    public void testStringParameterIsBound()
+    {
+        SingleExecutionPlan plan = buildPlanForFetchFunction("###Pure\n" +
+                "function test::fetch(): Any[1]\n" +
+                "{\n" +
+                "  {name:String[1] | test::Person.all()\n" +
+                "                        ->filter(p:test::Person[1] | $p.fullName == $name)\n" +
+                "                        ->project([x | $x.fullName], ['fullName'])}\n" +
+                "}");
+
+        RelationalResult result = execute(plan, Maps.mutable.with("name", "P1"));
+        RelationalExecutionActivity activity = (RelationalExecutionActivity) result.activities.get(0);
+        String json = RelationalResultToJsonDefaultSerializer.removeComment(result.flush(new RelationalResultToJsonDefaultSerializer(result)));
+        Assert.assertEquals("select \"root\".fullName as \"fullName\" from PERSON as \"root\" where \"root\".fullName = ?", activity.sql);
+        Assert.assertEquals(Lists.mutable.with("P1"), activity.parameters);
+        // the bound values are reported with the statement
+        Assert.assertTrue(json, json.contains("\"parameters\":[\"P1\"]"));
+        Assert.assertTrue(json, json.contains("\"result\":{\"columns\":[\"fullName\"],\"rows\":[{\"values\":[\"P1\"]}]}"));
+
+        // quotes are bound as is, the statement is the same whatever the value
+        RelationalResult withQuotes = execute(plan, Maps.mutable.with("name", "SpecialName'1"));
+        RelationalExecutionActivity activityWithQuotes = (RelationalExecutionActivity) withQuotes.activities.get(0);
+        String jsonWithQuotes = withQuotes.flush(new RelationalResultToJsonDefaultSerializer(withQuotes));
+        Assert.assertEquals(activity.sql, activityWithQuotes.sql);
+        Assert.assertEquals(Lists.mutable.with("SpecialName'1"), activityWithQuotes.parameters);
+        Assert.assertTrue(jsonWithQuotes, jsonWithQuotes.contains("\"rows\":[{\"values\":[\"SpecialName'1\"]}]"));
+    }
+
+    @Test
+    public void testCollectionParameterIsBound()
+    {
+        SingleExecutionPlan plan = buildPlanForFetchFunction("###Pure\n" +
+                "function test::fetch(): Any[1]\n" +
+                "{\n" +
+                "  {names:String[*] | test::Person.all()\n" +
+                "                        ->filter(p:test::Person[1] | $p.fullName->in($names))\n" +
+                "                        ->project([x | $x.fullName], ['fullName'])}\n" +
+                "}");
+
+        RelationalResult result = execute(plan, Maps.mutable.with("names", Lists.mutable.with("P1", "P2")));
+        RelationalExecutionActivity activity = (RelationalExecutionActivity) result.activities.get(0);
+        String json = result.flush(new RelationalResultToJsonDefaultSerializer(result));
+        Assert.assertEquals("select \"root\".fullName as \"fullName\" from PERSON as \"root\" where \"root\".fullName in (?,?)", activity.sql);
+        Assert.assertEquals(Lists.mutable.with("P1", "P2"), activity.parameters);
+        Assert.assertTrue(json, json.contains("\"parameters\":[\"P1\",\"P2\"]"));
+        Assert.assertTrue(json, json.contains("\"rows\":[{\"values\":[\"P1\"]},{\"values\":[\"P2\"]}]"));
+    }
+
+    private RelationalResult execute(SingleExecutionPlan plan, Map<String, ?> params)
+    {
+        return (RelationalResult) this.planExecutor.execute(plan, params, null);
+    }
+
+    private SingleExecutionPlan buildPlanForFetchFunction(String fetchFunction)
+    {
+        return buildPlan(TestPlanExecutionForIn.LOGICAL_MODEL + TestPlanExecutionForIn.STORE_MODEL + TestPlanExecutionForIn.MAPPING + TestPlanExecutionForIn.RUNTIME + fetchFunction);
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.plan.execution.PlanExecutionContext;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.PlanExecutorInfo;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
@@ -41,6 +42,7 @@ import org.pac4j.core.profile.CommonProfile;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -296,8 +298,81 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
 
     protected void executeToStream(Map<String, ?> parameters, ServiceRunnerInput serviceRunnerInput, StreamProvider streamProvider, OutputStream outputStream)
     {
-        Result result = execute(parameters, serviceRunnerInput, streamProvider);
-        serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), outputStream);
+        ExecutionCache<ServiceResultCacheKey, byte[]> serviceResultCache = getServiceResultCache(serviceRunnerInput, streamProvider);
+        if (serviceResultCache == null)
+        {
+            Result result = execute(parameters, serviceRunnerInput, streamProvider);
+            serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), outputStream);
+            return;
+        }
+
+        Identity identity = serviceRunnerInput.getIdentity();
+        ServiceResultCacheKey key = new ServiceResultCacheKey(this.servicePath, parameters, serviceRunnerInput.getSerializationFormat(), (identity == null) ? null : identity.getName());
+        // the cache loads a missing key once, concurrent executions with the same key wait for that result
+        byte[] serializedResult;
+        try
+        {
+            serializedResult = serviceResultCache.get(key, () ->
+            {
+                try
+                {
+                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                    serializeResultToStream(execute(parameters, serviceRunnerInput, streamProvider), serviceRunnerInput.getSerializationFormat(), stream);
+                    return stream.toByteArray();
+                }
+                catch (RuntimeException | Error e)
+                {
+                    throw new ServiceResultLoadFailure(e);
+                }
+            });
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw unwrapServiceResultLoadFailure(e);
+        }
+        try
+        {
+            outputStream.write(serializedResult);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error serializing result", e);
+        }
+    }
+
+    /**
+     * Caches report failures of the loader wrapped in their own exceptions (e.g. an UncheckedExecutionException for a
+     * Guava cache), the failure of the execution is rethrown instead so that cached and uncached executions fail alike.
+     */
+    private static RuntimeException unwrapServiceResultLoadFailure(Throwable e)
+    {
+        for (Throwable cause = e; cause != null; cause = cause.getCause())
+        {
+            if (cause instanceof ServiceResultLoadFailure)
+            {
+                Throwable failure = cause.getCause();
+                if (failure instanceof Error)
+                {
+                    throw (Error) failure;
+                }
+                return (RuntimeException) failure;
+            }
+        }
+        if (e instanceof Error)
+        {
+            throw (Error) e;
+        }
+        return (RuntimeException) e;
+    }
+
+    private static ExecutionCache<ServiceResultCacheKey, byte[]> getServiceResultCache(ServiceRunnerInput serviceRunnerInput, StreamProvider streamProvider)
+    {
+        // results read from a stream provider depend on more than the parameters
+        if ((serviceRunnerInput == null) || (serviceRunnerInput.getOperationalContext() == null) || (streamProvider != null))
+        {
+            return null;
+        }
+        return serviceRunnerInput.getOperationalContext().getServiceResultCache();
     }
 
     private void serializeResultToStream(Result result, SerializationFormat serializationFormat, OutputStream outputStream)
@@ -338,6 +413,14 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
         }
     }
 
+    private static class ServiceResultLoadFailure extends RuntimeException
+    {
+        private ServiceResultLoadFailure(Throwable cause)
+        {
+            super(cause);
+        }
+    }
+
     protected abstract class ExecutionBuilder
     {
         private StreamProvider streamProvider;
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 public class OperationalContext
 {
     private Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> graphFetchCrossAssociationKeysCacheConfig;
+    private ExecutionCache<ServiceResultCacheKey, byte[]> serviceResultCache;
 
     public static OperationalContext newInstance()
     {
@@ -51,6 +52,23 @@ public class OperationalContext
         return this.graphFetchCrossAssociationKeysCacheConfig;
     }
 
+    /**
+     * Serves repeated executions with the same parameters, serialization format and identity from the given cache of
+     * serialized results instead of executing the plan again. Expiry and size limits are those of the cache, e.g. a
+     * Guava cache built with expireAfterWrite and a maximumWeight weighing each result by its length in bytes. Only
+     * use this for services whose results can be stale for as long as they are cached.
+     */
+    public OperationalContext withServiceResultCache(ExecutionCache<ServiceResultCacheKey, byte[]> serviceResultCache)
+    {
+        this.serviceResultCache = Objects.requireNonNull(serviceResultCache, "serviceResultCache must not be null");
+        return this;
+    }
+
+    ExecutionCache<ServiceResultCacheKey, byte[]> getServiceResultCache()
+    {
+        return this.serviceResultCache;
+    }
+
     private static void assertSharedCachesValidity(Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> cacheConfig)
     {
         Map<ExecutionCache<GraphFetchCacheKey, List<Object>>, List<GraphFetchCrossAssociationKeys>> reverseCacheMap =
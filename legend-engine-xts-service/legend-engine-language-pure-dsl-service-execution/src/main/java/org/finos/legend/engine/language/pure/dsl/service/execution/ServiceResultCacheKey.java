@@ -0,0 +1,95 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.dsl.service.execution;
+
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Key of a serialized service result: the service, the parameter values it was executed with, the serialization format
+ * and the name of the identity it was executed as (as results may depend on the entitlements of the caller).
+ */
+public final class ServiceResultCacheKey
+{
+    private final String servicePath;
+    private final Map<String, ?> parameters;
+    private final SerializationFormat serializationFormat;
+    private final String identityName;
+    private final int hashCode;
+
+    ServiceResultCacheKey(String servicePath, Map<String, ?> parameters, SerializationFormat serializationFormat, String identityName)
+    {
+        this.servicePath = servicePath;
+        this.parameters = parameters.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(parameters));
+        this.serializationFormat = serializationFormat;
+        this.identityName = identityName;
+        this.hashCode = Objects.hash(this.servicePath, this.parameters, this.serializationFormat, this.identityName);
+    }
+
+    public String getServicePath()
+    {
+        return this.servicePath;
+    }
+
+    public Map<String, ?> getParameters()
+    {
+        return this.parameters;
+    }
+
+    public SerializationFormat getSerializationFormat()
+    {
+        return this.serializationFormat;
+    }
+
+    public String getIdentityName()
+    {
+        return this.identityName;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof ServiceResultCacheKey))
+        {
+            return false;
+        }
+        ServiceResultCacheKey that = (ServiceResultCacheKey) other;
+        return (this.hashCode == that.hashCode) &&
+                Objects.equals(this.servicePath, that.servicePath) &&
+                (this.serializationFormat == that.serializationFormat) &&
+                Objects.equals(this.identityName, that.identityName) &&
+                this.parameters.equals(that.parameters);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<" + this.servicePath + " " + this.parameters + " " + this.serializationFormat + " " + this.identityName + ">";
+    }
+}
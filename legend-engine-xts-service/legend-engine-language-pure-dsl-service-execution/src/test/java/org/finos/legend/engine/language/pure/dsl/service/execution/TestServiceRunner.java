@@ -62,6 +62,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static org.finos.legend.pure.generated.core_relational_java_platform_binding_legendJavaPlatformBinding_relationalLegendJavaPlatformBindingExtension.Root_meta_relational_executionPlan_platformBinding_legendJava_relationalExtensionsWithLegendJavaPlatformBinding__Extension_MANY_;
@@ -888,6 +892,83 @@ public class TestServiceRunner
         Assert.assertEquals("{\"firstName\":\"Peter\",\"lastName\":\"Smith\"}", result);
     }
 
+    @Test
+    public void testServiceResultCache()
+    {
+        SimpleOptionalParameterServiceRunner serviceRunner = new SimpleOptionalParameterServiceRunner("test::fetchOptionalCity_String_$0_1$__Any_MANY_", "optionalCity");
+        ExecutionCache<ServiceResultCacheKey, byte[]> resultCache = ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().recordStats().build());
+        OperationalContext operationalContext = OperationalContext.newInstance().withServiceResultCache(resultCache);
+
+        String expectedRes = "{\"firstName\":\"Peter\",\"lastName\":\"Smith\",\"city\":\"New York\"}";
+        Assert.assertEquals(expectedRes, serviceRunner.run(ServiceRunnerInput.newInstance().withArgs(Collections.singletonList("New York")).withOperationalContext(operationalContext).withSerializationFormat(SerializationFormat.PURE)));
+        assertCacheStats(resultCache, 1, 1, 0, 1);
+        Assert.assertEquals(expectedRes, serviceRunner.run(ServiceRunnerInput.newInstance().withArgs(Collections.singletonList("New York")).withOperationalContext(operationalContext).withSerializationFormat(SerializationFormat.PURE)));
+        assertCacheStats(resultCache, 1, 2, 1, 1);
+
+        // other parameter values and serialization formats are different results
+        Assert.assertEquals("{\"firstName\":\"John\",\"lastName\":\"Johnson\",\"city\":null}", serviceRunner.run(ServiceRunnerInput.newInstance().withArgs(Collections.singletonList(null)).withOperationalContext(operationalContext).withSerializationFormat(SerializationFormat.PURE)));
+        assertCacheStats(resultCache, 2, 3, 1, 2);
+        String defaultRes = serviceRunner.run(ServiceRunnerInput.newInstance().withArgs(Collections.singletonList("New York")).withOperationalContext(operationalContext));
+        Assert.assertNotEquals(expectedRes, defaultRes);
+        assertCacheStats(resultCache, 3, 4, 1, 3);
+        Assert.assertEquals(defaultRes, serviceRunner.run(ServiceRunnerInput.newInstance().withArgs(Collections.singletonList("New York")).withOperationalContext(operationalContext)));
+        assertCacheStats(resultCache, 3, 5, 2, 3);
+    }
+
+    @Test
+    public void testServiceResultCacheExecutesConcurrentIdenticalCallsOnce() throws Exception
+    {
+        SimpleOptionalParameterServiceRunner serviceRunner = new SimpleOptionalParameterServiceRunner("test::fetchOptionalCity_String_$0_1$__Any_MANY_", "optionalCity");
+        ExecutionCache<ServiceResultCacheKey, byte[]> resultCache = ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().recordStats().build());
+        OperationalContext operationalContext = OperationalContext.newInstance().withServiceResultCache(resultCache);
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try
+        {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = Lists.mutable.empty();
+            for (int i = 0; i < threadCount; i++)
+            {
+                results.add(executorService.submit(() ->
+                {
+                    start.await();
+                    return serviceRunner.run(ServiceRunnerInput.newInstance().withArgs(Collections.singletonList("New York")).withOperationalContext(operationalContext).withSerializationFormat(SerializationFormat.PURE));
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results)
+            {
+                Assert.assertEquals("{\"firstName\":\"Peter\",\"lastName\":\"Smith\",\"city\":\"New York\"}", result.get());
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(1, resultCache.stats().loadCount());
+        Assert.assertEquals(threadCount, resultCache.stats().requestCount());
+    }
+
+    @Test
+    public void testServiceResultCacheReportsFailuresAsUncachedExecution()
+    {
+        SimpleM2MServiceRunner serviceRunner = new SimpleM2MServiceRunner();
+        serviceRunner.setGraphFetchBatchMemoryLimit(1);
+        ExecutionCache<ServiceResultCacheKey, byte[]> resultCache = ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().recordStats().build());
+        ServiceRunnerInput uncachedInput = ServiceRunnerInput.newInstance().withArgs(Collections.singletonList("{\"fullName\": \"Peter Smith\"}")).withSerializationFormat(SerializationFormat.PURE);
+        ServiceRunnerInput cachedInput = ServiceRunnerInput.newInstance().withArgs(Collections.singletonList("{\"fullName\": \"Peter Smith\"}")).withOperationalContext(OperationalContext.newInstance().withServiceResultCache(resultCache)).withSerializationFormat(SerializationFormat.PURE);
+
+        RuntimeException uncached = Assert.assertThrows(RuntimeException.class, () -> serviceRunner.run(uncachedInput));
+        RuntimeException cached = Assert.assertThrows(RuntimeException.class, () -> serviceRunner.run(cachedInput));
+
+        Assert.assertEquals("Maximum memory reached when processing the graphFetch. Try reducing batch size of graphFetch fetch operation.", cached.getMessage());
+        Assert.assertSame(uncached.getClass(), cached.getClass());
+        Assert.assertEquals(uncached.getMessage(), cached.getMessage());
+        // failures are not cached
+        assertCacheStats(resultCache, 0, 1, 0, 1);
+    }
+
     private static class SimpleOptionalParameterServiceRunner extends AbstractServicePlanExecutor
     {
         private String argName;
@@ -38,6 +38,7 @@ import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.execution.stores.service.activity.ServiceStoreExecutionActivity;
 import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnectionBuilder;
+import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnectionPool;
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreAuthenticationSpecification;
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreConnectionProvider;
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreConnectionSpecification;
@@ -52,6 +53,8 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.IdentityFactoryProvider;
 import org.pac4j.core.profile.CommonProfile;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
@@ -65,10 +68,17 @@ import java.util.Map;
 public class ServiceExecutor
 {
     private final CredentialProviderProvider credentialProviderProvider;
+    private final HttpConnectionPool httpConnectionPool;
 
     public ServiceExecutor(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, HttpConnectionPool.getDefault());
+    }
+
+    public ServiceExecutor(CredentialProviderProvider credentialProviderProvider, HttpConnectionPool httpConnectionPool)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.httpConnectionPool = httpConnectionPool;
     }
 
     public InputStreamResult executeHttpService(String url, List<Header> headers, StringEntity requestBodyEntity, HttpMethod httpMethod, String mimeType, List<SecurityScheme> securitySchemes, List<AuthenticationSchemeRequirement> authenticationSchemeRequirements, MutableList<CommonProfile> profiles)
@@ -94,7 +104,7 @@ public class ServiceExecutor
 
         try
         {
-            ServiceStoreConnectionProvider serviceStoreConnectionProvider = new ServiceStoreConnectionProvider(this.credentialProviderProvider);
+            ServiceStoreConnectionProvider serviceStoreConnectionProvider = new ServiceStoreConnectionProvider(this.credentialProviderProvider, this.httpConnectionPool);
             ServiceStoreConnectionSpecification connectionSpecification = new ServiceStoreConnectionSpecification(uri, httpMethod.toString(), headers, requestBodyDescription, mimeType);
             ServiceStoreAuthenticationSpecification authenticationSpecification = new ServiceStoreAuthenticationSpecification(authenticationSchemeRequirements,securitySchemes);
 
@@ -102,6 +112,7 @@ public class ServiceExecutor
 
             HttpConnectionBuilder httpConnectionBuilder = serviceStoreConnectionProvider.makeConnection(connectionSpecification, authenticationSpecification, identity);
             CloseableHttpResponse httpResponse = httpConnectionBuilder.execute();
+            this.httpConnectionPool.reportMetrics();
 
             int statusCode = httpResponse.getStatusLine().getStatusCode();
 
@@ -123,7 +134,8 @@ public class ServiceExecutor
                 throw new RuntimeException("HTTP request [" + httpMethod.toString() + " " + uri.toString() + "] failed with error - " + explanation);
             }
 
-            return new InputStreamResult(httpResponse.getEntity().getContent(), Lists.mutable.with(new ServiceStoreExecutionActivity(url)), Collections.singletonList(httpResponse));
+            InputStream content = new ResponseContentInputStream(httpResponse);
+            return new InputStreamResult(content, Lists.mutable.with(new ServiceStoreExecutionActivity(url)), Collections.emptyList());
         }
         catch (RuntimeException e)
         {
@@ -335,4 +347,59 @@ public class ServiceExecutor
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Content of a response which gives the connection back to the pool only when the content has been read to the
+     * end. Closing the content of a response which has not been read to the end would read the rest of it, so the
+     * response is closed instead, which closes the connection.
+     */
+    private static class ResponseContentInputStream extends FilterInputStream
+    {
+        private final CloseableHttpResponse httpResponse;
+        private boolean fullyRead = false;
+        private boolean closed = false;
+
+        private ResponseContentInputStream(CloseableHttpResponse httpResponse) throws IOException
+        {
+            super(httpResponse.getEntity().getContent());
+            this.httpResponse = httpResponse;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = super.read();
+            this.fullyRead |= (b == -1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            int n = super.read(b, off, len);
+            this.fullyRead |= (n == -1);
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            if (this.closed)
+            {
+                return;
+            }
+            this.closed = true;
+            try
+            {
+                if (this.fullyRead)
+                {
+                    super.close();
+                }
+            }
+            finally
+            {
+                this.httpResponse.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.auth;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of HTTP connections shared by service store executions, so that calls to the same host reuse open
+ * connections (and their TLS sessions) instead of connecting for every request.
+ * <p>
+ * Credentials are sent with each request, and connections which are bound to a user by the connection manager (e.g.
+ * NTLM or client certificate authentication) are only leased again for the same user.
+ */
+public class HttpConnectionPool implements Closeable
+{
+    public static final int DEFAULT_MAX_CONNECTIONS = 200;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 20;
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30_000L;
+    public static final long DEFAULT_CONNECTION_REQUEST_TIMEOUT_MILLIS = 10_000L;
+
+    private final String name;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final IdleConnectionEvictor idleConnectionEvictor;
+    private final RequestConfig requestConfig;
+
+    private HttpConnectionPool(String name, int maxConnections, int maxConnectionsPerHost, long idleTimeoutMillis, long connectionRequestTimeoutMillis)
+    {
+        this.name = name;
+        // fail rather than wait indefinitely for a connection once the pool is exhausted
+        this.requestConfig = RequestConfig.custom().setConnectionRequestTimeout((int) connectionRequestTimeoutMillis).build();
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        this.connectionManager.setMaxTotal(maxConnections);
+        this.connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+        // also closes connections once the keep alive duration given by the server has passed
+        this.idleConnectionEvictor = new IdleConnectionEvictor(this.connectionManager, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+        this.idleConnectionEvictor.start();
+    }
+
+    public static HttpConnectionPool getDefault()
+    {
+        return DefaultPoolHolder.DEFAULT_POOL;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Returns a builder for a client using the connections of this pool: closing the client does not close the pool.
+     * Requests fail with a ConnectionPoolTimeoutException when no connection is released within the connection request
+     * timeout of the pool.
+     */
+    public HttpClientBuilder newHttpClientBuilder()
+    {
+        return HttpClients.custom()
+                .setConnectionManager(this.connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(this.requestConfig);
+    }
+
+    public PoolStats getTotalStats()
+    {
+        return this.connectionManager.getTotalStats();
+    }
+
+    public PoolStats getStats(HttpHost host)
+    {
+        return this.connectionManager.getStats(new HttpRoute(host));
+    }
+
+    public void reportMetrics()
+    {
+        PoolStats stats = this.getTotalStats();
+        MetricsHandler.setConnectionMetrics(this.name, stats.getLeased(), stats.getLeased() + stats.getAvailable(), stats.getAvailable());
+    }
+
+    @Override
+    public void close()
+    {
+        this.idleConnectionEvictor.shutdown();
+        this.connectionManager.shutdown();
+        MetricsHandler.removeConnectionMetrics(this.name);
+    }
+
+    public static class Builder
+    {
+        private String name = "serviceStore";
+        private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+        private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+        private long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+        private long connectionRequestTimeoutMillis = DEFAULT_CONNECTION_REQUEST_TIMEOUT_MILLIS;
+
+        public Builder withName(String name)
+        {
+            this.name = name;
+            return this;
+        }
+
+        public Builder withMaxConnections(int maxConnections)
+        {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder withMaxConnectionsPerHost(int maxConnectionsPerHost)
+        {
+            this.maxConnectionsPerHost = maxConnectionsPerHost;
+            return this;
+        }
+
+        public Builder withIdleTimeout(long idleTimeout, TimeUnit unit)
+        {
+            this.idleTimeoutMillis = unit.toMillis(idleTimeout);
+            return this;
+        }
+
+        public Builder withConnectionRequestTimeout(long connectionRequestTimeout, TimeUnit unit)
+        {
+            this.connectionRequestTimeoutMillis = unit.toMillis(connectionRequestTimeout);
+            return this;
+        }
+
+        public HttpConnectionPool build()
+        {
+            if (this.maxConnectionsPerHost > this.maxConnections)
+            {
+                throw new IllegalArgumentException("maxConnectionsPerHost (" + this.maxConnectionsPerHost + ") must not be greater than maxConnections (" + this.maxConnections + ")");
+            }
+            if ((this.connectionRequestTimeoutMillis <= 0) || (this.connectionRequestTimeoutMillis > Integer.MAX_VALUE))
+            {
+                throw new IllegalArgumentException("connectionRequestTimeout (" + this.connectionRequestTimeoutMillis + "ms) must be positive and at most " + Integer.MAX_VALUE + "ms");
+            }
+            return new HttpConnectionPool(this.name, this.maxConnections, this.maxConnectionsPerHost, this.idleTimeoutMillis, this.connectionRequestTimeoutMillis);
+        }
+    }
+
+    private static class DefaultPoolHolder
+    {
+        private static final HttpConnectionPool DEFAULT_POOL = builder().build();
+    }
+}
@@ -18,7 +18,6 @@ import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
@@ -38,9 +37,17 @@ import java.util.Objects;
 
 public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConnectionBuilder>
 {
+    private final HttpConnectionPool httpConnectionPool;
+
     public ServiceStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, HttpConnectionPool.getDefault());
+    }
+
+    public ServiceStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider, HttpConnectionPool httpConnectionPool)
     {
         super(credentialProviderProvider);
+        this.httpConnectionPool = httpConnectionPool;
     }
 
     public HttpConnectionBuilder makeConnection(ConnectionSpecification connectionSpecification, AuthenticationSpecification authenticationSpecification, Identity identity) throws Exception
@@ -61,7 +68,7 @@ public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConne
                 SecurityScheme securityScheme = authenticationSchemeRequirement.securityScheme;
                 AuthenticationSpecification authSpecification = authenticationSchemeRequirement.authenticationSpecification;
 
-                HttpClientBuilder clientBuilder = HttpClients.custom();
+                HttpClientBuilder clientBuilder = this.httpConnectionPool.newHttpClientBuilder();
                 RequestBuilder requestBuilder = makeRequestUtil(serviceStoreConnectionSpecification);
                 HttpConnectionBuilder httpConnectionBuilder = new HttpConnectionBuilder(clientBuilder, requestBuilder);
                 Credential credential = null;
@@ -82,7 +89,7 @@ public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConne
             }
         }
 
-        return new HttpConnectionBuilder(HttpClients.custom(), makeRequestUtil(serviceStoreConnectionSpecification));
+        return new HttpConnectionBuilder(this.httpConnectionPool.newHttpClientBuilder(), makeRequestUtil(serviceStoreConnectionSpecification));
 
     }
 
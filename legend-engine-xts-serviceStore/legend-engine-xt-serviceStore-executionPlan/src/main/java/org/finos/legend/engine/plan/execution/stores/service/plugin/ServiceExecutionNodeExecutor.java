@@ -22,7 +22,6 @@ import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.ListIterate;
-import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.dependencies.store.serviceStore.IServiceParametersResolutionExecutionNodeSpecifics;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.ExecutionNodeJavaPlatformHelper;
@@ -95,8 +94,8 @@ public class ServiceExecutionNodeExecutor implements ExecutionNodeVisitor<Result
                 String processedUrl = ServiceExecutor.getProcessedUrl(node.url, node.params, mappedParameters, this.executionState);
                 List<Header> headers = ServiceExecutor.getProcessedHeaders(node.params, mappedParameters, this.executionState);
                 StringEntity requestBodyEntity = ServiceExecutor.getRequestBodyEntity(node.requestBodyDescription, this.executionState);
-                CredentialProviderProvider credentialProviderProvider = ((ServiceStoreExecutionState) executionState.getStoreExecutionState(StoreType.Service)).getCredentialProviderProvider();
-                return new ServiceExecutor(credentialProviderProvider).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.profiles);
+                ServiceStoreExecutionState serviceStoreExecutionState = (ServiceStoreExecutionState) executionState.getStoreExecutionState(StoreType.Service);
+                return new ServiceExecutor(serviceStoreExecutionState.getCredentialProviderProvider(), serviceStoreExecutionState.getHttpConnectionPool()).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.profiles);
             }
         }
         else if (executionNode instanceof ServiceParametersResolutionExecutionNode)
@@ -18,10 +18,12 @@ import org.finos.legend.authentication.credentialprovider.CredentialProviderProv
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.service.ServiceExecutor;
+import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnectionPool;
 
 public class ServiceStoreExecutionConfiguration implements StoreExecutorConfiguration
 {
     private CredentialProviderProvider credentialProviderProvider;
+    private HttpConnectionPool httpConnectionPool;
 
     @Override
     public StoreType getStoreType()
@@ -34,6 +36,11 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
         return credentialProviderProvider;
     }
 
+    public HttpConnectionPool getHttpConnectionPool()
+    {
+        return httpConnectionPool;
+    }
+
     public static Builder builder()
     {
         return new Builder();
@@ -42,6 +49,7 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.builder().build();
+        private HttpConnectionPool httpConnectionPool = HttpConnectionPool.getDefault();
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -49,10 +57,17 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
             return this;
         }
 
+        public Builder withHttpConnectionPool(HttpConnectionPool httpConnectionPool)
+        {
+            this.httpConnectionPool = httpConnectionPool;
+            return this;
+        }
+
         public ServiceStoreExecutionConfiguration build()
         {
             ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = new ServiceStoreExecutionConfiguration();
             serviceStoreExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
+            serviceStoreExecutionConfiguration.httpConnectionPool = httpConnectionPool;
             return serviceStoreExecutionConfiguration;
         }
     }
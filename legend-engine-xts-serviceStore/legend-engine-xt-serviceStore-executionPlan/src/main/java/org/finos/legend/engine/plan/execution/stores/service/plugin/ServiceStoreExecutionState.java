@@ -21,6 +21,7 @@ import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreState;
 import org.finos.legend.engine.plan.execution.stores.service.ServiceExecutor;
+import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnectionPool;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNodeVisitor;
 import org.pac4j.core.profile.CommonProfile;
 
@@ -29,12 +30,19 @@ public class ServiceStoreExecutionState implements StoreExecutionState
     private final ServiceStoreState state;
     private RuntimeContext runtimeContext;
     private CredentialProviderProvider credentialProviderProvider;
+    private final HttpConnectionPool httpConnectionPool;
 
-    public ServiceStoreExecutionState(ServiceStoreState state, RuntimeContext runtimeContext,CredentialProviderProvider credentialProviderProvider)
+    public ServiceStoreExecutionState(ServiceStoreState state, RuntimeContext runtimeContext, CredentialProviderProvider credentialProviderProvider, HttpConnectionPool httpConnectionPool)
     {
         this.state = state;
         this.runtimeContext = runtimeContext;
         this.credentialProviderProvider = credentialProviderProvider;
+        this.httpConnectionPool = httpConnectionPool;
+    }
+
+    public ServiceStoreExecutionState(ServiceStoreState state, RuntimeContext runtimeContext,CredentialProviderProvider credentialProviderProvider)
+    {
+        this(state, runtimeContext, credentialProviderProvider, HttpConnectionPool.getDefault());
     }
 
     public ServiceStoreExecutionState(ServiceStoreState state)
@@ -47,6 +55,11 @@ public class ServiceStoreExecutionState implements StoreExecutionState
         this(state, RuntimeContext.empty(),credentialProviderProvider);
     }
 
+    public ServiceStoreExecutionState(ServiceStoreState state, CredentialProviderProvider credentialProviderProvider, HttpConnectionPool httpConnectionPool)
+    {
+        this(state, RuntimeContext.empty(), credentialProviderProvider, httpConnectionPool);
+    }
+
     @Override
     public StoreState getStoreState()
     {
@@ -62,7 +75,7 @@ public class ServiceStoreExecutionState implements StoreExecutionState
     @Override
     public StoreExecutionState copy()
     {
-        return new ServiceStoreExecutionState(this.state, this.runtimeContext,this.credentialProviderProvider);
+        return new ServiceStoreExecutionState(this.state, this.runtimeContext, this.credentialProviderProvider, this.httpConnectionPool);
     }
 
     @Override
@@ -81,4 +94,9 @@ public class ServiceStoreExecutionState implements StoreExecutionState
     {
         return credentialProviderProvider;
     }
+
+    public HttpConnectionPool getHttpConnectionPool()
+    {
+        return httpConnectionPool;
+    }
 }
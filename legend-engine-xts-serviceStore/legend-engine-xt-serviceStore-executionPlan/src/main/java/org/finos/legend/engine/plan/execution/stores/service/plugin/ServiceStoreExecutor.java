@@ -31,7 +31,7 @@ public class ServiceStoreExecutor implements StoreExecutor
     @Override
     public StoreExecutionState buildStoreExecutionState()
     {
-        return new ServiceStoreExecutionState(this.state, this.serviceStoreExecutionConfiguration.getCredentialProviderProvider());
+        return new ServiceStoreExecutionState(this.state, this.serviceStoreExecutionConfiguration.getCredentialProviderProvider(), this.serviceStoreExecutionConfiguration.getHttpConnectionPool());
     }
 
     @Override
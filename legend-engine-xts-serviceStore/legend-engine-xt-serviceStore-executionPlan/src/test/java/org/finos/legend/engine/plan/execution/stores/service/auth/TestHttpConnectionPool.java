@@ -0,0 +1,164 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.auth;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.pool.PoolStats;
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
+import org.finos.legend.engine.plan.execution.result.InputStreamResult;
+import org.finos.legend.engine.plan.execution.stores.service.ServiceExecutor;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.HttpMethod;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class TestHttpConnectionPool
+{
+    private WireMockServer testServer;
+    private HttpConnectionPool httpConnectionPool;
+
+    @Before
+    public void setUp()
+    {
+        this.testServer = new WireMockServer(DynamicPortGenerator.generatePort());
+        this.testServer.start();
+        this.testServer.stubFor(WireMock.get("/persons").willReturn(WireMock.aResponse().withHeader("Content-Type", "application/json").withBody("[{\"firstName\":\"John\"},{\"firstName\":\"Jane\"}]")));
+        this.httpConnectionPool = HttpConnectionPool.builder().withName("testServiceStore").withMaxConnections(4).withMaxConnectionsPerHost(2).withIdleTimeout(1, TimeUnit.MINUTES).build();
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.httpConnectionPool.close();
+        this.testServer.stop();
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws Exception
+    {
+        ServiceExecutor serviceExecutor = new ServiceExecutor(CredentialProviderProvider.builder().build(), this.httpConnectionPool);
+        for (int i = 0; i < 5; i++)
+        {
+            InputStreamResult result = execute(serviceExecutor, "/persons");
+            try (InputStream content = result.getInputStream())
+            {
+                Assert.assertEquals("[{\"firstName\":\"John\"},{\"firstName\":\"Jane\"}]", readAll(content));
+            }
+            result.close();
+
+            PoolStats stats = this.httpConnectionPool.getTotalStats();
+            Assert.assertEquals(0, stats.getLeased());
+            Assert.assertEquals(1, stats.getAvailable());
+        }
+    }
+
+    @Test
+    public void testConnectionOfPartiallyReadResponseIsClosed() throws Exception
+    {
+        // the rest of the body takes 10 seconds to arrive
+        this.testServer.stubFor(WireMock.get("/slowPersons").willReturn(WireMock.aResponse().withHeader("Content-Type", "application/json").withBody(String.join("", Collections.nCopies(10_000, "{\"firstName\":\"John\"},"))).withChunkedDribbleDelay(10, 10_000)));
+        ServiceExecutor serviceExecutor = new ServiceExecutor(CredentialProviderProvider.builder().build(), this.httpConnectionPool);
+
+        InputStreamResult result = execute(serviceExecutor, "/slowPersons");
+        long start = System.nanoTime();
+        try (InputStream content = result.getInputStream())
+        {
+            // only part of the response is read, as when a limit is applied on the parsed objects
+            Assert.assertEquals('{', content.read());
+        }
+        result.close();
+
+        // the rest of the response is not read, the connection is closed rather than given back to the pool
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        PoolStats stats = this.httpConnectionPool.getTotalStats();
+        Assert.assertEquals(0, stats.getLeased());
+        Assert.assertEquals(0, stats.getAvailable());
+
+        // the pool still serves later requests
+        InputStreamResult next = execute(serviceExecutor, "/persons");
+        try (InputStream content = next.getInputStream())
+        {
+            Assert.assertEquals("[{\"firstName\":\"John\"},{\"firstName\":\"Jane\"}]", readAll(content));
+        }
+        next.close();
+        Assert.assertEquals(1, this.httpConnectionPool.getTotalStats().getAvailable());
+    }
+
+    @Test
+    public void testConnectionLimits()
+    {
+        PoolStats stats = this.httpConnectionPool.getTotalStats();
+        Assert.assertEquals(4, stats.getMax());
+        Assert.assertEquals(2, this.httpConnectionPool.getStats(new HttpHost("localhost", this.testServer.port())).getMax());
+        Assert.assertThrows(IllegalArgumentException.class, () -> HttpConnectionPool.builder().withMaxConnections(1).withMaxConnectionsPerHost(2).build());
+    }
+
+    @Test(timeout = 30_000)
+    public void testExhaustedPoolFailsFast() throws Exception
+    {
+        String url = "http://localhost:" + this.testServer.port() + "/persons";
+        try (HttpConnectionPool pool = HttpConnectionPool.builder().withName("testExhaustedServiceStore").withMaxConnections(1).withMaxConnectionsPerHost(1).withConnectionRequestTimeout(200, TimeUnit.MILLISECONDS).build();
+             CloseableHttpClient client = pool.newHttpClientBuilder().build();
+             CloseableHttpResponse leased = client.execute(new HttpGet(url)))
+        {
+            // the only connection stays leased until the first response is closed
+            Assert.assertEquals(1, pool.getTotalStats().getLeased());
+
+            long start = System.nanoTime();
+            Assert.assertThrows(ConnectionPoolTimeoutException.class, () -> client.execute(new HttpGet(url)));
+            Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+            leased.close();
+            try (CloseableHttpResponse next = client.execute(new HttpGet(url)))
+            {
+                Assert.assertEquals(200, next.getStatusLine().getStatusCode());
+            }
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> HttpConnectionPool.builder().withConnectionRequestTimeout(0, TimeUnit.MILLISECONDS).build());
+    }
+
+    private InputStreamResult execute(ServiceExecutor serviceExecutor, String path)
+    {
+        String url = "http://localhost:" + this.testServer.port() + path;
+        return serviceExecutor.executeHttpService(url, Collections.emptyList(), null, HttpMethod.GET, "application/json", Collections.emptyList(), Collections.emptyList(), Lists.mutable.empty());
+    }
+
+    private static String readAll(InputStream content) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        for (int n = content.read(buffer); n != -1; n = content.read(buffer))
+        {
+            bytes.write(buffer, 0, n);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -15,7 +15,10 @@
 
 package org.finos.legend.engine.postgres;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.List;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
 import org.finos.legend.engine.language.sql.grammar.from.antlr4.SqlBaseParser;
 import org.finos.legend.engine.language.sql.grammar.from.antlr4.SqlBaseParserBaseVisitor;
 import org.finos.legend.engine.postgres.handler.SessionHandler;
@@ -26,6 +29,8 @@ public class ExecutionDispatcher extends SqlBaseParserBaseVisitor<SessionHandler
 {
     private static final TableNameExtractor EXTRACTOR = new TableNameExtractor();
     private static final SessionHandler EMPTY_SESSION_HANDLER = new EmptySessionHandler();
+    // The handler a query is routed to only depends on its text, so each distinct query is only parsed once per server
+    private static final Cache<String, Target> TARGETS = CacheBuilder.newBuilder().maximumSize(10_000).build();
     private final SessionHandler dataSessionHandler;
     private final SessionHandler metaDataSessionHandler;
 
@@ -35,6 +40,38 @@ public class ExecutionDispatcher extends SqlBaseParserBaseVisitor<SessionHandler
         this.metaDataSessionHandler = metaDataSessionHandler;
     }
 
+    /**
+     * Identify type of query and return appropriate session handler
+     * based on schema of the query.
+     *
+     * @param query SQL query to be executed
+     * @return session handler for the given query, null if it cannot be determined
+     */
+    public SessionHandler dispatch(String query)
+    {
+        Target target = TARGETS.getIfPresent(query);
+        if (target == null)
+        {
+            SqlBaseParser parser = SQLGrammarParser.getSqlBaseParser(query, "query");
+            SessionHandler sessionHandler = parser.singleStatement().accept(this);
+            if (sessionHandler == null)
+            {
+                return null;
+            }
+            target = (sessionHandler == dataSessionHandler) ? Target.DATA : (sessionHandler == metaDataSessionHandler) ? Target.METADATA : Target.EMPTY;
+            TARGETS.put(query, target);
+        }
+        switch (target)
+        {
+            case DATA:
+                return dataSessionHandler;
+            case METADATA:
+                return metaDataSessionHandler;
+            default:
+                return EMPTY_SESSION_HANDLER;
+        }
+    }
+
     @Override
     public SessionHandler visitSet(SqlBaseParser.SetContext ctx)
     {
@@ -103,4 +140,9 @@ public class ExecutionDispatcher extends SqlBaseParserBaseVisitor<SessionHandler
         return EMPTY_SESSION_HANDLER;
     }
 
+    private enum Target
+    {
+        DATA, METADATA, EMPTY
+    }
+
 }
@@ -890,10 +890,14 @@ public class PostgresWireProtocol
         try
         {
             PostgresResultSet resultSet = session.execute(portalName, maxRows);
-            sendResultSet(channel, query, resultSet, false);
+            if (sendResultSet(channel, query, resultSet, false, maxRows))
+            {
+                session.completed(portalName);
+            }
         }
         catch (Exception e)
         {
+            session.completed(portalName);
             throw ExceptionUtil.wrapException(e);
         }
     }
@@ -901,6 +905,18 @@ public class PostgresWireProtocol
     private void sendResultSet(Channel channel, String query, PostgresResultSet rs,
                                boolean isSimpleQuery)
             throws Exception
+    {
+        sendResultSet(channel, query, rs, isSimpleQuery, 0);
+    }
+
+    /**
+     * Sends up to maxRows rows (0 = unlimited) of the result set.
+     *
+     * @return false if the portal was suspended with rows left to read, true once the result set is complete
+     */
+    private boolean sendResultSet(Channel channel, String query, PostgresResultSet rs,
+                                  boolean isSimpleQuery, int maxRows)
+            throws Exception
     {
         int rowCount = 0;
         if (rs != null)
@@ -917,14 +933,22 @@ public class PostgresWireProtocol
                 PGType pgType = PGTypes.get(metaData.getColumnType(i + 1), metaData.getScale(i + 1));
                 columnTypes.add(pgType);
             }
-            while (rs.next())
+            while ((maxRows <= 0 || rowCount < maxRows) && rs.next())
             {
                 rowCount++;
                 Messages.sendDataRow(channel, rs, columnTypes, null);
             }
+            if (rowCount == maxRows && maxRows > 0)
+            {
+                // The client fetches the remaining rows with further executions of the same portal
+                LOGGER.info("Portal suspended after {} rows", rowCount);
+                Messages.sendPortalSuspended(channel);
+                return false;
+            }
         }
         LOGGER.info("Query complete with row count {}", rowCount);
         Messages.sendCommandComplete(channel, query, rowCount);
+        return true;
     }
 
     private void handleSync(DelayableWriteChannel channel)
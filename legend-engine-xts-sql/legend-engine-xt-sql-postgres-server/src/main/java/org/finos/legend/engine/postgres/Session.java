@@ -21,8 +21,6 @@
 
 package org.finos.legend.engine.postgres;
 
-import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
-import org.finos.legend.engine.language.sql.grammar.from.antlr4.SqlBaseParser;
 import org.finos.legend.engine.postgres.handler.PostgresPreparedStatement;
 import org.finos.legend.engine.postgres.handler.PostgresResultSet;
 import org.finos.legend.engine.postgres.handler.PostgresStatement;
@@ -32,9 +30,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 public class Session implements AutoCloseable
@@ -68,10 +68,19 @@ public class Session implements AutoCloseable
                     paramTypes);
         }
 
+        Integer[] paramType = paramTypes.toArray(new Integer[]{});
+        Prepared existing = parsed.get(statementName);
+        if (existing != null && Objects.equals(existing.sql, query) && Arrays.equals(existing.paramType, paramType))
+        {
+            // Clients commonly re-parse the same statement before each execution, keep the already prepared one
+            LOGGER.debug("Reusing prepared statement {}", statementName);
+            return;
+        }
+
         Prepared p = new Prepared();
         p.name = statementName;
         p.sql = query;
-        p.paramType = paramTypes.toArray(new Integer[]{});
+        p.paramType = paramType;
 
         if (query != null)
         {
@@ -107,9 +116,7 @@ public class Session implements AutoCloseable
      */
     private SessionHandler getSessionHandler(String query)
     {
-        SqlBaseParser parser = SQLGrammarParser.getSqlBaseParser(query, "query");
-        SqlBaseParser.SingleStatementContext singleStatementContext = parser.singleStatement();
-        SessionHandler sessionHandler = singleStatementContext.accept(dispatcher);
+        SessionHandler sessionHandler = dispatcher.dispatch(query);
         if (sessionHandler == null)
         {
             throw new RuntimeException(String.format("Unable to determine session handler for query[%s]", query));
@@ -136,7 +143,11 @@ public class Session implements AutoCloseable
         Prepared preparedStmt = getSafeStmt(statementName);
 
         Portal portal = new Portal(portalName, preparedStmt, resultFormatCodes);
-        portals.put(portalName, portal);
+        Portal oldPortal = portals.put(portalName, portal);
+        if (oldPortal != null)
+        {
+            oldPortal.closeResultSet();
+        }
 /*        if (oldPortal != null) {
             // According to the wire protocol spec named portals should be removed explicitly and only
             // unnamed portals are implicitly closed/overridden.
@@ -263,6 +274,7 @@ public class Session implements AutoCloseable
                             portal.prep.name);
                 }
                 portals.remove(portal.name);
+                portal.closeResultSet();
                 return;
             }
             case 'S':
@@ -305,9 +317,18 @@ public class Session implements AutoCloseable
         }
     }
 
+    /**
+     * Executes the portal, or returns the result set of a portal suspended by a previous execution with a row limit,
+     * so that it is read incrementally rather than executed again.
+     */
     public PostgresResultSet execute(String portalName, int maxRows)
     {
         Portal portal = getSafePortal(portalName);
+        if (portal.resultSet != null)
+        {
+            LOGGER.debug("Resuming portal {}", portalName);
+            return portal.resultSet;
+        }
         if (LOGGER.isDebugEnabled())
         {
             LOGGER.debug("Executing query {}/{} ", portalName, portal.prep.sql);
@@ -320,13 +341,14 @@ public class Session implements AutoCloseable
             {
                 return null;
             }
-            preparedStatement.setMaxRows(maxRows);
+            // maxRows only bounds the rows sent per execution of the portal, not the size of the result
             boolean results = preparedStatement.execute();
             if (!results)
             {
                 return null;
             }
-            return preparedStatement.getResultSet();
+            portal.resultSet = preparedStatement.getResultSet();
+            return portal.resultSet;
         }
         catch (Exception e)
         {
@@ -334,6 +356,19 @@ public class Session implements AutoCloseable
         }
     }
 
+    /**
+     * Closes the result set of a portal once it is fully read or failed, so that a later execution of the portal runs
+     * the query again.
+     */
+    public void completed(String portalName)
+    {
+        Portal portal = portals.get(portalName);
+        if (portal != null)
+        {
+            portal.closeResultSet();
+        }
+    }
+
     public PostgresResultSet executeSimple(String query)
     {
         if (LOGGER.isDebugEnabled())
@@ -441,6 +476,12 @@ public class Session implements AutoCloseable
         Prepared prep;
 
 
+        /**
+         * The result set being read, while the portal is suspended
+         */
+        PostgresResultSet resultSet;
+
+
         public Portal(String portalName, Prepared preparedStmt,
                       FormatCodes.FormatCode[] resultColumnFormat)
         {
@@ -448,6 +489,22 @@ public class Session implements AutoCloseable
             this.prep = preparedStmt;
             this.resultColumnFormat = resultColumnFormat;
         }
+
+        void closeResultSet()
+        {
+            if (resultSet != null)
+            {
+                try
+                {
+                    resultSet.close();
+                }
+                catch (Exception e)
+                {
+                    LOGGER.warn("Error closing result set of portal {}", name, e);
+                }
+                resultSet = null;
+            }
+        }
     }
 
 }
@@ -42,7 +42,7 @@ public class Builder
         else if (serverConfig.getHandler().getType() == HandlerType.LEGEND)
         {
             LegendHandlerConfig config = (LegendHandlerConfig) serverConfig.getHandler();
-            LegendTdsClient client = new LegendTdsClient(config.getProtocol(), config.getHost(), config.getPort());
+            LegendTdsClient client = new LegendTdsClient(config.getProtocol(), config.getHost(), config.getPort(), config.isArrowResults());
             return new LegendSessionFactory(client);
         }
         else
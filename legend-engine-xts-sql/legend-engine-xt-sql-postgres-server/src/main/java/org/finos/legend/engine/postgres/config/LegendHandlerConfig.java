@@ -24,6 +24,8 @@ public class LegendHandlerConfig implements HandlerConfig
     private String protocol;
     private String host;
     private String port;
+    // Ask the engine for results as Arrow streams rather than JSON
+    private boolean arrowResults;
 
     public LegendHandlerConfig()
     {
@@ -52,6 +54,11 @@ public class LegendHandlerConfig implements HandlerConfig
         return port;
     }
 
+    public boolean isArrowResults()
+    {
+        return arrowResults;
+    }
+
     @Override
     public HandlerType getType()
     {
@@ -65,6 +72,7 @@ public class LegendHandlerConfig implements HandlerConfig
                 "protocol='" + protocol + '\'' +
                 ", host='" + host + '\'' +
                 ", port='" + port + '\'' +
+                ", arrowResults=" + arrowResults +
                 '}';
     }
 }
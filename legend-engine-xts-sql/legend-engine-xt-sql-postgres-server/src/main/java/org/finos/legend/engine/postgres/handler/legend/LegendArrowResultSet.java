@@ -0,0 +1,185 @@
+// Copyright 2023 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DateMilliVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FloatingPointVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.finos.legend.engine.postgres.handler.PostgresResultSet;
+import org.finos.legend.engine.postgres.handler.PostgresResultSetMetaData;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.finos.legend.engine.postgres.handler.legend.LegendDataType.*;
+
+/**
+ * Result set reading an Arrow IPC stream returned by the engine. Values are read straight from the column vectors
+ * of the current batch, and are returned in the same representation as {@link LegendResultSet} returns them.
+ */
+public class LegendArrowResultSet implements PostgresResultSet
+{
+    private static final BufferAllocator ROOT_ALLOCATOR = new RootAllocator();
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+
+    private final BufferAllocator allocator;
+    private final ArrowStreamReader reader;
+    private final List<LegendColumn> legendColumns;
+    private final FieldVector[] vectors;
+    private final VectorSchemaRoot root;
+
+    private int batchRowCount = 0;
+    private int currentRow = -1;
+    private boolean closed = false;
+
+    public LegendArrowResultSet(InputStream inputStream) throws IOException
+    {
+        this.allocator = ROOT_ALLOCATOR.newChildAllocator("legend-arrow-result", 0, Long.MAX_VALUE);
+        try
+        {
+            this.reader = new ArrowStreamReader(inputStream, this.allocator);
+            this.root = this.reader.getVectorSchemaRoot();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            this.allocator.close();
+            throw e;
+        }
+        this.legendColumns = new ArrayList<>();
+        for (Field field : this.root.getSchema().getFields())
+        {
+            this.legendColumns.add(new LegendColumn(field.getName(), toLegendType(field.getType())));
+        }
+        // The reader loads every batch into the same root, so the vectors can be resolved once
+        this.vectors = this.root.getFieldVectors().toArray(new FieldVector[0]);
+    }
+
+    @Override
+    public PostgresResultSetMetaData getMetaData()
+    {
+        return new LegendResultSetMetaData(legendColumns);
+    }
+
+    @Override
+    public Object getObject(int i)
+    {
+        FieldVector vector = vectors[i - 1];
+        if (vector.isNull(currentRow))
+        {
+            return null;
+        }
+        switch (legendColumns.get(i - 1).getType())
+        {
+            case STRICT_DATE:
+                return vector instanceof DateDayVector ? ((DateDayVector) vector).get(currentRow) * MILLIS_PER_DAY : ((DateMilliVector) vector).get(currentRow);
+            case DATE_TIME:
+                return toEpochMilli((TimeStampVector) vector);
+            case INTEGER:
+                return (int) ((BaseIntVector) vector).getValueAsLong(currentRow);
+            case FLOAT:
+                return (float) ((FloatingPointVector) vector).getValueAsDouble(currentRow);
+            case NUMBER:
+                return ((DecimalVector) vector).getObject(currentRow).doubleValue();
+            case BOOLEAN:
+                return ((BitVector) vector).get(currentRow) == 1;
+            default:
+                return vector instanceof VarCharVector ? new String(((VarCharVector) vector).get(currentRow), UTF_8) : String.valueOf(vector.getObject(currentRow));
+        }
+    }
+
+    @Override
+    public boolean next() throws Exception
+    {
+        while (++currentRow >= batchRowCount)
+        {
+            if (!reader.loadNextBatch())
+            {
+                return false;
+            }
+            batchRowCount = root.getRowCount();
+            currentRow = -1;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            reader.close();
+        }
+        finally
+        {
+            allocator.close();
+        }
+    }
+
+    private long toEpochMilli(TimeStampVector vector)
+    {
+        long value = vector.get(currentRow);
+        switch (((ArrowType.Timestamp) vector.getField().getType()).getUnit())
+        {
+            case SECOND:
+                return TimeUnit.SECONDS.toMillis(value);
+            case MICROSECOND:
+                return TimeUnit.MICROSECONDS.toMillis(value);
+            case NANOSECOND:
+                return TimeUnit.NANOSECONDS.toMillis(value);
+            default:
+                return value;
+        }
+    }
+
+    private static String toLegendType(ArrowType type)
+    {
+        switch (type.getTypeID())
+        {
+            case Int:
+                return INTEGER;
+            case FloatingPoint:
+                return FLOAT;
+            case Decimal:
+                return NUMBER;
+            case Bool:
+                return BOOLEAN;
+            case Date:
+                return STRICT_DATE;
+            case Timestamp:
+                return DATE_TIME;
+            default:
+                return STRING;
+        }
+    }
+}
@@ -15,10 +15,16 @@
 package org.finos.legend.engine.postgres.handler.legend;
 
 import java.util.List;
+import org.finos.legend.engine.postgres.handler.PostgresResultSet;
 
 public interface LegendExecutionClient
 {
     public List<LegendColumn> getSchema(String query);
 
     LegendExecutionResult executeQuery(String query);
+
+    default PostgresResultSet executeQueryAsResultSet(String query)
+    {
+        return new LegendResultSet(executeQuery(query));
+    }
 }
@@ -14,29 +14,43 @@
 
 package org.finos.legend.engine.postgres.handler.legend;
 
+import com.google.common.cache.Cache;
 import java.security.PrivilegedAction;
 import java.sql.ParameterMetaData;
+import java.util.List;
 import javax.security.auth.Subject;
 import org.finos.legend.engine.postgres.handler.PostgresPreparedStatement;
 import org.finos.legend.engine.postgres.handler.PostgresResultSet;
 import org.finos.legend.engine.postgres.handler.PostgresResultSetMetaData;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.credential.LegendKerberosCredential;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
 public class LegendPreparedStatement implements PostgresPreparedStatement
 {
+    private static final String SCHEMA_CACHE_METRIC_NAME = "postgres_schema_cache";
+
     private final String query;
     private final LegendExecutionClient client;
 
     private final Identity identity;
 
-    private LegendResultSet legendResultSet;
+    private final Cache<String, List<LegendColumn>> schemaCache;
+
+    private PostgresResultSet legendResultSet;
+    private LegendResultSetMetaData metaData;
 
     public LegendPreparedStatement(String query, LegendExecutionClient client, Identity identity)
+    {
+        this(query, client, identity, null);
+    }
+
+    public LegendPreparedStatement(String query, LegendExecutionClient client, Identity identity, Cache<String, List<LegendColumn>> schemaCache)
     {
         this.query = query;
         this.client = client;
         this.identity = identity;
+        this.schemaCache = schemaCache;
     }
 
     @Override
@@ -47,17 +61,47 @@ public class LegendPreparedStatement implements PostgresPreparedStatement
 
     @Override
     public PostgresResultSetMetaData getMetaData() throws Exception
+    {
+        if (metaData == null)
+        {
+            metaData = new LegendResultSetMetaData(getSchema());
+        }
+        return metaData;
+    }
+
+    private List<LegendColumn> getSchema()
+    {
+        if (schemaCache == null)
+        {
+            return fetchSchema();
+        }
+        // schemas depend on the entitlements of the caller, hence the identity is part of the key
+        String key = identity.getName() + "\u0000" + query;
+        List<LegendColumn> schema = schemaCache.getIfPresent(key);
+        if (schema == null)
+        {
+            MetricsHandler.incrementCacheMissCount(SCHEMA_CACHE_METRIC_NAME);
+            schema = fetchSchema();
+            schemaCache.put(key, schema);
+        }
+        else
+        {
+            MetricsHandler.incrementCacheHitCount(SCHEMA_CACHE_METRIC_NAME);
+        }
+        return schema;
+    }
+
+    private List<LegendColumn> fetchSchema()
     {
         if (identity.getFirstCredential() instanceof LegendKerberosCredential)
 
         {
             LegendKerberosCredential credential = (LegendKerberosCredential) identity.getFirstCredential();
-            return Subject.doAs(credential.getSubject(), (PrivilegedAction<LegendResultSetMetaData>) () ->
-                    new LegendResultSetMetaData(client.getSchema(query)));
+            return Subject.doAs(credential.getSubject(), (PrivilegedAction<List<LegendColumn>>) () -> client.getSchema(query));
         }
         else
         {
-            return new LegendResultSetMetaData(client.getSchema(query));
+            return client.getSchema(query);
         }
     }
 
@@ -99,7 +143,7 @@ public class LegendPreparedStatement implements PostgresPreparedStatement
 
     private boolean executePrivate()
     {
-        legendResultSet = new LegendResultSet(client.executeQuery(query));
+        legendResultSet = client.executeQueryAsResultSet(query);
         return true;
     }
 
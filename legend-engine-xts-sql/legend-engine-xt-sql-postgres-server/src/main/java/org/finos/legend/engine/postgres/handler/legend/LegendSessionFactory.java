@@ -14,6 +14,8 @@
 
 package org.finos.legend.engine.postgres.handler.legend;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.finos.legend.engine.postgres.Session;
 import org.finos.legend.engine.postgres.SessionsFactory;
 import org.finos.legend.engine.postgres.handler.PostgresPreparedStatement;
@@ -27,12 +29,16 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class LegendSessionFactory implements SessionsFactory
 {
 
     private final LegendExecutionClient legendExecutionClient;
     private final JDBCSessionFactory.JDBCSessionHandler metadataSessionHandler;
+    // schemas are shared across sessions so that clients re-preparing the same query do not pay for a round trip
+    private final Cache<String, List<LegendColumn>> schemaCache = CacheBuilder.newBuilder().maximumSize(10_000).expireAfterWrite(10, TimeUnit.MINUTES).build();
 
     public LegendSessionFactory(LegendExecutionClient legendExecutionClient)
     {
@@ -57,24 +63,26 @@ public class LegendSessionFactory implements SessionsFactory
     @Override
     public Session createSession(String defaultSchema, Identity identity)
     {
-        return new Session(new LegendSessionHandler(legendExecutionClient, identity), metadataSessionHandler);
+        return new Session(new LegendSessionHandler(legendExecutionClient, identity, schemaCache), metadataSessionHandler);
     }
 
     private static class LegendSessionHandler implements SessionHandler
     {
         private final LegendExecutionClient legendExecutionClient;
         private final Identity identity;
+        private final Cache<String, List<LegendColumn>> schemaCache;
 
-        public LegendSessionHandler(LegendExecutionClient legendExecutionClient, Identity identity)
+        public LegendSessionHandler(LegendExecutionClient legendExecutionClient, Identity identity, Cache<String, List<LegendColumn>> schemaCache)
         {
             this.legendExecutionClient = legendExecutionClient;
             this.identity = identity;
+            this.schemaCache = schemaCache;
         }
 
         @Override
         public PostgresPreparedStatement prepareStatement(String query)
         {
-            return new LegendPreparedStatement(query, legendExecutionClient, identity);
+            return new LegendPreparedStatement(query, legendExecutionClient, identity, schemaCache);
         }
 
         @Override
@@ -25,7 +25,7 @@ public class LegendStatement implements PostgresStatement
 {
 
     private LegendExecutionClient client;
-    private LegendResultSet legendResultSet;
+    private PostgresResultSet legendResultSet;
     private Identity identity;
 
     public LegendStatement(LegendExecutionClient client, Identity identity)
@@ -54,7 +54,7 @@ public class LegendStatement implements PostgresStatement
 
     private boolean executePrivate(String query)
     {
-        legendResultSet = new LegendResultSet(client.executeQuery(query));
+        legendResultSet = client.executeQueryAsResultSet(query);
         return true;
     }
 
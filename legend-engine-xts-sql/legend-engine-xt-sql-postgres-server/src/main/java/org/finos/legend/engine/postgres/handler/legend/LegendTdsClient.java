@@ -25,14 +25,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 import org.apache.commons.io.IOUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.finos.legend.engine.postgres.handler.PostgresResultSet;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.kerberos.HttpClientBuilder;
 import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionError;
@@ -44,16 +48,28 @@ public class LegendTdsClient implements LegendExecutionClient
     private final String protocol;
     private final String host;
     private final String port;
+    private final boolean arrowResults;
     private static final ObjectMapper mapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LegendTdsClient.class);
 
+    private static final String EXECUTE_QUERY_PATH = "/api/sql/v1/execution/executeQueryString";
+    private static final String SCHEMA_PATH = "/api/sql/v1/execution/getSchemaFromQueryString";
+    private static final String ARROW_CONTENT_TYPE = "application/x.arrow";
+    // Set by the engine to the format the result was actually serialized with
+    private static final String LEGEND_RESPONSE_FORMAT = "x-legend-response-format";
+
     public LegendTdsClient(String protocol, String host, String port)
     {
+        this(protocol, host, port, false);
+    }
 
+    public LegendTdsClient(String protocol, String host, String port, boolean arrowResults)
+    {
         this.protocol = protocol;
         this.host = host;
         this.port = port;
+        this.arrowResults = arrowResults;
     }
 
     @Override
@@ -81,57 +97,84 @@ public class LegendTdsClient implements LegendExecutionClient
     {
         try
         {
-            InputStream inputStream = this.executeQueryApi(query);
-            LegendTdsResultParser parser = new LegendTdsResultParser(inputStream);
+            return parseResult(this.executeQueryApi(query));
+        }
+        catch (IOException e)
+        {
+            throw new LegendTdsClientException("Error while parsing response", e);
+        }
+    }
+
+    private static LegendExecutionResult parseResult(InputStream inputStream) throws IOException
+    {
+        LegendTdsResultParser parser = new LegendTdsResultParser(inputStream);
 
-            return new LegendExecutionResult()
+        return new LegendExecutionResult()
+        {
+            @Override
+            public List<LegendColumn> getLegendColumns()
             {
-                @Override
-                public List<LegendColumn> getLegendColumns()
+                return parser.getLegendColumns();
+            }
+
+            @Override
+            public void close()
+            {
+                try
                 {
-                    return parser.getLegendColumns();
+                    parser.close();
                 }
-
-                @Override
-                public void close()
+                catch (IOException e)
                 {
-                    try
-                    {
-                        parser.close();
-                    }
-                    catch (IOException e)
-                    {
-                        throw new LegendTdsClientException("Error while closing parser", e);
-                    }
+                    throw new LegendTdsClientException("Error while closing parser", e);
                 }
+            }
 
-                @Override
-                public boolean hasNext()
-                {
+            @Override
+            public boolean hasNext()
+            {
 
-                    try
-                    {
-                        return parser.hasNext();
-                    }
-                    catch (IOException e)
-                    {
-                        throw new LegendTdsClientException("Error while retrieving a row", e);
-                    }
+                try
+                {
+                    return parser.hasNext();
                 }
-
-                @Override
-                public List<Object> next()
+                catch (IOException e)
                 {
-                    return parser.next();
+                    throw new LegendTdsClientException("Error while retrieving a row", e);
                 }
+            }
 
+            @Override
+            public List<Object> next()
+            {
+                return parser.next();
+            }
+        };
+    }
 
-            };
-
-
+    @Override
+    public PostgresResultSet executeQueryAsResultSet(String query)
+    {
+        if (!this.arrowResults)
+        {
+            return LegendExecutionClient.super.executeQueryAsResultSet(query);
+        }
+        LOGGER.info("executing query " + query);
+        HttpResponse response = executeApi(query, EXECUTE_QUERY_PATH, ARROW_CONTENT_TYPE + ", " + APPLICATION_JSON);
+        InputStream inputStream = handleResponse(query, () -> response.getEntity().getContent(), () -> response.getStatusLine().getStatusCode());
+        try
+        {
+            // The engine falls back to JSON when it cannot externalize the result as Arrow
+            Header responseFormat = response.getFirstHeader(LEGEND_RESPONSE_FORMAT);
+            if (responseFormat != null && ARROW_CONTENT_TYPE.equals(responseFormat.getValue()))
+            {
+                return new LegendArrowResultSet(inputStream);
+            }
+            return new LegendResultSet(parseResult(inputStream));
         }
         catch (IOException e)
         {
+            IOUtils.closeQuietly(inputStream);
             throw new LegendTdsClientException("Error while parsing response", e);
         }
     }
@@ -139,19 +182,23 @@ public class LegendTdsClient implements LegendExecutionClient
     protected InputStream executeQueryApi(String query)
     {
         LOGGER.info("executing query " + query);
-        String apiPath = "/api/sql/v1/execution/executeQueryString";
-        return executeApi(query, apiPath);
+        return executeApi(query, EXECUTE_QUERY_PATH);
     }
 
 
     protected InputStream executeSchemaApi(String query)
     {
         LOGGER.info("executing schema query " + query);
-        String apiPath = "/api/sql/v1/execution/getSchemaFromQueryString";
-        return executeApi(query, apiPath);
+        return executeApi(query, SCHEMA_PATH);
     }
 
     private InputStream executeApi(String query, String apiPath)
+    {
+        HttpResponse res = executeApi(query, apiPath, null);
+        return handleResponse(query, () -> res.getEntity().getContent(), () -> res.getStatusLine().getStatusCode());
+    }
+
+    private HttpResponse executeApi(String query, String apiPath, String accept)
     {
         String uri = protocol + "://" + this.host + ":" + this.port + apiPath;
         HttpPost req = new HttpPost(uri);
@@ -159,13 +206,15 @@ public class LegendTdsClient implements LegendExecutionClient
         StringEntity stringEntity = new StringEntity(query, UTF_8);
         stringEntity.setContentType(TEXT_PLAIN);
         req.setEntity(stringEntity);
+        if (accept != null)
+        {
+            req.setHeader(HttpHeaders.ACCEPT, accept);
+        }
 
         try
         {
             HttpClient client =  HttpClientBuilder.getHttpClient(new BasicCookieStore());
-            HttpResponse res = client.execute(req);
-            return handleResponse(query, () -> res.getEntity().getContent(), () -> res.getStatusLine().getStatusCode());
-
+            return client.execute(req);
         }
         catch (IOException e)
         {
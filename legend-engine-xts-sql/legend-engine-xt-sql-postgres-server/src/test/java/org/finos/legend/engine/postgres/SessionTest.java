@@ -0,0 +1,144 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.postgres;
+
+import org.finos.legend.engine.postgres.handler.PostgresPreparedStatement;
+import org.finos.legend.engine.postgres.handler.PostgresResultSet;
+import org.finos.legend.engine.postgres.handler.PostgresResultSetMetaData;
+import org.finos.legend.engine.postgres.handler.PostgresStatement;
+import org.finos.legend.engine.postgres.handler.SessionHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.ParameterMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SessionTest
+{
+    private static final String QUERY = "SELECT * FROM service('/testService')";
+
+    @Test
+    public void testCompletedPortalClosesResultSet() throws Exception
+    {
+        TestSessionHandler handler = new TestSessionHandler();
+        try (Session session = new Session(handler, handler))
+        {
+            session.parse("stmt", QUERY, Collections.emptyList());
+            session.bind("portal", "stmt", Collections.emptyList(), null);
+
+            PostgresResultSet first = session.execute("portal", 10);
+            // a suspended portal resumes its result set
+            Assert.assertSame(first, session.execute("portal", 10));
+            Assert.assertFalse(handler.resultSets.get(0).closed);
+
+            session.completed("portal");
+            Assert.assertTrue(handler.resultSets.get(0).closed);
+
+            // the query runs again once the portal completed
+            Assert.assertNotSame(first, session.execute("portal", 10));
+            Assert.assertEquals(2, handler.resultSets.size());
+        }
+    }
+
+    private static class TestSessionHandler implements SessionHandler
+    {
+        private final List<TestResultSet> resultSets = new ArrayList<>();
+
+        @Override
+        public PostgresPreparedStatement prepareStatement(String query)
+        {
+            return new PostgresPreparedStatement()
+            {
+                @Override
+                public void setObject(int i, Object o)
+                {
+                }
+
+                @Override
+                public PostgresResultSetMetaData getMetaData()
+                {
+                    return null;
+                }
+
+                @Override
+                public ParameterMetaData getParameterMetaData()
+                {
+                    return PostgresPreparedStatement.emptyParameterMetaData();
+                }
+
+                @Override
+                public void close()
+                {
+                }
+
+                @Override
+                public void setMaxRows(int maxRows)
+                {
+                }
+
+                @Override
+                public boolean execute()
+                {
+                    resultSets.add(new TestResultSet());
+                    return true;
+                }
+
+                @Override
+                public PostgresResultSet getResultSet()
+                {
+                    return resultSets.get(resultSets.size() - 1);
+                }
+            };
+        }
+
+        @Override
+        public PostgresStatement createStatement()
+        {
+            return null;
+        }
+    }
+
+    private static class TestResultSet implements PostgresResultSet
+    {
+        private boolean closed = false;
+
+        @Override
+        public PostgresResultSetMetaData getMetaData()
+        {
+            return null;
+        }
+
+        @Override
+        public Object getObject(int i)
+        {
+            return null;
+        }
+
+        @Override
+        public boolean next()
+        {
+            return false;
+        }
+
+        @Override
+        public void close()
+        {
+            this.closed = true;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+// Copyright 2023 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.finos.legend.engine.postgres.handler.PostgresResultSetMetaData;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LegendArrowResultSetTest
+{
+    @Test
+    public void testReadBatches() throws Exception
+    {
+        LegendArrowResultSet resultSet = new LegendArrowResultSet(new ByteArrayInputStream(writeStream(3, 2, 0, 1)));
+
+        PostgresResultSetMetaData metaData = resultSet.getMetaData();
+        Assert.assertEquals(6, metaData.getColumnCount());
+        Assert.assertEquals("name", metaData.getColumnName(1));
+        Assert.assertEquals(Types.VARCHAR, metaData.getColumnType(1));
+        Assert.assertEquals(Types.INTEGER, metaData.getColumnType(2));
+        Assert.assertEquals(Types.FLOAT, metaData.getColumnType(3));
+        Assert.assertEquals(Types.BOOLEAN, metaData.getColumnType(4));
+        Assert.assertEquals(Types.DATE, metaData.getColumnType(5));
+        Assert.assertEquals(Types.TIMESTAMP, metaData.getColumnType(6));
+
+        int rows = 0;
+        while (resultSet.next())
+        {
+            int value = (Integer) resultSet.getObject(2);
+            Assert.assertEquals("name" + value, resultSet.getObject(1));
+            Assert.assertEquals(value * 1.5f, resultSet.getObject(3));
+            Assert.assertEquals(value % 2 == 0, resultSet.getObject(4));
+            Assert.assertEquals(value * 86_400_000L, resultSet.getObject(5));
+            Assert.assertEquals(value * 1000L, resultSet.getObject(6));
+            rows++;
+        }
+        Assert.assertEquals(6, rows);
+        resultSet.close();
+    }
+
+    @Test
+    public void testReadNulls() throws Exception
+    {
+        LegendArrowResultSet resultSet = new LegendArrowResultSet(new ByteArrayInputStream(writeStream(-1)));
+        Assert.assertTrue(resultSet.next());
+        for (int i = 1; i <= 6; i++)
+        {
+            Assert.assertNull(resultSet.getObject(i));
+        }
+        Assert.assertFalse(resultSet.next());
+        resultSet.close();
+    }
+
+    // Writes one batch per entry, a batch of size -1 holding a single row of nulls
+    private static byte[] writeStream(int... batchSizes) throws Exception
+    {
+        try (BufferAllocator allocator = new RootAllocator();
+             VarCharVector name = new VarCharVector("name", allocator);
+             IntVector value = new IntVector("value", allocator);
+             Float8Vector ratio = new Float8Vector("ratio", allocator);
+             BitVector even = new BitVector("even", allocator);
+             DateDayVector date = new DateDayVector("date", allocator);
+             TimeStampMilliTZVector time = new TimeStampMilliTZVector("time", allocator, "UTC");
+             VectorSchemaRoot root = new VectorSchemaRoot(Arrays.asList(name, value, ratio, even, date, time));
+             ByteArrayOutputStream out = new ByteArrayOutputStream();
+             ArrowStreamWriter writer = new ArrowStreamWriter(root, null, out))
+        {
+            writer.start();
+            int next = 0;
+            for (int batchSize : batchSizes)
+            {
+                root.allocateNew();
+                if (batchSize < 0)
+                {
+                    root.getFieldVectors().forEach(v -> v.setNull(0));
+                    root.setRowCount(1);
+                }
+                else
+                {
+                    for (int row = 0; row < batchSize; row++, next++)
+                    {
+                        name.setSafe(row, ("name" + next).getBytes(StandardCharsets.UTF_8));
+                        value.setSafe(row, next);
+                        ratio.setSafe(row, next * 1.5);
+                        even.setSafe(row, next % 2 == 0 ? 1 : 0);
+                        date.setSafe(row, next);
+                        time.setSafe(row, next * 1000L);
+                    }
+                    root.setRowCount(batchSize);
+                }
+                writer.writeBatch();
+            }
+            writer.end();
+            return out.toByteArray();
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
@@ -88,61 +89,104 @@ public class SQLExecutor
     private final Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions;
     private final Iterable<? extends PlanTransformer> transformers;
     private final MutableMap<String, SQLSourceProvider> providers;
+    private final SQLPlanCache planCache;
 
     public SQLExecutor(ModelManager modelManager,
                        PlanExecutor planExecutor,
                        Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
                        List<SQLSourceProvider> providers,
                        Iterable<? extends PlanTransformer> transformers)
+    {
+        this(modelManager, planExecutor, routerExtensions, providers, transformers, null);
+    }
+
+    public SQLExecutor(ModelManager modelManager,
+                       PlanExecutor planExecutor,
+                       Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
+                       List<SQLSourceProvider> providers,
+                       Iterable<? extends PlanTransformer> transformers,
+                       SQLPlanCache planCache)
     {
         this.modelManager = modelManager;
         this.planExecutor = planExecutor;
         this.routerExtensions = routerExtensions;
         this.transformers = transformers;
         this.providers = ListIterate.groupByUniqueKey(providers, SQLSourceProvider::getType);
+        this.planCache = planCache;
     }
 
 
     public Result execute(Query query, String user, SQLContext context, MutableList<CommonProfile> profiles)
     {
-        return process(query, (transformedContext, pureModel, sources) ->
+        long start = System.currentTimeMillis();
+
+        // sources are resolved before the lookup: the context they resolve to is part of the key
+        Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, profiles);
+        Pair<String, PureModelContext> cacheKey = planCacheKey(query, sqlSourcesAndPureModel.getTwo(), profiles);
+        SQLPlanCache.SQLExecutionPlans plans = (cacheKey == null) ? null : this.planCache.get(cacheKey);
+        if (plans == null)
         {
-            long start = System.currentTimeMillis();
-            LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) System.currentTimeMillis() - start).toString());
+            plans = process(query, (transformedContext, pureModel, sources) -> generatePlans(transformedContext, pureModel, sources, profiles),
+                    this::rootContext, sqlSourcesAndPureModel.getOne(), sqlSourcesAndPureModel.getTwo(), profiles);
+            if (cacheKey != null)
+            {
+                this.planCache.put(cacheKey, plans);
+            }
+        }
 
-            Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, sources);
+        Map<String, Result> arguments = UnifiedMap.newMap();
+        plans.constantArguments.forEach(a -> arguments.put(a.getOne(), new ConstantResult(a.getTwo())));
+        plans.planArguments.forEach(a -> arguments.put(a.getOne(), planExecutor.execute(a.getTwo(), Maps.mutable.empty(), user, profiles)));
 
-            Map<String, Result> arguments = UnifiedMap.newMapWith(IterableIterate.collectIf(plans._arguments(), p -> p._value() != null || p._plan() != null, p ->
-            {
-                Result result;
+        Result result = planExecutor.execute(plans.plan, arguments, user, profiles);
 
-                if (p._value() != null)
-                {
-                    Object value = p._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
-                            ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) p._value())._values()
-                            : p._value();
-                    result = new ConstantResult(value);
-                }
-                else
-                {
-                    Root_meta_pure_executionPlan_ExecutionPlan l = PlanPlatform.JAVA.bindPlan(p._plan(), null, pureModel, routerExtensions.apply(pureModel));
-                    SingleExecutionPlan m = transformExecutionPlan(l, pureModel, PureClientVersions.production, profiles, routerExtensions.apply(pureModel), transformers);
-                    result = planExecutor.execute(m, Maps.mutable.empty(), user, profiles);
-                }
+        LOGGER.info(new LogInfo(profiles, LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) System.currentTimeMillis() - start).toString());
+        MetricsHandler.observe("execute", start, System.currentTimeMillis());
 
-                return Tuples.pair(p._name(), result);
-            }));
+        return result;
+    }
+
+    private Pair<String, PureModelContext> planCacheKey(Query query, PureModelContext pureModelContext, MutableList<CommonProfile> profiles)
+    {
+        // Only contexts the model loader considers immutable are cached, as the plans would otherwise go stale
+        if (this.planCache == null || !(pureModelContext instanceof PureModelContextPointer))
+        {
+            return null;
+        }
+        ModelLoader loader = this.modelManager.modelLoaderForContext(pureModelContext);
+        return loader.shouldCache(pureModelContext) ? this.planCache.key(query, loader.cacheKey(pureModelContext, profiles)) : null;
+    }
 
-            Root_meta_pure_executionPlan_ExecutionPlan plan = plans._plan();
-            plan = PlanPlatform.JAVA.bindPlan(plan, null, pureModel, routerExtensions.apply(pureModel));
-            SingleExecutionPlan transformedPlan = transformExecutionPlan(plan, pureModel, PureClientVersions.production, profiles, routerExtensions.apply(pureModel), transformers);
+    private SQLPlanCache.SQLExecutionPlans generatePlans(Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext, PureModel pureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> sources, MutableList<CommonProfile> profiles)
+    {
+        long start = System.currentTimeMillis();
+        Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, sources);
 
-            Result result = planExecutor.execute(transformedPlan, arguments, user, profiles);
+        MutableList<Pair<String, Object>> constantArguments = Lists.mutable.empty();
+        MutableList<Pair<String, SingleExecutionPlan>> planArguments = Lists.mutable.empty();
+        plans._arguments().forEach(p ->
+        {
+            if (p._value() != null)
+            {
+                Object value = p._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
+                        ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) p._value())._values()
+                        : p._value();
+                constantArguments.add(Tuples.pair(p._name(), value));
+            }
+            else if (p._plan() != null)
+            {
+                planArguments.add(Tuples.pair(p._name(), transformPlan(p._plan(), pureModel, profiles)));
+            }
+        });
 
-            MetricsHandler.observe("execute", start, System.currentTimeMillis());
+        SingleExecutionPlan transformedPlan = transformPlan(plans._plan(), pureModel, profiles);
+        return new SQLPlanCache.SQLExecutionPlans(transformedPlan, constantArguments.toImmutable(), planArguments.toImmutable(), System.currentTimeMillis() - start);
+    }
 
-            return result;
-        }, context, profiles);
+    private SingleExecutionPlan transformPlan(Root_meta_pure_executionPlan_ExecutionPlan plan, PureModel pureModel, MutableList<CommonProfile> profiles)
+    {
+        Root_meta_pure_executionPlan_ExecutionPlan boundPlan = PlanPlatform.JAVA.bindPlan(plan, null, pureModel, routerExtensions.apply(pureModel));
+        return transformExecutionPlan(boundPlan, pureModel, PureClientVersions.production, profiles, routerExtensions.apply(pureModel), transformers);
     }
 
     public Lambda lambda(Query query, SQLContext context, MutableList<CommonProfile> profiles)
@@ -179,7 +223,12 @@ public class SQLExecutor
 
     private <T> T process(Query query, Function3<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, T> func, SQLContext context, MutableList<CommonProfile> profiles)
     {
-        return process(query, func, (sources, extensions, pureModel) -> core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport()), context, profiles);
+        return process(query, func, this::rootContext, context, profiles);
+    }
+
+    private Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext rootContext(RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> sources, RichIterable<? extends Root_meta_pure_extension_Extension> extensions, PureModel pureModel)
+    {
+        return core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport());
     }
 
     private <T> T process(Query query,
@@ -189,9 +238,16 @@ public class SQLExecutor
                           MutableList<CommonProfile> profiles)
     {
         Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, profiles);
-        RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
-        PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
+        return process(query, func, transformContextFunc, sqlSourcesAndPureModel.getOne(), sqlSourcesAndPureModel.getTwo(), profiles);
+    }
 
+    private <T> T process(Query query,
+                          Function3<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, T> func,
+                          Function3<RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<? extends Root_meta_pure_extension_Extension>, PureModel, Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext> transformContextFunc,
+                          RichIterable<SQLSource> sources,
+                          PureModelContext pureModelContext,
+                          MutableList<CommonProfile> profiles)
+    {
         PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, profiles, "");
 
         Root_meta_external_query_sql_metamodel_Query compiledQuery = new ProtocolToMetamodelTranslator().translate(query, pureModel);
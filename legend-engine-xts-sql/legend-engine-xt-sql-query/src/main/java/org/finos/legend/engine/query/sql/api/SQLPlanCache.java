@@ -0,0 +1,122 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.query.sql.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of generated execution plans for SQL queries, keyed by the parsed query and the (cacheable) model context
+ * the query sources resolved to. Serving a hit skips model compilation, SQL to Pure transformation and plan
+ * generation; the sources are still resolved on every execution, as the model context they resolve to (a project
+ * version, say) is part of the key.
+ * <p>
+ * Literals are part of the key: the SQL to Pure transformation inlines them into the generated plan, so queries that
+ * only differ by their literals do not share an entry.
+ */
+public class SQLPlanCache
+{
+    static final String METRIC_NAME = "sql_plan_cache";
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final Cache<Pair<String, PureModelContext>, SQLExecutionPlans> cache;
+
+    public SQLPlanCache(long maximumSize, long expireAfterAccessMinutes)
+    {
+        this.cache = CacheBuilder.newBuilder().recordStats().maximumSize(maximumSize).expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES).build();
+    }
+
+    public Pair<String, PureModelContext> key(Query query, PureModelContext cacheableContext)
+    {
+        try
+        {
+            // the parsed query is serialized so that formatting differences in the SQL text do not matter
+            return Tuples.pair(OBJECT_MAPPER.writeValueAsString(query), cacheableContext);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new EngineException("Unable to build plan cache key for query", e);
+        }
+    }
+
+    public SQLExecutionPlans get(Pair<String, PureModelContext> key)
+    {
+        SQLExecutionPlans plans = this.cache.getIfPresent(key);
+        if (plans == null)
+        {
+            MetricsHandler.incrementCacheMissCount(METRIC_NAME);
+        }
+        else
+        {
+            MetricsHandler.incrementCacheHitCount(METRIC_NAME);
+            MetricsHandler.observeCacheTimeSaved(METRIC_NAME, plans.generationTimeMillis);
+        }
+        return plans;
+    }
+
+    public void put(Pair<String, PureModelContext> key, SQLExecutionPlans plans)
+    {
+        this.cache.put(key, plans);
+    }
+
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    public double hitRate()
+    {
+        return this.cache.stats().hitRate();
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Plans generated for a SQL query: the main plan, the constant arguments and the plans computing the remaining
+     * arguments, which are all re-executed on every run.
+     */
+    public static class SQLExecutionPlans
+    {
+        final SingleExecutionPlan plan;
+        final ImmutableList<Pair<String, Object>> constantArguments;
+        final ImmutableList<Pair<String, SingleExecutionPlan>> planArguments;
+        final long generationTimeMillis;
+
+        SQLExecutionPlans(SingleExecutionPlan plan, ImmutableList<Pair<String, Object>> constantArguments, ImmutableList<Pair<String, SingleExecutionPlan>> planArguments, long generationTimeMillis)
+        {
+            this.plan = plan;
+            this.constantArguments = constantArguments;
+            this.planArguments = planArguments;
+            this.generationTimeMillis = generationTimeMillis;
+        }
+    }
+}
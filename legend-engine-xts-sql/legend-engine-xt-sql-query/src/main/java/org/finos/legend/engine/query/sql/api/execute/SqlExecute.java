@@ -23,14 +23,18 @@ import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.external.shared.runtime.ExternalFormatRuntimeExtension;
+import org.finos.legend.engine.external.shared.runtime.ExternalFormatRuntimeExtensionLoader;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.generation.transformers.PlanTransformer;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.externalFormat.ExternalFormatExternalizeTDSExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.valueSpecification.raw.Lambda;
 import org.finos.legend.engine.protocol.sql.metamodel.Query;
 import org.finos.legend.engine.protocol.sql.schema.metamodel.Schema;
@@ -43,6 +47,8 @@ import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.pac4j.jax.rs.annotations.Pac4JProfileManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -52,10 +58,12 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
+import java.util.Map;
 
 import static org.finos.legend.engine.plan.execution.api.result.ResultManager.manageResult;
 
@@ -64,7 +72,9 @@ import static org.finos.legend.engine.plan.execution.api.result.ResultManager.ma
 @Produces(MediaType.APPLICATION_JSON)
 public class SqlExecute
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlExecute.class);
     private static final SQLGrammarParser PARSER = SQLGrammarParser.newInstance();
+    private static final Map<String, ExternalFormatRuntimeExtension> EXTERNAL_FORMAT_EXTENSIONS = ExternalFormatRuntimeExtensionLoader.extensions();
 
     private final SQLExecutor executor;
 
@@ -103,7 +113,7 @@ public class SqlExecute
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
         SQLContext context = new SQLContext(query);
 
-        Result result = this.executor.execute(query, request.getRemoteUser(), context, profiles);
+        Result result = negotiateResultFormat(request, this.executor.execute(query, request.getRemoteUser(), context, profiles), profiles);
 
         try (Scope ignored = GlobalTracer.get().buildSpan("Manage Results").startActive(true))
         {
@@ -184,6 +194,38 @@ public class SqlExecute
         return parseSQL(sql);
     }
 
+    /**
+     * Clients accepting a binary external format (e.g. Arrow) get the TDS externalized in that format instead of JSON.
+     * The format used is reported in the response format header, and JSON remains the fallback.
+     */
+    private Result negotiateResultFormat(HttpServletRequest request, Result result, MutableList<CommonProfile> profiles)
+    {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || !(result instanceof StreamingResult))
+        {
+            return result;
+        }
+        for (String mediaType : accept.split(","))
+        {
+            String contentType = mediaType.split(";")[0].trim();
+            ExternalFormatRuntimeExtension extension = EXTERNAL_FORMAT_EXTENSIONS.get(contentType);
+            if (extension != null)
+            {
+                ExternalFormatExternalizeTDSExecutionNode node = new ExternalFormatExternalizeTDSExecutionNode();
+                node.contentType = contentType;
+                try
+                {
+                    return extension.executeExternalizeTDSExecutionNode(node, result, profiles, null);
+                }
+                catch (RuntimeException e)
+                {
+                    LOGGER.debug("Unable to externalize SQL result as {}, falling back to the default format", contentType, e);
+                }
+            }
+        }
+        return result;
+    }
+
     private Query parseSQL(String sql)
     {
         return (Query) PARSER.parseStatement(sql);
@@ -0,0 +1,165 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.query.sql.api;
+
+import io.opentracing.Span;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
+import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.result.StreamingResult;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.generation.extension.PlanGeneratorExtension;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.pure.code.core.PureCoreExtensionLoader;
+import org.finos.legend.engine.query.sql.providers.core.SQLContext;
+import org.finos.legend.engine.query.sql.providers.core.SQLSourceProvider;
+import org.finos.legend.engine.query.sql.providers.core.SQLSourceResolvedContext;
+import org.finos.legend.engine.query.sql.providers.core.TableSource;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.pac4j.core.profile.CommonProfile;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SQLExecutorPlanCacheTest
+{
+    private static final SQLGrammarParser PARSER = SQLGrammarParser.newInstance();
+
+    private SQLPlanCache planCache;
+    private SQLExecutor executor;
+    private PointerSQLSourceProvider sourceProvider;
+
+    @Before
+    public void setUp()
+    {
+        ModelManager modelManager = new ModelManager(DeploymentMode.TEST, new PointerModelLoader());
+        MutableList<PlanGeneratorExtension> generatorExtensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
+        this.planCache = new SQLPlanCache(10, 30);
+        this.sourceProvider = new PointerSQLSourceProvider();
+        this.executor = new SQLExecutor(modelManager,
+                PlanExecutor.newPlanExecutorWithAvailableStoreExecutors(),
+                (pm) -> PureCoreExtensionLoader.extensions().flatCollect(g -> g.extraPureCoreExtensions(pm.getExecutionSupport())),
+                FastList.newListWith(this.sourceProvider),
+                generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers),
+                this.planCache);
+    }
+
+    @Test
+    public void testRepeatedQueryIsServedFromCache()
+    {
+        String expected = "Name\r\nAlice\r\nBob\r\nCurtis\r\nDanielle\r\n";
+
+        Assert.assertEquals(expected, this.execute("SELECT Name FROM service('/personServiceForNames') ORDER BY Name"));
+        Assert.assertEquals(1, this.planCache.size());
+        Assert.assertEquals(0.0, this.planCache.hitRate(), 0.0);
+
+        Assert.assertEquals(expected, this.execute("select Name\nfrom service('/personServiceForNames')\norder by Name"));
+        Assert.assertEquals(1, this.planCache.size());
+        Assert.assertEquals(0.5, this.planCache.hitRate(), 0.0);
+
+        // sources are still resolved on every execution, the cache key depends on the model context they resolve to
+        Assert.assertEquals(2, this.sourceProvider.resolutions.get());
+    }
+
+    @Test
+    public void testLiteralsAreNotShared()
+    {
+        Assert.assertEquals("Name\r\nAlice\r\nDanielle\r\n", this.execute("SELECT Name FROM service('/personServiceForNames', names => ['Alice', 'Danielle']) ORDER BY Name"));
+        Assert.assertEquals("Name\r\nBob\r\n", this.execute("SELECT Name FROM service('/personServiceForNames', names => ['Bob']) ORDER BY Name"));
+        Assert.assertEquals(2, this.planCache.size());
+        Assert.assertEquals(0.0, this.planCache.hitRate(), 0.0);
+    }
+
+    private String execute(String sql)
+    {
+        Query query = (Query) PARSER.parseStatement(sql);
+        StreamingResult result = (StreamingResult) this.executor.execute(query, null, new SQLContext(query), Lists.mutable.empty());
+        return result.flush(result.getSerializer(SerializationFormat.CSV));
+    }
+
+    private static PureModelContextPointer pointer()
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.groupId = "org.finos.test";
+        sdlc.artifactId = "test";
+        sdlc.version = "1.0.0";
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+
+    private static class PointerSQLSourceProvider implements SQLSourceProvider
+    {
+        private final TestSQLSourceProvider delegate = new TestSQLSourceProvider();
+        private final AtomicInteger resolutions = new AtomicInteger();
+
+        @Override
+        public String getType()
+        {
+            return this.delegate.getType();
+        }
+
+        @Override
+        public SQLSourceResolvedContext resolve(List<TableSource> sources, SQLContext context, MutableList<CommonProfile> profiles)
+        {
+            this.resolutions.incrementAndGet();
+            return new SQLSourceResolvedContext(pointer(), this.delegate.resolve(sources, context, profiles).getSources());
+        }
+    }
+
+    private static class PointerModelLoader implements ModelLoader
+    {
+        @Override
+        public boolean supports(PureModelContext context)
+        {
+            return context instanceof PureModelContextPointer;
+        }
+
+        @Override
+        public PureModelContextData load(MutableList<CommonProfile> profiles, PureModelContext context, String clientVersion, Span parentSpan)
+        {
+            return new TestSQLSourceProvider().getPureModelContextData();
+        }
+
+        @Override
+        public void setModelManager(ModelManager modelManager)
+        {
+        }
+
+        @Override
+        public boolean shouldCache(PureModelContext context)
+        {
+            return true;
+        }
+
+        @Override
+        public PureModelContext cacheKey(PureModelContext context, MutableList<CommonProfile> pm)
+        {
+            return context;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.query.sql.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SQLPlanCacheTest
+{
+    private static final SQLGrammarParser PARSER = SQLGrammarParser.newInstance();
+
+    @Test
+    public void testKeyIgnoresFormatting()
+    {
+        SQLPlanCache cache = new SQLPlanCache(10, 30);
+        Assert.assertEquals(
+                cache.key(query("SELECT Name FROM service('/personService') WHERE Id = 1"), pointer("1.0.0")),
+                cache.key(query("select   Name\nfrom service('/personService')\nwhere Id = 1"), pointer("1.0.0")));
+    }
+
+    @Test
+    public void testKeyDependsOnLiteralsAndContext()
+    {
+        SQLPlanCache cache = new SQLPlanCache(10, 30);
+        Assert.assertNotEquals(
+                cache.key(query("SELECT Name FROM service('/personService') WHERE Id = 1"), pointer("1.0.0")),
+                cache.key(query("SELECT Name FROM service('/personService') WHERE Id = 2"), pointer("1.0.0")));
+        Assert.assertNotEquals(
+                cache.key(query("SELECT Name FROM service('/personService') WHERE Id = 1"), pointer("1.0.0")),
+                cache.key(query("SELECT Name FROM service('/personService') WHERE Id = 1"), pointer("2.0.0")));
+    }
+
+    @Test
+    public void testHitAndMiss()
+    {
+        SQLPlanCache cache = new SQLPlanCache(10, 30);
+        SQLPlanCache.SQLExecutionPlans plans = new SQLPlanCache.SQLExecutionPlans(new SingleExecutionPlan(), Lists.immutable.empty(), Lists.immutable.empty(), 100);
+
+        Assert.assertNull(cache.get(cache.key(query("SELECT * FROM service('/personService')"), pointer("1.0.0"))));
+        cache.put(cache.key(query("SELECT * FROM service('/personService')"), pointer("1.0.0")), plans);
+        Assert.assertSame(plans, cache.get(cache.key(query("SELECT * FROM service('/personService')"), pointer("1.0.0"))));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(0.5, cache.hitRate(), 0.0);
+    }
+
+    private static Query query(String sql)
+    {
+        return (Query) PARSER.parseStatement(sql);
+    }
+
+    private static PureModelContextPointer pointer(String version)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.groupId = "org.finos.test";
+        sdlc.artifactId = "test";
+        sdlc.version = version;
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+}